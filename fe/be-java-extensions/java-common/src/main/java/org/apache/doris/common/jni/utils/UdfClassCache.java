@@ -42,4 +42,6 @@ public class UdfClassCache {
     // for java-udf  index is evaluate method index
     // for java-udaf index is add method index
     public int methodIndex;
+    // for java-udf, index of evaluateBatch() method, -1 if the udf has no such method
+    public int batchMethodIndex = -1;
 }
@@ -150,6 +150,31 @@ public class UdfUtils {
         return Pair.of(res.length != 0, result);
     }
 
+    /**
+     * Return the primitive array class which holds a batch of values of the type without boxing,
+     * or null if the type is not a primitive type.
+     */
+    public static Class<?> getPrimitiveArrayClass(Type type) {
+        switch (type.getPrimitiveType().toThrift()) {
+            case BOOLEAN:
+                return boolean[].class;
+            case TINYINT:
+                return byte[].class;
+            case SMALLINT:
+                return short[].class;
+            case INT:
+                return int[].class;
+            case BIGINT:
+                return long[].class;
+            case FLOAT:
+                return float[].class;
+            case DOUBLE:
+                return double[].class;
+            default:
+                return null;
+        }
+    }
+
     /**
      * Sets the argument types of a Java UDF or UDAF. Returns true if the argument types specified
      * in the UDF are compatible with the argument types of the evaluate() function loaded
@@ -26,6 +26,7 @@ import com.google.common.base.Preconditions;
 import com.google.common.collect.Lists;
 import org.apache.log4j.Logger;
 
+import java.lang.reflect.Array;
 import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.net.InetAddress;
@@ -34,6 +35,7 @@ import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -1480,6 +1482,174 @@ public class VectorColumn {
         }
     }
 
+    /**
+     * Get the values of rows in [start, end) without boxing. According to the column type, the result is
+     * boolean[], byte[], short[], int[], long[], float[] or double[]. The values of null rows are undefined.
+     * A const column is expanded to (end - start) rows.
+     */
+    public Object getPrimitiveColumn(int start, int end) {
+        int length = end - start;
+        switch (columnType.getType()) {
+            case BOOLEAN: {
+                if (isConst()) {
+                    boolean[] result = new boolean[length];
+                    Arrays.fill(result, getBoolean(0));
+                    return result;
+                }
+                return OffHeap.getBoolean(null, data + start, length);
+            }
+            case TINYINT: {
+                if (isConst()) {
+                    byte[] result = new byte[length];
+                    Arrays.fill(result, getByte(0));
+                    return result;
+                }
+                return OffHeap.getByte(null, data + start, length);
+            }
+            case SMALLINT: {
+                if (isConst()) {
+                    short[] result = new short[length];
+                    Arrays.fill(result, getShort(0));
+                    return result;
+                }
+                return OffHeap.getShort(null, data + 2L * start, length);
+            }
+            case INT: {
+                if (isConst()) {
+                    int[] result = new int[length];
+                    Arrays.fill(result, getInt(0));
+                    return result;
+                }
+                return OffHeap.getInt(null, data + 4L * start, length);
+            }
+            case BIGINT: {
+                if (isConst()) {
+                    long[] result = new long[length];
+                    Arrays.fill(result, getLong(0));
+                    return result;
+                }
+                return OffHeap.getLong(null, data + 8L * start, length);
+            }
+            case FLOAT: {
+                if (isConst()) {
+                    float[] result = new float[length];
+                    Arrays.fill(result, getFloat(0));
+                    return result;
+                }
+                return OffHeap.getFloat(null, data + 4L * start, length);
+            }
+            case DOUBLE: {
+                if (isConst()) {
+                    double[] result = new double[length];
+                    Arrays.fill(result, getDouble(0));
+                    return result;
+                }
+                return OffHeap.getDouble(null, data + 8L * start, length);
+            }
+            default:
+                throw new RuntimeException("Not a primitive type: " + columnType.getType());
+        }
+    }
+
+    /**
+     * Get the null map of rows in [start, end), return null if there is no null value in the column.
+     * A const column is expanded to (end - start) rows.
+     */
+    public boolean[] getNullMap(int start, int end) {
+        if (!hasNull()) {
+            return null;
+        }
+        int length = end - start;
+        if (isConst()) {
+            // all of const is null value
+            boolean[] result = new boolean[length];
+            Arrays.fill(result, true);
+            return result;
+        }
+        if (nulls != null) {
+            return Arrays.copyOfRange(nulls, start, end);
+        }
+        return OffHeap.getBoolean(null, nullMap + start, length);
+    }
+
+    /**
+     * Append the first rows of a primitive array, which has the same type as the result of getPrimitiveColumn().
+     *
+     * @param batchNulls the null map of the appended rows, can be null if there is no null value.
+     */
+    public void appendPrimitiveColumn(Object batch, boolean[] batchNulls, int rows, boolean isNullable) {
+        long arrayOffset = primitiveArrayOffset(batch, rows);
+        reserve(appendIndex + rows);
+        if (batchNulls != null) {
+            int batchNumNulls = 0;
+            for (int i = 0; i < rows; ++i) {
+                if (batchNulls[i]) {
+                    batchNumNulls++;
+                }
+            }
+            if (batchNumNulls > 0) {
+                if (!isNullable) {
+                    throw new RuntimeException(
+                            "the result has null values, but the return type is not nullable, please check "
+                                    + "the always_nullable property in create function statement, "
+                                    + "it's should be true");
+                }
+                OffHeap.UNSAFE.copyMemory(batchNulls, OffHeap.BOOLEAN_ARRAY_OFFSET, null, nullMap + appendIndex,
+                        rows);
+                numNulls += batchNumNulls;
+            }
+        }
+        long typeSize = columnType.getTypeSize();
+        OffHeap.UNSAFE.copyMemory(batch, arrayOffset, null, data + typeSize * appendIndex, typeSize * rows);
+        appendIndex += rows;
+    }
+
+    private long primitiveArrayOffset(Object batch, int rows) {
+        Class<?> arrayClass;
+        long arrayOffset;
+        switch (columnType.getType()) {
+            case BOOLEAN:
+                arrayClass = boolean[].class;
+                arrayOffset = OffHeap.BOOLEAN_ARRAY_OFFSET;
+                break;
+            case TINYINT:
+                arrayClass = byte[].class;
+                arrayOffset = OffHeap.BYTE_ARRAY_OFFSET;
+                break;
+            case SMALLINT:
+                arrayClass = short[].class;
+                arrayOffset = OffHeap.SHORT_ARRAY_OFFSET;
+                break;
+            case INT:
+                arrayClass = int[].class;
+                arrayOffset = OffHeap.INT_ARRAY_OFFSET;
+                break;
+            case BIGINT:
+                arrayClass = long[].class;
+                arrayOffset = OffHeap.LONG_ARRAY_OFFSET;
+                break;
+            case FLOAT:
+                arrayClass = float[].class;
+                arrayOffset = OffHeap.FLOAT_ARRAY_OFFSET;
+                break;
+            case DOUBLE:
+                arrayClass = double[].class;
+                arrayOffset = OffHeap.DOUBLE_ARRAY_OFFSET;
+                break;
+            default:
+                throw new RuntimeException("Not a primitive type: " + columnType.getType());
+        }
+        if (batch == null || batch.getClass() != arrayClass) {
+            throw new RuntimeException("Expect " + arrayClass.getSimpleName() + " for " + columnType.getType()
+                    + " column, but got " + (batch == null ? "null" : batch.getClass().getSimpleName()));
+        }
+        if (Array.getLength(batch) < rows) {
+            throw new RuntimeException("Expect at least " + rows + " values, but got "
+                    + Array.getLength(batch));
+        }
+        return arrayOffset;
+    }
+
     public Object[] newObjectContainerArray(int size) {
         return newObjectContainerArray(columnType.getType(), size);
     }
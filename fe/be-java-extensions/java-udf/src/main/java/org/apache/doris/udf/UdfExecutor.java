@@ -24,6 +24,7 @@ import org.apache.doris.common.exception.UdfRuntimeException;
 import org.apache.doris.common.jni.utils.JavaUdfDataType;
 import org.apache.doris.common.jni.utils.UdfClassCache;
 import org.apache.doris.common.jni.utils.UdfUtils;
+import org.apache.doris.common.jni.vec.VectorColumn;
 import org.apache.doris.common.jni.vec.VectorTable;
 import org.apache.doris.thrift.TJavaUdfExecutorCtorParams;
 
@@ -35,12 +36,21 @@ import java.lang.reflect.Array;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 
 public class UdfExecutor extends BaseExecutor {
     public static final Logger LOG = Logger.getLogger(UdfExecutor.class);
     private static final String UDF_PREPARE_FUNCTION_NAME = "prepare";
     private static final String UDF_FUNCTION_NAME = "evaluate";
+    // Optional batch version of evaluate(), which processes a whole block without boxing:
+    //     R[] evaluateBatch(int numRows, boolean[] nulls, A1[] arg1, ..., An[] argn)
+    // R and Ai are the primitive java types of the return and argument types, eg, long[] for BIGINT.
+    // nulls[i] is true if any argument of row i is null, and the udf can set it to true to return null
+    // for row i. The values of null rows are undefined, and the result of them is ignored.
+    // It's only supported if all the return and argument types are
+    // BOOLEAN, TINYINT, SMALLINT, INT, BIGINT, FLOAT or DOUBLE, and preferred over evaluate() if both exist.
+    private static final String UDF_BATCH_FUNCTION_NAME = "evaluateBatch";
 
     /**
      * Create a UdfExecutor, using parameters from a serialized thrift object. Used by
@@ -73,6 +83,11 @@ public class UdfExecutor extends BaseExecutor {
                 outputTable.close();
             }
             outputTable = VectorTable.createWritableTable(outputParams, numRows);
+            boolean isNullable = Boolean.parseBoolean(outputParams.getOrDefault("is_nullable", "true"));
+            if (objCache.batchMethodIndex >= 0) {
+                evaluateBatch(inputTable, numRows, numColumns, isNullable);
+                return outputTable.getMetaAddress();
+            }
 
             // If the return type is primitive, we can't cast the array of primitive type as array of Object,
             // so we have to new its wrapped Object.
@@ -88,7 +103,6 @@ public class UdfExecutor extends BaseExecutor {
                 }
                 result[i] = objCache.methodAccess.invoke(udf, objCache.methodIndex, parameters);
             }
-            boolean isNullable = Boolean.parseBoolean(outputParams.getOrDefault("is_nullable", "true"));
             outputTable.appendData(0, result, getOutputConverter(), isNullable);
             return outputTable.getMetaAddress();
         } catch (Exception e) {
@@ -97,6 +111,48 @@ public class UdfExecutor extends BaseExecutor {
         }
     }
 
+    private void evaluateBatch(VectorTable inputTable, int numRows, int numColumns, boolean isNullable) {
+        boolean[] nulls = new boolean[numRows];
+        Object[] parameters = new Object[numColumns + 2];
+        parameters[0] = numRows;
+        parameters[1] = nulls;
+        for (int j = 0; j < numColumns; ++j) {
+            VectorColumn column = inputTable.getColumn(j);
+            parameters[j + 2] = column.getPrimitiveColumn(0, numRows);
+            boolean[] columnNulls = column.getNullMap(0, numRows);
+            if (columnNulls != null) {
+                for (int i = 0; i < numRows; ++i) {
+                    nulls[i] |= columnNulls[i];
+                }
+            }
+        }
+        Object result = objCache.methodAccess.invoke(udf, objCache.batchMethodIndex, parameters);
+        outputTable.getColumn(0).appendPrimitiveColumn(result, nulls, numRows, isNullable);
+    }
+
+    private Method findBatchMethod(Method[] methods, Type funcRetType, Type... parameterTypes) {
+        Class<?> retClass = UdfUtils.getPrimitiveArrayClass(funcRetType);
+        if (retClass == null) {
+            return null;
+        }
+        Class<?>[] argClass = new Class<?>[parameterTypes.length + 2];
+        argClass[0] = int.class;
+        argClass[1] = boolean[].class;
+        for (int i = 0; i < parameterTypes.length; ++i) {
+            argClass[i + 2] = UdfUtils.getPrimitiveArrayClass(parameterTypes[i]);
+            if (argClass[i + 2] == null) {
+                return null;
+            }
+        }
+        for (Method method : methods) {
+            if (method.getName().equals(UDF_BATCH_FUNCTION_NAME) && method.getReturnType().equals(retClass)
+                    && Arrays.equals(method.getParameterTypes(), argClass)) {
+                return method;
+            }
+        }
+        return null;
+    }
+
     private Method findPrepareMethod(Method[] methods) {
         for (Method method : methods) {
             if (method.getName().equals(UDF_PREPARE_FUNCTION_NAME) && method.getReturnType().equals(void.class)
@@ -134,6 +190,22 @@ public class UdfExecutor extends BaseExecutor {
         if (prepareMethod != null) {
             cache.allMethods.put(UDF_PREPARE_FUNCTION_NAME, prepareMethod);
         }
+        Method batchMethod = findBatchMethod(methods, funcRetType, parameterTypes);
+        if (batchMethod != null) {
+            Class<?>[] batchArgClass = batchMethod.getParameterTypes();
+            cache.allMethods.put(UDF_BATCH_FUNCTION_NAME, batchMethod);
+            cache.batchMethodIndex = cache.methodAccess.getIndex(UDF_BATCH_FUNCTION_NAME, batchArgClass);
+            // the element types of the arrays, in case there is no evaluate() method
+            cache.retClass = batchMethod.getReturnType().getComponentType();
+            cache.retType = UdfUtils.setReturnType(funcRetType, cache.retClass).second;
+            cache.argClass = new Class[parameterTypes.length];
+            for (int i = 0; i < parameterTypes.length; ++i) {
+                cache.argClass[i] = batchArgClass[i + 2].getComponentType();
+            }
+            cache.argTypes = UdfUtils.setArgTypes(parameterTypes, cache.argClass, false).second;
+            // evaluate() is not used if the batch method exists
+            return;
+        }
         for (Method m : methods) {
             // By convention, the udf must contain the function "evaluate"
             if (!m.getName().equals(UDF_FUNCTION_NAME)) {
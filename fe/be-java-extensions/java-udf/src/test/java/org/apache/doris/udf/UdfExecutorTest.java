@@ -0,0 +1,158 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.udf;
+
+import org.apache.doris.catalog.Type;
+import org.apache.doris.common.jni.utils.OffHeap;
+import org.apache.doris.common.jni.vec.ColumnType;
+import org.apache.doris.common.jni.vec.VectorTable;
+import org.apache.doris.thrift.TFunction;
+import org.apache.doris.thrift.TFunctionBinaryType;
+import org.apache.doris.thrift.TFunctionName;
+import org.apache.doris.thrift.TJavaUdfExecutorCtorParams;
+import org.apache.doris.thrift.TScalarFunction;
+
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class UdfExecutorTest {
+    @BeforeAll
+    public static void setUp() {
+        OffHeap.setTesting();
+    }
+
+    @Test
+    public void testEvaluateBatch() throws Exception {
+        UdfExecutor executor = createExecutor(SimpleAddBatchUdf.class);
+        VectorTable input = createInputTable(new Integer[] {1, null, 3, 4, -5}, new Integer[] {10, 20, null, 40, 5});
+        try {
+            Assertions.assertTrue(executor.objCache.batchMethodIndex >= 0);
+            // evaluate(Integer, int) can not accept a null b, only evaluateBatch() returns null for it
+            assertResult(new Integer[] {11, null, null, 44, 0}, evaluate(executor, input, 5, false));
+        } finally {
+            input.close();
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testEvaluateBatchWithConstColumn() throws Exception {
+        UdfExecutor executor = createExecutor(SimpleAddBatchUdf.class);
+        VectorTable input = createInputTable(new Integer[] {1, 2, null}, new Integer[] {100});
+        try {
+            assertResult(new Integer[] {101, 102, null}, evaluate(executor, input, 3, true));
+        } finally {
+            input.close();
+            executor.close();
+        }
+    }
+
+    @Test
+    public void testEvaluateWithoutBatchMethod() throws Exception {
+        UdfExecutor executor = createExecutor(SimpleAddUdf.class);
+        VectorTable input = createInputTable(new Integer[] {1, 2, 3}, new Integer[] {10, 20, 30});
+        try {
+            Assertions.assertEquals(-1, executor.objCache.batchMethodIndex);
+            assertResult(new Integer[] {11, 22, 33}, evaluate(executor, input, 3, false));
+        } finally {
+            input.close();
+            executor.close();
+        }
+    }
+
+    private static UdfExecutor createExecutor(Class<?> udfClass) throws Exception {
+        TFunction fn = new TFunction();
+        fn.setName(new TFunctionName("simple_add"));
+        fn.setBinaryType(TFunctionBinaryType.JAVA_UDF);
+        fn.setArgTypes(Type.toThrift(new Type[] {Type.INT, Type.INT}));
+        fn.setRetType(Type.INT.toThrift());
+        fn.setHasVarArgs(false);
+        fn.setId(0);
+        fn.setSignature("simple_add(INT, INT)");
+        TScalarFunction scalarFn = new TScalarFunction();
+        scalarFn.setSymbol(udfClass.getName());
+        fn.setScalarFn(scalarFn);
+        TJavaUdfExecutorCtorParams params = new TJavaUdfExecutorCtorParams();
+        params.setFn(fn);
+        // load the udf class by the system class loader
+        params.setLocation("");
+        return new UdfExecutor(new TSerializer(new TBinaryProtocol.Factory()).serialize(params));
+    }
+
+    private static VectorTable createInputTable(Integer[] a, Integer[] b) {
+        ColumnType[] types = {ColumnType.parseType("a", "int"), ColumnType.parseType("b", "int")};
+        VectorTable table = VectorTable.createWritableTable(types, new String[] {"a", "b"}, a.length);
+        table.appendData(0, a, true);
+        table.appendData(1, b, true);
+        return table;
+    }
+
+    // The meta of input block generated by BE is [rows | const flag, null map, data | ...],
+    // but the meta of a writable table is [rows | null map, data | ...].
+    private static long evaluate(UdfExecutor executor, VectorTable input, int numRows, boolean isLastColumnConst)
+            throws Exception {
+        long tableMeta = input.getMetaAddress();
+        int numColumns = input.getNumColumns();
+        long metaAddress = OffHeap.allocateMemory(8L * (1 + 3 * numColumns));
+        try {
+            OffHeap.putLong(null, metaAddress, numRows);
+            for (int i = 0; i < numColumns; i++) {
+                boolean isConst = isLastColumnConst && i == numColumns - 1;
+                long columnMeta = metaAddress + 8L * (1 + 3 * i);
+                OffHeap.putLong(null, columnMeta, isConst ? 1 : 0);
+                OffHeap.putLong(null, columnMeta + 8, OffHeap.getLong(null, tableMeta + 8L * (1 + 2 * i)));
+                OffHeap.putLong(null, columnMeta + 16, OffHeap.getLong(null, tableMeta + 8L * (2 + 2 * i)));
+            }
+            Map<String, String> inputParams = new HashMap<>();
+            inputParams.put("required_fields", "a,b");
+            inputParams.put("columns_types", "int#int");
+            inputParams.put("meta_address", String.valueOf(metaAddress));
+            return executor.evaluate(inputParams, outputParams());
+        } finally {
+            OffHeap.freeMemory(metaAddress);
+        }
+    }
+
+    private static Map<String, String> outputParams() {
+        Map<String, String> params = new HashMap<>();
+        params.put("required_fields", "result");
+        params.put("columns_types", "int");
+        params.put("is_nullable", "true");
+        return params;
+    }
+
+    private static void assertResult(Integer[] expected, long metaAddress) {
+        int numRows = (int) OffHeap.getLong(null, metaAddress);
+        Assertions.assertEquals(expected.length, numRows);
+        boolean[] nulls = OffHeap.getBoolean(null, OffHeap.getLong(null, metaAddress + 8), numRows);
+        int[] values = OffHeap.getInt(null, OffHeap.getLong(null, metaAddress + 16), numRows);
+        for (int i = 0; i < numRows; i++) {
+            Assertions.assertEquals(expected[i] == null, nulls[i], "row " + i);
+            if (expected[i] != null) {
+                Assertions.assertEquals((int) expected[i], values[i], "row " + i);
+            }
+        }
+    }
+}
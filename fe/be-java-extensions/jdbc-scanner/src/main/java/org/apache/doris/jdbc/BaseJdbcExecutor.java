@@ -74,6 +74,8 @@ public abstract class BaseJdbcExecutor implements JdbcExecutor {
     protected ResultSet resultSet = null;
     protected ResultSetMetaData resultSetMetaData = null;
     protected List<Object[]> block = null;
+    // The readers of the columns which are appended to the output table directly, see getColumnReader().
+    protected ColumnReader[] columnReaders = null;
     protected VectorTable outputTable = null;
     protected int batchSizeNum = 0;
     protected int curBlockRows = 0;
@@ -215,10 +217,19 @@ public abstract class BaseJdbcExecutor implements JdbcExecutor {
             curBlockRows = 0;
             int columnCount = resultSetMetaData.getColumnCount();
 
+            ColumnReader[] readers = new ColumnReader[columnCount];
+            for (int i = 0; i < columnCount; ++i) {
+                readers[i] = getColumnReader(i, outputTable.getColumnType(i), replaceStringList[i]);
+            }
+            columnReaders = readers;
             initializeBlock(columnCount, replaceStringList, batchSize, outputTable);
 
             do {
                 for (int i = 0; i < columnCount; ++i) {
+                    if (readers[i] != null) {
+                        readers[i].read(resultSet, i + 1, outputTable.getColumn(i));
+                        continue;
+                    }
                     ColumnType type = outputTable.getColumnType(i);
                     block.get(i)[curBlockRows] = getColumnValue(i, type, replaceStringList);
                 }
@@ -226,12 +237,19 @@ public abstract class BaseJdbcExecutor implements JdbcExecutor {
             } while (curBlockRows < batchSize && resultSet.next());
 
             for (int i = 0; i < columnCount; ++i) {
+                boolean isNullable = Boolean.parseBoolean(nullableList[i]);
+                if (readers[i] != null) {
+                    if (!isNullable && outputTable.getColumn(i).hasNull()) {
+                        throw new IllegalStateException("Column " + outputTable.getFields()[i]
+                                + " is not nullable, but got null value from jdbc result set");
+                    }
+                    continue;
+                }
                 ColumnType type = outputTable.getColumnType(i);
                 Object[] columnData = block.get(i);
                 Class<?> componentType = columnData.getClass().getComponentType();
                 Object[] newColumn = (Object[]) Array.newInstance(componentType, curBlockRows);
                 System.arraycopy(columnData, 0, newColumn, 0, curBlockRows);
-                boolean isNullable = Boolean.parseBoolean(nullableList[i]);
                 outputTable.appendData(i, newColumn, getOutputConverter(type, replaceStringList[i]), isNullable);
             }
         } catch (Exception e) {
@@ -243,13 +261,26 @@ public abstract class BaseJdbcExecutor implements JdbcExecutor {
         return outputTable.getMetaAddress();
     }
 
+    /**
+     * Allocate the arrays which collect the values of getColumnValue() for each column.
+     * The columns which are read directly, see isReadDirectly(), do not need an array, null is added
+     * for them to keep the index of other columns.
+     */
     protected void initializeBlock(int columnCount, String[] replaceStringList, int batchSizeNum,
             VectorTable outputTable) {
         for (int i = 0; i < columnCount; ++i) {
-            block.add(outputTable.getColumn(i).newObjectContainerArray(batchSizeNum));
+            if (isReadDirectly(i)) {
+                block.add(null);
+            } else {
+                block.add(outputTable.getColumn(i).newObjectContainerArray(batchSizeNum));
+            }
         }
     }
 
+    protected boolean isReadDirectly(int columnIndex) {
+        return columnReaders != null && columnReaders[columnIndex] != null;
+    }
+
     public int write(Map<String, String> params) throws JdbcExecutorException {
         VectorTable batchTable = VectorTable.createReadableTable(params);
         // Can't release or close batchTable, it's released by c++
@@ -458,6 +489,97 @@ public abstract class BaseJdbcExecutor implements JdbcExecutor {
     protected abstract Object getColumnValue(int columnIndex, ColumnType type, String[] replaceStringList)
             throws SQLException;
 
+    /**
+     * Read the value of a column in the current row of the result set, and append it to the output column.
+     */
+    @FunctionalInterface
+    protected interface ColumnReader {
+        void read(ResultSet resultSet, int columnIndex, VectorColumn column) throws SQLException;
+    }
+
+    /**
+     * Return a reader which appends the values of the column to the output table directly, instead of
+     * collecting them by getColumnValue() and converting them by getOutputConverter().
+     * Return null to use getColumnValue() and getOutputConverter().
+     */
+    protected ColumnReader getColumnReader(int columnIndex, ColumnType type, String replaceString) {
+        return null;
+    }
+
+    /**
+     * Return a reader which reads the column by the primitive getter of the result set, eg, getInt(),
+     * so no value is boxed. Return null if the type is not primitive.
+     */
+    protected ColumnReader getPrimitiveColumnReader(ColumnType type) {
+        switch (type.getType()) {
+            case BOOLEAN:
+                return (rs, index, column) -> {
+                    boolean value = rs.getBoolean(index);
+                    if (rs.wasNull()) {
+                        column.appendNull(ColumnType.Type.BOOLEAN);
+                    } else {
+                        column.appendBoolean(value);
+                    }
+                };
+            case TINYINT:
+                return (rs, index, column) -> {
+                    byte value = rs.getByte(index);
+                    if (rs.wasNull()) {
+                        column.appendNull(ColumnType.Type.TINYINT);
+                    } else {
+                        column.appendByte(value);
+                    }
+                };
+            case SMALLINT:
+                return (rs, index, column) -> {
+                    short value = rs.getShort(index);
+                    if (rs.wasNull()) {
+                        column.appendNull(ColumnType.Type.SMALLINT);
+                    } else {
+                        column.appendShort(value);
+                    }
+                };
+            case INT:
+                return (rs, index, column) -> {
+                    int value = rs.getInt(index);
+                    if (rs.wasNull()) {
+                        column.appendNull(ColumnType.Type.INT);
+                    } else {
+                        column.appendInt(value);
+                    }
+                };
+            case BIGINT:
+                return (rs, index, column) -> {
+                    long value = rs.getLong(index);
+                    if (rs.wasNull()) {
+                        column.appendNull(ColumnType.Type.BIGINT);
+                    } else {
+                        column.appendLong(value);
+                    }
+                };
+            case FLOAT:
+                return (rs, index, column) -> {
+                    float value = rs.getFloat(index);
+                    if (rs.wasNull()) {
+                        column.appendNull(ColumnType.Type.FLOAT);
+                    } else {
+                        column.appendFloat(value);
+                    }
+                };
+            case DOUBLE:
+                return (rs, index, column) -> {
+                    double value = rs.getDouble(index);
+                    if (rs.wasNull()) {
+                        column.appendNull(ColumnType.Type.DOUBLE);
+                    } else {
+                        column.appendDouble(value);
+                    }
+                };
+            default:
+                return null;
+        }
+    }
+
     /*
     | Type                                        | Java Array Type            |
     |---------------------------------------------|----------------------------|
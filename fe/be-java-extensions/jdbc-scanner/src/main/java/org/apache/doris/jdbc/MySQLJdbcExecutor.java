@@ -86,7 +86,9 @@ public class MySQLJdbcExecutor extends BaseJdbcExecutor {
     protected void initializeBlock(int columnCount, String[] replaceStringList, int batchSizeNum,
             VectorTable outputTable) {
         for (int i = 0; i < columnCount; ++i) {
-            if (replaceStringList[i].equals("bitmap") || replaceStringList[i].equals("hll")) {
+            if (isReadDirectly(i)) {
+                block.add(null);
+            } else if (replaceStringList[i].equals("bitmap") || replaceStringList[i].equals("hll")) {
                 block.add(new byte[batchSizeNum][]);
             } else if (outputTable.getColumnType(i).getType() == Type.ARRAY) {
                 block.add(new String[batchSizeNum]);
@@ -101,6 +103,25 @@ public class MySQLJdbcExecutor extends BaseJdbcExecutor {
         }
     }
 
+    @Override
+    protected ColumnReader getColumnReader(int columnIndex, ColumnType type, String replaceString) {
+        if (replaceString.equals("bitmap") || replaceString.equals("hll")) {
+            return null;
+        }
+        switch (type.getType()) {
+            // TINYINT and SMALLINT are not read by primitive getters, because with tinyInt1isBit,
+            // the driver returns Boolean for tinyint(1) and bit(1).
+            case BOOLEAN:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+                return getPrimitiveColumnReader(type);
+            default:
+                return null;
+        }
+    }
+
     @Override
     protected Object getColumnValue(int columnIndex, ColumnType type, String[] replaceStringList) throws SQLException {
         if (replaceStringList[columnIndex].equals("bitmap") || replaceStringList[columnIndex].equals("hll")) {
@@ -46,7 +46,9 @@ public class PostgreSQLJdbcExecutor extends BaseJdbcExecutor {
     protected void initializeBlock(int columnCount, String[] replaceStringList, int batchSizeNum,
             VectorTable outputTable) {
         for (int i = 0; i < columnCount; ++i) {
-            if (outputTable.getColumnType(i).getType() == Type.DATETIME
+            if (isReadDirectly(i)) {
+                block.add(null);
+            } else if (outputTable.getColumnType(i).getType() == Type.DATETIME
                     || outputTable.getColumnType(i).getType() == Type.DATETIMEV2) {
                 block.add(new Object[batchSizeNum]);
             } else if (outputTable.getColumnType(i).getType() == Type.STRING
@@ -58,6 +60,21 @@ public class PostgreSQLJdbcExecutor extends BaseJdbcExecutor {
         }
     }
 
+    @Override
+    protected ColumnReader getColumnReader(int columnIndex, ColumnType type, String replaceString) {
+        switch (type.getType()) {
+            case BOOLEAN:
+            case SMALLINT:
+            case INT:
+            case BIGINT:
+            case FLOAT:
+            case DOUBLE:
+                return getPrimitiveColumnReader(type);
+            default:
+                return null;
+        }
+    }
+
     @Override
     protected Object getColumnValue(int columnIndex, ColumnType type, String[] replaceStringList) throws SQLException {
         switch (type.getType()) {
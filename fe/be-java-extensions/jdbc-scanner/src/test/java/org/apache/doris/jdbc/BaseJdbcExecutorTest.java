@@ -0,0 +1,187 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.jdbc;
+
+import org.apache.doris.common.jni.utils.OffHeap;
+import org.apache.doris.common.jni.vec.VectorTable;
+
+import com.google.common.collect.Lists;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BaseJdbcExecutorTest {
+    // Each row is [smallint or int, bigint or int, double, varchar], the first 3 columns are read directly.
+    private static final Object[][] ROWS = {
+            {1, 10L, 1.5D, "a"},
+            {null, 20L, null, null},
+            {3, null, 3.5D, "c"},
+    };
+
+    private final List<Object[]> allocatedBlock = Lists.newArrayList();
+
+    @Before
+    public void setUp() {
+        OffHeap.setTesting();
+        new MockUp<BaseJdbcExecutor>() {
+            @Mock
+            public void $init(byte[] thriftParams) {
+            }
+        };
+    }
+
+    @Test
+    public void testMySQLPrimitiveColumns() throws Exception {
+        BaseJdbcExecutor executor = new MySQLJdbcExecutor(new byte[0]) {
+            @Override
+            protected void initializeBlock(int columnCount, String[] replaceStringList, int batchSizeNum,
+                    VectorTable outputTable) {
+                super.initializeBlock(columnCount, replaceStringList, batchSizeNum, outputTable);
+                allocatedBlock.addAll(block);
+            }
+        };
+        checkPrimitiveColumns(executor, "int#bigint#double#varchar(10)");
+    }
+
+    @Test
+    public void testPostgreSQLPrimitiveColumns() throws Exception {
+        BaseJdbcExecutor executor = new PostgreSQLJdbcExecutor(new byte[0]) {
+            @Override
+            protected void initializeBlock(int columnCount, String[] replaceStringList, int batchSizeNum,
+                    VectorTable outputTable) {
+                super.initializeBlock(columnCount, replaceStringList, batchSizeNum, outputTable);
+                allocatedBlock.addAll(block);
+            }
+        };
+        checkPrimitiveColumns(executor, "smallint#int#double#varchar(10)");
+    }
+
+    private void checkPrimitiveColumns(BaseJdbcExecutor executor, String columnTypes) throws Exception {
+        executor.resultSet = mockResultSet();
+        executor.block = Lists.newArrayList();
+        Map<String, String> params = new HashMap<>();
+        params.put("required_fields", "c1,c2,c3,c4");
+        params.put("columns_types", columnTypes);
+        params.put("is_nullable", "true,true,true,true");
+        params.put("replace_string", "not_replace,not_replace,not_replace,not_replace");
+        executor.resultSetMetaData = new MockUp<ResultSetMetaData>() {
+            @Mock
+            public int getColumnCount() {
+                return 4;
+            }
+        }.getMockInstance();
+
+        executor.getBlockAddress(ROWS.length, params);
+
+        // No object array is allocated for the columns read directly.
+        Assert.assertEquals(4, allocatedBlock.size());
+        for (int i = 0; i < 3; i++) {
+            Assert.assertNull(allocatedBlock.get(i));
+        }
+        Assert.assertNotNull(allocatedBlock.get(3));
+
+        Assert.assertEquals(ROWS.length, executor.outputTable.getNumRows());
+        Object[][] data = executor.outputTable.getMaterializedData();
+        for (int row = 0; row < ROWS.length; row++) {
+            for (int column = 0; column < 4; column++) {
+                Object expected = ROWS[row][column];
+                Object actual = data[column][row];
+                if (expected instanceof Number && actual instanceof Number) {
+                    Assert.assertEquals(((Number) expected).doubleValue(), ((Number) actual).doubleValue(), 0);
+                } else {
+                    Assert.assertEquals(expected, actual);
+                }
+            }
+        }
+        executor.outputTable.close();
+    }
+
+    private ResultSet mockResultSet() {
+        return new MockUp<ResultSet>() {
+            private int row = 0;
+            private boolean wasNull = false;
+
+            @Mock
+            public boolean next() {
+                return ++row < ROWS.length;
+            }
+
+            @Mock
+            public boolean wasNull() {
+                return wasNull;
+            }
+
+            @Mock
+            public short getShort(int columnIndex) {
+                Number value = (Number) getValue(columnIndex);
+                return value == null ? 0 : value.shortValue();
+            }
+
+            @Mock
+            public int getInt(int columnIndex) {
+                Number value = (Number) getValue(columnIndex);
+                return value == null ? 0 : value.intValue();
+            }
+
+            @Mock
+            public long getLong(int columnIndex) {
+                Number value = (Number) getValue(columnIndex);
+                return value == null ? 0 : value.longValue();
+            }
+
+            @Mock
+            public double getDouble(int columnIndex) {
+                Number value = (Number) getValue(columnIndex);
+                return value == null ? 0 : value.doubleValue();
+            }
+
+            @Mock
+            public Object getObject(int columnIndex) throws SQLException {
+                return getBoxedValue(columnIndex);
+            }
+
+            @Mock
+            public <T> T getObject(int columnIndex, Class<T> type) throws SQLException {
+                return type.cast(getBoxedValue(columnIndex));
+            }
+
+            private Object getBoxedValue(int columnIndex) throws SQLException {
+                if (columnIndex != 4) {
+                    throw new SQLException("primitive column " + columnIndex + " should not be boxed");
+                }
+                return getValue(columnIndex);
+            }
+
+            private Object getValue(int columnIndex) {
+                Object value = ROWS[row][columnIndex - 1];
+                wasNull = value == null;
+                return value;
+            }
+        }.getMockInstance();
+    }
+}
@@ -255,6 +255,16 @@ public class Config extends ConfigBase {
             "攒批写 EditLog。", "Batch EditLog writing"})
     public static boolean enable_batch_editlog = false;
 
+    @ConfField(mutable = true, masterOnly = true, description = {
+            "使用紧凑二进制格式（而不是 JSON）写入 EditLog 的操作类型 (OperationType 的值)，"
+                    + "目前只有 ReplicaPersistInfo 相关的操作支持。读取时总是兼容两种格式。"
+                    + "注意：只有在所有 FE 都升级到可以读取二进制格式的版本后才能开启",
+            "The operation types (values of OperationType) whose EditLog entities are written in the compact "
+                    + "binary format instead of JSON. Only the operations of ReplicaPersistInfo are supported now. "
+                    + "Both formats are always readable. NOTICE: only enable it after all FEs are upgraded to a "
+                    + "version which can read the binary format"})
+    public static short[] binary_edit_log_op_codes = {};
+
     @ConfField(description = {"元数据同步的容忍延迟时间，单位为秒。如果元数据的延迟超过这个值，非主 FE 会停止提供服务",
             "The toleration delay time of meta data synchronization, in seconds. "
                     + "If the delay of meta data exceeds this value, non-master FE will stop offering service"})
@@ -457,6 +467,19 @@ public class Config extends ConfigBase {
             "Whether to enable TCP Keep-Alive for MySQL connections, disabled by default"})
     public static boolean mysql_nio_enable_keep_alive = false;
 
+    @ConfField(mutable = true, description = {"MySQL 连接发送缓冲区池中最多缓存的空闲缓冲区个数。发送缓冲区只在连接有数据"
+            + "要发送时从池中借用，发送完成后归还，空闲连接不占用发送缓冲区",
+            "The max number of idle buffers cached in the send buffer pool of MySQL connections. "
+                    + "A connection only borrows a send buffer from the pool when it has data to send, "
+                    + "and returns it after the data is sent, so idle connections hold no send buffer"})
+    public static int mysql_send_buffer_pool_max_idle_num = 64;
+
+    @ConfField(mutable = true, description = {"是否将 BE 返回的查询结果直接改写包头后发送给 MySQL 客户端，"
+            + "而不是逐行拷贝到发送缓冲区",
+            "Whether to send the query results returned by BE to MySQL client with only their packet headers "
+                    + "rewritten in place, instead of copying them to the send buffer row by row"})
+    public static boolean enable_mysql_send_rows_in_place = true;
+
     @ConfField(description = {"thrift client 的连接超时时间，单位是毫秒。0 表示不设置超时时间。",
             "The connection timeout of thrift client, in milliseconds. 0 means no timeout."})
     public static int thrift_client_timeout_ms = 0;
@@ -562,6 +585,16 @@ public class Config extends ConfigBase {
             "Whether to enable parallel publish version"})
     public static boolean enable_parallel_publish_version = false;
 
+    @ConfField(mutable = true, masterOnly = true, description = {"并行发布版本时，是否将同一个 DB 在一轮中可以完成的事务"
+            + "合并为一个任务按提交顺序完成，而不是每个事务提交一个任务",
+            "When publishing version in parallel, whether to finish the transactions of a db which are ready in "
+                    + "the same round by one task in commit order, instead of one task for each transaction"})
+    public static boolean enable_batch_finish_publish_version = false;
+
+    @ConfField(mutable = true, description = {"是否按数据库统计事务发布版本的延迟",
+            "Whether to collect the publish version latency of transactions for each database"})
+    public static boolean enable_db_txn_publish_latency_metric = false;
+
     @ConfField(mutable = true, masterOnly = true, description = {"提交事务的最大超时时间，单位是秒。"
             + "该参数仅用于事务型 insert 操作中。",
             "Maximal waiting time for all data inserted before one transaction to be committed, in seconds. "
@@ -603,6 +636,20 @@ public class Config extends ConfigBase {
             "The timeout of RPC for high concurrenty short circuit query"})
     public static int point_query_timeout_ms = 10000; // 10s
 
+    @ConfField(mutable = true, description = {"主键点查短路径一次可以查询的最大 key 数。"
+            + "`WHERE key IN (...)` 的 key 会按 tablet 分组后并行批量查询",
+            "The max number of keys which can be looked up by one short circuit point query. "
+                    + "The keys of `WHERE key IN (...)` are grouped by tablet and looked up in parallel batches"})
+    public static int max_point_query_batch_keys = 1024;
+
+    @ConfField(mutable = true, description = {"主键点查短路径的请求合并窗口，单位是微秒。"
+            + "窗口内不同会话发往同一个 BE 的相同点查请求只发送一次 RPC，结果共享给所有会话。小于等于 0 表示不合并",
+            "The window in microseconds to coalesce the short circuit point query requests. "
+                    + "The same point query requests sent to the same backend by different sessions within the window "
+                    + "are sent by one RPC, and the result is shared by all the sessions. "
+                    + "Not coalesce if it is less than or equal to 0"})
+    public static long point_query_coalesce_window_us = 0;
+
     @ConfField(mutable = true, masterOnly = true, description = {"Insert load 的默认超时时间，单位是秒。",
             "Default timeout for insert load job, in seconds."})
     public static int insert_load_default_timeout_second = 14400; // 4 hour
@@ -1178,6 +1225,25 @@ public class Config extends ConfigBase {
     @ConfField(mutable = true, masterOnly = true)
     public static int report_queue_size = 100;
 
+    @ConfField(masterOnly = true, description = {
+            "处理 BE 汇报的线程数。同一个 BE 的汇报总是按顺序处理，不同 BE 的汇报可以并发处理。默认为 1，即串行处理所有汇报。",
+            "The number of threads to process the reports from backends. Reports from the same backend are always "
+                    + "processed in order, while reports from different backends can be processed concurrently. "
+                    + "Default is 1, which means all reports are processed one by one."})
+    public static int report_handler_thread_num = 1;
+
+    @ConfField(mutable = true, masterOnly = true, description = {
+            "如果一个 BE 汇报的 tablet 信息和上次处理的完全相同，并且期间 FE 元数据也没有变化，则跳过这次 tablet 汇报的处理。",
+            "Skip processing a tablet report if it is exactly the same as the last processed one of the backend, "
+                    + "and the FE metadata is not changed since then."})
+    public static boolean enable_skip_unchanged_tablet_report = false;
+
+    @ConfField(mutable = true, masterOnly = true, description = {
+            "一个 BE 连续跳过 tablet 汇报处理的最大次数，超过后强制完整处理一次。",
+            "The max times of tablet reports of a backend can be skipped continuously, "
+                    + "a full processing is forced after that."})
+    public static int max_continuous_skip_tablet_report_times = 5;
+
     // if the number of report task in FE exceed max_report_task_num_per_rpc, then split it to multiple rpc
     @ConfField(mutable = true, masterOnly = true, description = {
             "重新发送 agent task 时，单次 RPC 分配给每个be的任务最大个数，默认值为10000个。",
@@ -1485,6 +1551,19 @@ public class Config extends ConfigBase {
         "Maximum data size of rows that can be cached in SQL/Partition Cache, is 3000 by default."})
     public static int cache_result_max_data_size = 31457280; // 30M
 
+    @ConfField(description = {"FE 内存中缓存 SQL Cache 结果的最大总字节数。结果会同时写入 FE 内存和 BE，"
+            + "查询时先查 FE 内存，未命中再查 BE。0 表示只在 BE 中缓存结果",
+            "The max total bytes of SQL cache results cached in FE memory. The results are written to both "
+                    + "FE memory and BE, and are looked up in FE memory first, then in BE. "
+                    + "0 means results are only cached in BE"})
+    public static long sql_cache_fe_tier_max_bytes = 0;
+
+    @ConfField(mutable = true, description = {"可以缓存在 FE 内存中的单个 SQL Cache 结果的最大字节数，"
+            + "更大的结果只缓存在 BE 中",
+            "The max bytes of one SQL cache result which can be cached in FE memory, "
+                    + "larger results are only cached in BE"})
+    public static long sql_cache_fe_tier_max_result_bytes = 1024 * 1024;
+
     /**
      * Used to limit element num of InPredicate in delete statement.
      */
@@ -1713,6 +1792,13 @@ public class Config extends ConfigBase {
     @ConfField(mutable = false, masterOnly = true)
     public static int partition_info_update_interval_secs = 60;
 
+    @ConfField(description = {"TabletInvertedIndex 中按 tablet id 划分的分片数。查询单个 tablet 的副本时只需要持有"
+            + "对应分片的锁，不会被 tablet 汇报等遍历整个索引的操作阻塞",
+            "The number of shards which the tablets in TabletInvertedIndex are split into by tablet id. "
+                    + "Looking up the replicas of a single tablet only holds the lock of its shard, so it will not "
+                    + "be blocked by operations which traverse the whole index, such as tablet report"})
+    public static int tablet_inverted_index_shard_num = 64;
+
     @Deprecated
     @ConfField(masterOnly = true)
     public static boolean enable_concurrent_update = false;
@@ -2262,6 +2348,27 @@ public class Config extends ConfigBase {
     })
     public static long external_cache_refresh_time_minutes = 10; // 10 mins
 
+    @ConfField(description = {
+            "是否将 Hive 表分区的文件列表持久化到每个 FE 的 meta_dir/hive_file_cache 目录下，"
+                    + "重启后如果分区的 transient_lastDdlTime 没有变化，可以直接使用，避免重新列举文件。",
+            "Whether to persist the file listings of hive partitions to meta_dir/hive_file_cache of each frontend. "
+                    + "After restart, a persisted file listing is used without listing the files again "
+                    + "if the transient_lastDdlTime of the partition is not changed."
+    })
+    public static boolean enable_hive_file_listing_persist = false;
+
+    @ConfField(mutable = true, description = {
+            "Hive 表分区文件列表持久化的时间间隔，单位为秒。",
+            "The interval in seconds of persisting the file listings of hive partitions."
+    })
+    public static int hive_file_listing_persist_interval_second = 300;
+
+    @ConfField(mutable = true, description = {
+            "每个 Hive Catalog 最多持久化的分区文件列表数量。",
+            "Max number of persisted partition file listings of each hive catalog."
+    })
+    public static long max_hive_file_listing_persist_num = 1000000;
+
     /**
      * Github workflow test type, for setting some session variables
      * only for certain test type. E.g. only settting batch_size to small
@@ -2400,6 +2507,30 @@ public class Config extends ConfigBase {
     )
     public static int hbo_plan_info_cache_num = 1000;
 
+    /**
+     * Whether to persist hbo plan stats. to local file of each frontend.
+     */
+    @ConfField(
+            description = {
+                    "是否将 HBO plan stats. 持久化到每个 FE 的 meta_dir/hbo 目录下，重启后可以直接加载，避免统计信息丢失。",
+                    "Whether to persist hbo plan stats. to meta_dir/hbo of each frontend, so they can be "
+                            + "loaded after restart instead of being lost."
+            }
+    )
+    public static boolean enable_hbo_plan_stats_persist = false;
+
+    /**
+     * The interval of persisting hbo plan stats.
+     */
+    @ConfField(
+            mutable = true,
+            description = {
+                    "HBO plan stats. 持久化的时间间隔，单位为秒。",
+                    "The interval in seconds of persisting hbo plan stats."
+            }
+    )
+    public static int hbo_plan_stats_persist_interval_second = 300;
+
     /**
      * Maximum number of events to poll in each RPC.
      */
@@ -2740,6 +2871,24 @@ public class Config extends ConfigBase {
                     + "If this number is exceeded, the splits will be redistributed."})
     public static int split_assigner_max_split_num_variance = 1;
 
+    @ConfField(mutable = true, description = {
+            "一致性哈希分配 split 时，是否优先将 split 分配给之前读过该 split、file cache 中可能已缓存其数据的节点。",
+            "Whether to prefer the backend which read the split before, and may hold its data in file cache, "
+                    + "when assigning splits by consistent hashing."})
+    public static boolean split_assigner_enable_cache_affinity = false;
+
+    @ConfField(description = {
+            "记录 split 与读取节点对应关系的最大条目数。每个条目约占用 100 字节内存。",
+            "The max number of entries to remember which backend read a split. "
+                    + "Each entry takes about 100 bytes of memory."})
+    public static long split_assigner_cache_affinity_max_entries = 100000;
+
+    @ConfField(mutable = true, description = {
+            "之前读过 split 的节点正在执行的 fragment 数比候选节点中最小值多出该值时，不再优先分配给该节点。",
+            "The backend which read the split before is not preferred if it is executing more fragments "
+                    + "than the least loaded candidate backend by this value."})
+    public static long split_assigner_cache_affinity_max_fragment_skew = 32;
+
     @ConfField(description = {
             "控制统计信息的自动触发作业执行记录的持久化行数",
             "Determine the persist number of automatic triggered analyze job execution status"
@@ -2858,6 +3007,18 @@ public class Config extends ConfigBase {
     })
     public static int metadata_text_read_max_batch_bytes = -1;
 
+    @ConfField(description = {
+            "FE 加载 image 文件时并发读取元数据模块的线程数。等于 1 时按顺序逐个加载所有模块；"
+                    + "大于 1 时，PersistMetaModules.PARALLEL_LOADABLE_MODULE_NAMES 中的独立模块会通过各自的文件句柄并发加载，"
+                    + "其余模块仍按写入顺序加载。checkpoint 线程总是按顺序加载。默认值为 1",
+            "The number of threads used to load independent meta modules concurrently when FE loads an image file. "
+                    + "1 means all modules are loaded one by one in the order they were written. "
+                    + "If greater than 1, the modules in PersistMetaModules.PARALLEL_LOADABLE_MODULE_NAMES are loaded "
+                    + "concurrently, each through its own positional reader, while the other modules are still "
+                    + "loaded in order. The checkpoint thread always loads sequentially. The default value is 1"
+    })
+    public static int image_load_parallelism = 1;
+
     @ConfField(mutable = true, masterOnly = true)
     public static int publish_topic_info_interval_ms = 30000; // 30s
 
@@ -2937,6 +3098,15 @@ public class Config extends ConfigBase {
             "The path of the nereids trace file."})
     public static String nereids_trace_log_dir = System.getenv("LOG_DIR") + "/nereids_trace";
 
+    @ConfField(mutable = true, description = {"是否缓存查询语句的语法树。只有字面量不同的查询会复用同一棵语法树，跳过 ANTLR 语法分析",
+            "Whether to cache the parse trees of query statements. Queries which only differ in literals "
+                    + "reuse the same parse tree and skip the ANTLR parsing"})
+    public static boolean enable_parse_tree_cache = false;
+
+    @ConfField(description = {"语法树缓存的最大内存占用（估算值），单位为字节",
+            "The max estimated memory of the parse tree cache, in bytes"})
+    public static long parse_tree_cache_max_bytes = 128 * 1024 * 1024; // 128MB
+
     @ConfField(mutable = true, masterOnly = true, description = {
             "备份过程中，一个 upload 任务上传的快照数量上限，默认值为10个",
             "The max number of snapshots assigned to a upload task during the backup process, the default value is 10."
@@ -3080,6 +3250,14 @@ public class Config extends ConfigBase {
             "The threshold to do manual GC when doing checkpoint but not enough memory"})
     public static int checkpoint_manual_gc_threshold = 0;
 
+    @ConfField(mutable = true, masterOnly = true, description = {
+            "checkpoint 时，如果上一个 image 中某些模块在其后的 journal 中没有被修改，则直接拷贝这些模块的内容而不重新序列化。"
+                    + "每隔多少次 checkpoint 强制完整地重新序列化所有模块。0 或 1 表示每次都完整序列化",
+            "When doing checkpoint, the modules of the last image which are not modified by the journals after it "
+                    + "are copied instead of being serialized again. Every this number of checkpoints, all modules "
+                    + "are forced to be serialized again. 0 or 1 means all modules are serialized every time"})
+    public static int checkpoint_full_image_interval = 0;
+
     @ConfField(mutable = true, description = {
             "是否在每个请求开始之前打印一遍请求内容, 主要是query语句",
             "Should the request content be logged before each request starts, specifically the query statements"})
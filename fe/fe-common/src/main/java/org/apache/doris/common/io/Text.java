@@ -402,7 +402,13 @@ public class Text implements Writable {
      * Read a UTF8 encoded string from in
      */
     public static String readString(DataInput in) throws IOException {
-        int length = in.readInt();
+        return readString(in, in.readInt());
+    }
+
+    /**
+     * Read a UTF8 encoded string whose length has already been read from in
+     */
+    public static String readString(DataInput in, int length) throws IOException {
         byte[] bytes = new byte[length];
         in.readFully(bytes, 0, length);
         if (Config.metadata_text_read_max_batch_bytes == -1) {
@@ -236,6 +236,7 @@ import org.apache.doris.persist.TruncateTableInfo;
 import org.apache.doris.persist.meta.MetaHeader;
 import org.apache.doris.persist.meta.MetaReader;
 import org.apache.doris.persist.meta.MetaWriter;
+import org.apache.doris.persist.meta.ReusableImageModules;
 import org.apache.doris.planner.TabletLoadIndexRecorderMgr;
 import org.apache.doris.plsql.metastore.PlsqlManager;
 import org.apache.doris.plugin.PluginInfo;
@@ -306,6 +307,7 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multimap;
 import com.google.common.collect.Queues;
+import com.google.common.collect.Sets;
 import com.sleepycat.je.rep.InsufficientLogException;
 import com.sleepycat.je.rep.NetworkRestore;
 import com.sleepycat.je.rep.NetworkRestoreConfig;
@@ -580,6 +582,9 @@ public class Env {
 
     private final List<String> forceSkipJournalIds = Arrays.asList(Config.force_skip_journal_ids);
 
+    // Operation types replayed by the checkpoint env, used to find the image modules which can be reused.
+    private final Set<Short> checkpointReplayedOpCodes = Sets.newHashSet();
+
     // all sessions' last heartbeat time of all fe
     private static volatile Map<String, Long> sessionReportTimeMap = new HashMap<>();
 
@@ -1055,6 +1060,10 @@ public class Env {
         return dnsCache;
     }
 
+    public Set<Short> getCheckpointReplayedOpCodes() {
+        return checkpointReplayedOpCodes;
+    }
+
     public List<String> getForceSkipJournalIds() {
         return forceSkipJournalIds;
     }
@@ -1979,6 +1988,7 @@ public class Env {
         workloadRuntimeStatusMgr.start();
         admissionControl.start();
         splitSourceManager.start();
+        hboPlanStatisticsManager.start();
     }
 
     private void transferToNonMaster(FrontendNodeType newType) {
@@ -2538,11 +2548,17 @@ public class Env {
     // Only called by checkpoint thread
     // return the latest image file's absolute path
     public String saveImage() throws IOException {
+        return saveImage((ReusableImageModules) null);
+    }
+
+    // Only called by checkpoint thread
+    // return the latest image file's absolute path
+    public String saveImage(ReusableImageModules reusableModules) throws IOException {
         // Write image.ckpt
         Storage storage = new Storage(this.imageDir);
         File curFile = storage.getImageFile(replayedJournalId.get());
         File ckpt = new File(this.imageDir, Storage.IMAGE_NEW);
-        saveImage(ckpt, replayedJournalId.get());
+        saveImage(ckpt, replayedJournalId.get(), reusableModules);
 
         // Move image.ckpt to image.dataVersion
         LOG.info("Move " + ckpt.getAbsolutePath() + " to " + curFile.getAbsolutePath());
@@ -2554,6 +2570,11 @@ public class Env {
     }
 
     public void saveImage(File curFile, long replayedJournalId) throws IOException {
+        saveImage(curFile, replayedJournalId, null);
+    }
+
+    public void saveImage(File curFile, long replayedJournalId, ReusableImageModules reusableModules)
+            throws IOException {
         if (curFile.exists()) {
             if (!curFile.delete()) {
                 throw new IOException(curFile.getName() + " can not be deleted.");
@@ -2562,7 +2583,7 @@ public class Env {
         if (!curFile.createNewFile()) {
             throw new IOException(curFile.getName() + " can not be created.");
         }
-        MetaWriter.write(curFile, this);
+        MetaWriter.write(curFile, this, reusableModules);
     }
 
     public long saveHeader(CountingDataOutputStream dos, long replayedJournalId, long checksum) throws IOException {
@@ -3096,6 +3117,9 @@ public class Env {
                 }
             }
             hasLog = true;
+            if (isCheckpointThread()) {
+                checkpointReplayedOpCodes.add(entity.getOpCode());
+            }
             EditLog.loadJournal(this, logId, entity);
             long loadJournalEndTime = System.currentTimeMillis();
             replayedJournalId.incrementAndGet();
@@ -112,6 +112,8 @@ public class JdbcResource extends Resource {
     public static final String CREATE_TIME = "create_time";
     public static final String TEST_CONNECTION = "test_connection";
     public static final String FUNCTION_RULES = "function_rules";
+    public static final String SCAN_SPLIT_NUM = "scan_split_num";
+    public static final String SCAN_SPLIT_COLUMNS = "scan_split_columns";
 
     private static final ImmutableList<String> ALL_PROPERTIES = new ImmutableList.Builder<String>().add(
             JDBC_URL,
@@ -132,6 +134,8 @@ public class JdbcResource extends Resource {
             CONNECTION_POOL_MAX_WAIT_TIME,
             CONNECTION_POOL_KEEP_ALIVE,
             TEST_CONNECTION,
+            SCAN_SPLIT_NUM,
+            SCAN_SPLIT_COLUMNS,
             ExternalCatalog.USE_META_CACHE
     ).build();
 
@@ -151,6 +155,8 @@ public class JdbcResource extends Resource {
         OPTIONAL_PROPERTIES_DEFAULT_VALUE.put(CONNECTION_POOL_MAX_WAIT_TIME, "5000");
         OPTIONAL_PROPERTIES_DEFAULT_VALUE.put(CONNECTION_POOL_KEEP_ALIVE, "false");
         OPTIONAL_PROPERTIES_DEFAULT_VALUE.put(TEST_CONNECTION, "true");
+        OPTIONAL_PROPERTIES_DEFAULT_VALUE.put(SCAN_SPLIT_NUM, "1");
+        OPTIONAL_PROPERTIES_DEFAULT_VALUE.put(SCAN_SPLIT_COLUMNS, "");
         OPTIONAL_PROPERTIES_DEFAULT_VALUE.put(ExternalCatalog.USE_META_CACHE,
                 String.valueOf(ExternalCatalog.DEFAULT_USE_META_CACHE));
     }
@@ -519,4 +525,20 @@ public class JdbcResource extends Resource {
             throw new DdlException("connection_pool_max_life_time must be greater than or equal to 150000");
         }
     }
+
+    public static void checkScanSplitProperties(int scanSplitNum, Map<String, String> scanSplitColumns)
+            throws DdlException {
+        if (scanSplitNum < 1) {
+            throw new DdlException("scan_split_num must be greater than or equal to 1");
+        }
+        if (scanSplitNum > 64) {
+            throw new DdlException("scan_split_num must be less than or equal to 64");
+        }
+        for (Map.Entry<String, String> entry : scanSplitColumns.entrySet()) {
+            if (entry.getKey().split("\\.").length != 2 || entry.getValue().isEmpty()) {
+                throw new DdlException("scan_split_columns must be in the format of "
+                        + "'db1.table1:column1,db2.table2:column2', but get " + entry.getKey() + ":" + entry.getValue());
+            }
+        }
+    }
 }
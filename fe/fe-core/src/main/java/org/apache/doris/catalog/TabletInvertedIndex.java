@@ -74,10 +74,19 @@ public class TabletInvertedIndex {
     public static final TabletMeta NOT_EXIST_TABLET_META = new TabletMeta(NOT_EXIST_VALUE, NOT_EXIST_VALUE,
             NOT_EXIST_VALUE, NOT_EXIST_VALUE, NOT_EXIST_VALUE, TStorageMedium.HDD);
 
+    /*
+     * Locking:
+     * 'lock' protects all the structures of this index. The tablet keyed structures are split into
+     * 'shards' by tablet id, and each shard has its own lock.
+     * A shard is only modified when holding both 'lock' and the shard lock in write mode, so it can be read
+     * when holding either 'lock' or the shard lock in read mode.
+     * Looking up a single tablet (eg. getReplicas when planning a query) only needs the shard lock, so it will not
+     * be blocked by a long time traversal of the whole index (eg. tabletReport), which holds 'lock'.
+     * Always acquire 'lock' before the shard lock.
+     */
     private StampedLock lock = new StampedLock();
 
-    // tablet id -> tablet meta
-    private Map<Long, TabletMeta> tabletMetaMap = Maps.newHashMap();
+    private final TabletShard[] shards;
 
     // replica id -> tablet id
     private Map<Long, Long> replicaToTabletMap = Maps.newHashMap();
@@ -93,10 +102,6 @@ public class TabletInvertedIndex {
      */
     private Table<Long, Long, TabletMeta> tabletMetaTable = HashBasedTable.create();
 
-    // tablet id -> (backend id -> replica)
-    // for cloud mode, no need to known the replica's backend, so use backend id = -1 in cloud mode.
-    private Table<Long, Long, Replica> replicaMetaTable = HashBasedTable.create();
-
     // backing replica table, for visiting backend replicas faster.
     // backend id -> (tablet id -> replica)
     private Table<Long, Long, Replica> backingReplicaMetaTable = HashBasedTable.create();
@@ -110,6 +115,31 @@ public class TabletInvertedIndex {
     private ForkJoinPool taskPool = new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
     public TabletInvertedIndex() {
+        int shardNum = Math.max(1, Config.tablet_inverted_index_shard_num);
+        shards = new TabletShard[shardNum];
+        for (int i = 0; i < shardNum; i++) {
+            shards[i] = new TabletShard();
+        }
+    }
+
+    private static class TabletShard {
+        private final StampedLock lock = new StampedLock();
+
+        // tablet id -> tablet meta
+        private final Map<Long, TabletMeta> tabletMetaMap = Maps.newHashMap();
+
+        // tablet id -> (backend id -> replica)
+        // for cloud mode, no need to known the replica's backend, so use backend id = -1 in cloud mode.
+        private final Table<Long, Long, Replica> replicaMetaTable = HashBasedTable.create();
+    }
+
+    private TabletShard getShard(long tabletId) {
+        return shards[Math.floorMod(Long.hashCode(tabletId), shards.length)];
+    }
+
+    // caller should hold 'lock' or the shard lock
+    private TabletMeta getTabletMetaInternal(long tabletId) {
+        return getShard(tabletId).tabletMetaMap.get(tabletId);
     }
 
     private long readLock() {
@@ -157,9 +187,9 @@ public class TabletInvertedIndex {
                     // traverse replicas in meta with this backend
                     replicaMetaWithBackend.entrySet().parallelStream().forEach(entry -> {
                         long tabletId = entry.getKey();
-                        Preconditions.checkState(tabletMetaMap.containsKey(tabletId),
+                        TabletMeta tabletMeta = getTabletMetaInternal(tabletId);
+                        Preconditions.checkState(tabletMeta != null,
                                 "tablet " + tabletId + " not exists, backend " + backendId);
-                        TabletMeta tabletMeta = tabletMetaMap.get(tabletId);
 
                         if (backendTablets.containsKey(tabletId)) {
                             TTablet backendTablet = backendTablets.get(tabletId);
@@ -409,25 +439,22 @@ public class TabletInvertedIndex {
     }
 
     public TabletMeta getTabletMeta(long tabletId) {
-        long stamp = readLock();
+        TabletShard shard = getShard(tabletId);
+        long stamp = shard.lock.readLock();
         try {
-            return tabletMetaMap.get(tabletId);
+            return shard.tabletMetaMap.get(tabletId);
         } finally {
-            readUnlock(stamp);
+            shard.lock.unlockRead(stamp);
         }
     }
 
     public List<TabletMeta> getTabletMetaList(List<Long> tabletIdList) {
         List<TabletMeta> tabletMetaList = new ArrayList<>(tabletIdList.size());
-        long stamp = readLock();
-        try {
-            for (Long tabletId : tabletIdList) {
-                tabletMetaList.add(tabletMetaMap.getOrDefault(tabletId, NOT_EXIST_TABLET_META));
-            }
-            return tabletMetaList;
-        } finally {
-            readUnlock(stamp);
+        for (Long tabletId : tabletIdList) {
+            TabletMeta tabletMeta = getTabletMeta(tabletId);
+            tabletMetaList.add(tabletMeta != null ? tabletMeta : NOT_EXIST_TABLET_META);
         }
+        return tabletMetaList;
     }
 
     private boolean needSync(Replica replicaInFe, TTabletInfo backendTabletInfo) {
@@ -504,12 +531,12 @@ public class TabletInvertedIndex {
         }
 
         // check cooldown replica is alive
-        Map<Long, Replica> replicaMap = replicaMetaTable.row(beTabletInfo.getTabletId());
-        if (replicaMap.isEmpty()) {
+        List<Replica> replicas = getReplicasByTabletId(beTabletInfo.getTabletId());
+        if (replicas.isEmpty()) {
             return;
         }
         boolean replicaAlive = false;
-        for (Replica replica : replicaMap.values()) {
+        for (Replica replica : replicas) {
             if (replica.getId() == cooldownConf.first) {
                 if (replica.isAlive()) {
                     replicaAlive = true;
@@ -532,12 +559,13 @@ public class TabletInvertedIndex {
     }
 
     public List<Replica> getReplicas(Long tabletId) {
-        long stamp = readLock();
+        TabletShard shard = getShard(tabletId);
+        long stamp = shard.lock.readLock();
         try {
-            Map<Long, Replica> replicaMap = replicaMetaTable.row(tabletId);
+            Map<Long, Replica> replicaMap = shard.replicaMetaTable.row(tabletId);
             return replicaMap.values().stream().collect(Collectors.toList());
         } finally {
-            readUnlock(stamp);
+            shard.lock.unlockRead(stamp);
         }
     }
 
@@ -586,10 +614,16 @@ public class TabletInvertedIndex {
     public void addTablet(long tabletId, TabletMeta tabletMeta) {
         long stamp = writeLock();
         try {
-            if (tabletMetaMap.containsKey(tabletId)) {
+            TabletShard shard = getShard(tabletId);
+            if (shard.tabletMetaMap.containsKey(tabletId)) {
                 return;
             }
-            tabletMetaMap.put(tabletId, tabletMeta);
+            long shardStamp = shard.lock.writeLock();
+            try {
+                shard.tabletMetaMap.put(tabletId, tabletMeta);
+            } finally {
+                shard.lock.unlockWrite(shardStamp);
+            }
             if (!tabletMetaTable.contains(tabletMeta.getPartitionId(), tabletMeta.getIndexId())) {
                 tabletMetaTable.put(tabletMeta.getPartitionId(), tabletMeta.getIndexId(), tabletMeta);
                 if (LOG.isDebugEnabled()) {
@@ -608,7 +642,16 @@ public class TabletInvertedIndex {
     public void deleteTablet(long tabletId) {
         long stamp = writeLock();
         try {
-            Map<Long, Replica> replicas = replicaMetaTable.rowMap().remove(tabletId);
+            TabletShard shard = getShard(tabletId);
+            Map<Long, Replica> replicas;
+            TabletMeta tabletMeta;
+            long shardStamp = shard.lock.writeLock();
+            try {
+                replicas = shard.replicaMetaTable.rowMap().remove(tabletId);
+                tabletMeta = shard.tabletMetaMap.remove(tabletId);
+            } finally {
+                shard.lock.unlockWrite(shardStamp);
+            }
             if (replicas != null) {
                 for (Replica replica : replicas.values()) {
                     replicaToTabletMap.remove(replica.getId());
@@ -618,7 +661,6 @@ public class TabletInvertedIndex {
                     backingReplicaMetaTable.remove(backendId, tabletId);
                 }
             }
-            TabletMeta tabletMeta = tabletMetaMap.remove(tabletId);
             if (tabletMeta != null) {
                 tabletMetaTable.remove(tabletMeta.getPartitionId(), tabletMeta.getIndexId());
                 if (LOG.isDebugEnabled()) {
@@ -639,10 +681,16 @@ public class TabletInvertedIndex {
         try {
             // cloud mode, create table not need backendId, represent with -1.
             long backendId = Config.isCloudMode() ? -1 : replica.getBackendIdWithoutException();
-            Preconditions.checkState(tabletMetaMap.containsKey(tabletId),
+            TabletShard shard = getShard(tabletId);
+            Preconditions.checkState(shard.tabletMetaMap.containsKey(tabletId),
                     "tablet " + tabletId + " not exists, replica " + replica.getId()
                     + ", backend " + backendId);
-            replicaMetaTable.put(tabletId, backendId, replica);
+            long shardStamp = shard.lock.writeLock();
+            try {
+                shard.replicaMetaTable.put(tabletId, backendId, replica);
+            } finally {
+                shard.lock.unlockWrite(shardStamp);
+            }
             replicaToTabletMap.put(replica.getId(), tabletId);
             backingReplicaMetaTable.put(backendId, tabletId, replica);
             if (LOG.isDebugEnabled()) {
@@ -657,18 +705,25 @@ public class TabletInvertedIndex {
     public void deleteReplica(long tabletId, long backendId) {
         long stamp = writeLock();
         try {
-            Preconditions.checkState(tabletMetaMap.containsKey(tabletId),
+            TabletShard shard = getShard(tabletId);
+            Preconditions.checkState(shard.tabletMetaMap.containsKey(tabletId),
                     "tablet " + tabletId + " not exists, backend " + backendId);
             if (Config.isCloudMode()) {
                 backendId = -1;
             }
-            if (replicaMetaTable.containsRow(tabletId)) {
-                Replica replica = replicaMetaTable.remove(tabletId, backendId);
+            if (shard.replicaMetaTable.containsRow(tabletId)) {
+                Replica replica;
+                long shardStamp = shard.lock.writeLock();
+                try {
+                    replica = shard.replicaMetaTable.remove(tabletId, backendId);
+                } finally {
+                    shard.lock.unlockWrite(shardStamp);
+                }
 
                 // sometimes, replicas may have same replica id in different backend
                 // we need to cover this situation to avoid some "replica not found" issue
-                if (replicaMetaTable.containsRow(tabletId)) {
-                    long replicaNum = replicaMetaTable.row(tabletId).values().stream()
+                if (shard.replicaMetaTable.containsRow(tabletId)) {
+                    long replicaNum = shard.replicaMetaTable.row(tabletId).values().stream()
                             .filter(c -> c.getId() == replica.getId()).count();
                     if (replicaNum == 0) {
                         replicaToTabletMap.remove(replica.getId());
@@ -693,28 +748,30 @@ public class TabletInvertedIndex {
     }
 
     public Replica getReplica(long tabletId, long backendId) {
-        long stamp = readLock();
+        TabletShard shard = getShard(tabletId);
+        long stamp = shard.lock.readLock();
         try {
-            Preconditions.checkState(tabletMetaMap.containsKey(tabletId),
+            Preconditions.checkState(shard.tabletMetaMap.containsKey(tabletId),
                     "tablet " + tabletId + " not exists, backend " + backendId);
             if (Config.isCloudMode()) {
                 backendId = -1;
             }
-            return replicaMetaTable.get(tabletId, backendId);
+            return shard.replicaMetaTable.get(tabletId, backendId);
         } finally {
-            readUnlock(stamp);
+            shard.lock.unlockRead(stamp);
         }
     }
 
     public List<Replica> getReplicasByTabletId(long tabletId) {
-        long stamp = readLock();
+        TabletShard shard = getShard(tabletId);
+        long stamp = shard.lock.readLock();
         try {
-            if (replicaMetaTable.containsRow(tabletId)) {
-                return Lists.newArrayList(replicaMetaTable.row(tabletId).values());
+            if (shard.replicaMetaTable.containsRow(tabletId)) {
+                return Lists.newArrayList(shard.replicaMetaTable.row(tabletId).values());
             }
             return Lists.newArrayList();
         } finally {
-            readUnlock(stamp);
+            shard.lock.unlockRead(stamp);
         }
     }
 
@@ -754,7 +811,7 @@ public class TabletInvertedIndex {
             Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
             if (replicaMetaWithBackend != null) {
                 tabletIdSizes = replicaMetaWithBackend.entrySet().stream()
-                        .filter(entry -> tabletMetaMap.get(entry.getKey()).getStorageMedium() == storageMedium)
+                        .filter(entry -> getTabletMetaInternal(entry.getKey()).getStorageMedium() == storageMedium)
                         .map(entry -> Pair.of(entry.getKey(), entry.getValue().getDataSize()))
                         .collect(Collectors.toList());
             }
@@ -792,7 +849,7 @@ public class TabletInvertedIndex {
             Map<Long, Replica> replicaMetaWithBackend = backingReplicaMetaTable.row(backendId);
             if (replicaMetaWithBackend != null) {
                 for (long tabletId : replicaMetaWithBackend.keySet()) {
-                    if (tabletMetaMap.get(tabletId).getStorageMedium() == TStorageMedium.HDD) {
+                    if (getTabletMetaInternal(tabletId).getStorageMedium() == TStorageMedium.HDD) {
                         hddNum++;
                     } else {
                         ssdNum++;
@@ -811,10 +868,17 @@ public class TabletInvertedIndex {
     public void clear() {
         long stamp = writeLock();
         try {
-            tabletMetaMap.clear();
+            for (TabletShard shard : shards) {
+                long shardStamp = shard.lock.writeLock();
+                try {
+                    shard.tabletMetaMap.clear();
+                    shard.replicaMetaTable.clear();
+                } finally {
+                    shard.lock.unlockWrite(shardStamp);
+                }
+            }
             replicaToTabletMap.clear();
             tabletMetaTable.clear();
-            replicaMetaTable.clear();
             backingReplicaMetaTable.clear();
         } finally {
             writeUnlock(stamp);
@@ -849,9 +913,11 @@ public class TabletInvertedIndex {
             partitionReplicasInfoMaps.put(medium, HashBasedTable.create());
         }
         try {
-            // Changes to the returned set will update the underlying table
             // tablet id -> (backend id -> replica)
-            Set<Table.Cell<Long, Long, Replica>> cells = replicaMetaTable.cellSet();
+            List<Table.Cell<Long, Long, Replica>> cells = Lists.newArrayList();
+            for (TabletShard shard : shards) {
+                cells.addAll(shard.replicaMetaTable.cellSet());
+            }
             for (Table.Cell<Long, Long, Replica> cell : cells) {
                 Long tabletId = cell.getRowKey();
                 Long beId = cell.getColumnKey();
@@ -877,7 +943,7 @@ public class TabletInvertedIndex {
 
                 try {
                     Preconditions.checkState(availableBeIds.contains(beId), "dead be " + beId);
-                    TabletMeta tabletMeta = tabletMetaMap.get(tabletId);
+                    TabletMeta tabletMeta = getTabletMetaInternal(tabletId);
                     if (dbIds.contains(tabletMeta.getDbId()) || tableIds.contains(tabletMeta.getTableId())
                             || partitionIds.contains(tabletMeta.getPartitionId())) {
                         continue;
@@ -967,7 +1033,11 @@ public class TabletInvertedIndex {
     public Table<Long, Long, Replica> getReplicaMetaTable() {
         long stamp = readLock();
         try {
-            return HashBasedTable.create(replicaMetaTable);
+            Table<Long, Long, Replica> replicaMetaTable = HashBasedTable.create();
+            for (TabletShard shard : shards) {
+                replicaMetaTable.putAll(shard.replicaMetaTable);
+            }
+            return replicaMetaTable;
         } finally {
             readUnlock(stamp);
         }
@@ -997,7 +1067,11 @@ public class TabletInvertedIndex {
     public Map<Long, TabletMeta> getTabletMetaMap() {
         long stamp = readLock();
         try {
-            return new HashMap(tabletMetaMap);
+            Map<Long, TabletMeta> tabletMetaMap = new HashMap<>();
+            for (TabletShard shard : shards) {
+                tabletMetaMap.putAll(shard.tabletMetaMap);
+            }
+            return tabletMetaMap;
         } finally {
             readUnlock(stamp);
         }
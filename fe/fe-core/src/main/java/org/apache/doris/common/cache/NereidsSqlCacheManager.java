@@ -64,6 +64,7 @@ import org.apache.doris.qe.ResultSet;
 import org.apache.doris.qe.cache.CacheAnalyzer;
 import org.apache.doris.qe.cache.SqlCache;
 import org.apache.doris.rpc.RpcException;
+import org.apache.doris.system.Backend;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
@@ -320,7 +321,9 @@ public class NereidsSqlCacheManager {
             if (status.ok() && cacheData != null && cacheData.getStatus() == InternalService.PCacheStatus.CACHE_OK) {
                 List<InternalService.PCacheValue> cacheValues = cacheData.getValuesList();
                 String cachedPlan = sqlCacheContext.getPhysicalPlan();
-                String backendAddress = SqlCache.findCacheBe(cacheKeyMd5).getAddress();
+                // the backend may be unavailable when the result is hit in FE memory
+                Backend cacheBackend = SqlCache.findCacheBe(cacheKeyMd5);
+                String backendAddress = cacheBackend == null ? "" : cacheBackend.getAddress();
 
                 MetricRepo.COUNTER_CACHE_HIT_SQL.increase(1L);
 
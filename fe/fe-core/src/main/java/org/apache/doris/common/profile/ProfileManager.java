@@ -51,14 +51,15 @@ import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.PriorityQueue;
 import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Future;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.ReadLock;
-import java.util.concurrent.locks.ReentrantReadWriteLock.WriteLock;
 
 /*
  * if you want to visit the attribute(such as queryID,defaultDb)
@@ -127,10 +128,13 @@ public class ProfileManager extends MasterDaemon {
     private final ReentrantReadWriteLock isProfileLoadedLock = new ReentrantReadWriteLock();
     volatile boolean isProfileLoaded = false;
 
-    // only protect queryIdDeque; queryIdToProfileMap is concurrent, no need to protect
-    private ReentrantReadWriteLock lock;
-    private ReadLock readLock;
-    private WriteLock writeLock;
+    // Both maps are concurrent, so neither reading nor pushing profiles needs a global lock.
+    // A profile is removed from storedProfileIndex after it's replaced or removed in queryIdToProfileMap,
+    // and checked again after it's put into storedProfileIndex, see indexStoredProfile, so a replaced or
+    // removed profile is never left in storedProfileIndex.
+    // Only one thread evicts profiles from memory at a time, so concurrent pushes do not evict more profiles
+    // than needed, and the others do not wait for it.
+    private final ReentrantLock evictLock = new ReentrantLock();
 
     // profile id is long string for broker load
     // is TUniqueId for others.
@@ -138,6 +142,9 @@ public class ProfileManager extends MasterDaemon {
     // Sometimes one Profile is related with multiple execution profiles(Broker-load), so that
     // execution profile's query id is not related with Profile's query id.
     final Map<TUniqueId, ExecutionProfile> queryIdToExecutionProfiles;
+    // Index of the profiles which have been stored to storage, ordered by query finish time.
+    // The finish time of a stored profile never changes, see storedProfileKey.
+    final NavigableMap<String, ProfileElement> storedProfileIndex = new ConcurrentSkipListMap<>();
 
     private final ExecutorService fetchRealTimeProfileExecutor;
     private final ExecutorService profileIOExecutor;
@@ -156,11 +163,8 @@ public class ProfileManager extends MasterDaemon {
 
     protected ProfileManager() {
         super("profile-manager", Config.profile_manager_gc_interval_seconds * 1000);
-        lock = new ReentrantReadWriteLock(true);
-        readLock = lock.readLock();
-        writeLock = lock.writeLock();
-        queryIdToProfileMap = Maps.newHashMap();
-        queryIdToExecutionProfiles = Maps.newHashMap();
+        queryIdToProfileMap = Maps.newConcurrentMap();
+        queryIdToExecutionProfiles = Maps.newConcurrentMap();
         fetchRealTimeProfileExecutor = ThreadPoolManager.newDaemonFixedThreadPool(
                 10, 100, "fetch-realtime-profile-pool", true);
 
@@ -182,18 +186,12 @@ public class ProfileManager extends MasterDaemon {
         if (executionProfile == null) {
             return;
         }
-        writeLock.lock();
-        try {
-            if (queryIdToExecutionProfiles.containsKey(executionProfile.getQueryId())) {
-                return;
-            }
-            queryIdToExecutionProfiles.put(executionProfile.getQueryId(), executionProfile);
-            if (LOG.isDebugEnabled()) {
-                LOG.debug("Add execution profile {} to profile manager",
-                        DebugUtil.printId(executionProfile.getQueryId()));
-            }
-        } finally {
-            writeLock.unlock();
+        if (queryIdToExecutionProfiles.putIfAbsent(executionProfile.getQueryId(), executionProfile) != null) {
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Add execution profile {} to profile manager",
+                    DebugUtil.printId(executionProfile.getQueryId()));
         }
     }
 
@@ -206,50 +204,94 @@ public class ProfileManager extends MasterDaemon {
             return;
         }
 
-        writeLock.lock();
-        try {
-            if (!queryIdToProfileMap.containsKey(profile.getId())) {
-                deleteOutdatedProfilesFromMemory(1);
+        // 'insert into' does have job_id, put all profiles key with query_id
+        String key = profile.getSummaryProfile().getProfileId();
+        // check when push in, which can ensure every element in the list has QUERY_ID column,
+        // so there is no need to check when remove element from list.
+        if (Strings.isNullOrEmpty(key)) {
+            LOG.warn("the key or value of Map is null, "
+                    + "may be forget to insert 'QUERY_ID' or 'JOB_ID' column into infoStrings");
+            if (key == null) {
+                // the concurrent map does not accept null key
+                return;
             }
+        }
 
-            ProfileElement element = createElement(profile);
-            // 'insert into' does have job_id, put all profiles key with query_id
-            String key = profile.getSummaryProfile().getProfileId();
-            // check when push in, which can ensure every element in the list has QUERY_ID column,
-            // so there is no need to check when remove element from list.
-            if (Strings.isNullOrEmpty(key)) {
-                LOG.warn("the key or value of Map is null, "
-                        + "may be forget to insert 'QUERY_ID' or 'JOB_ID' column into infoStrings");
-            }
+        if (!queryIdToProfileMap.containsKey(key)) {
+            deleteOutdatedProfilesFromMemory(1);
+        }
 
-            // a profile may be updated multiple times in queryIdToProfileMap,
-            // and only needs to be inserted into the queryIdDeque for the first time.
-            queryIdToProfileMap.put(key, element);
-        } finally {
-            writeLock.unlock();
+        ProfileElement element = createElement(profile);
+
+        // a profile may be updated multiple times in queryIdToProfileMap
+        ProfileElement oldElement = queryIdToProfileMap.put(key, element);
+        if (oldElement != null) {
+            removeFromStoredProfileIndex(oldElement);
+        }
+        // the profile is loaded from storage
+        if (profile.profileHasBeenStored()) {
+            indexStoredProfile(key, element);
         }
     }
 
+    // The key of storedProfileIndex, the query finish time is padded so that the keys are ordered by it.
+    private static String storedProfileKey(long queryFinishTimestamp, String profileId) {
+        return String.format("%019d", queryFinishTimestamp) + "_" + profileId;
+    }
+
+    private static String storedProfileKey(ProfileElement element) {
+        return storedProfileKey(element.profile.getQueryFinishTimestamp(),
+                element.profile.getSummaryProfile().getProfileId());
+    }
+
+    // The profile may be replaced or removed from queryIdToProfileMap concurrently, and the thread doing it
+    // may try to remove the profile from storedProfileIndex before it's put, so check it again after putting.
+    private void indexStoredProfile(String profileId, ProfileElement element) {
+        storedProfileIndex.put(storedProfileKey(element), element);
+        if (queryIdToProfileMap.get(profileId) != element) {
+            removeFromStoredProfileIndex(element);
+        }
+    }
+
+    private void removeFromStoredProfileIndex(ProfileElement element) {
+        storedProfileIndex.remove(storedProfileKey(element), element);
+    }
+
+    /**
+     * Get the summaries of the profiles stored to storage, whose query finish time is in [beginTimeMs, endTimeMs),
+     * ordered by the query finish time.
+     */
+    public List<List<String>> getStoredProfileMetaByFinishTime(long beginTimeMs, long endTimeMs) {
+        List<List<String>> result = Lists.newArrayList();
+        if (beginTimeMs < 0 || beginTimeMs >= endTimeMs) {
+            return result;
+        }
+        for (ProfileElement profileElement : storedProfileIndex.subMap(
+                storedProfileKey(beginTimeMs, ""), true, storedProfileKey(endTimeMs, ""), false).values()) {
+            List<String> row = Lists.newArrayList();
+            for (String str : SummaryProfile.SUMMARY_KEYS) {
+                row.add(profileElement.infoStrings.get(str));
+            }
+            result.add(row);
+        }
+        return result;
+    }
+
     public List<List<String>> getAllQueries() {
         return getQueryInfoByColumnNameList(SummaryProfile.SUMMARY_KEYS);
     }
 
     public List<List<String>> getQueryInfoByColumnNameList(List<String> columnNameList) {
         List<List<String>> result = Lists.newArrayList();
-        readLock.lock();
-        try {
-            PriorityQueue<ProfileElement> queueIdDeque = getProfileOrderByQueryFinishTimeDesc();
-            while (!queueIdDeque.isEmpty()) {
-                ProfileElement profileElement = queueIdDeque.poll();
-                Map<String, String> infoStrings = profileElement.infoStrings;
-                List<String> row = Lists.newArrayList();
-                for (String str : columnNameList) {
-                    row.add(infoStrings.get(str));
-                }
-                result.add(row);
+        PriorityQueue<ProfileElement> queueIdDeque = getProfileOrderByQueryFinishTimeDesc();
+        while (!queueIdDeque.isEmpty()) {
+            ProfileElement profileElement = queueIdDeque.poll();
+            Map<String, String> infoStrings = profileElement.infoStrings;
+            List<String> row = Lists.newArrayList();
+            for (String str : columnNameList) {
+                row.add(infoStrings.get(str));
             }
-        } finally {
-            readLock.unlock();
+            result.add(row);
         }
         return result;
     }
@@ -446,30 +488,20 @@ public class ProfileManager extends MasterDaemon {
             LOG.info("Get real-time exec status finished, id {}", id);
         }
 
-        readLock.lock();
-        try {
-            ProfileElement element = queryIdToProfileMap.get(id);
-            if (element == null) {
-                return null;
-            }
-
-            return element.getProfileContent();
-        } finally {
-            readLock.unlock();
+        ProfileElement element = queryIdToProfileMap.get(id);
+        if (element == null) {
+            return null;
         }
+
+        return element.getProfileContent();
     }
 
     public String getProfileBrief(String queryID) {
-        readLock.lock();
-        try {
-            ProfileElement element = queryIdToProfileMap.get(queryID);
-            if (element == null) {
-                return null;
-            }
-            return element.getProfileBrief();
-        } finally {
-            readLock.unlock();
+        ProfileElement element = queryIdToProfileMap.get(queryID);
+        if (element == null) {
+            return null;
         }
+        return element.getProfileBrief();
     }
 
     public ProfileElement findProfileElementObject(String queryId) {
@@ -480,32 +512,22 @@ public class ProfileManager extends MasterDaemon {
      * Check if the query with specific query id is queried by specific user.
      */
     public void checkAuthByUserAndQueryId(String user, String queryId) throws AuthenticationException {
-        readLock.lock();
-        try {
-            ProfileElement element = queryIdToProfileMap.get(queryId);
-            if (element == null) {
-                throw new AuthenticationException("query with id " + queryId + " not found");
-            }
-            if (!element.infoStrings.get(SummaryProfile.USER).equals(user)) {
-                throw new AuthenticationException("Access deny to view query with id: " + queryId);
-            }
-        } finally {
-            readLock.unlock();
+        ProfileElement element = queryIdToProfileMap.get(queryId);
+        if (element == null) {
+            throw new AuthenticationException("query with id " + queryId + " not found");
+        }
+        if (!element.infoStrings.get(SummaryProfile.USER).equals(user)) {
+            throw new AuthenticationException("Access deny to view query with id: " + queryId);
         }
     }
 
     public String getQueryIdByTraceId(String traceId) {
-        readLock.lock();
-        try {
-            for (Map.Entry<String, ProfileElement> entry : queryIdToProfileMap.entrySet()) {
-                if (entry.getValue().infoStrings.getOrDefault(SummaryProfile.TRACE_ID, "").equals(traceId)) {
-                    return entry.getKey();
-                }
+        for (Map.Entry<String, ProfileElement> entry : queryIdToProfileMap.entrySet()) {
+            if (entry.getValue().infoStrings.getOrDefault(SummaryProfile.TRACE_ID, "").equals(traceId)) {
+                return entry.getKey();
             }
-            return "";
-        } finally {
-            readLock.unlock();
         }
+        return "";
     }
 
     public void setStatsErrorEstimator(String queryId, StatsErrorEstimator statsErrorEstimator) {
@@ -516,13 +538,9 @@ public class ProfileManager extends MasterDaemon {
     }
 
     public void cleanProfile() {
-        writeLock.lock();
-        try {
-            queryIdToProfileMap.clear();
-            queryIdToExecutionProfiles.clear();
-        } finally {
-            writeLock.unlock();
-        }
+        queryIdToProfileMap.clear();
+        queryIdToExecutionProfiles.clear();
+        storedProfileIndex.clear();
     }
 
     @Override
@@ -678,14 +696,7 @@ public class ProfileManager extends MasterDaemon {
             }
 
             createProfileStorageDirIfNecessary();
-            List<ProfileElement> profilesToBeStored = Lists.newArrayList();
-
-            readLock.lock();
-            try {
-                profilesToBeStored = getProfilesNeedStore();
-            } finally {
-                readLock.unlock();
-            }
+            List<ProfileElement> profilesToBeStored = getProfilesNeedStore();
 
             // Store profile to storage in parallel
             List<Future<?>> profileWriteFutures = Lists.newArrayList();
@@ -708,16 +719,17 @@ public class ProfileManager extends MasterDaemon {
             // After profile is stored to storage, the executoin profile must be ejected from memory
             // or the memory will be exhausted
 
-            writeLock.lock();
-            try {
-                for (ProfileElement profileElement : profilesToBeStored) {
-                    for (ExecutionProfile executionProfile : profileElement.profile.getExecutionProfiles()) {
-                        this.queryIdToExecutionProfiles.remove(executionProfile.getQueryId());
-                    }
-                    profileElement.profile.releaseMemory();
+            for (ProfileElement profileElement : profilesToBeStored) {
+                for (ExecutionProfile executionProfile : profileElement.profile.getExecutionProfiles()) {
+                    this.queryIdToExecutionProfiles.remove(executionProfile.getQueryId());
+                }
+                profileElement.profile.releaseMemory();
+                String profileId = profileElement.profile.getSummaryProfile().getProfileId();
+                // the profile may be replaced or removed from memory while it is being stored
+                if (profileElement.profile.profileHasBeenStored()
+                        && queryIdToProfileMap.get(profileId) == profileElement) {
+                    indexStoredProfile(profileId, profileElement);
                 }
-            } finally {
-                writeLock.unlock();
             }
         } catch (Exception e) {
             LOG.error("Failed to remove query profile", e);
@@ -725,29 +737,24 @@ public class ProfileManager extends MasterDaemon {
     }
 
     protected List<ProfileElement> getProfilesToBeRemoved() {
-        // By order of query finish timestamp
-        // The profile with the least storage timestamp will be on the top of heap
-        PriorityQueue<ProfileElement> profileDeque = new PriorityQueue<>(Comparator.comparingLong(
-                (ProfileElement profileElement) -> profileElement.profile.getQueryFinishTimestamp()));
-
+        // Stored profiles are indexed by query finish timestamp, the oldest profile is the first one.
+        List<ProfileElement> storedProfiles = Lists.newArrayList(storedProfileIndex.values());
         long totalProfileSize = 0;
-
-        // Collect all profiles that has been stored to storage
-        for (ProfileElement profileElement : queryIdToProfileMap.values()) {
-            if (profileElement.profile.profileHasBeenStored()) {
-                totalProfileSize += profileElement.profile.getProfileSize();
-                profileDeque.add(profileElement);
-            }
+        for (ProfileElement profileElement : storedProfiles) {
+            totalProfileSize += profileElement.profile.getProfileSize();
         }
 
         final int maxSpilledProfileNum = Config.max_spilled_profile_num;
         final long spilledProfileLimitBytes = Config.spilled_profile_storage_limit_bytes;
         List<ProfileElement> queryIdToBeRemoved = Lists.newArrayList();
 
-        while (profileDeque.size() > maxSpilledProfileNum || totalProfileSize >= spilledProfileLimitBytes) {
-            // First profile is the oldest profile
-            ProfileElement profileElement = profileDeque.poll();
+        int remainingNum = storedProfiles.size();
+        for (ProfileElement profileElement : storedProfiles) {
+            if (remainingNum <= maxSpilledProfileNum && totalProfileSize < spilledProfileLimitBytes) {
+                break;
+            }
             totalProfileSize -= profileElement.profile.getProfileSize();
+            remainingNum--;
             queryIdToBeRemoved.add(profileElement);
         }
 
@@ -762,13 +769,7 @@ public class ProfileManager extends MasterDaemon {
         }
 
         try {
-            List<ProfileElement> queryIdToBeRemoved = Lists.newArrayList();
-            readLock.lock();
-            try {
-                queryIdToBeRemoved = getProfilesToBeRemoved();
-            } finally {
-                readLock.unlock();
-            }
+            List<ProfileElement> queryIdToBeRemoved = getProfilesToBeRemoved();
 
             List<Thread> iothreads = Lists.newArrayList();
 
@@ -788,16 +789,13 @@ public class ProfileManager extends MasterDaemon {
                 LOG.error("Failed to remove outdated query profile", e);
             }
 
-            writeLock.lock();
-            try {
-                for (ProfileElement profileElement : queryIdToBeRemoved) {
-                    queryIdToProfileMap.remove(profileElement.profile.getSummaryProfile().getProfileId());
-                    TUniqueId thriftQueryId = DebugUtil.parseTUniqueIdFromString(
-                            profileElement.profile.getSummaryProfile().getProfileId());
-                    queryIdToExecutionProfiles.remove(thriftQueryId);
-                }
-            } finally {
-                writeLock.unlock();
+            for (ProfileElement profileElement : queryIdToBeRemoved) {
+                queryIdToProfileMap.remove(profileElement.profile.getSummaryProfile().getProfileId(),
+                        profileElement);
+                removeFromStoredProfileIndex(profileElement);
+                TUniqueId thriftQueryId = DebugUtil.parseTUniqueIdFromString(
+                        profileElement.profile.getSummaryProfile().getProfileId());
+                queryIdToExecutionProfiles.remove(thriftQueryId);
             }
 
             if (queryIdToBeRemoved.size() != 0 && LOG.isDebugEnabled()) {
@@ -842,14 +840,9 @@ public class ProfileManager extends MasterDaemon {
                 continue;
             }
 
-            readLock.lock();
-            try {
-                if (!queryIdToProfileMap.containsKey(profileId)) {
-                    LOG.debug("Wild profile {}, need to be removed.", profileDirAbsPath);
-                    brokenProfiles.add(profileDirAbsPath);
-                }
-            } finally {
-                readLock.unlock();
+            if (!queryIdToProfileMap.containsKey(profileId)) {
+                LOG.debug("Wild profile {}, need to be removed.", profileDirAbsPath);
+                brokenProfiles.add(profileDirAbsPath);
             }
         }
 
@@ -894,60 +887,44 @@ public class ProfileManager extends MasterDaemon {
     // The init value of query finish time of profile is MAX_VALUE,
     // So a more recent query will be on the top of the heap.
     protected PriorityQueue<ProfileElement> getProfileOrderByQueryFinishTimeDesc() {
-        readLock.lock();
-        try {
-            PriorityQueue<ProfileElement> queryIdDeque = new PriorityQueue<>(Comparator.comparingLong(
-                    (ProfileElement profileElement) -> profileElement.profile.getQueryFinishTimestamp()).reversed());
+        PriorityQueue<ProfileElement> queryIdDeque = new PriorityQueue<>(Comparator.comparingLong(
+                (ProfileElement profileElement) -> profileElement.profile.getQueryFinishTimestamp()).reversed());
 
-            queryIdToProfileMap.forEach((queryId, profileElement) -> {
-                queryIdDeque.add(profileElement);
-            });
+        queryIdToProfileMap.forEach((queryId, profileElement) -> {
+            queryIdDeque.add(profileElement);
+        });
 
-            return queryIdDeque;
-        } finally {
-            readLock.unlock();
-        }
+        return queryIdDeque;
     }
 
     // The init value of query finish time of profile is MAX_VALUE
     // So query finished earlier will be on the top of heap
     protected PriorityQueue<ProfileElement> getProfileOrderByQueryFinishTime() {
-        readLock.lock();
-        try {
-            PriorityQueue<ProfileElement> queryIdDeque = new PriorityQueue<>(Comparator.comparingLong(
-                    (ProfileElement profileElement) -> profileElement.profile.getQueryFinishTimestamp()));
+        PriorityQueue<ProfileElement> queryIdDeque = new PriorityQueue<>(Comparator.comparingLong(
+                (ProfileElement profileElement) -> profileElement.profile.getQueryFinishTimestamp()));
 
-            queryIdToProfileMap.forEach((queryId, profileElement) -> {
-                queryIdDeque.add(profileElement);
-            });
+        queryIdToProfileMap.forEach((queryId, profileElement) -> {
+            queryIdDeque.add(profileElement);
+        });
 
-            return queryIdDeque;
-        } finally {
-            readLock.unlock();
-        }
+        return queryIdDeque;
     }
 
     // Older query will be on the top of heap
     protected PriorityQueue<ProfileElement> getProfileOrderByQueryStartTime() {
-        readLock.lock();
-        try {
-            PriorityQueue<ProfileElement> queryIdDeque = new PriorityQueue<>(Comparator.comparingLong(
-                    (ProfileElement profileElement) -> profileElement.profile.getSummaryProfile().getQueryBeginTime()));
+        PriorityQueue<ProfileElement> queryIdDeque = new PriorityQueue<>(Comparator.comparingLong(
+                (ProfileElement profileElement) -> profileElement.profile.getSummaryProfile().getQueryBeginTime()));
 
-            queryIdToProfileMap.forEach((queryId, profileElement) -> {
-                queryIdDeque.add(profileElement);
-            });
+        queryIdToProfileMap.forEach((queryId, profileElement) -> {
+            queryIdDeque.add(profileElement);
+        });
 
-            return queryIdDeque;
-        } finally {
-            readLock.unlock();
-        }
+        return queryIdDeque;
     }
 
     // When the query is finished, the execution profile should be marked as finished
     // For load task, one of its execution profile is finished.
     public void markExecutionProfileFinished(TUniqueId queryId) {
-        readLock.lock();
         try {
             ExecutionProfile execProfile = queryIdToExecutionProfiles.get(queryId);
             if (execProfile == null) {
@@ -958,8 +935,6 @@ public class ProfileManager extends MasterDaemon {
             execProfile.setQueryFinishTime(System.currentTimeMillis());
         } catch (Exception e) {
             LOG.error("Failed to mark query {} finished", DebugUtil.printId(queryId), e);
-        } finally {
-            readLock.unlock();
         }
     }
 
@@ -972,7 +947,6 @@ public class ProfileManager extends MasterDaemon {
     private void preventExecutionProfileLeakage() {
         StringBuilder stringBuilder = new StringBuilder();
         int executionProfileNum = 0;
-        writeLock.lock();
         try {
             // This branch has two purposes:
             // 1. discard profile collecting if its collection not finished in 5 seconds after query finished.
@@ -998,7 +972,6 @@ public class ProfileManager extends MasterDaemon {
                 executionProfileNum = queryIdToExecutionProfiles.size();
             }
         } finally {
-            writeLock.unlock();
             if (stringBuilder.length() != 0) {
                 LOG.warn("Remove expired execution profiles {}, current execution profile map size {},"
                         + "Config.max_query_profile_num {}, Config.profile_async_collect_expire_time_secs {}",
@@ -1009,10 +982,17 @@ public class ProfileManager extends MasterDaemon {
     }
 
     protected void deleteOutdatedProfilesFromMemory(int numOfNewProfiles) {
+        if (this.queryIdToProfileMap.size() + numOfNewProfiles <= Config.max_query_profile_num) {
+            return;
+        }
         StringBuilder stringBuilder = new StringBuilder();
-        writeLock.lock();
-
+        int profileNum;
+        // another thread is evicting profiles, the profiles pushed meanwhile will be evicted by the next push
+        if (!evictLock.tryLock()) {
+            return;
+        }
         try {
+            // check again, the profiles may have been evicted by another thread
             if (this.queryIdToProfileMap.size() + numOfNewProfiles <= Config.max_query_profile_num) {
                 return;
             }
@@ -1026,7 +1006,8 @@ public class ProfileManager extends MasterDaemon {
                 ProfileElement profileElement = queueIdDeque.poll();
                 String profileId = profileElement.profile.getSummaryProfile().getProfileId();
                 stringBuilder.append(profileId).append(",");
-                queryIdToProfileMap.remove(profileId);
+                queryIdToProfileMap.remove(profileId, profileElement);
+                removeFromStoredProfileIndex(profileElement);
                 for (ExecutionProfile executionProfile : profileElement.profile.getExecutionProfiles()) {
                     queryIdToExecutionProfiles.remove(executionProfile.getQueryId());
                 }
@@ -1036,50 +1017,39 @@ public class ProfileManager extends MasterDaemon {
                                         profileElement.profile.debugInfo());
                 }
             }
+            profileNum = queryIdToProfileMap.size();
         } finally {
-            int profileNum = queryIdToProfileMap.size();
-            writeLock.unlock();
+            evictLock.unlock();
+        }
 
-            if (stringBuilder.length() != 0) {
-                LOG.info("Outdated profiles {}, they are removed from memory, current profile map size {}",
-                        stringBuilder.toString(), profileNum);
-            }
+        if (stringBuilder.length() != 0) {
+            LOG.info("Outdated profiles {}, they are removed from memory, current profile map size {}",
+                    stringBuilder.toString(), profileNum);
         }
     }
 
     protected String getDebugInfo() {
         StringBuilder stringBuilder = new StringBuilder();
-        readLock.lock();
-        try {
-            for (ProfileElement profileElement : queryIdToProfileMap.values()) {
-                stringBuilder.append(profileElement.profile.debugInfo()).append("\n");
-            }
-        } finally {
-            readLock.unlock();
+        for (ProfileElement profileElement : queryIdToProfileMap.values()) {
+            stringBuilder.append(profileElement.profile.debugInfo()).append("\n");
         }
         return stringBuilder.toString();
     }
 
     public List<List<String>> getProfileMetaWithType(ProfileType profileType, long limit) {
         List<List<String>> result = Lists.newArrayList();
-        readLock.lock();
-
-        try {
-            PriorityQueue<ProfileElement> queueIdDeque = getProfileOrderByQueryFinishTimeDesc();
-            while (!queueIdDeque.isEmpty() && limit > 0) {
-                ProfileElement profileElement = queueIdDeque.poll();
-                Map<String, String> infoStrings = profileElement.infoStrings;
-                if (infoStrings.get(SummaryProfile.TASK_TYPE).equals(profileType.toString())) {
-                    List<String> row = Lists.newArrayList();
-                    for (String str : SummaryProfile.SUMMARY_KEYS) {
-                        row.add(infoStrings.get(str));
-                    }
-                    result.add(row);
-                    limit--;
+        PriorityQueue<ProfileElement> queueIdDeque = getProfileOrderByQueryFinishTimeDesc();
+        while (!queueIdDeque.isEmpty() && limit > 0) {
+            ProfileElement profileElement = queueIdDeque.poll();
+            Map<String, String> infoStrings = profileElement.infoStrings;
+            if (infoStrings.get(SummaryProfile.TASK_TYPE).equals(profileType.toString())) {
+                List<String> row = Lists.newArrayList();
+                for (String str : SummaryProfile.SUMMARY_KEYS) {
+                    row.add(infoStrings.get(str));
                 }
+                result.add(row);
+                limit--;
             }
-        } finally {
-            readLock.unlock();
         }
 
         return result;
@@ -1095,16 +1065,12 @@ public class ProfileManager extends MasterDaemon {
     }
 
     public void removeProfile(String profileId) {
-        writeLock.lock();
-        try {
-            ProfileElement profileToRemove = this.queryIdToProfileMap.remove(profileId);
-            if (profileToRemove != null) {
-                for (ExecutionProfile executionProfile : profileToRemove.profile.getExecutionProfiles()) {
-                    queryIdToExecutionProfiles.remove(executionProfile.getQueryId());
-                }
+        ProfileElement profileToRemove = this.queryIdToProfileMap.remove(profileId);
+        if (profileToRemove != null) {
+            removeFromStoredProfileIndex(profileToRemove);
+            for (ExecutionProfile executionProfile : profileToRemove.profile.getExecutionProfiles()) {
+                queryIdToExecutionProfiles.remove(executionProfile.getQueryId());
             }
-        } finally {
-            writeLock.unlock();
         }
     }
 }
@@ -31,6 +31,8 @@ import org.apache.doris.thrift.TUnit;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Interner;
+import com.google.common.collect.Interners;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.gson.annotations.SerializedName;
@@ -75,6 +77,9 @@ public class RuntimeProfile {
                     .add("HASH_JOIN_OPERATOR")
                     .add("HASH_JOIN_SINK_OPERATOR").build();
     private static final Logger LOG = LogManager.getLogger(RuntimeProfile.class);
+    // The names of counters, info strings and child profiles reported by backends are almost the same
+    // for all queries, intern them so that the profiles kept in memory share the same name strings.
+    private static final Interner<String> NAME_INTERNER = Interners.newWeakInterner();
     public static String ROOT_COUNTER = "";
     public static String MAX_TIME_PRE = "max ";
     public static String MIN_TIME_PRE = "min ";
@@ -281,10 +286,11 @@ public class RuntimeProfile {
                 // If different node has counter with the same name, it will lead to chaos.
                 Counter counter = this.counterMap.get(tcounter.name);
                 if (counter == null) {
+                    String counterName = NAME_INTERNER.intern(tcounter.name);
                     if (tcounter.isSetDescription()) {
-                        counterMap.put(tcounter.name, new Counter(tcounter.description));
+                        counterMap.put(counterName, new Counter(tcounter.description));
                     } else {
-                        counterMap.put(tcounter.name, new Counter(tcounter.type, tcounter.value, tcounter.level));
+                        counterMap.put(counterName, new Counter(tcounter.type, tcounter.value, tcounter.level));
                     }
                 } else {
                     counter.setLevel(tcounter.level);
@@ -308,10 +314,14 @@ public class RuntimeProfile {
                     try {
                         Set<String> childCounters = childCounterMap.get(parentCounterName);
                         if (childCounters == null) {
-                            childCounterMap.put(parentCounterName, new TreeSet<String>());
+                            childCounterMap.put(NAME_INTERNER.intern(parentCounterName), new TreeSet<String>());
                             childCounters = childCounterMap.get(parentCounterName);
                         }
-                        childCounters.addAll(entry.getValue());
+                        for (String childCounterName : entry.getValue()) {
+                            if (!childCounters.contains(childCounterName)) {
+                                childCounters.add(NAME_INTERNER.intern(childCounterName));
+                            }
+                        }
                     } finally {
                         counterLock.writeLock().unlock();
                     }
@@ -330,8 +340,9 @@ public class RuntimeProfile {
                         // exists then replace
                         this.infoStrings.put(key, value);
                     } else {
-                        this.infoStrings.put(key, value);
-                        this.infoStringsDisplayOrder.add(key);
+                        String infoKey = NAME_INTERNER.intern(key);
+                        this.infoStrings.put(infoKey, value);
+                        this.infoStringsDisplayOrder.add(infoKey);
                     }
                 } finally {
                     infoStringsLock.writeLock().unlock();
@@ -350,6 +361,7 @@ public class RuntimeProfile {
             try {
                 childProfile = this.childMap.get(childName);
                 if (childProfile == null) {
+                    childName = NAME_INTERNER.intern(childName);
                     childMap.put(childName, new RuntimeProfile(childName));
                     childProfile = this.childMap.get(childName);
                     Pair<RuntimeProfile, Boolean> pair = Pair.of(childProfile, tchild.indent);
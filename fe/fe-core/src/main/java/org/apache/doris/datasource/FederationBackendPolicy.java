@@ -27,6 +27,7 @@ import org.apache.doris.common.LoadException;
 import org.apache.doris.common.ResettableRandomizedIterator;
 import org.apache.doris.common.UserException;
 import org.apache.doris.common.util.ConsistentHash;
+import org.apache.doris.metric.MetricRepo;
 import org.apache.doris.qe.ConnectContext;
 import org.apache.doris.resource.computegroup.ComputeGroup;
 import org.apache.doris.spi.Split;
@@ -71,6 +72,7 @@ public class FederationBackendPolicy {
     private static final Logger LOG = LogManager.getLogger(FederationBackendPolicy.class);
     protected final List<Backend> backends = Lists.newArrayList();
     private final Map<String, List<Backend>> backendMap = Maps.newHashMap();
+    private final Map<Long, Backend> backendIdMap = Maps.newHashMap();
 
     public Map<Backend, Long> getAssignedWeightPerBackend() {
         return assignedWeightPerBackend;
@@ -191,6 +193,9 @@ public class FederationBackendPolicy {
         }
 
         backendMap.putAll(backends.stream().collect(Collectors.groupingBy(Backend::getHost)));
+        for (Backend backend : backends) {
+            backendIdMap.put(backend.getId(), backend);
+        }
         try {
             consistentHash = consistentHashCache.get(new HashCacheKey(backends));
         } catch (ExecutionException e) {
@@ -229,6 +234,8 @@ public class FederationBackendPolicy {
         ResettableRandomizedIterator<Backend> randomCandidates = new ResettableRandomizedIterator<>(backends);
 
         boolean splitsToBeRedistributed = false;
+        boolean enableCacheAffinity = nodeSelectionStrategy == NodeSelectionStrategy.CONSISTENT_HASHING
+                && Config.split_assigner_enable_cache_affinity;
 
         // optimizedLocalScheduling enables prioritized assignment of splits to local nodes when splits contain
         // locality information
@@ -258,6 +265,7 @@ public class FederationBackendPolicy {
 
         for (Split split : remainingSplits) {
             List<Backend> candidateNodes;
+            Backend cacheAffineNode = null;
             if (!split.isRemotelyAccessible()) {
                 candidateNodes = selectExactNodes(backendMap, split.getHosts());
             } else {
@@ -276,6 +284,9 @@ public class FederationBackendPolicy {
                     case CONSISTENT_HASHING: {
                         candidateNodes = consistentHash.getNode(split,
                                 Config.split_assigner_min_consistent_hash_candidate_num);
+                        if (enableCacheAffinity) {
+                            cacheAffineNode = selectCacheAffineNode(split, candidateNodes);
+                        }
                         splitsToBeRedistributed = true;
                         break;
                     }
@@ -292,7 +303,7 @@ public class FederationBackendPolicy {
                 throw new UserException(SystemInfoService.NO_SCAN_NODE_BACKEND_AVAILABLE_MSG);
             }
 
-            Backend selectedBackend = chooseNodeForSplit(candidateNodes);
+            Backend selectedBackend = cacheAffineNode != null ? cacheAffineNode : chooseNodeForSplit(candidateNodes);
             List<Backend> alternativeBackends = new ArrayList<>(candidateNodes);
             alternativeBackends.remove(selectedBackend);
             split.setAlternativeHosts(
@@ -305,9 +316,47 @@ public class FederationBackendPolicy {
         if (enableSplitsRedistribution && splitsToBeRedistributed) {
             equateDistribution(assignment);
         }
+        if (enableCacheAffinity) {
+            recordCacheAffinity(assignment);
+        }
         return assignment;
     }
 
+    /**
+     * Return the backend which read the split last time if it is still available and not much busier
+     * than the candidate nodes of consistent hashing, otherwise return null to fall back to consistent hashing.
+     * The number of fragments executing on a backend is reported by heartbeat.
+     */
+    private Backend selectCacheAffineNode(Split split, List<Backend> candidateNodes) {
+        Backend backend = backendIdMap.get(SplitCacheAffinity.getBackendId(split));
+        if (backend == null) {
+            return null;
+        }
+        long minFragmentNum = candidateNodes.stream().mapToLong(Backend::getCurrentFragmentNum).min().orElse(0L);
+        if (backend.getCurrentFragmentNum() - minFragmentNum
+                > Config.split_assigner_cache_affinity_max_fragment_skew) {
+            return null;
+        }
+        return backend;
+    }
+
+    private void recordCacheAffinity(Multimap<Backend, Split> assignment) {
+        long numCacheAffine = 0;
+        for (Map.Entry<Backend, Split> entry : assignment.entries()) {
+            Split split = entry.getValue();
+            long backendId = entry.getKey().getId();
+            if (SplitCacheAffinity.getBackendId(split) == backendId) {
+                numCacheAffine++;
+            } else {
+                SplitCacheAffinity.record(split, backendId);
+            }
+        }
+        if (MetricRepo.isInit) {
+            MetricRepo.COUNTER_SPLIT_ASSIGN_TOTAL.increase((long) assignment.size());
+            MetricRepo.COUNTER_SPLIT_ASSIGN_CACHE_AFFINE.increase(numCacheAffine);
+        }
+    }
+
     /**
      * The method tries to make the distribution of splits more uniform. All nodes are arranged into a maxHeap and
      * a minHeap based on the number of splits that are assigned to them. Splits are redistributed, one at a time,
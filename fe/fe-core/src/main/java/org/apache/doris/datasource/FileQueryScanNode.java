@@ -315,6 +315,9 @@ public abstract class FileQueryScanNode extends FileScanNode {
             // Only provide the unique ID of split source to backend.
             splitAssignment = new SplitAssignment(
                     backendPolicy, this, this::splitToScanRange, locationProperties, pathPartitionKeys);
+            if (canStopSplitsByLimit()) {
+                splitAssignment.setLimit(limit);
+            }
             splitAssignment.init();
             if (executor != null) {
                 executor.getSummaryProfile().setGetSplitsFinishTime();
@@ -357,6 +360,9 @@ public abstract class FileQueryScanNode extends FileScanNode {
             }
         } else {
             List<Split> inputSplits = getSplits(numBackends);
+            if (canStopSplitsByLimit()) {
+                inputSplits = trimSplitsByLimit(inputSplits);
+            }
             if (ConnectContext.get().getExecutor() != null) {
                 ConnectContext.get().getExecutor().getSummaryProfile().setGetSplitsFinishTime();
             }
@@ -389,6 +395,25 @@ public abstract class FileQueryScanNode extends FileScanNode {
         }
     }
 
+    /**
+     * Whether the scan returns all rows of its splits until the limit is reached,
+     * so the splits are not needed any more once the splits of exact row count can provide enough rows.
+     */
+    private boolean canStopSplitsByLimit() {
+        return limit > 0 && conjuncts.isEmpty() && getRuntimeFilters().isEmpty();
+    }
+
+    private List<Split> trimSplitsByLimit(List<Split> splits) {
+        long numExactRows = 0;
+        for (int i = 0; i < splits.size(); i++) {
+            numExactRows += SplitAssignment.countExactRows(Collections.singletonList(splits.get(i)));
+            if (numExactRows >= limit) {
+                return splits.subList(0, i + 1);
+            }
+        }
+        return splits;
+    }
+
     private TScanRangeLocations splitToScanRange(
             Backend backend,
             Map<String, String> locationProperties,
@@ -49,6 +49,9 @@ public class FileSplit implements Split {
 
     public Long selfSplitWeight;
     public Long targetSplitSize;
+    // The exact number of rows which will be read from this split, -1 means unknown.
+    // Only set when no row of the split can be filtered out by the file format, eg: by delete files.
+    public long exactRowCount = -1;
 
     public FileSplit(LocationPath path, long start, long length, long fileLength,
             long modificationTime, String[] hosts, List<String> partitionValues) {
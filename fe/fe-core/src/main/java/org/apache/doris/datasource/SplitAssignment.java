@@ -22,6 +22,7 @@ import org.apache.doris.spi.Split;
 import org.apache.doris.system.Backend;
 import org.apache.doris.thrift.TScanRangeLocations;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Multimap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -58,6 +59,10 @@ public class SplitAssignment {
     private final AtomicBoolean isStopped = new AtomicBoolean(false);
     private final AtomicBoolean scheduleFinished = new AtomicBoolean(false);
 
+    // Stop generating splits once the splits of known row count are enough for the limit, -1 means no limit.
+    private long limit = -1;
+    private long numExactRows = 0;
+
     private UserException exception = null;
     private final List<Closeable> closeableResources = new ArrayList<>();
 
@@ -102,7 +107,12 @@ public class SplitAssignment {
         return !scheduleFinished.get() && !isStopped.get() && exception == null;
     }
 
-    private void appendBatch(Multimap<Backend, Split> batch) throws UserException {
+    /**
+     * Return the exact row count of the splits which are actually enqueued. The splits of a backend are dropped
+     * if the schedule is finished or stopped by others while waiting for the queue.
+     */
+    private long appendBatch(Multimap<Backend, Split> batch) throws UserException {
+        long appendedExactRows = 0;
         for (Backend backend : batch.keySet()) {
             Collection<Split> splits = batch.get(backend);
             List<TScanRangeLocations> locations = new ArrayList<>(splits.size());
@@ -114,6 +124,7 @@ public class SplitAssignment {
                         assignment.computeIfAbsent(backend, be -> new LinkedBlockingQueue<>(10000));
                 try {
                     if (queue.offer(locations, 100, TimeUnit.MILLISECONDS)) {
+                        appendedExactRows += countExactRows(splits);
                         break;
                     }
                 } catch (InterruptedException e) {
@@ -121,6 +132,7 @@ public class SplitAssignment {
                 }
             }
         }
+        return appendedExactRows;
     }
 
     public void registerSource(long uniqueId) {
@@ -135,6 +147,21 @@ public class SplitAssignment {
         return sampleSplit;
     }
 
+    /**
+     * Set the limit of the scan if all rows of the splits are returned, so that the split generator can
+     * stop as soon as the splits with exact row count can provide enough rows.
+     */
+    public void setLimit(long limit) {
+        this.limit = limit;
+    }
+
+    @VisibleForTesting
+    long getNumExactRows() {
+        synchronized (assignLock) {
+            return numExactRows;
+        }
+    }
+
     public void addToQueue(List<Split> splits) throws UserException {
         if (splits.isEmpty()) {
             return;
@@ -147,7 +174,36 @@ public class SplitAssignment {
             }
             batch = backendPolicy.computeScanRangeAssignment(splits);
         }
-        appendBatch(batch);
+        // Only count the rows of the splits which are enqueued. With concurrent producers, a batch may be
+        // dropped if another producer finished the schedule, and its rows must not count towards the limit.
+        long appendedExactRows = appendBatch(batch);
+        boolean reachLimit = false;
+        if (limit > 0) {
+            synchronized (assignLock) {
+                numExactRows += appendedExactRows;
+                reachLimit = numExactRows >= limit;
+            }
+        }
+        if (reachLimit) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("finish split schedule early, {} rows in splits are enough for limit {}",
+                        numExactRows, limit);
+            }
+            finishSchedule();
+        }
+    }
+
+    /**
+     * Return the sum of the exact row count of the splits, the splits of unknown row count are ignored.
+     */
+    public static long countExactRows(Collection<Split> splits) {
+        long numRows = 0;
+        for (Split split : splits) {
+            if (split instanceof FileSplit && ((FileSplit) split).getExactRowCount() >= 0) {
+                numRows += ((FileSplit) split).getExactRowCount();
+            }
+        }
+        return numRows;
     }
 
     private void notifyAssignment() {
@@ -0,0 +1,76 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.datasource;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.spi.Split;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.hash.Hashing;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Remember which backend read a split last time.
+ *
+ * A backend keeps the data of the splits it read in its file cache, so assigning a split to the same backend
+ * again is likely to hit the cache, even if the consistent hash ring has changed since then
+ * (eg, backends are added or removed) or the split was moved to another backend by redistribution.
+ * The residency is only a hint, the data may have been evicted from the file cache already.
+ *
+ * A split is keyed by a 64-bit hash of its path and range instead of the path itself, so an entry takes
+ * about 100 bytes whatever the length of the path is. A hash collision only makes a split prefer another
+ * backend, which is harmless for a hint.
+ */
+public class SplitCacheAffinity {
+    // hash of split -> id of backend which read the split last time
+    private static final Cache<Long, Long> SPLIT_TO_BACKEND = CacheBuilder.newBuilder()
+            .maximumSize(Config.split_assigner_cache_affinity_max_entries)
+            .build();
+
+    private SplitCacheAffinity() {
+    }
+
+    /**
+     * Return the id of backend which read the split last time, or -1 if unknown.
+     */
+    public static long getBackendId(Split split) {
+        Long backendId = SPLIT_TO_BACKEND.getIfPresent(splitKey(split));
+        return backendId == null ? -1 : backendId;
+    }
+
+    public static void record(Split split, long backendId) {
+        SPLIT_TO_BACKEND.put(splitKey(split), backendId);
+    }
+
+    @VisibleForTesting
+    public static void clear() {
+        SPLIT_TO_BACKEND.invalidateAll();
+    }
+
+    private static long splitKey(Split split) {
+        return Hashing.murmur3_128().newHasher()
+                .putString(split.getConsistentHashString(), StandardCharsets.UTF_8)
+                .putLong(split.getStart())
+                .putLong(split.getLength())
+                .hash().asLong();
+    }
+}
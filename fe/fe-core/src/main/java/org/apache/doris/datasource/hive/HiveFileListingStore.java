@@ -0,0 +1,430 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.datasource.hive;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.common.io.Text;
+import org.apache.doris.common.util.Daemon;
+import org.apache.doris.common.util.LocationPath;
+import org.apache.doris.datasource.hive.HiveMetaStoreCache.FileCacheKey;
+import org.apache.doris.datasource.hive.HiveMetaStoreCache.FileCacheValue;
+import org.apache.doris.datasource.hive.HiveMetaStoreCache.HiveFileStatus;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.fs.BlockLocation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInput;
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * The local second tier of the file cache of HiveMetaStoreCache, so that the file listings of hive
+ * partitions can be reused after the frontend restarts.
+ *
+ * The file listings in the file cache are saved to a snapshot file periodically (write to a temp file,
+ * then atomic rename). The snapshot is memory-mapped and only an index from the location to the offset
+ * of its record is kept in heap. The index is loaded in background by the first cycle of the persist
+ * daemon, lookups before that simply miss.
+ *
+ * A persisted file listing is only used if the transient_lastDdlTime of its partition is the same as
+ * the one when the files were listed, and it is only used to load the file cache for the first time,
+ * never to refresh it.
+ */
+public class HiveFileListingStore {
+    private static final Logger LOG = LogManager.getLogger(HiveFileListingStore.class);
+
+    private static final int MAGIC = 0x4846_4C31;
+    private static final int VERSION = 1;
+    // a snapshot must be mapped by one MappedByteBuffer
+    private static final int MAX_STORE_BYTES = 1 << 30;
+
+    private final File storeDir;
+    private final File storeFile;
+    // the file listings in the file cache
+    private final Supplier<Map<FileCacheKey, FileCacheValue>> cachedListings;
+    // location -> LocationPath of the catalog
+    private final Function<String, LocationPath> locationParser;
+    private final Daemon persistDaemon;
+    // whether there are file listings or invalidations not saved yet
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    // increased by each invalidation, a snapshot is discarded if any invalidation happens while saving it
+    private final AtomicLong invalidateVersion = new AtomicLong(0);
+    // guards the invalidations and the publishing of a snapshot, so an invalidation can not happen between
+    // checking invalidateVersion and publishing. It's not held while writing a snapshot, which may be slow.
+    private final Object publishLock = new Object();
+    // null before loaded
+    private volatile Snapshot snapshot;
+    private boolean closed = false;
+
+    private static class Snapshot {
+        private final ByteBuffer buffer;
+        // location -> index entry
+        private final Map<String, IndexEntry> index;
+
+        private Snapshot(ByteBuffer buffer, Map<String, IndexEntry> index) {
+            this.buffer = buffer;
+            this.index = index;
+        }
+    }
+
+    private static class IndexEntry {
+        private final long tableId;
+        private final long lastDdlTime;
+        // the offset of the record, including the length of it
+        private final int offset;
+        private final int length;
+
+        private IndexEntry(long tableId, long lastDdlTime, int offset, int length) {
+            this.tableId = tableId;
+            this.lastDdlTime = lastDdlTime;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    public HiveFileListingStore(String storeDir, String catalogName,
+            Supplier<Map<FileCacheKey, FileCacheValue>> cachedListings,
+            Function<String, LocationPath> locationParser) {
+        this.storeDir = new File(storeDir);
+        this.storeFile = new File(storeDir, "file_listings");
+        this.cachedListings = cachedListings;
+        this.locationParser = locationParser;
+        this.persistDaemon = new Daemon("hive-file-listing-persist-" + catalogName,
+                Config.hive_file_listing_persist_interval_second * 1000L) {
+            @Override
+            protected void runOneCycle() {
+                setInterval(Math.max(1, Config.hive_file_listing_persist_interval_second) * 1000L);
+                if (snapshot == null) {
+                    load();
+                } else {
+                    save();
+                }
+            }
+        };
+    }
+
+    public void start() {
+        persistDaemon.start();
+    }
+
+    /**
+     * Stop persisting and remove the persisted file listings, called when the catalog is dropped.
+     */
+    public synchronized void close() {
+        closed = true;
+        persistDaemon.exit();
+        try {
+            FileUtils.deleteDirectory(storeDir);
+        } catch (IOException e) {
+            LOG.warn("failed to delete hive file listing store {}", storeDir, e);
+        }
+    }
+
+    /**
+     * Mark that there are new file listings in the file cache.
+     */
+    public void markDirty() {
+        dirty.set(true);
+    }
+
+    /**
+     * Return the persisted file listing of the key, or null if there is no valid one.
+     */
+    public FileCacheValue get(FileCacheKey key) {
+        Snapshot current = snapshot;
+        if (current == null || key.getDummyKey() != 0 || key.getLastDdlTime() <= 0) {
+            return null;
+        }
+        IndexEntry entry = current.index.get(key.getLocation());
+        if (entry == null || entry.lastDdlTime != key.getLastDdlTime()) {
+            return null;
+        }
+        try {
+            ByteBuffer buffer = current.buffer.duplicate();
+            buffer.position(entry.offset + Integer.BYTES);
+            byte[] bytes = new byte[entry.length - Integer.BYTES];
+            buffer.get(bytes);
+            return readRecord(new DataInputStream(new ByteArrayInputStream(bytes)), key);
+        } catch (Exception e) {
+            LOG.warn("failed to read persisted file listing of {} from {}", key, storeFile, e);
+            return null;
+        }
+    }
+
+    public void invalidateTable(long tableId) {
+        invalidate(entry -> entry.tableId == tableId);
+    }
+
+    public void invalidateLocation(String location) {
+        synchronized (publishLock) {
+            invalidateVersion.incrementAndGet();
+            Snapshot current = snapshot;
+            if (current != null && current.index.remove(location) != null) {
+                dirty.set(true);
+            }
+        }
+    }
+
+    public void invalidateAll() {
+        invalidate(entry -> true);
+    }
+
+    private void invalidate(Predicate<IndexEntry> predicate) {
+        synchronized (publishLock) {
+            invalidateVersion.incrementAndGet();
+            Snapshot current = snapshot;
+            if (current != null && current.index.values().removeIf(predicate)) {
+                dirty.set(true);
+            }
+        }
+    }
+
+    @VisibleForTesting
+    void load() {
+        long version = invalidateVersion.get();
+        Map<String, IndexEntry> index = Maps.newConcurrentMap();
+        ByteBuffer buffer = ByteBuffer.allocate(0);
+        if (storeFile.exists()) {
+            try {
+                buffer = map(storeFile);
+                buildIndex(buffer, index);
+                LOG.info("loaded {} persisted hive file listings from {}", index.size(), storeFile);
+            } catch (Exception e) {
+                // the file listings can always be listed again, a broken file should be ignored
+                LOG.warn("failed to load persisted hive file listings from {}", storeFile, e);
+                index.clear();
+                buffer = ByteBuffer.allocate(0);
+            }
+        }
+        synchronized (publishLock) {
+            if (invalidateVersion.get() != version) {
+                // the invalidated ones are unknown, drop all the persisted file listings
+                index.clear();
+                dirty.set(true);
+            }
+            snapshot = new Snapshot(buffer, index);
+        }
+    }
+
+    @VisibleForTesting
+    synchronized void save() {
+        if (closed || !dirty.getAndSet(false)) {
+            return;
+        }
+        long version = invalidateVersion.get();
+        Snapshot current = snapshot;
+        File tmpFile = new File(storeDir, storeFile.getName() + ".tmp");
+        Map<String, IndexEntry> index = Maps.newConcurrentMap();
+        try {
+            Files.createDirectories(storeDir.toPath());
+            try (DataOutputStream dos = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+                dos.writeInt(MAGIC);
+                dos.writeInt(VERSION);
+                ByteArrayOutputStream record = new ByteArrayOutputStream();
+                // the file listings in memory are newer than the persisted ones
+                for (Map.Entry<FileCacheKey, FileCacheValue> entry : cachedListings.get().entrySet()) {
+                    FileCacheKey key = entry.getKey();
+                    if (key.getDummyKey() != 0 || key.getLastDdlTime() <= 0 || index.containsKey(key.getLocation())) {
+                        continue;
+                    }
+                    if (isFull(dos, index)) {
+                        break;
+                    }
+                    record.reset();
+                    writeRecord(new DataOutputStream(record), key, entry.getValue());
+                    int offset = dos.size();
+                    dos.writeInt(Integer.BYTES + record.size());
+                    record.writeTo(dos);
+                    index.put(key.getLocation(), new IndexEntry(key.getId(), key.getLastDdlTime(), offset,
+                            Integer.BYTES + record.size()));
+                }
+                // keep the persisted ones which have been evicted from memory
+                for (Map.Entry<String, IndexEntry> entry : current.index.entrySet()) {
+                    if (index.containsKey(entry.getKey())) {
+                        continue;
+                    }
+                    if (isFull(dos, index)) {
+                        break;
+                    }
+                    IndexEntry old = entry.getValue();
+                    ByteBuffer buffer = current.buffer.duplicate();
+                    buffer.position(old.offset);
+                    byte[] bytes = new byte[old.length];
+                    buffer.get(bytes);
+                    int offset = dos.size();
+                    dos.write(bytes);
+                    index.put(entry.getKey(), new IndexEntry(old.tableId, old.lastDdlTime, offset, old.length));
+                }
+            }
+            synchronized (publishLock) {
+                if (invalidateVersion.get() != version) {
+                    // some of the saved file listings may have been invalidated, save them again in next cycle
+                    Files.deleteIfExists(tmpFile.toPath());
+                    dirty.set(true);
+                    return;
+                }
+                Files.move(tmpFile.toPath(), storeFile.toPath(),
+                        StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                snapshot = new Snapshot(map(storeFile), index);
+            }
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("saved {} hive file listings to {}", index.size(), storeFile);
+            }
+        } catch (IOException e) {
+            dirty.set(true);
+            LOG.warn("failed to save hive file listings to {}", storeFile, e);
+        }
+    }
+
+    private boolean isFull(DataOutputStream dos, Map<String, IndexEntry> index) {
+        return index.size() >= Config.max_hive_file_listing_persist_num || dos.size() >= MAX_STORE_BYTES;
+    }
+
+    private static ByteBuffer map(File file) throws IOException {
+        try (RandomAccessFile raf = new RandomAccessFile(file, "r"); FileChannel channel = raf.getChannel()) {
+            return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+    }
+
+    private static void buildIndex(ByteBuffer buffer, Map<String, IndexEntry> index) throws IOException {
+        ByteBuffer data = buffer.duplicate();
+        int magic = data.getInt();
+        int version = data.getInt();
+        if (magic != MAGIC || version != VERSION) {
+            throw new IOException("unknown magic " + magic + " or version " + version);
+        }
+        while (data.hasRemaining()) {
+            int offset = data.position();
+            int length = data.getInt();
+            byte[] head = new byte[Math.min(length - Integer.BYTES, data.remaining())];
+            data.get(head);
+            DataInputStream dis = new DataInputStream(new ByteArrayInputStream(head));
+            long tableId = dis.readLong();
+            String location = Text.readString(dis);
+            long lastDdlTime = dis.readLong();
+            index.put(location, new IndexEntry(tableId, lastDdlTime, offset, length));
+        }
+    }
+
+    // the table id, location and last ddl time must be at the head of a record, see buildIndex
+    private static void writeRecord(DataOutput out, FileCacheKey key, FileCacheValue value) throws IOException {
+        out.writeLong(key.getId());
+        Text.writeString(out, key.getLocation());
+        out.writeLong(key.getLastDdlTime());
+        writeStrings(out, key.getPartitionValues());
+        out.writeBoolean(value.isSplittable());
+        writeStrings(out, value.getPartitionValues());
+        out.writeInt(value.getFiles().size());
+        for (HiveFileStatus status : value.getFiles()) {
+            Text.writeString(out, status.getPath().getNormalizedLocation());
+            out.writeLong(status.getLength());
+            out.writeLong(status.getBlockSize());
+            out.writeLong(status.getModificationTime());
+            BlockLocation[] blockLocations = status.getBlockLocations();
+            out.writeInt(blockLocations == null ? -1 : blockLocations.length);
+            if (blockLocations != null) {
+                for (BlockLocation blockLocation : blockLocations) {
+                    writeStrings(out, Lists.newArrayList(blockLocation.getNames()));
+                    writeStrings(out, Lists.newArrayList(blockLocation.getHosts()));
+                    out.writeLong(blockLocation.getOffset());
+                    out.writeLong(blockLocation.getLength());
+                }
+            }
+        }
+    }
+
+    private FileCacheValue readRecord(DataInput in, FileCacheKey key) throws IOException {
+        in.readLong();
+        Text.readString(in);
+        in.readLong();
+        if (!Objects.equals(key.getPartitionValues(), readStrings(in))) {
+            return null;
+        }
+        FileCacheValue value = new FileCacheValue();
+        value.setSplittable(in.readBoolean());
+        value.setPartitionValues(readStrings(in));
+        int fileNum = in.readInt();
+        for (int i = 0; i < fileNum; i++) {
+            HiveFileStatus status = new HiveFileStatus();
+            status.setPath(locationParser.apply(Text.readString(in)));
+            status.setLength(in.readLong());
+            status.setBlockSize(in.readLong());
+            status.setModificationTime(in.readLong());
+            int blockNum = in.readInt();
+            if (blockNum >= 0) {
+                BlockLocation[] blockLocations = new BlockLocation[blockNum];
+                for (int j = 0; j < blockNum; j++) {
+                    String[] names = readStrings(in).toArray(new String[0]);
+                    String[] hosts = readStrings(in).toArray(new String[0]);
+                    blockLocations[j] = new BlockLocation(names, hosts, in.readLong(), in.readLong());
+                }
+                status.setBlockLocations(blockLocations);
+            }
+            value.getFiles().add(status);
+        }
+        return value;
+    }
+
+    private static void writeStrings(DataOutput out, List<String> strings) throws IOException {
+        out.writeInt(strings == null ? -1 : strings.size());
+        if (strings != null) {
+            for (String s : strings) {
+                Text.writeString(out, s);
+            }
+        }
+    }
+
+    private static List<String> readStrings(DataInput in) throws IOException {
+        int size = in.readInt();
+        if (size < 0) {
+            return null;
+        }
+        List<String> strings = Lists.newArrayListWithCapacity(size);
+        for (int i = 0; i < size; i++) {
+            strings.add(Text.readString(in));
+        }
+        return strings;
+    }
+}
@@ -114,14 +114,27 @@ public class HiveMetaStoreCache {
     // Other thread may reset this cache, so use AtomicReference to wrap it.
     private volatile AtomicReference<LoadingCache<FileCacheKey, FileCacheValue>> fileCacheRef
             = new AtomicReference<>();
+    // the local second tier of the file cache, null if disabled
+    private final HiveFileListingStore fileListingStore;
 
     public HiveMetaStoreCache(HMSExternalCatalog catalog,
             ExecutorService refreshExecutor, ExecutorService fileListingExecutor) {
         this.catalog = catalog;
         this.refreshExecutor = refreshExecutor;
         this.fileListingExecutor = fileListingExecutor;
+        if (Config.enable_hive_file_listing_persist) {
+            this.fileListingStore = new HiveFileListingStore(
+                    Config.meta_dir + "/hive_file_cache/" + catalog.getId(), catalog.getName(),
+                    () -> fileCacheRef.get().asMap(),
+                    location -> LocationPath.of(location, catalog.getCatalogProperty().getStoragePropertiesMap()));
+        } else {
+            this.fileListingStore = null;
+        }
         init();
         initMetrics();
+        if (fileListingStore != null) {
+            fileListingStore.start();
+        }
     }
 
     /**
@@ -190,7 +203,19 @@ public class HiveMetaStoreCache {
 
             @Override
             public FileCacheValue load(FileCacheKey key) {
-                return loadFiles(key, new FileSystemDirectoryLister(), null);
+                if (fileListingStore != null) {
+                    FileCacheValue persisted = fileListingStore.get(key);
+                    if (persisted != null) {
+                        return persisted;
+                    }
+                }
+                return loadFilesToCache(key);
+            }
+
+            @Override
+            public FileCacheValue reload(FileCacheKey key, FileCacheValue oldValue) {
+                // a refresh must list the files again, the persisted file listing may be stale
+                return loadFilesToCache(key);
             }
         };
 
@@ -202,6 +227,14 @@ public class HiveMetaStoreCache {
         }
     }
 
+    private FileCacheValue loadFilesToCache(FileCacheKey key) {
+        FileCacheValue value = loadFiles(key, new FileSystemDirectoryLister(), null);
+        if (fileListingStore != null) {
+            fileListingStore.markDirty();
+        }
+        return value;
+    }
+
     private void initMetrics() {
         // partition value
         GaugeMetric<Long> valueCacheGauge = new GaugeMetric<Long>("hive_meta_cache",
@@ -462,12 +495,14 @@ public class HiveMetaStoreCache {
         HivePartition firstPartition = partitions.get(0);
         long fileId = Util.genIdByName(firstPartition.getNameMapping().getLocalDbName(),
                 firstPartition.getNameMapping().getLocalTblName());
-        List<FileCacheKey> keys = partitions.stream().map(p -> p.isDummyPartition()
-                        ? FileCacheKey.createDummyCacheKey(
-                        fileId, p.getPath(), p.getInputFormat())
-                        : new FileCacheKey(fileId, p.getPath(),
-                        p.getInputFormat(), p.getPartitionValues()))
-                .collect(Collectors.toList());
+        List<FileCacheKey> keys = partitions.stream().map(p -> {
+            if (p.isDummyPartition()) {
+                return FileCacheKey.createDummyCacheKey(fileId, p.getPath(), p.getInputFormat());
+            }
+            FileCacheKey key = new FileCacheKey(fileId, p.getPath(), p.getInputFormat(), p.getPartitionValues());
+            key.setLastDdlTime(p.getLastModifiedTime());
+            return key;
+        }).collect(Collectors.toList());
 
         List<FileCacheValue> fileLists;
         try {
@@ -554,6 +589,9 @@ public class HiveMetaStoreCache {
                 fileCache.invalidate(k);
             }
         });
+        if (fileListingStore != null) {
+            fileListingStore.invalidateTable(id);
+        }
     }
 
     public void invalidatePartitionCache(ExternalTable dorisTable, String partitionName) {
@@ -569,6 +607,9 @@ public class HiveMetaStoreCache {
             if (partition != null) {
                 fileCacheRef.get().invalidate(new FileCacheKey(id, partition.getPath(),
                         null, partition.getPartitionValues()));
+                if (fileListingStore != null) {
+                    fileListingStore.invalidateLocation(partition.getPath());
+                }
                 partitionCache.invalidate(partKey);
             }
         }
@@ -592,11 +633,23 @@ public class HiveMetaStoreCache {
         partitionValuesCache.invalidateAll();
         partitionCache.invalidateAll();
         fileCacheRef.get().invalidateAll();
+        if (fileListingStore != null) {
+            fileListingStore.invalidateAll();
+        }
         if (LOG.isDebugEnabled()) {
             LOG.debug("invalid all meta cache in catalog {}", catalog.getName());
         }
     }
 
+    /**
+     * Called when the catalog is dropped.
+     */
+    public void close() {
+        if (fileListingStore != null) {
+            fileListingStore.close();
+        }
+    }
+
     // partition name format: nation=cn/city=beijing
     public void addPartitionsCache(NameMapping nameMapping, List<String> partitionNames,
             List<Type> partitionColumnTypes) {
@@ -852,6 +905,8 @@ public class HiveMetaStoreCache {
         // partitionValues would be ["part1", "part2"]
         protected List<String> partitionValues;
         private long id;
+        // not in key, the transient_lastDdlTime of the partition in milliseconds, 0 if unknown
+        private long lastDdlTime;
 
         public FileCacheKey(long id, String location, String inputFormat,
                             List<String> partitionValues) {
@@ -331,6 +331,9 @@ public class IcebergScanNode extends FileQueryScanNode {
                 originalPath);
         if (!fileScanTask.deletes().isEmpty()) {
             split.setDeleteFileFilters(getDeleteFileFilters(fileScanTask));
+        } else if (fileScanTask.start() == 0 && fileScanTask.length() == fileScanTask.file().fileSizeInBytes()) {
+            // the whole data file without delete files
+            split.setExactRowCount(fileScanTask.file().recordCount());
         }
         split.setTableFormatType(TableFormatType.ICEBERG);
         split.setTargetSplitSize(targetSplitSize);
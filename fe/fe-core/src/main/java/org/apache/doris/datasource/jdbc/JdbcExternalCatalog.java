@@ -23,8 +23,10 @@ import org.apache.doris.catalog.JdbcResource;
 import org.apache.doris.catalog.JdbcTable;
 import org.apache.doris.catalog.TableIf.TableType;
 import org.apache.doris.common.AnalysisException;
+import org.apache.doris.common.Config;
 import org.apache.doris.common.DdlException;
 import org.apache.doris.common.FeConstants;
+import org.apache.doris.common.Pair;
 import org.apache.doris.datasource.CatalogProperty;
 import org.apache.doris.datasource.ExternalCatalog;
 import org.apache.doris.datasource.ExternalDatabase;
@@ -37,6 +39,7 @@ import org.apache.doris.datasource.jdbc.client.JdbcClientConfig;
 import org.apache.doris.datasource.jdbc.client.JdbcClientException;
 import org.apache.doris.datasource.mapping.IdentifierMapping;
 import org.apache.doris.datasource.mapping.JdbcIdentifierMapping;
+import org.apache.doris.nereids.StatementContext;
 import org.apache.doris.proto.InternalService;
 import org.apache.doris.proto.InternalService.PJdbcTestConnectionRequest;
 import org.apache.doris.proto.InternalService.PJdbcTestConnectionResult;
@@ -46,6 +49,8 @@ import org.apache.doris.system.Backend;
 import org.apache.doris.thrift.TNetworkAddress;
 import org.apache.doris.thrift.TStatusCode;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.google.common.base.Strings;
 import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
@@ -58,8 +63,10 @@ import org.apache.thrift.TException;
 import org.apache.thrift.TSerializer;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Future;
 
@@ -75,6 +82,12 @@ public class JdbcExternalCatalog extends ExternalCatalog {
     // Must add "transient" for Gson to ignore this field,
     // or Gson will throw exception with HikariCP
     private transient JdbcClient jdbcClient;
+    // (remote table, remote column) -> [min, max] of the column, used to split the scan of the table
+    private transient Cache<Pair<String, String>, Optional<long[]>> columnMinMaxCache;
+    // statement -> the number of range scans it runs on this catalog by splitting jdbc scans.
+    // The sum of them is bounded by scan_split_num. The statements are weak keys, so the range scans of
+    // a statement which is not closed are released once it is garbage collected.
+    private transient Cache<StatementContext, Integer> splitScanNums;
     private IdentifierMapping identifierMapping;
     private ExternalFunctionRules functionRules;
 
@@ -107,6 +120,7 @@ public class JdbcExternalCatalog extends ExternalCatalog {
                 getExcludeDatabaseMap());
         JdbcResource.checkConnectionPoolProperties(getConnectionPoolMinSize(), getConnectionPoolMaxSize(),
                 getConnectionPoolMaxWaitTime(), getConnectionPoolMaxLifeTime());
+        JdbcResource.checkScanSplitProperties(getScanSplitNum(), getScanSplitColumnMap());
 
         // check function rules
         ExternalFunctionRules.check(catalogProperty.getProperties().getOrDefault(JdbcResource.FUNCTION_RULES, ""));
@@ -223,9 +237,44 @@ public class JdbcExternalCatalog extends ExternalCatalog {
                 .getDefaultPropertyValue(JdbcResource.TEST_CONNECTION)));
     }
 
+    public int getScanSplitNum() {
+        return Integer.parseInt(catalogProperty.getOrDefault(JdbcResource.SCAN_SPLIT_NUM, JdbcResource
+                .getDefaultPropertyValue(JdbcResource.SCAN_SPLIT_NUM)));
+    }
+
+    /**
+     * Parse scan_split_columns, eg: "db1.tbl1:col1,db2.tbl2:col2".
+     *
+     * @return "db.tbl" -> split column name, all of them are local names
+     */
+    public Map<String, String> getScanSplitColumnMap() {
+        String scanSplitColumns = catalogProperty.getOrDefault(JdbcResource.SCAN_SPLIT_COLUMNS, "").trim();
+        Map<String, String> scanSplitColumnMap = Maps.newHashMap();
+        if (scanSplitColumns.isEmpty()) {
+            return scanSplitColumnMap;
+        }
+        for (String item : scanSplitColumns.split(",")) {
+            item = item.trim();
+            if (item.isEmpty()) {
+                continue;
+            }
+            int idx = item.lastIndexOf(':');
+            if (idx < 0) {
+                scanSplitColumnMap.put(item, "");
+            } else {
+                scanSplitColumnMap.put(item.substring(0, idx).trim(), item.substring(idx + 1).trim());
+            }
+        }
+        return scanSplitColumnMap;
+    }
+
     @Override
     protected void initLocalObjectsImpl() {
         jdbcClient = createJdbcClient();
+        columnMinMaxCache = Caffeine.newBuilder()
+                .maximumSize(10000)
+                .expireAfterWrite(Duration.ofMinutes(Config.external_cache_refresh_time_minutes))
+                .build();
         this.functionRules = ExternalFunctionRules.create(jdbcClient.getDbType(),
                 catalogProperty.getOrDefault(JdbcResource.FUNCTION_RULES, ""));
     }
@@ -335,6 +384,53 @@ public class JdbcExternalCatalog extends ExternalCatalog {
         jdbcClient.executeStmt(stmt);
     }
 
+    /**
+     * Get the min and max value of an integer column of the remote table.
+     * The values are cached for external_cache_refresh_time_minutes, so that the remote table is not
+     * scanned for every plan.
+     *
+     * @return [min, max], or null if the column has no non-null value
+     */
+    public long[] getColumnMinMax(String remoteFullTableName, String remoteColumnName) {
+        makeSureInitialized();
+        return columnMinMaxCache.get(Pair.of(remoteFullTableName, remoteColumnName),
+                key -> Optional.ofNullable(jdbcClient.getColumnMinMax(key.first, key.second))).orElse(null);
+    }
+
+    /**
+     * Acquire at most num range scans of split jdbc scans for the statement, the range scans of all
+     * running statements on this catalog are bounded by scan_split_num.
+     * They are released by releaseSplitScans() or when the statement is closed.
+     *
+     * @return the number of acquired range scans, 0 if less than 2 range scans are available
+     */
+    public synchronized int acquireSplitScans(StatementContext statementContext, int num) {
+        Map<StatementContext, Integer> scanNums = getSplitScanNums();
+        int runningNum = scanNums.values().stream().mapToInt(Integer::intValue).sum();
+        int acquiredNum = Math.min(num, getScanSplitNum() - runningNum);
+        if (acquiredNum <= 1) {
+            return 0;
+        }
+        scanNums.merge(statementContext, acquiredNum, Integer::sum);
+        statementContext.addSplitJdbcScanCatalog(this);
+        return acquiredNum;
+    }
+
+    public synchronized void releaseSplitScans(StatementContext statementContext, int num) {
+        getSplitScanNums().computeIfPresent(statementContext, (k, v) -> v > num ? v - num : null);
+    }
+
+    public synchronized void releaseSplitScans(StatementContext statementContext) {
+        getSplitScanNums().remove(statementContext);
+    }
+
+    private Map<StatementContext, Integer> getSplitScanNums() {
+        if (splitScanNums == null) {
+            splitScanNums = Caffeine.newBuilder().weakKeys().build();
+        }
+        return splitScanNums.asMap();
+    }
+
     /**
      * Get columns from query
      *
@@ -283,6 +283,39 @@ public abstract class JdbcClient {
         return columns;
     }
 
+    /**
+     * Get the min and max value of an integer column of the remote table
+     *
+     * @param remoteFullTableName, the quoted remote table name
+     * @param remoteColumnName, the quoted remote column name
+     * @return [min, max], or null if the column has no non-null value
+     */
+    public long[] getColumnMinMax(String remoteFullTableName, String remoteColumnName) {
+        Connection conn = null;
+        Statement stmt = null;
+        ResultSet rs = null;
+        String query = "SELECT MIN(" + remoteColumnName + "), MAX(" + remoteColumnName + ") FROM "
+                + remoteFullTableName;
+        try {
+            conn = getConnection();
+            stmt = conn.createStatement();
+            rs = stmt.executeQuery(query);
+            if (!rs.next()) {
+                return null;
+            }
+            long min = rs.getLong(1);
+            if (rs.wasNull()) {
+                return null;
+            }
+            long max = rs.getLong(2);
+            return new long[] {min, max};
+        } catch (SQLException e) {
+            throw new JdbcClientException("Failed to get min and max value: %s", e, query);
+        } finally {
+            close(rs, stmt, conn);
+        }
+    }
+
     /**
      * Get schema from ResultSetMetaData
      *
@@ -65,7 +65,9 @@ import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
 import java.util.stream.Collectors;
 
 public class PaimonScanNode extends FileQueryScanNode {
@@ -130,9 +132,12 @@ public class PaimonScanNode extends FileQueryScanNode {
 
     private PaimonSource source = null;
     private List<Predicate> predicates;
-    private int rawFileSplitNum = 0;
-    private int paimonSplitNum = 0;
-    private List<SplitStat> splitStats = new ArrayList<>();
+    // the splits may be generated by another thread in batch mode
+    private volatile int rawFileSplitNum = 0;
+    private volatile int paimonSplitNum = 0;
+    private final List<SplitStat> splitStats = Collections.synchronizedList(new ArrayList<>());
+    // the splits planned by paimon, null before planned
+    private List<DataSplit> dataSplits = null;
     private String serializedTable;
 
     // The schema information involved in the current query process (including historical schema).
@@ -248,85 +253,29 @@ public class PaimonScanNode extends FileQueryScanNode {
 
     @Override
     public List<Split> getSplits(int numBackends) throws UserException {
-        boolean forceJniScanner = sessionVariable.isForceJniScanner();
-        SessionVariable.IgnoreSplitType ignoreSplitType = SessionVariable.IgnoreSplitType
-                .valueOf(sessionVariable.getIgnoreSplitType());
         List<Split> splits = new ArrayList<>();
         List<Split> pushDownCountSplits = new ArrayList<>();
         long pushDownCountSum = 0;
 
-        List<org.apache.paimon.table.source.Split> paimonSplits = getPaimonSplitFromAPI();
-        List<DataSplit> dataSplits = new ArrayList<>();
-        for (org.apache.paimon.table.source.Split split : paimonSplits) {
-            if (!(split instanceof DataSplit)) {
-                throw new UserException("PaimonSplit type should be DataSplit but got: " + split.getClass().getName());
-            }
-            dataSplits.add((DataSplit) split);
-        }
-
         boolean applyCountPushdown = getPushDownAggNoGroupingOp() == TPushAggOp.COUNT;
         // Just for counting the number of selected partitions for this paimon table
         Set<BinaryRow> selectedPartitionValues = Sets.newHashSet();
         // if applyCountPushdown is true, we can't split the DataSplit
         long realFileSplitSize = getRealFileSplitSize(applyCountPushdown ? Long.MAX_VALUE : 0);
-        for (DataSplit dataSplit : dataSplits) {
-            SplitStat splitStat = new SplitStat();
-            splitStat.setRowCount(dataSplit.rowCount());
-
-            BinaryRow partitionValue = dataSplit.partition();
-            selectedPartitionValues.add(partitionValue);
-            Optional<List<RawFile>> optRawFiles = dataSplit.convertToRawFiles();
-            Optional<List<DeletionFile>> optDeletionFiles = dataSplit.deletionFiles();
+        for (DataSplit dataSplit : getDataSplits()) {
+            selectedPartitionValues.add(dataSplit.partition());
             if (applyCountPushdown && dataSplit.mergedRowCountAvailable()) {
+                SplitStat splitStat = new SplitStat();
+                splitStat.setRowCount(dataSplit.rowCount());
                 splitStat.setMergedRowCount(dataSplit.mergedRowCount());
                 PaimonSplit split = new PaimonSplit(dataSplit);
                 split.setRowCount(dataSplit.mergedRowCount());
                 pushDownCountSplits.add(split);
                 pushDownCountSum += dataSplit.mergedRowCount();
-            } else if (!forceJniScanner && supportNativeReader(optRawFiles)) {
-                if (ignoreSplitType == SessionVariable.IgnoreSplitType.IGNORE_NATIVE) {
-                    continue;
-                }
-                splitStat.setType(SplitReadType.NATIVE);
-                splitStat.setRawFileConvertable(true);
-                List<RawFile> rawFiles = optRawFiles.get();
-                for (int i = 0; i < rawFiles.size(); i++) {
-                    RawFile file = rawFiles.get(i);
-                    LocationPath locationPath = LocationPath.of(file.path(),
-                            source.getCatalog().getCatalogProperty().getStoragePropertiesMap());
-                    try {
-                        List<Split> dorisSplits = FileSplitter.splitFile(
-                                locationPath,
-                                realFileSplitSize,
-                                null,
-                                file.length(),
-                                -1,
-                                true,
-                                null,
-                                PaimonSplit.PaimonSplitCreator.DEFAULT);
-                        for (Split dorisSplit : dorisSplits) {
-                            ((PaimonSplit) dorisSplit).setSchemaId(file.schemaId());
-                            // try to set deletion file
-                            if (optDeletionFiles.isPresent() && optDeletionFiles.get().get(i) != null) {
-                                ((PaimonSplit) dorisSplit).setDeletionFile(optDeletionFiles.get().get(i));
-                                splitStat.setHasDeletionVector(true);
-                            }
-                        }
-                        splits.addAll(dorisSplits);
-                        ++rawFileSplitNum;
-                    } catch (IOException e) {
-                        throw new UserException("Paimon error to split file: " + e.getMessage(), e);
-                    }
-                }
+                splitStats.add(splitStat);
             } else {
-                if (ignoreSplitType == SessionVariable.IgnoreSplitType.IGNORE_JNI) {
-                    continue;
-                }
-                splits.add(new PaimonSplit(dataSplit));
-                ++paimonSplitNum;
+                splits.addAll(toDorisSplits(dataSplit, realFileSplitSize));
             }
-
-            splitStats.add(splitStat);
         }
 
         // if applyCountPushdown is true, calcute row count for count pushdown
@@ -350,6 +299,129 @@ public class PaimonScanNode extends FileQueryScanNode {
         return splits;
     }
 
+    /**
+     * Convert a paimon DataSplit to doris splits and record its split stat.
+     * Return an empty list if the split is ignored by session variable ignore_split_type.
+     */
+    private List<Split> toDorisSplits(DataSplit dataSplit, long realFileSplitSize) throws UserException {
+        boolean forceJniScanner = sessionVariable.isForceJniScanner();
+        SessionVariable.IgnoreSplitType ignoreSplitType = SessionVariable.IgnoreSplitType
+                .valueOf(sessionVariable.getIgnoreSplitType());
+        List<Split> splits = new ArrayList<>();
+        SplitStat splitStat = new SplitStat();
+        splitStat.setRowCount(dataSplit.rowCount());
+
+        Optional<List<RawFile>> optRawFiles = dataSplit.convertToRawFiles();
+        Optional<List<DeletionFile>> optDeletionFiles = dataSplit.deletionFiles();
+        if (!forceJniScanner && supportNativeReader(optRawFiles)) {
+            if (ignoreSplitType == SessionVariable.IgnoreSplitType.IGNORE_NATIVE) {
+                return splits;
+            }
+            splitStat.setType(SplitReadType.NATIVE);
+            splitStat.setRawFileConvertable(true);
+            List<RawFile> rawFiles = optRawFiles.get();
+            for (int i = 0; i < rawFiles.size(); i++) {
+                RawFile file = rawFiles.get(i);
+                LocationPath locationPath = LocationPath.of(file.path(),
+                        source.getCatalog().getCatalogProperty().getStoragePropertiesMap());
+                try {
+                    List<Split> dorisSplits = FileSplitter.splitFile(
+                            locationPath,
+                            realFileSplitSize,
+                            null,
+                            file.length(),
+                            -1,
+                            true,
+                            null,
+                            PaimonSplit.PaimonSplitCreator.DEFAULT);
+                    for (Split dorisSplit : dorisSplits) {
+                        ((PaimonSplit) dorisSplit).setSchemaId(file.schemaId());
+                        // try to set deletion file
+                        if (optDeletionFiles.isPresent() && optDeletionFiles.get().get(i) != null) {
+                            ((PaimonSplit) dorisSplit).setDeletionFile(optDeletionFiles.get().get(i));
+                            splitStat.setHasDeletionVector(true);
+                        }
+                    }
+                    splits.addAll(dorisSplits);
+                    ++rawFileSplitNum;
+                } catch (IOException e) {
+                    throw new UserException("Paimon error to split file: " + e.getMessage(), e);
+                }
+            }
+            if (splits.size() == 1 && !splitStat.hasDeletionVector) {
+                // the only raw file is read as a whole, all rows of the data split are returned
+                ((PaimonSplit) splits.get(0)).setExactRowCount(dataSplit.rowCount());
+            }
+        } else {
+            if (ignoreSplitType == SessionVariable.IgnoreSplitType.IGNORE_JNI) {
+                return splits;
+            }
+            PaimonSplit split = new PaimonSplit(dataSplit);
+            if (dataSplit.mergedRowCountAvailable()) {
+                split.setExactRowCount(dataSplit.mergedRowCount());
+            }
+            splits.add(split);
+            ++paimonSplitNum;
+        }
+        splitStats.add(splitStat);
+        return splits;
+    }
+
+    private List<DataSplit> getDataSplits() throws UserException {
+        if (dataSplits == null) {
+            List<DataSplit> result = new ArrayList<>();
+            for (org.apache.paimon.table.source.Split split : getPaimonSplitFromAPI()) {
+                if (!(split instanceof DataSplit)) {
+                    throw new UserException(
+                            "PaimonSplit type should be DataSplit but got: " + split.getClass().getName());
+                }
+                result.add((DataSplit) split);
+            }
+            dataSplits = result;
+        }
+        return dataSplits;
+    }
+
+    @Override
+    public boolean isBatchMode() throws UserException {
+        if (!sessionVariable.getEnableExternalTableBatchMode()
+                || getPushDownAggNoGroupingOp() == TPushAggOp.COUNT) {
+            return false;
+        }
+        return getDataSplits().size() >= sessionVariable.getNumFilesInBatchMode();
+    }
+
+    @Override
+    public int numApproximateSplits() {
+        return dataSplits == null ? 0 : dataSplits.size();
+    }
+
+    @Override
+    public void startSplit(int numBackends) throws UserException {
+        List<DataSplit> allDataSplits = getDataSplits();
+        long realFileSplitSize = getRealFileSplitSize(0);
+        Executor scheduleExecutor = Env.getCurrentEnv().getExtMetaCacheMgr().getScheduleExecutor();
+        CompletableFuture.runAsync(() -> {
+            Set<BinaryRow> selectedPartitionValues = Sets.newHashSet();
+            try {
+                for (DataSplit dataSplit : allDataSplits) {
+                    if (!splitAssignment.needMoreSplit()) {
+                        break;
+                    }
+                    selectedPartitionValues.add(dataSplit.partition());
+                    List<Split> splits = toDorisSplits(dataSplit, realFileSplitSize);
+                    splits.forEach(s -> s.setTargetSplitSize(realFileSplitSize));
+                    splitAssignment.addToQueue(splits);
+                }
+                splitAssignment.finishSchedule();
+            } catch (Exception e) {
+                splitAssignment.setException(new UserException(e.getMessage(), e));
+            } finally {
+                selectedPartitionNum = selectedPartitionValues.size();
+            }
+        }, scheduleExecutor);
+    }
+
     @VisibleForTesting
     public Map<String, String> getIncrReadParams() throws UserException {
         Map<String, String> paimonScanParams = new HashMap<>();
@@ -449,6 +521,10 @@ public class PaimonScanNode extends FileQueryScanNode {
 
         if (detailLevel == TExplainLevel.VERBOSE) {
             sb.append(prefix).append("PaimonSplitStats: \n");
+            List<SplitStat> splitStats;
+            synchronized (this.splitStats) {
+                splitStats = new ArrayList<>(this.splitStats);
+            }
             int size = splitStats.size();
             if (size <= 4) {
                 for (SplitStat splitStat : splitStats) {
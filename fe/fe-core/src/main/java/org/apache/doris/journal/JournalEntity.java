@@ -127,6 +127,8 @@ import org.apache.doris.persist.TablePropertyInfo;
 import org.apache.doris.persist.TableRenameColumnInfo;
 import org.apache.doris.persist.TableStatsDeletionLog;
 import org.apache.doris.persist.TruncateTableInfo;
+import org.apache.doris.persist.binary.BinaryPersistUtils;
+import org.apache.doris.persist.binary.BinaryPersistable;
 import org.apache.doris.plsql.metastore.PlsqlPackage;
 import org.apache.doris.plsql.metastore.PlsqlProcedureKey;
 import org.apache.doris.plsql.metastore.PlsqlStoredProcedure;
@@ -191,7 +193,11 @@ public class JournalEntity implements Writable {
     @Override
     public void write(DataOutput out) throws IOException {
         out.writeShort(opCode);
-        data.write(out);
+        if (data instanceof BinaryPersistable && BinaryPersistUtils.isBinaryEnabled(opCode)) {
+            BinaryPersistUtils.write(out, (BinaryPersistable) data);
+        } else {
+            data.write(out);
+        }
     }
 
     public void readFields(DataInput in) throws IOException {
@@ -33,6 +33,7 @@ import org.apache.doris.monitor.jvm.JvmStats.MemoryPool;
 import org.apache.doris.persist.EditLog;
 import org.apache.doris.persist.MetaCleaner;
 import org.apache.doris.persist.Storage;
+import org.apache.doris.persist.meta.ReusableImageModules;
 import org.apache.doris.qe.VariableMgr;
 import org.apache.doris.system.Frontend;
 
@@ -59,6 +60,8 @@ public class Checkpoint extends MasterDaemon {
     private String imageDir;
     private EditLog editLog;
     private int memoryNotEnoughCount = 0;
+    // number of checkpoints which reused modules of the previous image since the last full image.
+    private int checkpointsSinceFullImage = 0;
 
     public Checkpoint(EditLog editLog) {
         super("leaderCheckpointer", FeConstants.checkpoint_interval_second * 1000L);
@@ -144,7 +147,13 @@ public class Checkpoint extends MasterDaemon {
                                 checkPointVersion, env.getReplayedJournalId()));
             }
             env.postProcessAfterMetadataReplayed(false);
-            latestImageFilePath = env.saveImage();
+            ReusableImageModules reusableModules = null;
+            if (checkpointsSinceFullImage + 1 < Config.checkpoint_full_image_interval) {
+                reusableModules = ReusableImageModules.create(storage.getImageFile(imageVersion),
+                        env.getCheckpointReplayedOpCodes());
+            }
+            latestImageFilePath = env.saveImage(reusableModules);
+            checkpointsSinceFullImage = reusableModules == null ? 0 : checkpointsSinceFullImage + 1;
             replayedJournalId = env.getReplayedJournalId();
 
             // destroy checkpoint catalog, reclaim memory
@@ -43,6 +43,7 @@ import org.apache.doris.catalog.TabletMeta;
 import org.apache.doris.common.Config;
 import org.apache.doris.common.MetaNotFoundException;
 import org.apache.doris.common.Pair;
+import org.apache.doris.common.ThreadPoolManager;
 import org.apache.doris.common.util.Daemon;
 import org.apache.doris.common.util.DebugPointUtil;
 import org.apache.doris.common.util.NetUtils;
@@ -116,6 +117,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 public class ReportHandler extends Daemon {
@@ -125,6 +129,19 @@ public class ReportHandler extends Daemon {
 
     private Map<BackendReportType, ReportTask> reportTasks = Maps.newHashMap();
 
+    // The reports of a backend are always dispatched to the same executor, so they are processed in order,
+    // and the reports of different backends can be processed concurrently.
+    // Null if Config.report_handler_thread_num <= 1, then all reports are processed in the report thread.
+    private final ThreadPoolExecutor[] reportExecutors;
+
+    // the report tasks waiting in the executors, at most one for each backend and report type
+    private final Map<BackendReportType, ReportTask> pendingReportTasks = Maps.newConcurrentMap();
+
+    // number of the report tasks dispatched to the executors but not finished yet
+    private final AtomicLong executingTaskNum = new AtomicLong(0);
+
+    private final TabletReportDigests tabletReportDigests = new TabletReportDigests();
+
     private enum ReportType {
         TASK,
         DISK,
@@ -142,6 +159,25 @@ public class ReportHandler extends Daemon {
             }
         };
         MetricRepo.DORIS_METRIC_REGISTER.addMetrics(gauge);
+        GaugeMetric<Long> executingGauge = new GaugeMetric<Long>(
+                "report_executing_task_num", MetricUnit.NOUNIT, "number of report tasks being executed or waiting "
+                + "in report executors") {
+            @Override
+            public Long getValue() {
+                return executingTaskNum.get();
+            }
+        };
+        MetricRepo.DORIS_METRIC_REGISTER.addMetrics(executingGauge);
+
+        if (Config.report_handler_thread_num > 1) {
+            reportExecutors = new ThreadPoolExecutor[Config.report_handler_thread_num];
+            for (int i = 0; i < reportExecutors.length; i++) {
+                reportExecutors[i] = ThreadPoolManager.newDaemonFixedThreadPool(1, Config.report_queue_size,
+                        "report-executor-" + i, true, new ThreadPoolExecutor.AbortPolicy());
+            }
+        } else {
+            reportExecutors = null;
+        }
     }
 
     public TMasterResult handleReport(TReportRequest request) throws TException {
@@ -339,6 +375,18 @@ public class ReportHandler extends Daemon {
 
         @Override
         protected void exec() {
+            long start = System.currentTimeMillis();
+            try {
+                process();
+            } finally {
+                if (MetricRepo.isInit) {
+                    MetricRepo.HISTO_REPORT_PROCESS_LATENCY.getOrAdd(reportType.name().toLowerCase())
+                            .update(System.currentTimeMillis() - start);
+                }
+            }
+        }
+
+        private void process() {
             if (tasks != null) {
                 ReportHandler.taskReport(beId, tasks);
             }
@@ -363,12 +411,30 @@ public class ReportHandler extends Daemon {
                     if (partitions == null) {
                         partitions = Maps.newHashMap();
                     }
-                    tabletReport(beId, tablets, partitions, reportVersion, numTablets);
+                    if (Config.enable_skip_unchanged_tablet_report && tabletReportDigests.checkAndUpdate(beId,
+                            tablets, partitions, Env.getCurrentEnv().getEditLog().getNumMetaModifications())) {
+                        skipTabletReport(beId, reportVersion);
+                    } else {
+                        tabletReport(beId, tablets, partitions, reportVersion, numTablets);
+                    }
                 }
             }
         }
     }
 
+    private static void skipTabletReport(long backendId, long backendReportVersion) {
+        LOG.info("skip tablet report from backend[{}] because nothing is changed since the last processed one. "
+                + "report version: {}", backendId, backendReportVersion);
+        Backend reportBackend = Env.getCurrentSystemInfo().getBackend(backendId);
+        if (reportBackend != null) {
+            reportBackend.getBackendStatus().lastSuccessReportTabletsTime =
+                    TimeUtils.longToTimeString(System.currentTimeMillis());
+        }
+        if (MetricRepo.isInit) {
+            MetricRepo.COUNTER_TABLET_REPORT_SKIPPED.increase(1L);
+        }
+    }
+
     private static void handlePushCooldownConf(long backendId, List<CooldownConf> cooldownConfToPush) {
         final int PUSH_BATCH_SIZE = 1024;
         AgentBatchTask batchTask = new AgentBatchTask();
@@ -1609,9 +1675,44 @@ public class ReportHandler extends Daemon {
     protected void runOneCycle() {
         while (true) {
             ReportTask task = takeReportTask();
-            if (task != null) {
+            if (task == null) {
+                continue;
+            }
+            if (reportExecutors == null) {
                 task.exec();
+                continue;
             }
+            dispatchReportTask(task);
+        }
+    }
+
+    // Only the latest report of a backend and report type waits in its executor, so a backlog of stale reports,
+    // eg, full tablet reports, does not pile up behind a slow one, as they were coalesced in reportTasks.
+    private void dispatchReportTask(ReportTask task) {
+        BackendReportType backendReportType = new BackendReportType(task.beId, task.reportType);
+        if (pendingReportTasks.put(backendReportType, task) != null) {
+            // the executor has not started the older one yet, which will process this one instead
+            return;
+        }
+        ThreadPoolExecutor executor = reportExecutors[(int) (task.beId % reportExecutors.length)];
+        executingTaskNum.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    pendingReportTasks.remove(backendReportType).run();
+                } finally {
+                    executingTaskNum.decrementAndGet();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            // The executor rejects the task without blocking, so a slow backend does not stall the reports of
+            // the others. Drop the task instead of processing it in the report thread, which may overtake the
+            // tasks of the same backend still in the executor. A report carries the full state, so the next
+            // report of the backend will make up for it.
+            LOG.warn("failed to submit {} report task of backend {} to executor, drop it",
+                    task.reportType, task.beId, e);
+            pendingReportTasks.remove(backendReportType, task);
+            executingTaskNum.decrementAndGet();
         }
     }
 
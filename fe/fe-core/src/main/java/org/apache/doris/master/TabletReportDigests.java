@@ -0,0 +1,92 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.master;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.thrift.TTablet;
+
+import com.google.common.collect.Maps;
+
+import java.util.Map;
+
+/**
+ * Remember the digest of the last processed tablet report of each backend.
+ *
+ * The result of processing a tablet report only depends on the reported tablets and the FE metadata,
+ * so if neither of them is changed since the last processed report of the backend, processing it again
+ * does nothing but holding the locks of the inverted index and the tables.
+ * The FE metadata is regarded as changed once a journal which modifies the metadata is written,
+ * see EditLog.getNumMetaModifications().
+ * To tolerate the changes which are not journaled (eg, agent tasks lost in BE), a full processing is forced
+ * after skipping Config.max_continuous_skip_tablet_report_times reports continuously.
+ */
+public class TabletReportDigests {
+    private static class ReportDigest {
+        private final long digest;
+        private final long metaModifications;
+        private int skippedTimes = 0;
+
+        private ReportDigest(long digest, long metaModifications) {
+            this.digest = digest;
+            this.metaModifications = metaModifications;
+        }
+    }
+
+    // backend id -> digest of the last processed tablet report
+    private final Map<Long, ReportDigest> digests = Maps.newConcurrentMap();
+
+    /**
+     * Return true if the report can be skipped.
+     * Otherwise the digest of the report is remembered, and the caller should process it.
+     */
+    public boolean checkAndUpdate(long backendId, Map<Long, TTablet> tablets, Map<Long, Long> partitionsVersion,
+            long metaModifications) {
+        long digest = computeDigest(tablets, partitionsVersion);
+        ReportDigest last = digests.get(backendId);
+        if (last != null && last.digest == digest && last.metaModifications == metaModifications
+                && last.skippedTimes < Config.max_continuous_skip_tablet_report_times) {
+            last.skippedTimes++;
+            return true;
+        }
+        digests.put(backendId, new ReportDigest(digest, metaModifications));
+        return false;
+    }
+
+    // The digest does not depend on the iteration order of the maps.
+    public static long computeDigest(Map<Long, TTablet> tablets, Map<Long, Long> partitionsVersion) {
+        long digest = tablets.size();
+        for (Map.Entry<Long, TTablet> entry : tablets.entrySet()) {
+            digest += mix(entry.getKey() * 31 + entry.getValue().hashCode());
+        }
+        for (Map.Entry<Long, Long> entry : partitionsVersion.entrySet()) {
+            digest += mix(mix(entry.getKey()) ^ entry.getValue());
+        }
+        return digest;
+    }
+
+    // finalizer of murmur3 64 bits
+    private static long mix(long k) {
+        k ^= k >>> 33;
+        k *= 0xff51afd7ed558ccdL;
+        k ^= k >>> 33;
+        k *= 0xc4ceb9fe1a85ec53L;
+        k ^= k >>> 33;
+        return k;
+    }
+}
@@ -38,6 +38,7 @@ import org.apache.doris.monitor.jvm.JvmService;
 import org.apache.doris.monitor.jvm.JvmStats;
 import org.apache.doris.persist.EditLog;
 import org.apache.doris.qe.QeProcessorImpl;
+import org.apache.doris.qe.cache.CacheFeProxy;
 import org.apache.doris.service.ExecuteEnv;
 import org.apache.doris.system.Backend;
 import org.apache.doris.system.SystemInfoService;
@@ -102,6 +103,14 @@ public final class MetricRepo {
     public static LongCounterMetric COUNTER_CACHE_ADDED_PARTITION;
     public static LongCounterMetric COUNTER_CACHE_HIT_SQL;
     public static LongCounterMetric COUNTER_CACHE_HIT_PARTITION;
+    public static LongCounterMetric COUNTER_SQL_CACHE_FE_TIER_HIT;
+    public static LongCounterMetric COUNTER_SQL_CACHE_FE_TIER_MISS;
+    public static LongCounterMetric COUNTER_SQL_CACHE_FE_TIER_HIT_BYTES;
+    public static LongCounterMetric COUNTER_SQL_CACHE_BE_TIER_HIT;
+    public static LongCounterMetric COUNTER_SQL_CACHE_BE_TIER_MISS;
+    public static LongCounterMetric COUNTER_SQL_CACHE_BE_TIER_HIT_BYTES;
+    public static LongCounterMetric COUNTER_PARSE_TREE_CACHE_HIT;
+    public static LongCounterMetric COUNTER_PARSE_TREE_CACHE_MISS;
 
     public static LongCounterMetric COUNTER_UPDATE_TABLET_STAT_FAILED;
 
@@ -118,6 +127,8 @@ public final class MetricRepo {
     public static Histogram HISTO_JOURNAL_WRITE_LATENCY;
     public static Histogram HISTO_JOURNAL_BATCH_SIZE;
     public static Histogram HISTO_JOURNAL_BATCH_DATA_SIZE;
+    public static Histogram HISTO_POINT_QUERY_COALESCE_LATENCY;
+    public static Histogram HISTO_POINT_QUERY_COALESCE_BATCH_SIZE;
     public static Histogram HISTO_HTTP_COPY_INTO_UPLOAD_LATENCY;
     public static Histogram HISTO_HTTP_COPY_INTO_QUERY_LATENCY;
 
@@ -134,6 +145,7 @@ public final class MetricRepo {
     public static LongCounterMetric COUNTER_TXN_SUCCESS;
     public static Histogram HISTO_TXN_EXEC_LATENCY;
     public static Histogram HISTO_TXN_PUBLISH_LATENCY;
+    public static AutoMappedMetric<Histogram> DB_HISTO_TXN_PUBLISH_LATENCY;
     public static AutoMappedMetric<GaugeMetricImpl<Long>> DB_GAUGE_TXN_NUM;
     public static AutoMappedMetric<GaugeMetricImpl<Long>> DB_GAUGE_PUBLISH_TXN_NUM;
 
@@ -189,6 +201,14 @@ public final class MetricRepo {
     public static AutoMappedMetric<LongCounterMetric> COUNTER_AGENT_TASK_TOTAL;
     public static AutoMappedMetric<LongCounterMetric> COUNTER_AGENT_TASK_RESEND_TOTAL;
 
+    // Report
+    public static AutoMappedMetric<Histogram> HISTO_REPORT_PROCESS_LATENCY;
+    public static LongCounterMetric COUNTER_TABLET_REPORT_SKIPPED;
+
+    // Split assignment
+    public static LongCounterMetric COUNTER_SPLIT_ASSIGN_TOTAL;
+    public static LongCounterMetric COUNTER_SPLIT_ASSIGN_CACHE_AFFINE;
+
     private static Map<Pair<EtlJobType, JobState>, Long> loadJobNum = Maps.newHashMap();
 
     private static ScheduledThreadPoolExecutor metricTimer = ThreadPoolManager.newDaemonScheduledThreadPool(1,
@@ -426,6 +446,46 @@ public final class MetricRepo {
                 "total hits query by partition model");
         COUNTER_CACHE_HIT_PARTITION.addLabel(new MetricLabel("type", "partition"));
         DORIS_METRIC_REGISTER.addMetrics(COUNTER_CACHE_HIT_PARTITION);
+        COUNTER_SQL_CACHE_FE_TIER_HIT = new LongCounterMetric("sql_cache_tier_hit", MetricUnit.REQUESTS,
+                "total hits of sql cache in FE memory");
+        COUNTER_SQL_CACHE_FE_TIER_HIT.addLabel(new MetricLabel("tier", "fe"));
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_SQL_CACHE_FE_TIER_HIT);
+        COUNTER_SQL_CACHE_FE_TIER_MISS = new LongCounterMetric("sql_cache_tier_miss", MetricUnit.REQUESTS,
+                "total misses of sql cache in FE memory");
+        COUNTER_SQL_CACHE_FE_TIER_MISS.addLabel(new MetricLabel("tier", "fe"));
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_SQL_CACHE_FE_TIER_MISS);
+        COUNTER_SQL_CACHE_FE_TIER_HIT_BYTES = new LongCounterMetric("sql_cache_tier_hit_bytes", MetricUnit.BYTES,
+                "total bytes of sql cache hit in FE memory");
+        COUNTER_SQL_CACHE_FE_TIER_HIT_BYTES.addLabel(new MetricLabel("tier", "fe"));
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_SQL_CACHE_FE_TIER_HIT_BYTES);
+        COUNTER_SQL_CACHE_BE_TIER_HIT = new LongCounterMetric("sql_cache_tier_hit", MetricUnit.REQUESTS,
+                "total hits of sql cache in BE when FE tier is enabled");
+        COUNTER_SQL_CACHE_BE_TIER_HIT.addLabel(new MetricLabel("tier", "be"));
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_SQL_CACHE_BE_TIER_HIT);
+        COUNTER_SQL_CACHE_BE_TIER_MISS = new LongCounterMetric("sql_cache_tier_miss", MetricUnit.REQUESTS,
+                "total misses of sql cache in BE when FE tier is enabled");
+        COUNTER_SQL_CACHE_BE_TIER_MISS.addLabel(new MetricLabel("tier", "be"));
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_SQL_CACHE_BE_TIER_MISS);
+        COUNTER_SQL_CACHE_BE_TIER_HIT_BYTES = new LongCounterMetric("sql_cache_tier_hit_bytes", MetricUnit.BYTES,
+                "total bytes of sql cache hit in BE when FE tier is enabled");
+        COUNTER_SQL_CACHE_BE_TIER_HIT_BYTES.addLabel(new MetricLabel("tier", "be"));
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_SQL_CACHE_BE_TIER_HIT_BYTES);
+        if (Config.sql_cache_fe_tier_max_bytes > 0) {
+            GaugeMetric<Long> sqlCacheFeTierBytes = new GaugeMetric<Long>("sql_cache_fe_tier_bytes",
+                    MetricUnit.BYTES, "bytes of sql cache results in FE memory") {
+                @Override
+                public Long getValue() {
+                    return CacheFeProxy.getInstance().getCachedBytes();
+                }
+            };
+            DORIS_METRIC_REGISTER.addMetrics(sqlCacheFeTierBytes);
+        }
+        COUNTER_PARSE_TREE_CACHE_HIT = new LongCounterMetric("parse_tree_cache_hit", MetricUnit.REQUESTS,
+                "total statements parsed with a cached parse tree");
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_PARSE_TREE_CACHE_HIT);
+        COUNTER_PARSE_TREE_CACHE_MISS = new LongCounterMetric("parse_tree_cache_miss", MetricUnit.REQUESTS,
+                "total cacheable statements parsed without a cached parse tree");
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_PARSE_TREE_CACHE_MISS);
 
         // edit log
         COUNTER_EDIT_LOG_WRITE = new LongCounterMetric("edit_log", MetricUnit.OPERATIONS,
@@ -463,6 +523,12 @@ public final class MetricRepo {
         HISTO_JOURNAL_BATCH_DATA_SIZE = METRIC_REGISTER.histogram(
                 MetricRegistry.name("journal", "write", "batch_data_size"));
 
+        // point query coalesce
+        HISTO_POINT_QUERY_COALESCE_LATENCY = METRIC_REGISTER.histogram(
+                MetricRegistry.name("point_query", "coalesce", "latency", "us"));
+        HISTO_POINT_QUERY_COALESCE_BATCH_SIZE = METRIC_REGISTER.histogram(
+                MetricRegistry.name("point_query", "coalesce", "batch_size"));
+
         // edit log clean
         COUNTER_EDIT_LOG_CLEAN_SUCCESS = new LongCounterMetric("edit_log_clean", MetricUnit.OPERATIONS,
             "counter of edit log succeed in cleaning");
@@ -527,6 +593,12 @@ public final class MetricRepo {
             MetricRegistry.name("txn", "exec", "latency", "ms"));
         HISTO_TXN_PUBLISH_LATENCY = METRIC_REGISTER.histogram(
             MetricRegistry.name("txn", "publish", "latency", "ms"));
+        DB_HISTO_TXN_PUBLISH_LATENCY = new AutoMappedMetric<>(name -> {
+            // '.' and '=' separate the parts and labels in the name of a histogram
+            String metricName = MetricRegistry.name("txn", "publish", "latency", "ms",
+                    "db=" + name.replace('.', '_').replace('=', '_'));
+            return METRIC_REGISTER.histogram(metricName);
+        });
         GaugeMetric<Long> txnNum = new GaugeMetric<Long>("txn_num", MetricUnit.NOUNIT,
                 "number of running transactions") {
             @Override
@@ -684,6 +756,30 @@ public final class MetricRepo {
         COUNTER_AGENT_TASK_RESEND_TOTAL = addLabeledMetrics("task", () ->
                 new LongCounterMetric("agent_task_resend_total", MetricUnit.NOUNIT, "total agent task resend"));
 
+        HISTO_REPORT_PROCESS_LATENCY = new AutoMappedMetric<>(type -> METRIC_REGISTER.histogram(
+                MetricRegistry.name("report", "process", "latency", "ms", "type=" + type)));
+        COUNTER_TABLET_REPORT_SKIPPED = new LongCounterMetric("tablet_report_skipped", MetricUnit.REQUESTS,
+                "total tablet reports skipped because nothing is changed since the last processed one");
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_TABLET_REPORT_SKIPPED);
+
+        COUNTER_SPLIT_ASSIGN_TOTAL = new LongCounterMetric("split_assign", MetricUnit.NOUNIT,
+                "total splits assigned by consistent hashing with cache affinity");
+        COUNTER_SPLIT_ASSIGN_TOTAL.addLabel(new MetricLabel("type", "total"));
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_SPLIT_ASSIGN_TOTAL);
+        COUNTER_SPLIT_ASSIGN_CACHE_AFFINE = new LongCounterMetric("split_assign", MetricUnit.NOUNIT,
+                "total splits assigned to the backend which read them before");
+        COUNTER_SPLIT_ASSIGN_CACHE_AFFINE.addLabel(new MetricLabel("type", "cache_affine"));
+        DORIS_METRIC_REGISTER.addMetrics(COUNTER_SPLIT_ASSIGN_CACHE_AFFINE);
+        GaugeMetric<Double> splitCacheAffineRatio = new GaugeMetric<Double>("split_assign_cache_affine_ratio",
+                MetricUnit.PERCENT, "percentage of splits assigned to the backend which read them before") {
+            @Override
+            public Double getValue() {
+                long total = COUNTER_SPLIT_ASSIGN_TOTAL.getValue();
+                return total == 0 ? 0.0 : 100.0 * COUNTER_SPLIT_ASSIGN_CACHE_AFFINE.getValue() / total;
+            }
+        };
+        DORIS_METRIC_REGISTER.addMetrics(splitCacheAffineRatio);
+
         // init system metrics
         initSystemMetrics();
         CloudMetrics.init();
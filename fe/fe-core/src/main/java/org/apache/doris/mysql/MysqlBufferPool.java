@@ -0,0 +1,67 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.mysql;
+
+import org.apache.doris.common.Config;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The send buffers shared by all MySQL channels.
+ * A channel borrows a send buffer when it begins to send packets and returns it once the packets are flushed,
+ * so the memory of send buffers is proportional to the number of connections which are sending data,
+ * instead of the number of all connections.
+ * The buffers are on heap like the send buffers were, so a buffer which is not returned, eg, it's borrowed by
+ * a closed channel or there are too many idle buffers, is simply reclaimed by GC.
+ */
+public class MysqlBufferPool {
+    public static final int SEND_BUFFER_SIZE = 2 * 1024 * 1024;
+
+    // use as a stack, so that the most recently used buffers are reused first
+    private static final ConcurrentLinkedDeque<ByteBuffer> idleSendBuffers = new ConcurrentLinkedDeque<>();
+    private static final AtomicInteger idleSendBufferNum = new AtomicInteger(0);
+
+    public static ByteBuffer borrowSendBuffer() {
+        ByteBuffer buffer = idleSendBuffers.pollFirst();
+        if (buffer == null) {
+            return ByteBuffer.allocate(SEND_BUFFER_SIZE);
+        }
+        idleSendBufferNum.decrementAndGet();
+        buffer.clear();
+        return buffer;
+    }
+
+    public static void returnSendBuffer(ByteBuffer buffer) {
+        if (buffer.capacity() != SEND_BUFFER_SIZE) {
+            return;
+        }
+        if (idleSendBufferNum.incrementAndGet() > Config.mysql_send_buffer_pool_max_idle_num) {
+            // too many idle buffers, leave it to GC
+            idleSendBufferNum.decrementAndGet();
+            return;
+        }
+        buffer.clear();
+        idleSendBuffers.offerFirst(buffer);
+    }
+
+    public static int getIdleSendBufferNum() {
+        return idleSendBufferNum.get();
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.doris.mysql;
 
+import org.apache.doris.common.Config;
 import org.apache.doris.common.ConnectionException;
 import org.apache.doris.common.util.NetUtils;
 import org.apache.doris.qe.ConnectContext;
@@ -32,6 +33,7 @@ import org.xnio.channels.Channels;
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.nio.ByteBuffer;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 import javax.net.ssl.SSLEngine;
 import javax.net.ssl.SSLEngineResult;
@@ -52,6 +54,8 @@ public class MysqlChannel implements BytesChannel {
     protected static final int PACKET_HEADER_LEN = 4;
     // SSL packet header length
     protected static final int SSL_PACKET_HEADER_LEN = 5;
+    // rows smaller than this are cheap enough to be copied to send buffer, see sendRowsInPlace()
+    private static final int MIN_IN_PLACE_SEND_BYTES = 64 * 1024;
     // next sequence id to receive or send
     protected int sequenceId;
     // channel connected with client
@@ -62,6 +66,7 @@ public class MysqlChannel implements BytesChannel {
     protected ByteBuffer sslHeaderByteBuffer;
     protected ByteBuffer tempBuffer;
     protected ByteBuffer remainingBuffer;
+    // borrowed from MysqlBufferPool when there are packets to send, and returned after they are flushed.
     protected ByteBuffer sendBuffer;
 
     protected ByteBuffer decryptAppData;
@@ -128,7 +133,6 @@ public class MysqlChannel implements BytesChannel {
         }
         this.defaultBuffer = ByteBuffer.allocate(16 * 1024);
         this.headerByteBuffer = ByteBuffer.allocate(PACKET_HEADER_LEN);
-        this.sendBuffer = ByteBuffer.allocate(2 * 1024 * 1024);
         this.context = context;
     }
 
@@ -454,6 +458,14 @@ public class MysqlChannel implements BytesChannel {
     }
 
     public void flush() throws IOException {
+        try {
+            flushSendBuffer();
+        } finally {
+            releaseSendBuffer();
+        }
+    }
+
+    private void flushSendBuffer() throws IOException {
         if (null == sendBuffer || sendBuffer.position() == 0) {
             // Nothing to send
             return;
@@ -467,13 +479,33 @@ public class MysqlChannel implements BytesChannel {
         isSend = true;
     }
 
+    // return false if this channel sends nothing, eg. ProxyMysqlChannel
+    private boolean borrowSendBuffer() {
+        if (conn == null) {
+            return false;
+        }
+        if (sendBuffer == null) {
+            sendBuffer = MysqlBufferPool.borrowSendBuffer();
+        }
+        return true;
+    }
+
+    // Do not call it in close(), which may be called by other threads when the buffer is still in use.
+    // If the channel is closed with a borrowed buffer, the buffer will be reclaimed by GC.
+    private void releaseSendBuffer() {
+        if (sendBuffer != null) {
+            MysqlBufferPool.returnSendBuffer(sendBuffer);
+            sendBuffer = null;
+        }
+    }
+
     private void writeHeader(int length, boolean isSsl) throws IOException {
-        if (null == sendBuffer) {
+        if (!borrowSendBuffer()) {
             return;
         }
         long leftLength = sendBuffer.capacity() - sendBuffer.position();
         if (leftLength < 4) {
-            flush();
+            flushSendBuffer();
         }
 
         long newLen = length;
@@ -485,13 +517,13 @@ public class MysqlChannel implements BytesChannel {
     }
 
     private void writeBuffer(ByteBuffer buffer) throws IOException {
-        if (null == sendBuffer) {
+        if (!borrowSendBuffer()) {
             return;
         }
         // If too long for buffer, send buffered data.
         if (sendBuffer.remaining() < buffer.remaining()) {
             // Flush data in buffer.
-            flush();
+            flushSendBuffer();
         }
         // Send this buffer if large enough
         if (buffer.remaining() > sendBuffer.remaining()) {
@@ -529,6 +561,60 @@ public class MysqlChannel implements BytesChannel {
         }
     }
 
+    /**
+     * Send rows as MySQL packets without copying them to send buffer.
+     * It only works for the rows which are adjacent slices of one byte array and each of them is preceded by
+     * its 4 bytes big endian length, which is the layout of a thrift binary list deserialized from a byte array,
+     * eg. the rows of TResultBatch received from BE. The 4 bytes before each row are rewritten to the MySQL
+     * packet header in place, then all the rows are sent by one write.
+     * Return false without sending anything if the rows are not in such layout, and the caller should
+     * send them by sendOnePacket().
+     */
+    public boolean sendRowsInPlace(List<ByteBuffer> rows) throws IOException {
+        if (!Config.enable_mysql_send_rows_in_place || conn == null || isSslHandshaking || rows.isEmpty()
+                || !rows.get(0).hasArray()) {
+            return false;
+        }
+        byte[] array = rows.get(0).array();
+        int start = rows.get(0).arrayOffset() + rows.get(0).position() - PACKET_HEADER_LEN;
+        if (start < 0) {
+            return false;
+        }
+        int end = start;
+        for (ByteBuffer row : rows) {
+            int rowLen = row.remaining();
+            if (!row.hasArray() || row.array() != array || rowLen >= MAX_PHYSICAL_PACKET_LENGTH
+                    || row.arrayOffset() + row.position() != end + PACKET_HEADER_LEN
+                    || readBigEndianInt(array, end) != rowLen) {
+                return false;
+            }
+            end += PACKET_HEADER_LEN + rowLen;
+        }
+        if (end - start < MIN_IN_PLACE_SEND_BYTES) {
+            return false;
+        }
+
+        int headerPos = start;
+        for (ByteBuffer row : rows) {
+            int rowLen = row.remaining();
+            array[headerPos] = (byte) rowLen;
+            array[headerPos + 1] = (byte) (rowLen >> 8);
+            array[headerPos + 2] = (byte) (rowLen >> 16);
+            array[headerPos + 3] = (byte) sequenceId;
+            accSequenceId();
+            headerPos += PACKET_HEADER_LEN + rowLen;
+        }
+        // the packets in send buffer, eg. fields, should be sent before rows
+        flushSendBuffer();
+        realNetSend(ByteBuffer.wrap(array, start, end - start));
+        return true;
+    }
+
+    private static int readBigEndianInt(byte[] array, int pos) {
+        return ((array[pos] & 0xFF) << 24) | ((array[pos + 1] & 0xFF) << 16)
+                | ((array[pos + 2] & 0xFF) << 8) | (array[pos + 3] & 0xFF);
+    }
+
     public void sendOnePacket(Object[] rows) throws IOException {
         ByteBuffer packet;
         serializer.reset();
@@ -549,9 +635,7 @@ public class MysqlChannel implements BytesChannel {
     // Call this function before send query before
     public void reset() {
         isSend = false;
-        if (null != sendBuffer) {
-            sendBuffer.clear();
-        }
+        releaseSendBuffer();
     }
 
     public boolean isSend() {
@@ -30,6 +30,7 @@ import org.apache.doris.common.FormatOptions;
 import org.apache.doris.common.Id;
 import org.apache.doris.common.IdGenerator;
 import org.apache.doris.common.Pair;
+import org.apache.doris.datasource.jdbc.JdbcExternalCatalog;
 import org.apache.doris.datasource.mvcc.MvccSnapshot;
 import org.apache.doris.datasource.mvcc.MvccTable;
 import org.apache.doris.datasource.mvcc.MvccTableInfo;
@@ -173,6 +174,10 @@ public class StatementContext implements Closeable {
 
     // the columns in Plan.getExpressions(), such as columns in join condition or filter condition, group by expression
     private final Set<SlotReference> keySlots = Sets.newHashSet();
+    // the jdbc scans produced by splitting a jdbc scan into ranges, they should not be split again
+    private final Set<RelationId> splitJdbcScanRelationIds = Sets.newHashSet();
+    // the catalogs on which the split jdbc scans acquired range scans, they are released when closed
+    private final Set<JdbcExternalCatalog> splitJdbcScanCatalogs = Sets.newConcurrentHashSet();
     private BitSet disableRules;
 
     // table locks
@@ -695,6 +700,10 @@ public class StatementContext implements Closeable {
 
     @Override
     public void close() {
+        for (JdbcExternalCatalog catalog : splitJdbcScanCatalogs) {
+            catalog.releaseSplitScans(this);
+        }
+        splitJdbcScanCatalogs.clear();
         releasePlannerResources();
     }
 
@@ -805,6 +814,18 @@ public class StatementContext implements Closeable {
         return keySlots.contains(slot);
     }
 
+    public void addSplitJdbcScanRelationId(RelationId relationId) {
+        splitJdbcScanRelationIds.add(relationId);
+    }
+
+    public boolean isSplitJdbcScan(RelationId relationId) {
+        return splitJdbcScanRelationIds.contains(relationId);
+    }
+
+    public void addSplitJdbcScanCatalog(JdbcExternalCatalog catalog) {
+        splitJdbcScanCatalogs.add(catalog);
+    }
+
     /** Get table id with lazy */
     public TableId getTableId(TableIf tableIf) {
         TableIdentifier tableIdentifier = new TableIdentifier(tableIf);
@@ -145,6 +145,7 @@ import org.apache.doris.nereids.rules.rewrite.SaltJoin;
 import org.apache.doris.nereids.rules.rewrite.SetPreAggStatus;
 import org.apache.doris.nereids.rules.rewrite.SimplifyEncodeDecode;
 import org.apache.doris.nereids.rules.rewrite.SimplifyWindowExpression;
+import org.apache.doris.nereids.rules.rewrite.SplitJdbcScan;
 import org.apache.doris.nereids.rules.rewrite.SplitLimit;
 import org.apache.doris.nereids.rules.rewrite.SplitMultiDistinct;
 import org.apache.doris.nereids.rules.rewrite.StatsDerive;
@@ -641,6 +642,8 @@ public class Rewriter extends AbstractBatchJobExecutor {
                 }
                 rewriteJobs.addAll(jobs(topic("split multi distinct",
                         custom(RuleType.SPLIT_MULTI_DISTINCT, () -> SplitMultiDistinct.INSTANCE))));
+                rewriteJobs.addAll(jobs(topic("split jdbc scan",
+                        custom(RuleType.SPLIT_JDBC_SCAN, SplitJdbcScan::new))));
 
                 if (needSubPathPushDown) {
                     rewriteJobs.addAll(jobs(
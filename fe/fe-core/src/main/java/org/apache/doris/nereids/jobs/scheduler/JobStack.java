@@ -19,13 +19,17 @@ package org.apache.doris.nereids.jobs.scheduler;
 
 import org.apache.doris.nereids.jobs.Job;
 
-import java.util.Stack;
+import java.util.ArrayDeque;
+import java.util.Deque;
 
 /**
  * LIFO implementation of {@link JobPool}.
+ * A job pool is only accessed by the thread which plans the statement, so it is backed by an
+ * unsynchronized {@link ArrayDeque} instead of {@link java.util.Stack}, whose every push and pop
+ * acquires a monitor.
  */
 public class JobStack implements JobPool {
-    Stack<Job> stack = new Stack<>();
+    Deque<Job> stack = new ArrayDeque<>();
 
     @Override
     public void push(Job job) {
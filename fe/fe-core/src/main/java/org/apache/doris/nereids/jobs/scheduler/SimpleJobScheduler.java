@@ -26,6 +26,9 @@ import java.util.concurrent.TimeUnit;
 
 /**
  * Single thread, serial scheduler.
+ * Jobs must run on the thread which plans the statement: the ids of new expressions and plans are
+ * generated from the StatementContext of the thread local ConnectContext, and the memo, groups and
+ * group expressions are mutated without synchronization. So the job pool is not shared between threads.
  */
 public class SimpleJobScheduler implements JobScheduler {
     @Override
@@ -58,6 +58,10 @@ public class GroupExpression {
     private Group ownerGroup;
     private final List<Group> children;
     private final Plan plan;
+    // The plan is immutable, so its hash code is computed only once, while the memo looks up, removes and
+    // reinserts this group expression many times. Children may be replaced when groups are merged, so their part
+    // is computed on demand, which is cheap since the hash code of a group is derived from its id.
+    private final int planHashCode;
     private final BitSet ruleMasks;
     private boolean statDerived;
 
@@ -97,6 +101,7 @@ public class GroupExpression {
     public GroupExpression(Plan plan, List<Group> children) {
         this.plan = Objects.requireNonNull(plan, "plan can not be null")
                 .withGroupExpression(Optional.of(this));
+        this.planHashCode = this.plan.hashCode();
         this.children = Objects.requireNonNull(children, "children can not be null");
         this.ruleMasks = new BitSet(RuleType.SENTINEL.ordinal());
         this.statDerived = false;
@@ -323,7 +328,7 @@ public class GroupExpression {
             return false;
         }
         GroupExpression that = (GroupExpression) o;
-        return children.equals(that.children) && plan.equals(that.plan);
+        return planHashCode == that.planHashCode && children.equals(that.children) && plan.equals(that.plan);
     }
 
     @Override
@@ -332,7 +337,7 @@ public class GroupExpression {
         for (int i = 0; i < children.size(); i++) {
             hashCode = 31 * hashCode + children.get(i).hashCode();
         }
-        hashCode = hashCode * 31 + plan.hashCode();
+        hashCode = hashCode * 31 + planHashCode;
         return (int) hashCode;
     }
 
@@ -20,7 +20,9 @@ package org.apache.doris.nereids.parser;
 import org.apache.doris.analysis.ExplainOptions;
 import org.apache.doris.analysis.StatementBase;
 import org.apache.doris.catalog.Env;
+import org.apache.doris.common.Config;
 import org.apache.doris.common.Pair;
+import org.apache.doris.metric.MetricRepo;
 import org.apache.doris.nereids.DorisLexer;
 import org.apache.doris.nereids.DorisParser;
 import org.apache.doris.nereids.DorisParser.NonReservedContext;
@@ -44,10 +46,12 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenFactory;
 import org.antlr.v4.runtime.CommonTokenStream;
 import org.antlr.v4.runtime.ParserRuleContext;
 import org.antlr.v4.runtime.Recognizer;
 import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
 import org.antlr.v4.runtime.TokenSource;
 import org.antlr.v4.runtime.atn.PredictionMode;
 import org.antlr.v4.runtime.misc.ParseCancellationException;
@@ -291,7 +295,9 @@ public class NereidsParser {
      */
     public List<Pair<LogicalPlan, StatementContext>> parseMultiple(String sql,
                                                                    @Nullable LogicalPlanBuilder logicalPlanBuilder) {
-        List<Pair<LogicalPlan, StatementContext>> result = parse(sql, logicalPlanBuilder, DorisParser::multiStatements);
+        List<Pair<LogicalPlan, StatementContext>> result = logicalPlanBuilder == null && Config.enable_parse_tree_cache
+                ? parseMultipleWithCache(sql)
+                : parse(sql, logicalPlanBuilder, DorisParser::multiStatements);
         // ensure each StatementContext has complete OriginStatement information
         for (int i = 0; i < result.size(); i++) {
             Pair<LogicalPlan, StatementContext> pair = result.get(i);
@@ -303,6 +309,38 @@ public class NereidsParser {
         return result;
     }
 
+    private List<Pair<LogicalPlan, StatementContext>> parseMultipleWithCache(String sql) {
+        CommonTokenStream tokenStream = parseAllTokens(sql, ParseTreeCache.TOKEN_FACTORY);
+        String fingerprint = ParseTreeCache.fingerprint(tokenStream);
+        if (fingerprint == null) {
+            ParserRuleContext tree = toAst(tokenStream, DorisParser::multiStatements);
+            return (List<Pair<LogicalPlan, StatementContext>>) new LogicalPlanBuilder(
+                    getHintMap(sql, tokenStream, DorisParser::selectHint)).visit(tree);
+        }
+        ParseTreeCache parseTreeCache = ParseTreeCache.getInstance();
+        ParseTreeCache.CachedTree cachedTree = parseTreeCache.take(fingerprint, tokenStream);
+        ParserRuleContext tree;
+        if (cachedTree != null) {
+            tree = cachedTree.getTree();
+            if (MetricRepo.isInit) {
+                MetricRepo.COUNTER_PARSE_TREE_CACHE_HIT.increase(1L);
+            }
+        } else {
+            tree = toAst(tokenStream, DorisParser::multiStatements);
+            cachedTree = ParseTreeCache.CachedTree.of(tree, tokenStream);
+            if (MetricRepo.isInit) {
+                MetricRepo.COUNTER_PARSE_TREE_CACHE_MISS.increase(1L);
+            }
+        }
+        List<Pair<LogicalPlan, StatementContext>> result = (List<Pair<LogicalPlan, StatementContext>>)
+                new LogicalPlanBuilder(getHintMap(sql, tokenStream, DorisParser::selectHint)).visit(tree);
+        // the tree is dropped if building the plan failed
+        if (cachedTree != null) {
+            parseTreeCache.put(fingerprint, cachedTree);
+        }
+        return result;
+    }
+
     public Expression parseExpression(String expression) {
         if (isSimpleIdentifier(expression)) {
             return new UnboundSlot(expression);
@@ -468,7 +506,12 @@ public class NereidsParser {
     }
 
     private static CommonTokenStream parseAllTokens(String sql) {
+        return parseAllTokens(sql, CommonTokenFactory.DEFAULT);
+    }
+
+    private static CommonTokenStream parseAllTokens(String sql, TokenFactory<?> tokenFactory) {
         DorisLexer lexer = new DorisLexer(new CaseInsensitiveStream(CharStreams.fromString(sql)));
+        lexer.setTokenFactory(tokenFactory);
         CommonTokenStream tokenStream = new CommonTokenStream(lexer);
         tokenStream.fill();
         return tokenStream;
@@ -0,0 +1,290 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.nereids.parser;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.nereids.DorisLexer;
+import org.apache.doris.qe.GlobalVariable;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.collect.Lists;
+import org.antlr.v4.runtime.CharStream;
+import org.antlr.v4.runtime.CommonToken;
+import org.antlr.v4.runtime.CommonTokenStream;
+import org.antlr.v4.runtime.ParserRuleContext;
+import org.antlr.v4.runtime.Token;
+import org.antlr.v4.runtime.TokenFactory;
+import org.antlr.v4.runtime.TokenSource;
+import org.antlr.v4.runtime.misc.Pair;
+import org.antlr.v4.runtime.tree.ErrorNode;
+import org.antlr.v4.runtime.tree.ParseTree;
+import org.antlr.v4.runtime.tree.TerminalNode;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+
+/**
+ * Cache the parse trees of query statements, so the queries which only differ in literals,
+ * eg, the point queries sent by applications, can skip the ANTLR parsing.
+ *
+ * The key is the fingerprint of the tokens, in which the literals, white spaces and comments only
+ * contribute their token types. A cached tree is taken out of the cache exclusively when it is reused,
+ * and all its tokens are rebound to the tokens of the new statement, so the tree reads the new literals,
+ * positions and input stream. When a tree is put back, its tokens are detached from the input stream and
+ * the lexer, so an idle tree does not retain the text of the statement it was parsed from. The logical plan is still built from the tree for every statement,
+ * because the relation ids, expr ids and placeholder ids belong to the statement, and the hints are
+ * applied to the statement context while building the plan.
+ */
+public class ParseTreeCache {
+    public static final TokenFactory<ReusableToken> TOKEN_FACTORY = new ReusableTokenFactory();
+
+    // the estimated bytes of a token, including its terminal node and its share of the rule contexts
+    private static final int ESTIMATED_BYTES_PER_TOKEN = 160;
+
+    private static final ParseTreeCache INSTANCE = new ParseTreeCache(Config.parse_tree_cache_max_bytes);
+
+    // fingerprint -> the idle cached tree
+    private final Cache<String, CachedTree> cache;
+
+    private ParseTreeCache(long maxBytes) {
+        this.cache = CacheBuilder.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher(ParseTreeCache::estimateBytes)
+                .build();
+    }
+
+    public static ParseTreeCache getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Return the fingerprint of the tokens, or null if they are not a single query statement.
+     * The tokens must be created by {@link #TOKEN_FACTORY}.
+     */
+    public static String fingerprint(CommonTokenStream tokenStream) {
+        List<Token> tokens = tokenStream.getTokens();
+        StringBuilder fingerprint = new StringBuilder(tokens.size() * 8);
+        fingerprint.append(GlobalVariable.enable_ansi_query_organization_behavior ? 'A' : 'N');
+        boolean first = true;
+        boolean statementEnded = false;
+        for (Token token : tokens) {
+            int type = token.getType();
+            if (token.getChannel() == Token.DEFAULT_CHANNEL && type != Token.EOF) {
+                if (first && type != DorisLexer.SELECT && type != DorisLexer.WITH) {
+                    return null;
+                }
+                first = false;
+                if (";".equals(token.getText())) {
+                    statementEnded = true;
+                } else if (statementEnded) {
+                    // there are more than one statements
+                    return null;
+                }
+            }
+            switch (type) {
+                case DorisLexer.STRING_LITERAL:
+                case DorisLexer.INTEGER_VALUE:
+                case DorisLexer.DECIMAL_VALUE:
+                case DorisLexer.WS:
+                case DorisLexer.SIMPLE_COMMENT:
+                case DorisLexer.BRACKETED_COMMENT:
+                    // hints are parsed from the statement every time, see NereidsParser.getHintMap
+                    fingerprint.append('\0').append(type);
+                    break;
+                default:
+                    fingerprint.append('\0').append(type).append(':').append(token.getText());
+            }
+        }
+        return first ? null : fingerprint.toString();
+    }
+
+    /**
+     * Take the cached tree out of the cache and rebind it to the tokens, return null if there is no idle one.
+     * The tree should be put back by {@link #put} after it is used.
+     */
+    public CachedTree take(String fingerprint, CommonTokenStream tokenStream) {
+        CachedTree cachedTree = cache.asMap().remove(fingerprint);
+        if (cachedTree != null) {
+            cachedTree.rebind(tokenStream.getTokens());
+        }
+        return cachedTree;
+    }
+
+    public void put(String fingerprint, CachedTree cachedTree) {
+        cachedTree.detach();
+        cache.put(fingerprint, cachedTree);
+    }
+
+    @VisibleForTesting
+    static int estimateBytes(String fingerprint, CachedTree cachedTree) {
+        // the fingerprint contains the text of all the tokens except the literals
+        long bytes = 2L * fingerprint.length()
+                + (long) ESTIMATED_BYTES_PER_TOKEN * (cachedTree.tokens.size() + cachedTree.derivedTokens.size());
+        return (int) Math.min(bytes, Integer.MAX_VALUE);
+    }
+
+    @VisibleForTesting
+    CachedTree getIfPresent(String fingerprint) {
+        return cache.getIfPresent(fingerprint);
+    }
+
+    /**
+     * A parse tree with all the tokens it is parsed from.
+     */
+    public static class CachedTree {
+        private final ParserRuleContext tree;
+        private final List<ReusableToken> tokens;
+        // the tokens created by PostProcessor, which are not in the token stream
+        private final List<ReusableToken> derivedTokens;
+
+        private CachedTree(ParserRuleContext tree, List<ReusableToken> tokens, List<ReusableToken> derivedTokens) {
+            this.tree = tree;
+            this.tokens = tokens;
+            this.derivedTokens = derivedTokens;
+        }
+
+        /**
+         * Return null if some terminal of the tree can not be rebound.
+         */
+        public static CachedTree of(ParserRuleContext tree, CommonTokenStream tokenStream) {
+            List<ReusableToken> tokens = Lists.newArrayListWithCapacity(tokenStream.size());
+            for (Token token : tokenStream.getTokens()) {
+                if (!(token instanceof ReusableToken)) {
+                    return null;
+                }
+                tokens.add((ReusableToken) token);
+            }
+            List<ReusableToken> derivedTokens = Lists.newArrayList();
+            Deque<ParseTree> nodes = new ArrayDeque<>();
+            nodes.push(tree);
+            while (!nodes.isEmpty()) {
+                ParseTree node = nodes.pop();
+                if (node instanceof ErrorNode) {
+                    return null;
+                } else if (node instanceof TerminalNode) {
+                    Token symbol = ((TerminalNode) node).getSymbol();
+                    if (!(symbol instanceof ReusableToken)) {
+                        return null;
+                    }
+                    if (((ReusableToken) symbol).origin != null) {
+                        derivedTokens.add((ReusableToken) symbol);
+                    }
+                } else {
+                    for (int i = 0; i < node.getChildCount(); i++) {
+                        nodes.push(node.getChild(i));
+                    }
+                }
+            }
+            return new CachedTree(tree, tokens, derivedTokens);
+        }
+
+        public ParserRuleContext getTree() {
+            return tree;
+        }
+
+        private void rebind(List<Token> newTokens) {
+            for (int i = 0; i < tokens.size(); i++) {
+                tokens.get(i).rebind((ReusableToken) newTokens.get(i));
+            }
+            for (ReusableToken derivedToken : derivedTokens) {
+                derivedToken.rebindToOrigin();
+            }
+        }
+
+        private void detach() {
+            for (ReusableToken token : tokens) {
+                token.detach();
+            }
+            for (ReusableToken derivedToken : derivedTokens) {
+                derivedToken.detach();
+            }
+        }
+    }
+
+    /**
+     * A token which can be rebound to another token of the same type.
+     */
+    static class ReusableToken extends CommonToken {
+        // the token this one is derived from and the margins stripped from it, see PostProcessor
+        private ReusableToken origin;
+        private int stripMargins;
+
+        ReusableToken(Pair<TokenSource, CharStream> source, int type, int channel, int start, int stop) {
+            super(source, type, channel, start, stop);
+        }
+
+        ReusableToken(int type, String text) {
+            super(type, text);
+        }
+
+        ReusableToken derive(int type, int stripMargins) {
+            ReusableToken derived = new ReusableToken(source, type, channel, start + stripMargins,
+                    stop - stripMargins);
+            derived.origin = this;
+            derived.stripMargins = stripMargins;
+            return derived;
+        }
+
+        private void rebind(ReusableToken other) {
+            source = other.source;
+            text = other.text;
+            start = other.start;
+            stop = other.stop;
+            line = other.line;
+            charPositionInLine = other.charPositionInLine;
+        }
+
+        private void rebindToOrigin() {
+            source = origin.source;
+            start = origin.start + stripMargins;
+            stop = origin.stop - stripMargins;
+        }
+
+        private void detach() {
+            source = EMPTY_SOURCE;
+            // the text of a derived token is set by PostProcessor from a quoted identifier, which is
+            // a part of the fingerprint, so it is kept
+            if (origin == null) {
+                text = null;
+            }
+        }
+    }
+
+    private static class ReusableTokenFactory implements TokenFactory<ReusableToken> {
+        @Override
+        public ReusableToken create(Pair<TokenSource, CharStream> source, int type, String text, int channel,
+                int start, int stop, int line, int charPositionInLine) {
+            ReusableToken token = new ReusableToken(source, type, channel, start, stop);
+            token.setLine(line);
+            token.setCharPositionInLine(charPositionInLine);
+            if (text != null) {
+                token.setText(text);
+            }
+            return token;
+        }
+
+        @Override
+        public ReusableToken create(int type, String text) {
+            return new ReusableToken(type, text);
+        }
+    }
+}
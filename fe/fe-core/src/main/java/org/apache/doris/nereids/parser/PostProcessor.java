@@ -60,6 +60,13 @@ public class PostProcessor extends DorisParserBaseListener {
         ParserRuleContext parent = ctx.getParent();
         parent.removeLastChild();
         Token token = (Token) (ctx.getChild(0).getPayload());
+        if (token instanceof ParseTreeCache.ReusableToken) {
+            // derive from the origin token, so the new token can be rebound with it when the tree is cached
+            ParseTreeCache.ReusableToken newToken = ((ParseTreeCache.ReusableToken) token)
+                    .derive(DorisParser.IDENTIFIER, stripMargins);
+            parent.addChild(new TerminalNodeImpl(f.apply(newToken)));
+            return;
+        }
         CommonToken newToken = new CommonToken(
                 new org.antlr.v4.runtime.misc.Pair<>(token.getTokenSource(), token.getInputStream()),
                 DorisParser.IDENTIFIER,
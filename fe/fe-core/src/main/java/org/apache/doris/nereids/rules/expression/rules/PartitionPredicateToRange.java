@@ -54,6 +54,8 @@ import java.util.Set;
 public class PartitionPredicateToRange extends DefaultExpressionVisitor<RangeSet<MultiColumnBound>, Void> {
     private List<Slot> columns;
     private Set<Integer> slotIds;
+    // the bounds of multi columns can only express a superset of the values of the other columns
+    private boolean exact;
 
     /** PartitionPredicateToRange */
     public PartitionPredicateToRange(List<Slot> columns) {
@@ -66,6 +68,15 @@ public class PartitionPredicateToRange extends DefaultExpressionVisitor<RangeSet
             slotIds.add(column.getExprId().asInt());
         }
         this.slotIds = slotIds.build();
+        this.exact = columns.size() == 1;
+    }
+
+    /**
+     * Whether the ranges returned by the last visit accept exactly the same values as the predicate,
+     * otherwise they are only a superset of the values.
+     */
+    public boolean isExact() {
+        return exact;
     }
 
     @Override
@@ -78,6 +89,7 @@ public class PartitionPredicateToRange extends DefaultExpressionVisitor<RangeSet
             // if some conjunct not supported, just skip it safety because the big ranges contains
             // all partitions the predicates need
             if (childRanges == null) {
+                exact = false;
                 continue;
             } else if (first) {
                 first = false;
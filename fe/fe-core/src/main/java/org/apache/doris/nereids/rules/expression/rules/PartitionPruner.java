@@ -149,12 +149,12 @@ public class PartitionPruner extends DefaultExpressionRewriter<Void> {
         }
 
         if (sortedPartitionRanges.isPresent()) {
-            RangeSet<MultiColumnBound> predicateRanges = partitionPredicate.accept(
-                    new PartitionPredicateToRange(partitionSlots), null);
+            PartitionPredicateToRange predicateToRange = new PartitionPredicateToRange(partitionSlots);
+            RangeSet<MultiColumnBound> predicateRanges = partitionPredicate.accept(predicateToRange, null);
             if (predicateRanges != null) {
                 return binarySearchFiltering(
                         sortedPartitionRanges.get(), partitionSlots, partitionPredicate, cascadesContext,
-                        expandThreshold, predicateRanges
+                        expandThreshold, predicateRanges, predicateToRange.isExact()
                 );
             }
         }
@@ -183,47 +183,36 @@ public class PartitionPruner extends DefaultExpressionRewriter<Void> {
     private static <K extends Comparable<K>> List<K> binarySearchFiltering(
             SortedPartitionRanges<K> sortedPartitionRanges, List<Slot> partitionSlots,
             Expression partitionPredicate, CascadesContext cascadesContext, int expandThreshold,
-            RangeSet<MultiColumnBound> predicateRanges) {
+            RangeSet<MultiColumnBound> predicateRanges, boolean exactPredicateRanges) {
         List<PartitionItemAndRange<K>> sortedPartitions = sortedPartitionRanges.sortedPartitions;
 
         Set<K> selectedIdSets = Sets.newTreeSet();
-        int leftIndex = 0;
+        // list partition will expand to multiple PartitionItemAndRange, we should skip evaluate it again
+        Set<K> evaluatedIdSets = Sets.newHashSet();
         for (Range<MultiColumnBound> predicateRange : predicateRanges.asRanges()) {
-            int rightIndex = sortedPartitions.size();
-            if (leftIndex >= rightIndex) {
-                break;
-            }
-
-            int midIndex;
             MultiColumnBound predicateUpperBound = predicateRange.upperEndpoint();
-            MultiColumnBound predicateLowerBound = predicateRange.lowerEndpoint();
-
-            while (leftIndex + 1 < rightIndex) {
-                midIndex = (leftIndex + rightIndex) / 2;
-                PartitionItemAndRange<K> partition = sortedPartitions.get(midIndex);
+            int index = sortedPartitionRanges.firstIndexMayOverlap(predicateRange.lowerEndpoint());
+            for (; index < sortedPartitions.size(); index++) {
+                PartitionItemAndRange<K> partition = sortedPartitions.get(index);
                 Range<MultiColumnBound> partitionSpan = partition.range;
-
                 if (predicateUpperBound.compareTo(partitionSpan.lowerEndpoint()) < 0) {
-                    rightIndex = midIndex;
-                } else if (predicateLowerBound.compareTo(partitionSpan.upperEndpoint()) > 0) {
-                    leftIndex = midIndex;
-                } else {
                     break;
                 }
-            }
-
-            for (; leftIndex < sortedPartitions.size(); leftIndex++) {
-                PartitionItemAndRange<K> partition = sortedPartitions.get(leftIndex);
 
                 K partitionId = partition.id;
-                // list partition will expand to multiple PartitionItemAndRange, we should skip evaluate it again
-                if (selectedIdSets.contains(partitionId)) {
+                if (evaluatedIdSets.contains(partitionId)) {
                     continue;
                 }
-
-                Range<MultiColumnBound> partitionSpan = partition.range;
-                if (predicateUpperBound.compareTo(partitionSpan.lowerEndpoint()) < 0) {
-                    break;
+                if (!predicateRange.isConnected(partitionSpan)
+                        || predicateRange.intersection(partitionSpan).isEmpty()) {
+                    // this partition may overlap the next predicate ranges, should not mark it as evaluated
+                    continue;
+                }
+                evaluatedIdSets.add(partitionId);
+                // all the values of this partition satisfy the predicate, no need to evaluate it
+                if (exactPredicateRanges && predicateRange.encloses(partitionSpan)) {
+                    selectedIdSets.add(partitionId);
+                    continue;
                 }
 
                 OnePartitionEvaluator<K> partitionEvaluator = toPartitionEvaluator(
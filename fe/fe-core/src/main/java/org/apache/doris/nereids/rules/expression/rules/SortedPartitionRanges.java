@@ -29,6 +29,9 @@ import java.util.Objects;
 public class SortedPartitionRanges<K> {
     public final List<PartitionItemAndRange<K>> sortedPartitions;
     public final List<PartitionItemAndId<K>> defaultPartitions;
+    // maxUpperBounds[i] is the max upper bound of sortedPartitions[0..i], it is not decreasing even if
+    // the partition ranges overlap, so we can binary search the first partition which may overlap a range
+    private final MultiColumnBound[] maxUpperBounds;
 
     /** SortedPartitionRanges */
     public SortedPartitionRanges(
@@ -39,6 +42,33 @@ public class SortedPartitionRanges<K> {
         this.defaultPartitions = Utils.fastToImmutableList(
                 Objects.requireNonNull(defaultPartitions, "defaultPartitions bounds can not be null")
         );
+        this.maxUpperBounds = new MultiColumnBound[this.sortedPartitions.size()];
+        MultiColumnBound maxUpperBound = null;
+        for (int i = 0; i < maxUpperBounds.length; i++) {
+            MultiColumnBound upperBound = this.sortedPartitions.get(i).range.upperEndpoint();
+            if (maxUpperBound == null || upperBound.compareTo(maxUpperBound) > 0) {
+                maxUpperBound = upperBound;
+            }
+            maxUpperBounds[i] = maxUpperBound;
+        }
+    }
+
+    /**
+     * Return the index of the first sorted partition which may contain the values not less than the lowerBound,
+     * all the partitions before it end before the lowerBound.
+     */
+    public int firstIndexMayOverlap(MultiColumnBound lowerBound) {
+        int left = 0;
+        int right = maxUpperBounds.length;
+        while (left < right) {
+            int mid = (left + right) >>> 1;
+            if (maxUpperBounds[mid].compareTo(lowerBound) < 0) {
+                left = mid + 1;
+            } else {
+                right = mid;
+            }
+        }
+        return left;
     }
 
     /** PartitionItemAndRange */
@@ -19,12 +19,14 @@ package org.apache.doris.nereids.rules.rewrite;
 
 import org.apache.doris.catalog.Column;
 import org.apache.doris.catalog.OlapTable;
+import org.apache.doris.common.Config;
 import org.apache.doris.nereids.StatementContext;
 import org.apache.doris.nereids.rules.Rule;
 import org.apache.doris.nereids.rules.RuleType;
 import org.apache.doris.nereids.trees.expressions.Cast;
 import org.apache.doris.nereids.trees.expressions.EqualTo;
 import org.apache.doris.nereids.trees.expressions.Expression;
+import org.apache.doris.nereids.trees.expressions.InPredicate;
 import org.apache.doris.nereids.trees.expressions.SlotReference;
 import org.apache.doris.nereids.trees.plans.Plan;
 import org.apache.doris.nereids.trees.plans.logical.LogicalFilter;
@@ -39,7 +41,7 @@ import java.util.Set;
 
 /**
  * short circuit query optimization
- * pattern : select xxx from tbl where key = ?
+ * pattern : select xxx from tbl where key = ? or key in (?, ?)
  */
 public class LogicalResultSinkToShortCircuitPointQuery implements RewriteRuleFactory {
 
@@ -51,13 +53,38 @@ public class LogicalResultSinkToShortCircuitPointQuery implements RewriteRuleFac
     }
 
     private boolean filterMatchShortCircuitCondition(LogicalFilter<LogicalOlapScan> filter) {
-        return filter.getConjuncts().stream().allMatch(
-                // all conjuncts match with pattern `key = ?`
-                expression -> (expression instanceof EqualTo)
-                        && (removeCast(expression.child(0)).isKeyColumnFromTable()
+        long keyNum = 1;
+        boolean hasInPredicate = false;
+        for (Expression expression : filter.getConjuncts()) {
+            // all conjuncts match with pattern `key = ?` or `key in (?, ?)`
+            if (expression instanceof EqualTo) {
+                if (!(removeCast(expression.child(0)).isKeyColumnFromTable()
                         || (expression.child(0) instanceof SlotReference
                         && ((SlotReference) expression.child(0)).getName().equals(Column.DELETE_SIGN)))
-                        && expression.child(1).isLiteral());
+                        || !expression.child(1).isLiteral()) {
+                    return false;
+                }
+            } else if (expression instanceof InPredicate) {
+                InPredicate inPredicate = (InPredicate) expression;
+                if (!removeCast(inPredicate.getCompareExpr()).isKeyColumnFromTable()
+                        || !inPredicate.optionsAreLiterals()) {
+                    return false;
+                }
+                hasInPredicate = true;
+                keyNum *= inPredicate.getOptions().size();
+                if (keyNum > Config.max_point_query_batch_keys) {
+                    return false;
+                }
+            } else {
+                return false;
+            }
+        }
+        if (!hasInPredicate) {
+            return true;
+        }
+        // the prepared statement only replaces the values of `key = ?` when executing
+        StatementContext statementContext = ConnectContext.get().getStatementContext();
+        return statementContext == null || statementContext.getIdToPlaceholderRealExpr().isEmpty();
     }
 
     private boolean scanMatchShortCircuitCondition(LogicalOlapScan olapScan) {
@@ -0,0 +1,212 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.nereids.rules.rewrite;
+
+import org.apache.doris.catalog.Column;
+import org.apache.doris.datasource.jdbc.JdbcExternalCatalog;
+import org.apache.doris.datasource.jdbc.JdbcExternalTable;
+import org.apache.doris.datasource.jdbc.client.JdbcClientException;
+import org.apache.doris.nereids.StatementContext;
+import org.apache.doris.nereids.jobs.JobContext;
+import org.apache.doris.nereids.trees.expressions.Expression;
+import org.apache.doris.nereids.trees.expressions.GreaterThanEqual;
+import org.apache.doris.nereids.trees.expressions.IsNull;
+import org.apache.doris.nereids.trees.expressions.LessThan;
+import org.apache.doris.nereids.trees.expressions.Slot;
+import org.apache.doris.nereids.trees.expressions.SlotReference;
+import org.apache.doris.nereids.trees.expressions.StatementScopeIdGenerator;
+import org.apache.doris.nereids.trees.expressions.literal.Literal;
+import org.apache.doris.nereids.trees.plans.Plan;
+import org.apache.doris.nereids.trees.plans.algebra.SetOperation.Qualifier;
+import org.apache.doris.nereids.trees.plans.logical.LogicalFilter;
+import org.apache.doris.nereids.trees.plans.logical.LogicalJdbcScan;
+import org.apache.doris.nereids.trees.plans.logical.LogicalUnion;
+import org.apache.doris.nereids.trees.plans.visitor.CustomRewriter;
+import org.apache.doris.nereids.trees.plans.visitor.DefaultPlanRewriter;
+import org.apache.doris.nereids.types.DataType;
+import org.apache.doris.thrift.TOdbcTableType;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Split the scan of a jdbc catalog table into several range scans on an integer column,
+ * so that the remote table can be read by several backends concurrently.
+ * It only takes effect when the catalog property scan_split_num is greater than 1.
+ *
+ * LogicalJdbcScan(t)
+ * ->
+ * LogicalUnion(all)
+ *   +--LogicalFilter(k < b1)
+ *     +--LogicalJdbcScan(t)
+ *   +--LogicalFilter(k >= b1 and k < b2)
+ *     +--LogicalJdbcScan(t)
+ *   +--LogicalFilter(k >= b2)
+ *     +--LogicalJdbcScan(t)
+ *   +--LogicalFilter(k is null)
+ *     +--LogicalJdbcScan(t)
+ *
+ * The boundaries are computed from the min and max value of the split column, the first and the last
+ * range are open so that the rows out of the cached [min, max] are still read.
+ * Note that the range scans are separate queries on the remote database, so they do not read one consistent
+ * snapshot of the remote table: a row which is updated or moved between ranges while they run may be read
+ * twice or missed, just like reading the table by several independent queries.
+ *
+ * The number of range scans which are running on a catalog at the same time is bounded by scan_split_num,
+ * see {@link JdbcExternalCatalog#acquireSplitScans}. A scan is split into fewer ranges or not split at all
+ * if the other statements have used up the budget, and the range scans are released when the statement
+ * is closed.
+ * Only the tables with a split column specified by catalog property scan_split_columns are split, because
+ * the min and max value of the column are read from the remote table, which is only cheap on an indexed column.
+ * The values are cached by the catalog, see {@link JdbcExternalCatalog#getColumnMinMax}.
+ */
+public class SplitJdbcScan extends DefaultPlanRewriter<StatementContext> implements CustomRewriter {
+    private static final Logger LOG = LogManager.getLogger(SplitJdbcScan.class);
+
+    @Override
+    public Plan rewriteRoot(Plan plan, JobContext jobContext) {
+        if (!plan.containsType(LogicalJdbcScan.class)) {
+            return plan;
+        }
+        return plan.accept(this, jobContext.getCascadesContext().getStatementContext());
+    }
+
+    @Override
+    public Plan visitLogicalJdbcScan(LogicalJdbcScan jdbcScan, StatementContext context) {
+        if (!(jdbcScan.getTable() instanceof JdbcExternalTable) || context.isSplitJdbcScan(jdbcScan.getRelationId())) {
+            return jdbcScan;
+        }
+        JdbcExternalTable table = (JdbcExternalTable) jdbcScan.getTable();
+        JdbcExternalCatalog catalog = (JdbcExternalCatalog) table.getCatalog();
+        int splitNum = catalog.getScanSplitNum();
+        if (splitNum <= 1) {
+            return jdbcScan;
+        }
+        int splitSlotIndex = findSplitSlotIndex(jdbcScan, catalog, table);
+        if (splitSlotIndex < 0) {
+            return jdbcScan;
+        }
+        SlotReference splitSlot = (SlotReference) jdbcScan.getOutput().get(splitSlotIndex);
+        long[] minMax;
+        try {
+            TOdbcTableType tableType = table.getJdbcTable().getJdbcTableType();
+            minMax = catalog.getColumnMinMax(table.getJdbcTable().getProperRemoteFullTableName(tableType),
+                    table.getJdbcTable().getProperRemoteColumnName(tableType, splitSlot.getName()));
+        } catch (JdbcClientException e) {
+            LOG.warn("failed to get min and max value of {}.{}, do not split the scan",
+                    table.getNameWithFullQualifiers(), splitSlot.getName(), e);
+            return jdbcScan;
+        }
+        if (minMax == null) {
+            return jdbcScan;
+        }
+        int acquiredNum = catalog.acquireSplitScans(context, splitNum);
+        // the range of null values is also a range scan
+        int rangeNum = splitSlot.nullable() ? acquiredNum - 1 : acquiredNum;
+        List<Long> boundaries = computeBoundaries(minMax[0], minMax[1], rangeNum);
+        if (boundaries.isEmpty()) {
+            catalog.releaseSplitScans(context, acquiredNum);
+            return jdbcScan;
+        }
+        int scanNum = boundaries.size() + 1 + (splitSlot.nullable() ? 1 : 0);
+        catalog.releaseSplitScans(context, acquiredNum - scanNum);
+
+        DataType splitType = splitSlot.getDataType();
+        List<Plan> children = new ArrayList<>();
+        for (int i = 0; i <= boundaries.size(); i++) {
+            LogicalJdbcScan child = newChildScan(jdbcScan, context);
+            Slot slot = child.getOutput().get(splitSlotIndex);
+            ImmutableSet.Builder<Expression> conjuncts = ImmutableSet.builder();
+            if (i > 0) {
+                conjuncts.add(new GreaterThanEqual(slot,
+                        Literal.convertToTypedLiteral(boundaries.get(i - 1), splitType)));
+            }
+            if (i < boundaries.size()) {
+                conjuncts.add(new LessThan(slot, Literal.convertToTypedLiteral(boundaries.get(i), splitType)));
+            }
+            children.add(new LogicalFilter<>(conjuncts.build(), child));
+        }
+        if (splitSlot.nullable()) {
+            LogicalJdbcScan child = newChildScan(jdbcScan, context);
+            children.add(new LogicalFilter<>(
+                    ImmutableSet.of(new IsNull(child.getOutput().get(splitSlotIndex))), child));
+        }
+
+        List<List<SlotReference>> childrenOutputs = children.stream()
+                .map(c -> c.getOutput().stream()
+                        .map(SlotReference.class::cast)
+                        .collect(ImmutableList.toImmutableList()))
+                .collect(ImmutableList.toImmutableList());
+        return new LogicalUnion(Qualifier.ALL, new ArrayList<>(jdbcScan.getOutput()),
+                childrenOutputs, ImmutableList.of(), false, children);
+    }
+
+    private LogicalJdbcScan newChildScan(LogicalJdbcScan jdbcScan, StatementContext context) {
+        LogicalJdbcScan child = new LogicalJdbcScan(StatementScopeIdGenerator.newRelationId(),
+                jdbcScan.getTable(), jdbcScan.getQualifier());
+        context.addSplitJdbcScanRelationId(child.getRelationId());
+        return child;
+    }
+
+    private int findSplitSlotIndex(LogicalJdbcScan jdbcScan, JdbcExternalCatalog catalog, JdbcExternalTable table) {
+        String splitColumn = catalog.getScanSplitColumnMap().get(table.getDbName() + "." + table.getName());
+        if (splitColumn == null) {
+            return -1;
+        }
+        List<Slot> output = jdbcScan.getOutput();
+        for (int i = 0; i < output.size(); i++) {
+            SlotReference slot = (SlotReference) output.get(i);
+            Optional<Column> column = slot.getOriginalColumn();
+            if (column.isPresent() && slot.getDataType().isIntegerLikeType()
+                    && column.get().getName().equalsIgnoreCase(splitColumn)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Compute the boundaries which split [min, max] into at most splitNum ranges of the same width.
+     * Return an empty list if the values can not be split.
+     */
+    public static List<Long> computeBoundaries(long min, long max, int splitNum) {
+        long count;
+        try {
+            count = Math.addExact(Math.subtractExact(max, min), 1);
+        } catch (ArithmeticException e) {
+            return ImmutableList.of();
+        }
+        int num = (int) Math.min(splitNum, count);
+        if (num <= 1) {
+            return ImmutableList.of();
+        }
+        long step = count / num + (count % num == 0 ? 0 : 1);
+        ImmutableList.Builder<Long> boundaries = ImmutableList.builder();
+        for (long i = 1; i < num && i <= (count - 1) / step; i++) {
+            boundaries.add(min + i * step);
+        }
+        return boundaries.build();
+    }
+}
@@ -17,6 +17,8 @@
 
 package org.apache.doris.nereids.stats;
 
+import org.apache.doris.common.Config;
+
 /**
  * Global service for hbo plan stats. manager, including:
  * - HboPlanStatisticsProvider instance: hbo plan stats. cache
@@ -27,10 +29,23 @@ public class HboPlanStatisticsManager {
     private HboPlanInfoProvider hboPlanInfoProvider;
 
     public HboPlanStatisticsManager() {
-        hboPlanStatisticsProvider = new MemoryHboPlanStatisticsProvider();
+        if (Config.enable_hbo_plan_stats_persist) {
+            hboPlanStatisticsProvider = new PersistentHboPlanStatisticsProvider(Config.meta_dir + "/hbo");
+        } else {
+            hboPlanStatisticsProvider = new MemoryHboPlanStatisticsProvider();
+        }
         hboPlanInfoProvider = new HboPlanInfoProvider();
     }
 
+    /**
+     * Warm up the persisted plan stats. if enabled.
+     */
+    public void start() {
+        if (hboPlanStatisticsProvider instanceof PersistentHboPlanStatisticsProvider) {
+            ((PersistentHboPlanStatisticsProvider) hboPlanStatisticsProvider).start();
+        }
+    }
+
     public HboPlanStatisticsProvider getHboPlanStatisticsProvider() {
         return hboPlanStatisticsProvider;
     }
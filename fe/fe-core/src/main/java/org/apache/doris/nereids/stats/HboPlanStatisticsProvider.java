@@ -34,4 +34,6 @@ public interface HboPlanStatisticsProvider {
     void putHboPlanStats(Map<PlanNodeAndHash, RecentRunsPlanStatistics> hashesAndStatistics);
 
     void updatePlanStats(PlanNodeAndHash hash, RecentRunsPlanStatistics planStatistics);
+
+    void updatePlanStats(String planHash, RecentRunsPlanStatistics planStatistics);
 }
@@ -22,7 +22,6 @@ import org.apache.doris.common.ClientPool;
 import org.apache.doris.common.Config;
 import org.apache.doris.common.ConfigBase.DefaultConfHandler;
 import org.apache.doris.nereids.trees.plans.PlanNodeAndHash;
-import org.apache.doris.persist.gson.GsonUtils;
 import org.apache.doris.statistics.hbo.RecentRunsPlanStatistics;
 import org.apache.doris.system.Frontend;
 import org.apache.doris.system.SystemInfoService;
@@ -32,11 +31,18 @@ import org.apache.doris.thrift.TUpdatePlanStatsCacheRequest;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.collect.ImmutableMap;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.lang.reflect.Field;
 import java.time.Duration;
+import java.util.Base64;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -88,18 +94,37 @@ public class MemoryHboPlanStatisticsProvider implements HboPlanStatisticsProvide
 
     @Override
     public void updatePlanStats(PlanNodeAndHash hash, RecentRunsPlanStatistics planStatistics) {
-        hboPlanStatsCache.put(hash.getHash().get(), planStatistics);
+        updatePlanStats(hash.getHash().get(), planStatistics);
+    }
+
+    @Override
+    public void updatePlanStats(String planHash, RecentRunsPlanStatistics planStatistics) {
+        hboPlanStatsCache.put(planHash, planStatistics);
+    }
+
+    protected Map<String, RecentRunsPlanStatistics> getAllHboPlanStats() {
+        return ImmutableMap.copyOf(hboPlanStatsCache.asMap());
     }
 
     /**
      * sync hbo plan stats to other fe client.
+     * The key is the plan hash and the plan stats data is encoded by {@link #encodePlanStats}, because
+     * the plan node and the scan node referenced by the stats can not be sent to other fe.
      * @param planKey planKey
      * @param planStatsData planStatsData
      */
     public void syncHboPlanStats(PlanNodeAndHash planKey, RecentRunsPlanStatistics planStatsData) {
+        if (!planKey.getHash().isPresent()) {
+            return;
+        }
         TUpdatePlanStatsCacheRequest updateFollowerPlanStatsCacheRequest = new TUpdatePlanStatsCacheRequest();
-        updateFollowerPlanStatsCacheRequest.key = GsonUtils.GSON.toJson(planKey);
-        updateFollowerPlanStatsCacheRequest.planStatsData = GsonUtils.GSON.toJson(planStatsData);
+        updateFollowerPlanStatsCacheRequest.key = planKey.getHash().get();
+        try {
+            updateFollowerPlanStatsCacheRequest.planStatsData = encodePlanStats(planStatsData);
+        } catch (IOException e) {
+            LOG.warn("Failed to encode plan stats of {}", planKey.getHash().get(), e);
+            return;
+        }
         SystemInfoService.HostInfo selfNode = Env.getCurrentEnv().getSelfNode();
         for (Frontend frontend : Env.getCurrentEnv().getFrontends(null)) {
             if (selfNode.getHost().equals(frontend.getHost())) {
@@ -124,6 +149,27 @@ public class MemoryHboPlanStatisticsProvider implements HboPlanStatisticsProvide
         }
     }
 
+    public static String encodePlanStats(RecentRunsPlanStatistics planStatsData) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        try (DataOutputStream dos = new DataOutputStream(bos)) {
+            planStatsData.write(dos);
+        }
+        return Base64.getEncoder().encodeToString(bos.toByteArray());
+    }
+
+    public static RecentRunsPlanStatistics decodePlanStats(String planStatsData) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Base64.getDecoder().decode(planStatsData);
+        } catch (IllegalArgumentException e) {
+            // sent by fe of old version
+            throw new IOException("invalid plan stats data", e);
+        }
+        try (DataInputStream dis = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            return RecentRunsPlanStatistics.read(dis);
+        }
+    }
+
     private static Cache<String, RecentRunsPlanStatistics> buildHboPlanStatsCaches(
             int cacheNum, long expireAfterAccessSeconds) {
         Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder()
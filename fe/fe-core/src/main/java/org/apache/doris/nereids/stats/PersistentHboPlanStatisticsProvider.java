@@ -0,0 +1,150 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.nereids.stats;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.common.io.Text;
+import org.apache.doris.common.util.Daemon;
+import org.apache.doris.nereids.trees.plans.PlanNodeAndHash;
+import org.apache.doris.statistics.hbo.RecentRunsPlanStatistics;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * HboPlanStatisticsProvider which keeps the plan stats. in memory like MemoryHboPlanStatisticsProvider,
+ * and periodically saves them to a local file, which is loaded when frontend starts.
+ * The plan stats. of all frontends are kept the same by syncHboPlanStats, so each frontend only needs to
+ * persist its own copy.
+ */
+public class PersistentHboPlanStatisticsProvider extends MemoryHboPlanStatisticsProvider {
+    private static final Logger LOG = LogManager.getLogger(PersistentHboPlanStatisticsProvider.class);
+
+    private static final int MAGIC = 0x4842_4F31;
+    private static final int VERSION = 1;
+
+    private final File storeFile;
+    // whether there are plan stats. not saved yet
+    private final AtomicBoolean dirty = new AtomicBoolean(false);
+    private final AtomicBoolean started = new AtomicBoolean(false);
+    private final Daemon persistDaemon;
+
+    public PersistentHboPlanStatisticsProvider(String storeDir) {
+        this.storeFile = new File(storeDir, "plan_stats");
+        this.persistDaemon = new Daemon("hbo-plan-stats-persist",
+                Config.hbo_plan_stats_persist_interval_second * 1000L) {
+            @Override
+            protected void runOneCycle() {
+                setInterval(Math.max(1, Config.hbo_plan_stats_persist_interval_second) * 1000L);
+                save();
+            }
+        };
+    }
+
+    /**
+     * Load the persisted plan stats. and start to persist them periodically.
+     */
+    public void start() {
+        if (!started.compareAndSet(false, true)) {
+            return;
+        }
+        load();
+        persistDaemon.start();
+    }
+
+    @Override
+    public void putHboPlanStats(Map<PlanNodeAndHash, RecentRunsPlanStatistics> hashStatisticsMap) {
+        super.putHboPlanStats(hashStatisticsMap);
+        dirty.set(true);
+    }
+
+    @Override
+    public void updatePlanStats(String planHash, RecentRunsPlanStatistics planStatistics) {
+        super.updatePlanStats(planHash, planStatistics);
+        dirty.set(true);
+    }
+
+    @VisibleForTesting
+    void load() {
+        if (!storeFile.exists()) {
+            return;
+        }
+        int num = 0;
+        try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(storeFile)))) {
+            int magic = dis.readInt();
+            int version = dis.readInt();
+            if (magic != MAGIC || version != VERSION) {
+                LOG.warn("ignore hbo plan stats file {} with magic {} and version {}", storeFile, magic, version);
+                return;
+            }
+            int size = dis.readInt();
+            for (; num < size; num++) {
+                String planHash = Text.readString(dis);
+                super.updatePlanStats(planHash, RecentRunsPlanStatistics.read(dis));
+            }
+            LOG.info("loaded {} hbo plan stats from {}", num, storeFile);
+        } catch (IOException e) {
+            // the plan stats are only used to improve the plan, a broken file should not prevent fe from starting
+            LOG.warn("failed to load hbo plan stats from {}, {} loaded", storeFile, num, e);
+        }
+    }
+
+    @VisibleForTesting
+    void save() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        Map<String, RecentRunsPlanStatistics> allPlanStats = getAllHboPlanStats();
+        File tmpFile = new File(storeFile.getParentFile(), storeFile.getName() + ".tmp");
+        try {
+            Files.createDirectories(storeFile.getParentFile().toPath());
+            try (DataOutputStream dos = new DataOutputStream(
+                    new BufferedOutputStream(new FileOutputStream(tmpFile)))) {
+                dos.writeInt(MAGIC);
+                dos.writeInt(VERSION);
+                dos.writeInt(allPlanStats.size());
+                for (Map.Entry<String, RecentRunsPlanStatistics> entry : allPlanStats.entrySet()) {
+                    Text.writeString(dos, entry.getKey());
+                    entry.getValue().write(dos);
+                }
+            }
+            Files.move(tmpFile.toPath(), storeFile.toPath(),
+                    StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("saved {} hbo plan stats to {}", allPlanStats.size(), storeFile);
+            }
+        } catch (IOException e) {
+            dirty.set(true);
+            LOG.warn("failed to save hbo plan stats to {}", storeFile, e);
+        }
+    }
+}
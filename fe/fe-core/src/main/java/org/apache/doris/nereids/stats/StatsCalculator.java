@@ -590,6 +590,11 @@ public class StatsCalculator extends DefaultPlanVisitor<Statistics, Void> {
                 builder.putColumnStatistics(slot, ColumnStatistic.UNKNOWN);
             }
         }
+        List<String> visibleColumnNames = visibleOutputSlots.stream()
+                .map(SlotReference::getName)
+                .collect(Collectors.toList());
+        // load the stats of all the uncached columns by one query, instead of one query per column
+        olapTableStats.prefetchColumnStatistics(visibleColumnNames, connectContext);
 
         if (!isRegisteredRowCount(olapScan)
                 && olapScan.getSelectedPartitionIds().size() < olapScan.getTable().getPartitionNum()) {
@@ -602,6 +607,10 @@ public class StatsCalculator extends DefaultPlanVisitor<Statistics, Void> {
             });
             boolean enablePartitionStatics = connectContext != null
                     && connectContext.getSessionVariable().enablePartitionAnalyze;
+            if (enablePartitionStatics) {
+                olapTableStats.prefetchPartitionColumnStatistics(
+                        selectedPartitionNames, visibleColumnNames, connectContext);
+            }
             for (SlotReference slot : visibleOutputSlots) {
                 ColumnStatistic cache;
                 if (enablePartitionStatics) {
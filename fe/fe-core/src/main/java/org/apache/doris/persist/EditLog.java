@@ -147,6 +147,8 @@ public class EditLog {
 
 
     private AtomicLong numTransactions = new AtomicLong(0);
+    // number of written journals which modify the metadata, OP_TIMESTAMP is excluded
+    private final AtomicLong numMetaModifications = new AtomicLong(0);
     private AtomicLong totalTimeTransactions = new AtomicLong(0);
     private Journal journal;
 
@@ -246,6 +248,14 @@ public class EditLog {
         return journal.getMaxJournalId();
     }
 
+    /**
+     * Return the number of journals written by this FE which modify the metadata.
+     * Unlike getMaxJournalId(), it's cheap and not changed by the periodic OP_TIMESTAMP.
+     */
+    public long getNumMetaModifications() {
+        return numMetaModifications.get();
+    }
+
     public long getMinJournalId() {
         return journal.getMinJournalId();
     }
@@ -1476,6 +1486,7 @@ public class EditLog {
             journal.write(batch);
         }
         txId += entries.size();
+        numMetaModifications.addAndGet(entries.size());
     }
 
     /**
@@ -1559,6 +1570,9 @@ public class EditLog {
         long end = System.currentTimeMillis();
         numTransactions.incrementAndGet();
         totalTimeTransactions.addAndGet(end - start);
+        if (op != OperationType.OP_TIMESTAMP) {
+            numMetaModifications.incrementAndGet();
+        }
         if (MetricRepo.isInit) {
             MetricRepo.HISTO_EDIT_LOG_WRITE_LATENCY.update((end - start));
             MetricRepo.COUNTER_EDIT_LOG_CURRENT.increase(1L);
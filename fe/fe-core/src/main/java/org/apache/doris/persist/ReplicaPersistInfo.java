@@ -19,6 +19,10 @@ package org.apache.doris.persist;
 
 import org.apache.doris.common.io.Text;
 import org.apache.doris.common.io.Writable;
+import org.apache.doris.persist.binary.BinaryDecoder;
+import org.apache.doris.persist.binary.BinaryEncoder;
+import org.apache.doris.persist.binary.BinaryPersistUtils;
+import org.apache.doris.persist.binary.BinaryPersistable;
 import org.apache.doris.persist.gson.GsonPostProcessable;
 import org.apache.doris.persist.gson.GsonUtils;
 
@@ -28,7 +32,7 @@ import java.io.DataInput;
 import java.io.DataOutput;
 import java.io.IOException;
 
-public class ReplicaPersistInfo implements Writable, GsonPostProcessable {
+public class ReplicaPersistInfo implements Writable, GsonPostProcessable, BinaryPersistable {
 
     public enum ReplicaOperationType {
         ADD(0),
@@ -306,7 +310,7 @@ public class ReplicaPersistInfo implements Writable, GsonPostProcessable {
     }
 
     public static ReplicaPersistInfo read(DataInput in) throws IOException {
-        return GsonUtils.GSON.fromJson(Text.readString(in), ReplicaPersistInfo.class);
+        return BinaryPersistUtils.read(in, ReplicaPersistInfo.class, ReplicaPersistInfo::readBinary);
     }
 
     @Override
@@ -314,6 +318,96 @@ public class ReplicaPersistInfo implements Writable, GsonPostProcessable {
         Text.writeString(out, GsonUtils.GSON.toJson(this));
     }
 
+    // field ids of binary format, never change or reuse them
+    private static final int FIELD_OP_TYPE = 1;
+    private static final int FIELD_DB_ID = 2;
+    private static final int FIELD_TABLE_ID = 3;
+    private static final int FIELD_PARTITION_ID = 4;
+    private static final int FIELD_INDEX_ID = 5;
+    private static final int FIELD_TABLET_ID = 6;
+    private static final int FIELD_REPLICA_ID = 7;
+    private static final int FIELD_BACKEND_ID = 8;
+    private static final int FIELD_VERSION = 9;
+    private static final int FIELD_SCHEMA_HASH = 10;
+    private static final int FIELD_DATA_SIZE = 11;
+    private static final int FIELD_ROW_COUNT = 12;
+    private static final int FIELD_LAST_FAILED_VERSION = 13;
+    private static final int FIELD_LAST_SUCCESS_VERSION = 14;
+
+    @Override
+    public void writeBinary(BinaryEncoder encoder) throws IOException {
+        encoder.writeInt(FIELD_OP_TYPE, opType.getValue());
+        encoder.writeLong(FIELD_DB_ID, dbId);
+        encoder.writeLong(FIELD_TABLE_ID, tableId);
+        encoder.writeLong(FIELD_PARTITION_ID, partitionId);
+        encoder.writeLong(FIELD_INDEX_ID, indexId);
+        encoder.writeLong(FIELD_TABLET_ID, tabletId);
+        encoder.writeLong(FIELD_REPLICA_ID, replicaId);
+        encoder.writeLong(FIELD_BACKEND_ID, backendId);
+        encoder.writeLong(FIELD_VERSION, version);
+        encoder.writeInt(FIELD_SCHEMA_HASH, schemaHash);
+        encoder.writeLong(FIELD_DATA_SIZE, dataSize);
+        encoder.writeLong(FIELD_ROW_COUNT, rowCount);
+        encoder.writeLong(FIELD_LAST_FAILED_VERSION, lastFailedVersion);
+        encoder.writeLong(FIELD_LAST_SUCCESS_VERSION, lastSuccessVersion);
+    }
+
+    private static ReplicaPersistInfo readBinary(BinaryDecoder decoder) throws IOException {
+        ReplicaPersistInfo info = new ReplicaPersistInfo();
+        int fieldId;
+        while ((fieldId = decoder.nextField()) != BinaryDecoder.END_OF_FIELDS) {
+            switch (fieldId) {
+                case FIELD_OP_TYPE:
+                    info.opType = ReplicaOperationType.findByValue(decoder.readInt());
+                    break;
+                case FIELD_DB_ID:
+                    info.dbId = decoder.readLong();
+                    break;
+                case FIELD_TABLE_ID:
+                    info.tableId = decoder.readLong();
+                    break;
+                case FIELD_PARTITION_ID:
+                    info.partitionId = decoder.readLong();
+                    break;
+                case FIELD_INDEX_ID:
+                    info.indexId = decoder.readLong();
+                    break;
+                case FIELD_TABLET_ID:
+                    info.tabletId = decoder.readLong();
+                    break;
+                case FIELD_REPLICA_ID:
+                    info.replicaId = decoder.readLong();
+                    break;
+                case FIELD_BACKEND_ID:
+                    info.backendId = decoder.readLong();
+                    break;
+                case FIELD_VERSION:
+                    info.version = decoder.readLong();
+                    break;
+                case FIELD_SCHEMA_HASH:
+                    info.schemaHash = decoder.readInt();
+                    break;
+                case FIELD_DATA_SIZE:
+                    info.dataSize = decoder.readLong();
+                    break;
+                case FIELD_ROW_COUNT:
+                    info.rowCount = decoder.readLong();
+                    break;
+                case FIELD_LAST_FAILED_VERSION:
+                    info.lastFailedVersion = decoder.readLong();
+                    break;
+                case FIELD_LAST_SUCCESS_VERSION:
+                    info.lastSuccessVersion = decoder.readLong();
+                    break;
+                default:
+                    decoder.skipField();
+                    break;
+            }
+        }
+        info.gsonPostProcess();
+        return info;
+    }
+
     @Override
     public void gsonPostProcess() throws IOException {
         if (opType == null) {
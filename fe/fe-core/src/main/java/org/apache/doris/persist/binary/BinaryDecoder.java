@@ -0,0 +1,124 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.persist.binary;
+
+import java.io.DataInput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Read the fields written by {@link BinaryEncoder}. Usage:
+ * <pre>
+ *     int fieldId;
+ *     while ((fieldId = decoder.nextField()) != BinaryDecoder.END_OF_FIELDS) {
+ *         switch (fieldId) {
+ *             case 1:
+ *                 id = decoder.readLong();
+ *                 break;
+ *             default:
+ *                 decoder.skipField();
+ *         }
+ *     }
+ * </pre>
+ */
+public class BinaryDecoder {
+    public static final int END_OF_FIELDS = BinaryEncoder.END_OF_FIELDS;
+
+    private final DataInput in;
+    private int wireType = -1;
+
+    public BinaryDecoder(DataInput in) {
+        this.in = in;
+    }
+
+    /**
+     * Return the id of next field, or END_OF_FIELDS if there is no more field.
+     */
+    public int nextField() throws IOException {
+        long tag = readVarLong();
+        if (tag == END_OF_FIELDS) {
+            wireType = -1;
+            return END_OF_FIELDS;
+        }
+        wireType = (int) (tag & ((1 << BinaryEncoder.WIRE_TYPE_BITS) - 1));
+        return (int) (tag >>> BinaryEncoder.WIRE_TYPE_BITS);
+    }
+
+    public boolean readBoolean() throws IOException {
+        return readLong() != 0;
+    }
+
+    public int readInt() throws IOException {
+        return (int) readLong();
+    }
+
+    public long readLong() throws IOException {
+        checkWireType(BinaryEncoder.WIRE_TYPE_VAR_INT);
+        long value = readVarLong();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    public double readDouble() throws IOException {
+        checkWireType(BinaryEncoder.WIRE_TYPE_FIXED_64);
+        return Double.longBitsToDouble(in.readLong());
+    }
+
+    public String readString() throws IOException {
+        checkWireType(BinaryEncoder.WIRE_TYPE_BYTES);
+        byte[] bytes = new byte[(int) readVarLong()];
+        in.readFully(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Skip the value of current field, which is written by a newer version and unknown to this version.
+     */
+    public void skipField() throws IOException {
+        switch (wireType) {
+            case BinaryEncoder.WIRE_TYPE_VAR_INT:
+                readVarLong();
+                break;
+            case BinaryEncoder.WIRE_TYPE_FIXED_64:
+                in.readLong();
+                break;
+            case BinaryEncoder.WIRE_TYPE_BYTES:
+                in.readFully(new byte[(int) readVarLong()]);
+                break;
+            default:
+                throw new IOException("unknown wire type " + wireType);
+        }
+    }
+
+    private void checkWireType(int expected) throws IOException {
+        if (wireType != expected) {
+            throw new IOException("expect wire type " + expected + ", but get " + wireType);
+        }
+    }
+
+    private long readVarLong() throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new IOException("malformed var int");
+    }
+}
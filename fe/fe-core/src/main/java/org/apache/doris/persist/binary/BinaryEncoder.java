@@ -0,0 +1,93 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.persist.binary;
+
+import com.google.common.base.Preconditions;
+
+import java.io.DataOutput;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Write the fields of an entity as a sequence of (tag, value).
+ * The tag is a var int of (field id << 3 | wire type), so an old reader could skip the fields it does not know.
+ *  - WIRE_TYPE_VAR_INT: zigzag encoded var long, for boolean, int and long.
+ *  - WIRE_TYPE_FIXED_64: 8 bytes, for double.
+ *  - WIRE_TYPE_BYTES: var int length and the bytes, for string.
+ * The fields are terminated by a zero tag.
+ */
+public class BinaryEncoder {
+    public static final int WIRE_TYPE_VAR_INT = 0;
+    public static final int WIRE_TYPE_FIXED_64 = 1;
+    public static final int WIRE_TYPE_BYTES = 2;
+
+    static final int WIRE_TYPE_BITS = 3;
+    static final int END_OF_FIELDS = 0;
+
+    private final DataOutput out;
+
+    public BinaryEncoder(DataOutput out) {
+        this.out = out;
+    }
+
+    public void writeBoolean(int fieldId, boolean value) throws IOException {
+        writeLong(fieldId, value ? 1 : 0);
+    }
+
+    public void writeInt(int fieldId, int value) throws IOException {
+        writeLong(fieldId, value);
+    }
+
+    public void writeLong(int fieldId, long value) throws IOException {
+        writeTag(fieldId, WIRE_TYPE_VAR_INT);
+        writeVarLong((value << 1) ^ (value >> 63));
+    }
+
+    public void writeDouble(int fieldId, double value) throws IOException {
+        writeTag(fieldId, WIRE_TYPE_FIXED_64);
+        out.writeLong(Double.doubleToRawLongBits(value));
+    }
+
+    // null string is not written, the reader will keep the default value of the field
+    public void writeString(int fieldId, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeTag(fieldId, WIRE_TYPE_BYTES);
+        writeVarLong(bytes.length);
+        out.write(bytes);
+    }
+
+    void writeEnd() throws IOException {
+        writeVarLong(END_OF_FIELDS);
+    }
+
+    private void writeTag(int fieldId, int wireType) throws IOException {
+        Preconditions.checkArgument(fieldId > 0, "field id should be positive: " + fieldId);
+        writeVarLong(((long) fieldId << WIRE_TYPE_BITS) | wireType);
+    }
+
+    private void writeVarLong(long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            out.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.writeByte((int) value);
+    }
+}
@@ -0,0 +1,80 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.persist.binary;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.common.io.Text;
+import org.apache.doris.persist.gson.GsonUtils;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+
+/**
+ * The compact binary format of edit log entities.
+ *
+ * Most entities are written as a JSON string by Text.writeString(), which starts with a non-negative length.
+ * An entity in binary format starts with the negative BINARY_FORMAT_MAGIC instead, followed by a format version
+ * and the fields written by {@link BinaryEncoder}, so the reader can tell the two formats apart and the journals
+ * written before the binary format is enabled can still be replayed.
+ *
+ * The binary format is only used for the operation types in Config.binary_edit_log_op_codes.
+ * NOTICE: enable it only after all the FEs are upgraded to a version which can read the binary format.
+ */
+public class BinaryPersistUtils {
+    public static final int BINARY_FORMAT_MAGIC = 0xD0B1_0001;
+    public static final byte FORMAT_VERSION = 1;
+
+    @FunctionalInterface
+    public interface BinaryReader<T> {
+        T read(BinaryDecoder decoder) throws IOException;
+    }
+
+    public static boolean isBinaryEnabled(short opCode) {
+        for (short enabledOpCode : Config.binary_edit_log_op_codes) {
+            if (enabledOpCode == opCode) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static void write(DataOutput out, BinaryPersistable entity) throws IOException {
+        out.writeInt(BINARY_FORMAT_MAGIC);
+        out.writeByte(FORMAT_VERSION);
+        BinaryEncoder encoder = new BinaryEncoder(out);
+        entity.writeBinary(encoder);
+        encoder.writeEnd();
+    }
+
+    /**
+     * Read an entity written either by write() or as a JSON string by GsonUtils.GSON.
+     */
+    public static <T> T read(DataInput in, Class<T> clazz, BinaryReader<T> binaryReader) throws IOException {
+        int lengthOrMagic = in.readInt();
+        if (lengthOrMagic != BINARY_FORMAT_MAGIC) {
+            return GsonUtils.GSON.fromJson(Text.readString(in, lengthOrMagic), clazz);
+        }
+        byte version = in.readByte();
+        if (version > FORMAT_VERSION) {
+            throw new IOException("unsupported binary format version " + version + " of " + clazz.getSimpleName()
+                    + ", current version is " + FORMAT_VERSION);
+        }
+        return binaryReader.read(new BinaryDecoder(in));
+    }
+}
@@ -0,0 +1,36 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.persist.binary;
+
+import java.io.IOException;
+
+/**
+ * An entity which can be written to edit log in the compact binary format, see {@link BinaryPersistUtils}.
+ *
+ * The entity should still implement its JSON serialization, which is used when the binary format is not enabled
+ * for the operation type, and the reader of the entity should accept both formats.
+ */
+public interface BinaryPersistable {
+    /**
+     * Write all the fields of this entity.
+     * The field id of a field should never be changed or reused once released.
+     * A polymorphic entity should write the subtype label registered in
+     * RuntimeTypeAdapterFactory as its first field, so that the reader can find the subtype to create.
+     */
+    void writeBinary(BinaryEncoder encoder) throws IOException;
+}
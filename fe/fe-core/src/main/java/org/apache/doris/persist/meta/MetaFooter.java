@@ -54,6 +54,9 @@ public class MetaFooter {
     public long length;
     // meta indices
     public List<MetaIndex> metaIndices;
+    // The part of checksum contributed by each meta index, in the same order as metaIndices.
+    // null if the image was written by an older version which does not save it.
+    public long[] moduleChecksums;
 
     public static MetaFooter read(File imageFile) throws IOException {
         try (RandomAccessFile raf = new RandomAccessFile(imageFile, "r")) {
@@ -81,12 +84,29 @@ public class MetaFooter {
                 MetaIndex index = MetaIndex.read(raf);
                 metaIndices.add(index);
             }
+            long[] moduleChecksums = null;
+            if (raf.getFilePointer() < footerLengthIndex) {
+                int checksumNum = raf.readInt();
+                if (checksumNum == indexNum) {
+                    moduleChecksums = new long[checksumNum];
+                    for (int i = 0; i < checksumNum; i++) {
+                        moduleChecksums[i] = raf.readLong();
+                    }
+                }
+            }
             LOG.info("Image footer length: {}, indices: {}", footerLength, metaIndices.toArray());
-            return new MetaFooter(metaIndices, checksum, footerLength);
+            MetaFooter metaFooter = new MetaFooter(metaIndices, checksum, footerLength);
+            metaFooter.moduleChecksums = moduleChecksums;
+            return metaFooter;
         }
     }
 
     public static void write(File imageFile, List<MetaIndex> metaIndices, long checksum) throws IOException {
+        write(imageFile, metaIndices, checksum, null);
+    }
+
+    public static void write(File imageFile, List<MetaIndex> metaIndices, long checksum,
+            List<Long> moduleChecksums) throws IOException {
         try (RandomAccessFile raf = new RandomAccessFile(imageFile, "rw")) {
             long startIndex = raf.length();
             raf.seek(startIndex);
@@ -95,6 +115,12 @@ public class MetaFooter {
             for (MetaIndex metaIndex : metaIndices) {
                 MetaIndex.write(raf, metaIndex);
             }
+            if (moduleChecksums != null) {
+                raf.writeInt(moduleChecksums.size());
+                for (long moduleChecksum : moduleChecksums) {
+                    raf.writeLong(moduleChecksum);
+                }
+            }
             long endIndex = raf.length();
             raf.writeLong(endIndex - startIndex);
             MetaMagicNumber.write(raf);
@@ -20,8 +20,13 @@ package org.apache.doris.persist.meta;
 import org.apache.doris.catalog.Env;
 import org.apache.doris.common.Config;
 import org.apache.doris.common.DdlException;
+import org.apache.doris.common.Pair;
+import org.apache.doris.common.ThreadPoolManager;
+import org.apache.doris.meta.MetaContext;
 
 import com.google.common.base.Preconditions;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.apache.commons.io.IOUtils;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -32,6 +37,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
 
 /**
  * Image Format:
@@ -77,13 +88,24 @@ public class MetaReader {
         long checksum = 0;
         long footerIndex = imageFile.length()
                 - metaFooter.length - MetaFooter.FOOTER_LENGTH_SIZE - MetaMagicNumber.MAGIC_STR.length();
+        // The checkpoint thread must load sequentially, because Env.getCurrentEnv() only returns
+        // the checkpoint env in the checkpoint thread itself.
+        int parallelism = Env.isCheckpointThread() ? 1 : Config.image_load_parallelism;
+        ExecutorService executor = null;
+        if (parallelism > 1) {
+            executor = ThreadPoolManager.newDaemonFixedThreadPool(parallelism,
+                    PersistMetaModules.PARALLEL_LOADABLE_MODULE_NAMES.size(), "image-module-loader", false);
+        }
+        List<Pair<String, Future<Long>>> parallelLoads = Lists.newArrayList();
+        Map<String, Long> moduleLoadTimeMs = Maps.newConcurrentMap();
         try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(imageFile)))) {
             // 1. Skip image file header
             IOUtils.skipFully(dis, metaHeader.getEnd());
             // 2. Read meta header first
             checksum = env.loadHeader(dis, metaHeader, checksum);
             // 3. Read other meta modules
-            // Modules must be read in the order in which the metadata was written
+            // Modules must be read in the order in which the metadata was written,
+            // except the independent modules which are submitted to the executor.
             for (int i = 0; i < metaFooter.metaIndices.size(); ++i) {
                 MetaIndex metaIndex = metaFooter.metaIndices.get(i);
                 if (metaIndex.name.equals("header")) {
@@ -123,16 +145,81 @@ public class MetaReader {
                                 + PersistMetaModules.MODULE_NAMES);
                     }
                 }
+                if (executor != null && PersistMetaModules.PARALLEL_LOADABLE_MODULE_NAMES.contains(metaIndex.name)) {
+                    long moduleEnd = i < metaFooter.metaIndices.size() - 1
+                            ? metaFooter.metaIndices.get(i + 1).offset : footerIndex;
+                    int metaVersion = MetaContext.get().getMetaVersion();
+                    long offset = metaIndex.offset;
+                    parallelLoads.add(Pair.of(metaIndex.name, executor.submit(() -> loadModuleAt(imageFile,
+                            offset, env, persistMethod, metaVersion, moduleLoadTimeMs))));
+                    IOUtils.skipFully(dis, moduleEnd - offset);
+                    continue;
+                }
+                long moduleStartTime = System.currentTimeMillis();
                 checksum = (long) persistMethod.readMethod.invoke(env, dis, checksum);
+                moduleLoadTimeMs.put(metaIndex.name, System.currentTimeMillis() - moduleStartTime);
+            }
+            // 4. Wait for the concurrently loaded modules.
+            // Every module folds its content into the checksum by xor, so the partial checksum of each
+            // module can be computed from 0 and combined in any order.
+            for (Pair<String, Future<Long>> parallelLoad : parallelLoads) {
+                checksum ^= waitModuleLoaded(parallelLoad.first, parallelLoad.second);
             }
         } catch (InvocationTargetException | IllegalAccessException e) {
             throw new IOException(e);
+        } finally {
+            if (executor != null) {
+                executor.shutdownNow();
+            }
         }
 
         long remoteChecksum = metaFooter.checksum;
         Preconditions.checkState(remoteChecksum == checksum, remoteChecksum + " vs. " + checksum);
 
         long loadImageEndTime = System.currentTimeMillis();
-        LOG.info("finished to load image in " + (loadImageEndTime - loadImageStartTime) + " ms");
+        LOG.info("finished to load image in " + (loadImageEndTime - loadImageStartTime) + " ms"
+                + ", parallelism: " + parallelism + ", module load time(ms): " + sortByLoadTime(moduleLoadTimeMs));
+    }
+
+    // Load one module through its own file handle, starting at the given offset.
+    // Return the partial checksum of this module.
+    private static long loadModuleAt(File imageFile, long offset, Env env, MetaPersistMethod persistMethod,
+            int metaVersion, Map<String, Long> moduleLoadTimeMs) throws Exception {
+        // MetaContext is thread local, the meta version read from header should be set in this thread too.
+        MetaContext metaContext = new MetaContext();
+        metaContext.setMetaVersion(metaVersion);
+        metaContext.setThreadLocalInfo();
+        long moduleStartTime = System.currentTimeMillis();
+        try (FileInputStream fis = new FileInputStream(imageFile)) {
+            fis.getChannel().position(offset);
+            DataInputStream dis = new DataInputStream(new BufferedInputStream(fis));
+            long checksum = (long) persistMethod.readMethod.invoke(env, dis, 0L);
+            moduleLoadTimeMs.put(persistMethod.name, System.currentTimeMillis() - moduleStartTime);
+            return checksum;
+        } finally {
+            MetaContext.remove();
+        }
+    }
+
+    private static long waitModuleLoaded(String name, Future<Long> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while loading meta module " + name, e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof InvocationTargetException) {
+                cause = cause.getCause();
+            }
+            throw new IOException("failed to load meta module " + name, cause);
+        }
+    }
+
+    private static String sortByLoadTime(Map<String, Long> moduleLoadTimeMs) {
+        return moduleLoadTimeMs.entrySet().stream()
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed())
+                .map(e -> e.getKey() + "=" + e.getValue())
+                .collect(Collectors.joining(", ", "{", "}"));
     }
 }
@@ -94,6 +94,15 @@ public class MetaWriter {
     }
 
     public static void write(File imageFile, Env env) throws IOException {
+        write(imageFile, env, null);
+    }
+
+    /**
+     * Write image to imageFile.
+     * The modules which can be reused in reusableModules are copied from the base image instead of
+     * being serialized again.
+     */
+    public static void write(File imageFile, Env env, ReusableImageModules reusableModules) throws IOException {
         // save image does not need any lock. because only checkpoint thread will call this method.
         LOG.info("start to save image to {}. is ckpt: {}",
                 imageFile.getAbsolutePath(), Env.isCheckpointThread());
@@ -102,6 +111,9 @@ public class MetaWriter {
         // MetaHeader should use output stream in the future.
         long startPosition = MetaHeader.write(imageFile);
         List<MetaIndex> metaIndices = Lists.newArrayList();
+        // the part of checksum contributed by each module, in the same order as metaIndices.
+        List<Long> moduleChecksums = Lists.newArrayList();
+        List<String> reusedModules = Lists.newArrayList();
         FileOutputStream imageFileOut = new FileOutputStream(imageFile, true);
         try (CountingDataOutputStream dos = new CountingDataOutputStream(new BufferedOutputStream(imageFileOut),
                 startPosition)) {
@@ -110,25 +122,35 @@ public class MetaWriter {
             // 1. write header first
             checksum.setRef(
                     writer.doWork("header", () -> env.saveHeader(dos, replayedJournalId, checksum.getRef())));
+            moduleChecksums.add(checksum.getRef());
             // 2. write other modules
             for (MetaPersistMethod m : PersistMetaModules.MODULES_IN_ORDER) {
-                checksum.setRef(writer.doWork(m.name, () -> {
-                    try {
-                        return (long) m.writeMethod.invoke(env, dos, checksum.getRef());
-                    } catch (IllegalAccessException | InvocationTargetException e) {
-                        LOG.warn("failed to write meta module: {}", m.name, e);
-                        throw new RuntimeException(e);
-                    }
-                }));
+                long checksumBefore = checksum.getRef();
+                if (reusableModules != null && reusableModules.canReuse(m.name)) {
+                    checksum.setRef(writer.doWork(m.name,
+                            () -> checksumBefore ^ reusableModules.copyModule(m.name, dos)));
+                    reusedModules.add(m.name);
+                } else {
+                    checksum.setRef(writer.doWork(m.name, () -> {
+                        try {
+                            return (long) m.writeMethod.invoke(env, dos, checksum.getRef());
+                        } catch (IllegalAccessException | InvocationTargetException e) {
+                            LOG.warn("failed to write meta module: {}", m.name, e);
+                            throw new RuntimeException(e);
+                        }
+                    }));
+                }
+                moduleChecksums.add(checksum.getRef() ^ checksumBefore);
             }
             // 3. force sync to disk
             imageFileOut.getChannel().force(true);
         }
-        MetaFooter.write(imageFile, metaIndices, checksum.getRef());
+        MetaFooter.write(imageFile, metaIndices, checksum.getRef(), moduleChecksums);
 
         long saveImageEndTime = System.currentTimeMillis();
-        LOG.info("finished save image {} in {} ms. checksum is {}, size is {}", imageFile.getAbsolutePath(),
-                (saveImageEndTime - saveImageStartTime), checksum.getRef(), imageFile.length());
+        LOG.info("finished save image {} in {} ms. checksum is {}, size is {}, reused modules: {}",
+                imageFile.getAbsolutePath(), (saveImageEndTime - saveImageStartTime), checksum.getRef(),
+                imageFile.length(), reusedModules);
     }
 
 }
@@ -18,8 +18,12 @@
 package org.apache.doris.persist.meta;
 
 import org.apache.doris.common.Config;
+import org.apache.doris.persist.OperationType;
 
+import com.google.common.base.Preconditions;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 
@@ -51,7 +55,108 @@ public class PersistMetaModules {
     public static final ImmutableList<String> DEPRECATED_MODULE_NAMES = ImmutableList.of(
             "loadJob", "cooldownJob", "AnalysisMgr", "mtmvJobManager", "JobTaskManager", "syncJob");
 
+    // Modules in this list can be loaded concurrently with other modules when Config.image_load_parallelism > 1.
+    // A module may only be added here if:
+    // 1. its load method only replaces or fills a self-contained manager and does not touch state owned by
+    //    other modules, and
+    // 2. no other module reads its state while being loaded.
+    // Such a module only depends on the modules written before it, which are always loaded in order
+    // by MetaReader before it is submitted.
+    public static final ImmutableSet<String> PARALLEL_LOADABLE_MODULE_NAMES = ImmutableSet.of(
+            "resources", "smallFiles", "sqlBlockRule", "globalFunction", "AnalysisMgrV2", "plsql",
+            "insertOverwrite", "dictionaryManager", "indexPolicy", "KeyManager");
+
+    // Modules in this list can be copied from the last image instead of being serialized again if none of the
+    // journals replayed since the last image can modify them, see ReusableImageModules.
+    // A module may only be added here if its bytes are only determined by the replayed journals. A module which
+    // is filtered by time (eg, expired load and export jobs) or by config (eg, binlogs) when saving should not
+    // be added here.
+    public static final ImmutableSet<String> REUSABLE_MODULE_NAMES = ImmutableSet.of(
+            "masterInfo", "frontends", "backends", "db", "alterJob", "recycleBin", "globalVariable", "broker",
+            "paloAuth", "transactionState", "colocateTableIndex", "routineLoadJobs", "smallFiles", "sqlBlockRule",
+            "globalFunction", "AnalysisMgrV2", "AsyncJobManager", "plsql", "indexPolicy");
+
+    // operation type -> all the modules which may be modified when replaying it, including the side effects of
+    // the replay, eg, a visible transaction updates the versions of partitions, the binlogs, the table stats and
+    // the jobs waiting for it.
+    // An operation type which is not in this map may modify any module, so no module can be reused if it
+    // is replayed. Only add an operation type here after checking its replay method in EditLog.loadJournal.
+    public static final ImmutableMap<Short, ImmutableSet<String>> OP_CODE_MODULES;
+
+    private static final ImmutableSet<String> CATALOG_MODULES = ImmutableSet.of(
+            "db", "recycleBin", "binlogs", "colocateTableIndex", "alterJob", "AnalysisMgrV2", "AsyncJobManager",
+            "datasource", "insertOverwrite", "dictionaryManager");
+
+    private static final ImmutableSet<String> TRANSACTION_MODULES = ImmutableSet.of(
+            "transactionState", "db", "binlogs", "loadJobV2", "routineLoadJobs", "AsyncJobManager", "AnalysisMgrV2",
+            "deleteHandler", "insertOverwrite");
+
     static {
+        Map<Short, ImmutableSet<String>> opCodeModules = Maps.newHashMap();
+        // These operations only modify the meta header or nothing persisted.
+        putOpCodes(opCodeModules, ImmutableSet.of(), OperationType.OP_SAVE_NEXTID, OperationType.OP_TIMESTAMP,
+                OperationType.OP_META_VERSION);
+        putOpCodes(opCodeModules, ImmutableSet.of("masterInfo"), OperationType.OP_MASTER_INFO_CHANGE);
+        putOpCodes(opCodeModules, ImmutableSet.of("frontends", "backends", "broker"), OperationType.OP_HEARTBEAT);
+        putOpCodes(opCodeModules, ImmutableSet.of("frontends"), OperationType.OP_ADD_FIRST_FRONTEND,
+                OperationType.OP_ADD_FRONTEND, OperationType.OP_MODIFY_FRONTEND, OperationType.OP_REMOVE_FRONTEND);
+        putOpCodes(opCodeModules, ImmutableSet.of("backends"), OperationType.OP_MODIFY_BACKEND,
+                OperationType.OP_BACKEND_STATE_CHANGE);
+        putOpCodes(opCodeModules, ImmutableSet.of("globalVariable"), OperationType.OP_GLOBAL_VARIABLE_V2);
+        putOpCodes(opCodeModules, CATALOG_MODULES, OperationType.OP_CREATE_DB, OperationType.OP_NEW_CREATE_DB,
+                OperationType.OP_DROP_DB, OperationType.OP_RECOVER_DB, OperationType.OP_ERASE_DB,
+                OperationType.OP_CREATE_TABLE, OperationType.OP_DROP_TABLE, OperationType.OP_RECOVER_TABLE,
+                OperationType.OP_ERASE_TABLE, OperationType.OP_RENAME_TABLE, OperationType.OP_TRUNCATE_TABLE,
+                OperationType.OP_ADD_PARTITION, OperationType.OP_DROP_PARTITION, OperationType.OP_RECOVER_PARTITION,
+                OperationType.OP_ERASE_PARTITION, OperationType.OP_RENAME_PARTITION,
+                OperationType.OP_MODIFY_PARTITION, OperationType.OP_BATCH_MODIFY_PARTITION,
+                OperationType.OP_REPLACE_TEMP_PARTITION, OperationType.OP_DYNAMIC_PARTITION,
+                OperationType.OP_MODIFY_TABLE_PROPERTIES, OperationType.OP_MODIFY_REPLICATION_NUM,
+                OperationType.OP_ALTER_JOB_V2, OperationType.OP_BATCH_ADD_ROLLUP,
+                OperationType.OP_REMOVE_ALTER_JOB_V2, OperationType.OP_DROP_ROLLUP, OperationType.OP_BATCH_DROP_ROLLUP);
+        // Replicas in the recycle bin can be found by the tablet inverted index.
+        putOpCodes(opCodeModules, ImmutableSet.of("db", "recycleBin"), OperationType.OP_ADD_REPLICA,
+                OperationType.OP_UPDATE_REPLICA, OperationType.OP_DELETE_REPLICA,
+                OperationType.OP_SET_REPLICA_STATUS, OperationType.OP_SET_REPLICA_VERSION,
+                OperationType.OP_SET_PARTITION_VERSION, OperationType.OP_BACKEND_TABLETS_INFO,
+                OperationType.OP_BACKEND_REPLICAS_INFO, OperationType.OP_FINISH_CONSISTENCY_CHECK);
+        putOpCodes(opCodeModules, TRANSACTION_MODULES, OperationType.OP_UPSERT_TRANSACTION_STATE);
+        putOpCodes(opCodeModules, ImmutableSet.of("transactionState"), OperationType.OP_SAVE_TRANSACTION_ID,
+                OperationType.OP_DELETE_TRANSACTION_STATE, OperationType.OP_BATCH_REMOVE_TXNS,
+                OperationType.OP_BATCH_REMOVE_TXNS_V2);
+        putOpCodes(opCodeModules, ImmutableSet.of("loadJobV2"), OperationType.OP_CREATE_LOAD_JOB,
+                OperationType.OP_END_LOAD_JOB, OperationType.OP_UPDATE_LOAD_JOB);
+        putOpCodes(opCodeModules, ImmutableSet.of("routineLoadJobs"), OperationType.OP_CREATE_ROUTINE_LOAD_JOB,
+                OperationType.OP_CHANGE_ROUTINE_LOAD_JOB, OperationType.OP_REMOVE_ROUTINE_LOAD_JOB,
+                OperationType.OP_ALTER_ROUTINE_LOAD_JOB);
+        putOpCodes(opCodeModules, ImmutableSet.of("AsyncJobManager", "loadJobV2"),
+                OperationType.OP_CREATE_SCHEDULER_JOB, OperationType.OP_UPDATE_SCHEDULER_JOB,
+                OperationType.OP_DELETE_SCHEDULER_JOB);
+        putOpCodes(opCodeModules, ImmutableSet.of("AnalysisMgrV2"), OperationType.OP_CREATE_ANALYSIS_JOB,
+                OperationType.OP_CREATE_ANALYSIS_TASK, OperationType.OP_DELETE_ANALYSIS_JOB,
+                OperationType.OP_DELETE_ANALYSIS_TASK, OperationType.OP_UPDATE_TABLE_STATS,
+                OperationType.OP_PERSIST_AUTO_JOB, OperationType.OP_DELETE_TABLE_STATS);
+        putOpCodes(opCodeModules, ImmutableSet.of("colocateTableIndex"), OperationType.OP_COLOCATE_ADD_TABLE,
+                OperationType.OP_COLOCATE_REMOVE_TABLE, OperationType.OP_COLOCATE_BACKENDS_PER_BUCKETSEQ,
+                OperationType.OP_COLOCATE_MARK_UNSTABLE, OperationType.OP_COLOCATE_MARK_STABLE);
+        putOpCodes(opCodeModules, ImmutableSet.of("paloAuth"), OperationType.OP_CREATE_USER,
+                OperationType.OP_NEW_DROP_USER, OperationType.OP_ALTER_USER, OperationType.OP_GRANT_PRIV,
+                OperationType.OP_REVOKE_PRIV, OperationType.OP_SET_PASSWORD, OperationType.OP_SET_LDAP_PASSWORD,
+                OperationType.OP_CREATE_ROLE, OperationType.OP_ALTER_ROLE, OperationType.OP_DROP_ROLE,
+                OperationType.OP_UPDATE_USER_PROPERTY);
+        putOpCodes(opCodeModules, ImmutableSet.of("smallFiles"), OperationType.OP_CREATE_SMALL_FILE,
+                OperationType.OP_DROP_SMALL_FILE);
+        putOpCodes(opCodeModules, ImmutableSet.of("sqlBlockRule"), OperationType.OP_CREATE_SQL_BLOCK_RULE,
+                OperationType.OP_ALTER_SQL_BLOCK_RULE, OperationType.OP_DROP_SQL_BLOCK_RULE);
+        putOpCodes(opCodeModules, ImmutableSet.of("globalFunction"), OperationType.OP_ADD_GLOBAL_FUNCTION,
+                OperationType.OP_DROP_GLOBAL_FUNCTION);
+        putOpCodes(opCodeModules, ImmutableSet.of("plsql"), OperationType.OP_ADD_PLSQL_STORED_PROCEDURE,
+                OperationType.OP_DROP_PLSQL_STORED_PROCEDURE, OperationType.OP_ADD_PLSQL_PACKAGE,
+                OperationType.OP_DROP_PLSQL_PACKAGE);
+        putOpCodes(opCodeModules, ImmutableSet.of("indexPolicy"), OperationType.OP_CREATE_INDEX_POLICY,
+                OperationType.OP_DROP_INDEX_POLICY);
+        OP_CODE_MODULES = ImmutableMap.copyOf(opCodeModules);
+
         MODULES_MAP = Maps.newHashMap();
         MODULES_IN_ORDER = Lists.newArrayList();
         try {
@@ -71,4 +176,11 @@ public class PersistMetaModules {
             throw new RuntimeException(e);
         }
     }
+
+    private static void putOpCodes(Map<Short, ImmutableSet<String>> opCodeModules, ImmutableSet<String> modules,
+            short... opCodes) {
+        for (short opCode : opCodes) {
+            Preconditions.checkState(opCodeModules.put(opCode, modules) == null, "duplicated op code %s", opCode);
+        }
+    }
 }
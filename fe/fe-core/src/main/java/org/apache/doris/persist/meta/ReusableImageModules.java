@@ -0,0 +1,137 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.persist.meta;
+
+import org.apache.doris.common.FeConstants;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import org.apache.commons.io.IOUtils;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.DataInputStream;
+import java.io.DataOutput;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The modules of a base image which can be copied verbatim into the next image.
+ *
+ * A module is reusable if it is one of {@link PersistMetaModules#REUSABLE_MODULE_NAMES} and none of the
+ * journals replayed since the base image was generated can modify it (see {@link PersistMetaModules#OP_CODE_MODULES}),
+ * so its serialized bytes and its part of the checksum are exactly the same as those in the base image.
+ */
+public class ReusableImageModules {
+    private static final Logger LOG = LogManager.getLogger(ReusableImageModules.class);
+
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+
+    private final File baseImage;
+    // module name -> [offset, end offset, checksum] in base image
+    private final Map<String, long[]> modules;
+
+    private ReusableImageModules(File baseImage, Map<String, long[]> modules) {
+        this.baseImage = baseImage;
+        this.modules = modules;
+    }
+
+    /**
+     * Return null if no module of the base image can be reused.
+     */
+    public static ReusableImageModules create(File baseImage, Set<Short> replayedOpCodes) throws IOException {
+        if (!baseImage.exists()) {
+            return null;
+        }
+        Set<String> dirtyModules = Sets.newHashSet();
+        for (short opCode : replayedOpCodes) {
+            ImmutableSet<String> opModules = PersistMetaModules.OP_CODE_MODULES.get(opCode);
+            if (opModules == null) {
+                // The operation may modify any module.
+                LOG.info("op code {} is replayed since base image {}, can not reuse modules",
+                        opCode, baseImage.getName());
+                return null;
+            }
+            dirtyModules.addAll(opModules);
+        }
+        MetaHeader metaHeader = MetaHeader.read(baseImage);
+        try (DataInputStream dis = new DataInputStream(new FileInputStream(baseImage))) {
+            IOUtils.skipFully(dis, metaHeader.getEnd());
+            int metaVersion = dis.readInt();
+            if (metaVersion != FeConstants.meta_version) {
+                // The format of modules may be changed, all of them should be written again.
+                LOG.info("meta version of base image {} is {}, current is {}, can not reuse modules",
+                        baseImage.getName(), metaVersion, FeConstants.meta_version);
+                return null;
+            }
+        }
+        MetaFooter metaFooter = MetaFooter.read(baseImage);
+        if (metaFooter.moduleChecksums == null) {
+            LOG.info("base image {} has no module checksums, can not reuse modules", baseImage.getName());
+            return null;
+        }
+        long footerIndex = baseImage.length()
+                - metaFooter.length - MetaFooter.FOOTER_LENGTH_SIZE - MetaMagicNumber.MAGIC_STR.length();
+        Map<String, long[]> modules = Maps.newHashMap();
+        for (int i = 0; i < metaFooter.metaIndices.size(); i++) {
+            MetaIndex metaIndex = metaFooter.metaIndices.get(i);
+            if (!PersistMetaModules.REUSABLE_MODULE_NAMES.contains(metaIndex.name)
+                    || dirtyModules.contains(metaIndex.name)) {
+                continue;
+            }
+            long end = i < metaFooter.metaIndices.size() - 1 ? metaFooter.metaIndices.get(i + 1).offset : footerIndex;
+            modules.put(metaIndex.name, new long[] {metaIndex.offset, end, metaFooter.moduleChecksums[i]});
+        }
+        if (modules.isEmpty()) {
+            return null;
+        }
+        LOG.info("modules {} of base image {} can be reused", modules.keySet(), baseImage.getName());
+        return new ReusableImageModules(baseImage, modules);
+    }
+
+    public boolean canReuse(String name) {
+        return modules.containsKey(name);
+    }
+
+    /**
+     * Copy the bytes of the module from base image to out.
+     * Return the part of checksum contributed by this module.
+     */
+    public long copyModule(String name, DataOutput out) throws IOException {
+        long[] module = modules.get(name);
+        long remaining = module[1] - module[0];
+        byte[] buffer = new byte[COPY_BUFFER_SIZE];
+        try (FileInputStream fis = new FileInputStream(baseImage)) {
+            fis.getChannel().position(module[0]);
+            while (remaining > 0) {
+                int read = fis.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                if (read < 0) {
+                    throw new IOException("unexpected end of base image " + baseImage.getName()
+                            + " when copying module " + name);
+                }
+                out.write(buffer, 0, read);
+                remaining -= read;
+            }
+        }
+        return module[2];
+    }
+}
@@ -74,9 +74,7 @@ public class HashDistributionPruner implements DistributionPruner {
     // hashKey: the key which to compute hash value
     public Collection<Long> prune(int columnId, PartitionKey hashKey, int complex) {
         if (columnId == distributionColumns.size()) {
-            // compute Hash Key
-            long hashValue = hashKey.getHashValue();
-            return Lists.newArrayList(bucketsList.get((int) ((hashValue & 0xffffffff) % hashMod)));
+            return Lists.newArrayList(bucketsList.get(getBucketSeq(hashKey, hashMod)));
         }
         Column keyColumn = distributionColumns.get(columnId);
         String columnName = isBaseIndexSelected ? keyColumn.getName()
@@ -129,4 +127,10 @@ public class HashDistributionPruner implements DistributionPruner {
         PartitionKey hashKey = new PartitionKey();
         return prune(0, hashKey, 1);
     }
+
+    // Return the sequence of the bucket which the hash key of all distribution columns is hashed to
+    public static int getBucketSeq(PartitionKey hashKey, int bucketNum) {
+        long hashValue = hashKey.getHashValue();
+        return (int) ((hashValue & 0xffffffff) % bucketNum);
+    }
 }
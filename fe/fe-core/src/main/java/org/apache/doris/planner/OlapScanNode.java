@@ -340,9 +340,12 @@ public class OlapScanNode extends ScanNode {
             keyItemMap = partitionInfo.getIdToItem(false);
         }
         if (partitionInfo.getType() == PartitionType.RANGE) {
-            if (isPointQuery() && partitionInfo.getPartitionColumns().size() == 1) {
-                // short circuit, a quick path to find partition
-                ColumnRange filterRange = columnNameToRange.get(partitionInfo.getPartitionColumns().get(0).getName());
+            ColumnRange filterRange = columnNameToRange.get(partitionInfo.getPartitionColumns().get(0).getName());
+            if (isPointQuery() && partitionInfo.getPartitionColumns().size() == 1
+                    && filterRange != null && filterRange.getRangeSet().isPresent()
+                    && filterRange.getRangeSet().get().asRanges().size() == 1) {
+                // short circuit, a quick path to find partition, the multi keys of `key in (...)` need to
+                // be pruned by the normal way
                 LiteralExpr lowerBound = filterRange.getRangeSet().get().asRanges().stream()
                         .findFirst().get().lowerEndpoint().getValue();
                 LiteralExpr upperBound = filterRange.getRangeSet().get().asRanges().stream()
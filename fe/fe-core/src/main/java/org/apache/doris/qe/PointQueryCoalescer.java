@@ -0,0 +1,195 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.qe;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.common.ThreadPoolManager;
+import org.apache.doris.metric.MetricRepo;
+import org.apache.doris.proto.InternalService;
+import org.apache.doris.rpc.BackendServiceProxy;
+import org.apache.doris.rpc.RpcException;
+import org.apache.doris.system.Backend;
+import org.apache.doris.thrift.TNetworkAddress;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.FutureCallback;
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.MoreExecutors;
+import com.google.protobuf.ByteString;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesce the same point query lookups sent to the same backend by different sessions.
+ *
+ * The first lookup opens a window of {@link Config#point_query_coalesce_window_us}, the same lookups
+ * arriving within the window wait for it, and then one RPC is sent for all of them. The RPC is sent after
+ * all the waiters arrived, so every waiter still sees the data visible when it submitted the lookup.
+ * Each waiter gets its own future, so cancelling one of them does not affect the others.
+ *
+ * Two lookups are the same if they only differ in the uuid, which is the id of the lookup context cached
+ * by BE for a prepared statement and is generated per session. The lookups of different keys are not
+ * merged into one RPC, because BE returns the rows of all the keys as one row batch and skips the keys
+ * which are not found, so the rows can not be split back to the sessions by key.
+ */
+public class PointQueryCoalescer {
+    private static final Logger LOG = LogManager.getLogger(PointQueryCoalescer.class);
+
+    private static final PointQueryCoalescer INSTANCE = new PointQueryCoalescer();
+
+    private final ScheduledExecutorService scheduler = ThreadPoolManager.newDaemonScheduledThreadPool(
+            1, "point-query-coalescer", true);
+    private final Map<LookupKey, PendingLookup> pendingLookups = new ConcurrentHashMap<>();
+
+    private PointQueryCoalescer() {
+    }
+
+    public static PointQueryCoalescer getInstance() {
+        return INSTANCE;
+    }
+
+    public Future<InternalService.PTabletKeyLookupResponse> fetchTabletData(Backend backend,
+            InternalService.PTabletKeyLookupRequest request) throws RpcException {
+        long windowUs = Config.point_query_coalesce_window_us;
+        if (windowUs <= 0) {
+            return BackendServiceProxy.getInstance().fetchTabletDataAsync(backend.getBrpcAddress(), request);
+        }
+        // The uuid is excluded, the RPC is sent with the uuid of the first waiter. The desc table, output exprs
+        // and query options are part of the key, so the lookup context BE caches for this uuid is the same
+        // as the ones of the other waiters.
+        LookupKey key = new LookupKey(backend.getId(), request.toBuilder().clearUuid().build().toByteString());
+        Waiter waiter = new Waiter();
+        PendingLookup newLookup = new PendingLookup(backend.getBrpcAddress(), request);
+        PendingLookup lookup = pendingLookups.compute(key, (k, pending) -> {
+            PendingLookup current = pending == null ? newLookup : pending;
+            current.waiters.add(waiter);
+            return current;
+        });
+        if (lookup == newLookup) {
+            scheduler.schedule(() -> flush(key), windowUs, TimeUnit.MICROSECONDS);
+        }
+        return waiter.future;
+    }
+
+    private void flush(LookupKey key) {
+        // No more waiter can join the lookup once it is removed, the same requests arriving later
+        // open a new window.
+        PendingLookup lookup = pendingLookups.remove(key);
+        if (lookup == null) {
+            return;
+        }
+        if (MetricRepo.isInit) {
+            MetricRepo.HISTO_POINT_QUERY_COALESCE_BATCH_SIZE.update(lookup.waiters.size());
+        }
+        ListenableFuture<InternalService.PTabletKeyLookupResponse> future;
+        try {
+            future = BackendServiceProxy.getInstance().fetchTabletDataAsync(lookup.address, lookup.request);
+        } catch (RpcException e) {
+            LOG.warn("coalesced point query rpc exception {}, waiters {}", lookup.address,
+                    lookup.waiters.size(), e);
+            lookup.completeExceptionally(e);
+            return;
+        }
+        Futures.addCallback(future, new FutureCallback<InternalService.PTabletKeyLookupResponse>() {
+            @Override
+            public void onSuccess(InternalService.PTabletKeyLookupResponse response) {
+                lookup.complete(response);
+            }
+
+            @Override
+            public void onFailure(Throwable t) {
+                lookup.completeExceptionally(t);
+            }
+        }, MoreExecutors.directExecutor());
+    }
+
+    private static class LookupKey {
+        private final long backendId;
+        private final ByteString request;
+
+        private LookupKey(long backendId, ByteString request) {
+            this.backendId = backendId;
+            this.request = request;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof LookupKey)) {
+                return false;
+            }
+            LookupKey other = (LookupKey) o;
+            return backendId == other.backendId && request.equals(other.request);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Long.hashCode(backendId) + request.hashCode();
+        }
+    }
+
+    private static class Waiter {
+        private final long submitNanos = System.nanoTime();
+        private final CompletableFuture<InternalService.PTabletKeyLookupResponse> future = new CompletableFuture<>();
+    }
+
+    private static class PendingLookup {
+        private final TNetworkAddress address;
+        private final InternalService.PTabletKeyLookupRequest request;
+        // only modified in ConcurrentHashMap.compute() before the lookup is removed
+        private final List<Waiter> waiters = Lists.newArrayList();
+
+        private PendingLookup(TNetworkAddress address, InternalService.PTabletKeyLookupRequest request) {
+            this.address = address;
+            this.request = request;
+        }
+
+        private void complete(InternalService.PTabletKeyLookupResponse response) {
+            for (Waiter waiter : waiters) {
+                updateLatency(waiter);
+                waiter.future.complete(response);
+            }
+        }
+
+        private void completeExceptionally(Throwable t) {
+            for (Waiter waiter : waiters) {
+                updateLatency(waiter);
+                waiter.future.completeExceptionally(t);
+            }
+        }
+
+        private static void updateLatency(Waiter waiter) {
+            if (MetricRepo.isInit) {
+                MetricRepo.HISTO_POINT_QUERY_COALESCE_LATENCY.update(
+                        TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - waiter.submitNanos));
+            }
+        }
+    }
+}
@@ -19,11 +19,17 @@ package org.apache.doris.qe;
 
 import org.apache.doris.analysis.BinaryPredicate;
 import org.apache.doris.analysis.Expr;
+import org.apache.doris.analysis.InPredicate;
 import org.apache.doris.analysis.LiteralExpr;
 import org.apache.doris.analysis.SlotRef;
 import org.apache.doris.catalog.Column;
+import org.apache.doris.catalog.DistributionInfo;
+import org.apache.doris.catalog.DistributionInfo.DistributionInfoType;
 import org.apache.doris.catalog.Env;
+import org.apache.doris.catalog.HashDistributionInfo;
 import org.apache.doris.catalog.OlapTable;
+import org.apache.doris.catalog.Partition;
+import org.apache.doris.catalog.PartitionKey;
 import org.apache.doris.cloud.catalog.CloudPartition;
 import org.apache.doris.common.Config;
 import org.apache.doris.common.Status;
@@ -34,15 +40,16 @@ import org.apache.doris.nereids.exceptions.AnalysisException;
 import org.apache.doris.nereids.trees.expressions.SlotReference;
 import org.apache.doris.nereids.trees.expressions.literal.Literal;
 import org.apache.doris.nereids.trees.plans.PlaceholderId;
+import org.apache.doris.planner.HashDistributionPruner;
 import org.apache.doris.planner.OlapScanNode;
 import org.apache.doris.proto.InternalService;
 import org.apache.doris.proto.InternalService.KeyTuple;
-import org.apache.doris.rpc.BackendServiceProxy;
 import org.apache.doris.rpc.RpcException;
 import org.apache.doris.rpc.TCustomProtocolFactory;
 import org.apache.doris.system.Backend;
 import org.apache.doris.thrift.TNetworkAddress;
 import org.apache.doris.thrift.TResultBatch;
+import org.apache.doris.thrift.TScanRangeLocation;
 import org.apache.doris.thrift.TScanRangeLocations;
 import org.apache.doris.thrift.TStatusCode;
 
@@ -55,10 +62,11 @@ import org.apache.logging.log4j.Logger;
 import org.apache.thrift.TDeserializer;
 import org.apache.thrift.TException;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Deque;
 import java.util.HashSet;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -70,18 +78,33 @@ import java.util.concurrent.TimeoutException;
 
 public class PointQueryExecutor implements CoordInterface {
     private static final Logger LOG = LogManager.getLogger(PointQueryExecutor.class);
-    private long tabletID = 0;
     private long timeoutMs = Config.point_query_timeout_ms; // default 10s
 
     private boolean isCancel = false;
-    private List<Backend> candidateBackends;
+    // the keys to look up in each tablet
+    private List<TabletKeys> tabletKeysList;
+    // the row batches looked up but not returned by getNext yet
+    private Deque<RowBatch> pendingRowBatches;
     private final int maxMsgSizeOfResultReceiver;
 
-    // used for snapshot read in cloud mode
-    private List<Long> snapshotVisibleVersions;
+    // used for snapshot read in cloud mode, partition id -> visible version
+    private Map<Long, Long> snapshotVisibleVersions;
 
     private final ShortCircuitQueryContext shortCircuitQueryContext;
 
+    // the keys to look up in one tablet, and the replicas to look up from
+    static class TabletKeys {
+        final long tabletId;
+        final List<Backend> candidateBackends;
+        final List<KeyTuple> keyTuples = Lists.newArrayList();
+        long partitionId = -1;
+
+        TabletKeys(long tabletId, List<Backend> candidateBackends) {
+            this.tabletId = tabletId;
+            this.candidateBackends = candidateBackends;
+        }
+    }
+
     public PointQueryExecutor(ShortCircuitQueryContext ctx, int maxMessageSize) {
         ctx.sanitize();
         this.shortCircuitQueryContext = ctx;
@@ -99,10 +122,13 @@ public class PointQueryExecutor implements CoordInterface {
                 partitions.add((CloudPartition) table.getPartition(id));
             }
         }
-        snapshotVisibleVersions = CloudPartition.getSnapshotVisibleVersion(partitions);
-        // Only support single partition at present
-        Preconditions.checkState(snapshotVisibleVersions.size() == 1);
-        LOG.debug("set cloud version {}", snapshotVisibleVersions.get(0));
+        List<Long> versions = CloudPartition.getSnapshotVisibleVersion(partitions);
+        Preconditions.checkState(versions.size() == partitions.size());
+        snapshotVisibleVersions = Maps.newHashMap();
+        for (int i = 0; i < partitions.size(); i++) {
+            snapshotVisibleVersions.put(partitions.get(i).getId(), versions.get(i));
+        }
+        LOG.debug("set cloud versions {}", snapshotVisibleVersions);
     }
 
     void setScanRangeLocations() throws Exception {
@@ -110,11 +136,10 @@ public class PointQueryExecutor implements CoordInterface {
         // compute scan range
         List<TScanRangeLocations> locations = scanNode.lazyEvaluateRangeLocations();
         Preconditions.checkNotNull(locations);
+        tabletKeysList = Lists.newArrayList();
         if (scanNode.getScanTabletIds().isEmpty()) {
             return;
         }
-        Preconditions.checkState(scanNode.getScanTabletIds().size() == 1);
-        this.tabletID = scanNode.getScanTabletIds().get(0);
 
         // update partition version if cloud mode
         if (Config.isCloudMode()
@@ -123,17 +148,32 @@ public class PointQueryExecutor implements CoordInterface {
             updateCloudPartitionVersions();
         }
 
-        candidateBackends = new ArrayList<>();
-        for (Long backendID : scanNode.getScanBackendIds()) {
-            Backend backend = Env.getCurrentSystemInfo().getBackend(backendID);
-            if (SimpleScheduler.isAvailable(backend)) {
-                candidateBackends.add(backend);
+        Map<Long, TabletKeys> tabletIdToKeys = Maps.newLinkedHashMap();
+        for (TScanRangeLocations location : locations) {
+            long tabletId = location.getScanRange().getPaloScanRange().getTabletId();
+            List<Backend> candidateBackends = new ArrayList<>();
+            for (TScanRangeLocation replica : location.getLocations()) {
+                Backend backend = Env.getCurrentSystemInfo().getBackend(replica.getBackendId());
+                if (SimpleScheduler.isAvailable(backend)) {
+                    candidateBackends.add(backend);
+                }
+            }
+            // Random read replicas
+            Collections.shuffle(candidateBackends);
+            tabletIdToKeys.put(tabletId, new TabletKeys(tabletId, candidateBackends));
+        }
+        addKeyTuples(scanNode, tabletIdToKeys);
+        for (TabletKeys tabletKeys : tabletIdToKeys.values()) {
+            // No replica found, the keys in this tablet return nothing
+            if (!tabletKeys.keyTuples.isEmpty() && !tabletKeys.candidateBackends.isEmpty()) {
+                tabletKeysList.add(tabletKeys);
             }
         }
-        // Random read replicas
-        Collections.shuffle(this.candidateBackends);
         if (LOG.isDebugEnabled()) {
-            LOG.debug("set scan locations, backend ids {}, tablet id {}", candidateBackends, tabletID);
+            for (TabletKeys tabletKeys : tabletKeysList) {
+                LOG.debug("set scan locations, backend ids {}, tablet id {}, key num {}",
+                        tabletKeys.candidateBackends, tabletKeys.tabletId, tabletKeys.keyTuples.size());
+            }
         }
     }
 
@@ -190,23 +230,83 @@ public class PointQueryExecutor implements CoordInterface {
         this.timeoutMs = timeoutMs;
     }
 
-    void addKeyTuples(
-            InternalService.PTabletKeyLookupRequest.Builder requestBuilder) {
-        // TODO handle IN predicates
-        Map<String, Expr> columnExpr = Maps.newHashMap();
-        KeyTuple.Builder kBuilder = KeyTuple.newBuilder();
-        for (Expr expr : shortCircuitQueryContext.scanNode.getConjuncts()) {
-            BinaryPredicate predicate = (BinaryPredicate) expr;
-            Expr left = predicate.getChild(0);
-            Expr right = predicate.getChild(1);
-            SlotRef columnSlot = left.unwrapSlotRef();
-            columnExpr.put(columnSlot.getColumnName(), right);
+    /**
+     * Expand the conjuncts `key = value` and `key in (values)` to key tuples, and add each key tuple to
+     * the tablet of each selected partition which the key is hashed to.
+     */
+    static void addKeyTuples(OlapScanNode scanNode, Map<Long, TabletKeys> tabletIdToKeys) {
+        OlapTable table = scanNode.getOlapTable();
+        Map<String, List<Expr>> columnValues = Maps.newHashMap();
+        for (Expr expr : scanNode.getConjuncts()) {
+            List<Expr> values = Lists.newArrayList();
+            SlotRef columnSlot = expr.getChild(0).unwrapSlotRef();
+            if (expr instanceof InPredicate) {
+                for (int i = 1; i < expr.getChildren().size(); i++) {
+                    values.add(expr.getChild(i));
+                }
+            } else {
+                values.add(expr.getChild(1));
+            }
+            columnValues.put(columnSlot.getColumnName(), values);
         }
-        // add key tuple in keys order
-        for (Column column : shortCircuitQueryContext.scanNode.getOlapTable().getBaseSchemaKeyColumns()) {
-            kBuilder.addKeyColumnRep(columnExpr.get(column.getName()).getStringValue());
+
+        // expand key tuples in keys order
+        List<Column> keyColumns = table.getBaseSchemaKeyColumns();
+        Map<String, Integer> keyColumnIndexes = Maps.newHashMap();
+        List<Expr[]> keys = Lists.newArrayList();
+        keys.add(new Expr[keyColumns.size()]);
+        for (int i = 0; i < keyColumns.size(); i++) {
+            keyColumnIndexes.put(keyColumns.get(i).getName(), i);
+            List<Expr> values = columnValues.get(keyColumns.get(i).getName());
+            List<Expr[]> expandedKeys = Lists.newArrayListWithCapacity(keys.size() * values.size());
+            for (Expr[] key : keys) {
+                for (Expr value : values) {
+                    Expr[] expandedKey = values.size() == 1 ? key : key.clone();
+                    expandedKey[i] = value;
+                    expandedKeys.add(expandedKey);
+                }
+            }
+            keys = expandedKeys;
+        }
+
+        for (Long partitionId : scanNode.getSelectedPartitionIds()) {
+            Partition partition = table.getPartition(partitionId);
+            List<Long> tabletIds = partition.getBaseIndex().getTabletIdsInOrder();
+            DistributionInfo distributionInfo = partition.getDistributionInfo();
+            for (Expr[] key : keys) {
+                KeyTuple.Builder kBuilder = KeyTuple.newBuilder();
+                for (Expr value : key) {
+                    kBuilder.addKeyColumnRep(value.getStringValue());
+                }
+                KeyTuple keyTuple = kBuilder.build();
+                int bucket = getBucket(key, keyColumnIndexes, distributionInfo);
+                for (int i = 0; i < tabletIds.size(); i++) {
+                    TabletKeys tabletKeys = tabletIdToKeys.get(tabletIds.get(i));
+                    if (tabletKeys != null && (bucket == -1 || bucket == i)) {
+                        tabletKeys.partitionId = partitionId;
+                        tabletKeys.keyTuples.add(keyTuple);
+                    }
+                }
+            }
         }
-        requestBuilder.addKeyTuples(kBuilder);
+    }
+
+    // Return the bucket the key is hashed to, or -1 if unknown
+    private static int getBucket(Expr[] key, Map<String, Integer> keyColumnIndexes,
+            DistributionInfo distributionInfo) {
+        if (distributionInfo.getType() != DistributionInfoType.HASH) {
+            return -1;
+        }
+        HashDistributionInfo hashDistributionInfo = (HashDistributionInfo) distributionInfo;
+        PartitionKey hashKey = new PartitionKey();
+        for (Column column : hashDistributionInfo.getDistributionColumns()) {
+            Integer index = keyColumnIndexes.get(column.getName());
+            if (index == null || !(key[index] instanceof LiteralExpr)) {
+                return -1;
+            }
+            hashKey.pushColumn((LiteralExpr) key[index], column.getDataType());
+        }
+        return HashDistributionPruner.getBucketSeq(hashKey, hashDistributionInfo.getBucketNum());
     }
 
     @Override
@@ -217,26 +317,57 @@ public class PointQueryExecutor implements CoordInterface {
 
     @Override
     public RowBatch getNext() throws Exception {
-        setScanRangeLocations();
+        if (pendingRowBatches == null) {
+            setScanRangeLocations();
+            pendingRowBatches = lookupAllTablets();
+        }
         // No partition/tablet found return emtpy row batch
-        if (candidateBackends == null || candidateBackends.isEmpty()) {
+        RowBatch rowBatch = pendingRowBatches.poll();
+        if (rowBatch == null) {
             return new RowBatch();
         }
-        Iterator<Backend> backendIter = candidateBackends.iterator();
-        RowBatch rowBatch = null;
-        int tryCount = 0;
-        int maxTry = Math.min(Config.max_point_query_retry_time, candidateBackends.size());
-        Status status = new Status();
-        do {
-            Backend backend = backendIter.next();
-            rowBatch = getNextInternal(status, backend);
-            if (rowBatch != null) {
-                break;
+        rowBatch.setEos(pendingRowBatches.isEmpty());
+        return rowBatch;
+    }
+
+    // look up the keys of all the tablets in parallel, each tablet is retried on other replicas if failed
+    private Deque<RowBatch> lookupAllTablets() throws Exception {
+        Deque<RowBatch> rowBatches = new ArrayDeque<>();
+        List<Status> statuses = Lists.newArrayListWithCapacity(tabletKeysList.size());
+        List<Future<InternalService.PTabletKeyLookupResponse>> futures
+                = Lists.newArrayListWithCapacity(tabletKeysList.size());
+        List<Long> timeoutTsList = Lists.newArrayListWithCapacity(tabletKeysList.size());
+        for (TabletKeys tabletKeys : tabletKeysList) {
+            Status status = new Status();
+            statuses.add(status);
+            timeoutTsList.add(System.currentTimeMillis() + timeoutMs);
+            futures.add(sendRequest(status, tabletKeys, tabletKeys.candidateBackends.get(0)));
+        }
+        for (int i = 0; i < tabletKeysList.size(); i++) {
+            TabletKeys tabletKeys = tabletKeysList.get(i);
+            Status status = statuses.get(i);
+            Backend backend = tabletKeys.candidateBackends.get(0);
+            RowBatch rowBatch = futures.get(i) == null ? null
+                    : fetchResult(status, futures.get(i), backend, timeoutTsList.get(i));
+            int maxTry = Math.min(Config.max_point_query_retry_time, tabletKeys.candidateBackends.size());
+            for (int tryCount = 1; rowBatch == null && tryCount < maxTry; tryCount++) {
+                backend = tabletKeys.candidateBackends.get(tryCount);
+                long timeoutTs = System.currentTimeMillis() + timeoutMs;
+                Future<InternalService.PTabletKeyLookupResponse> futureResponse
+                        = sendRequest(status, tabletKeys, backend);
+                if (futureResponse != null) {
+                    rowBatch = fetchResult(status, futureResponse, backend, timeoutTs);
+                }
             }
-            if (++tryCount >= maxTry) {
-                break;
+            handleStatus(status);
+            if (rowBatch != null && rowBatch.getBatch() != null) {
+                rowBatches.add(rowBatch);
             }
-        } while (true);
+        }
+        return rowBatches;
+    }
+
+    private void handleStatus(Status status) throws Exception {
         // handle status code
         if (!status.ok()) {
             if (Strings.isNullOrEmpty(status.getErrorMsg())) {
@@ -255,7 +386,6 @@ public class PointQueryExecutor implements CoordInterface {
                 throw new UserException(errMsg);
             }
         }
-        return rowBatch;
     }
 
     @Override
@@ -264,22 +394,20 @@ public class PointQueryExecutor implements CoordInterface {
         // only handles in getNext()
     }
 
-    private RowBatch getNextInternal(Status status, Backend backend) throws TException {
-        long timeoutTs = System.currentTimeMillis() + timeoutMs;
-        RowBatch rowBatch = new RowBatch();
-        InternalService.PTabletKeyLookupResponse pResult = null;
+    private Future<InternalService.PTabletKeyLookupResponse> sendRequest(Status status, TabletKeys tabletKeys,
+            Backend backend) {
         try {
             Preconditions.checkNotNull(shortCircuitQueryContext.serializedDescTable);
 
             InternalService.PTabletKeyLookupRequest.Builder requestBuilder
                     = InternalService.PTabletKeyLookupRequest.newBuilder()
-                    .setTabletId(tabletID)
+                    .setTabletId(tabletKeys.tabletId)
                     .setDescTbl(shortCircuitQueryContext.serializedDescTable)
                     .setOutputExpr(shortCircuitQueryContext.serializedOutputExpr)
                     .setQueryOptions(shortCircuitQueryContext.serializedQueryOptions)
                     .setIsBinaryRow(ConnectContext.get().command == MysqlCommand.COM_STMT_EXECUTE);
-            if (snapshotVisibleVersions != null && !snapshotVisibleVersions.isEmpty()) {
-                requestBuilder.setVersion(snapshotVisibleVersions.get(0));
+            if (snapshotVisibleVersions != null && snapshotVisibleVersions.containsKey(tabletKeys.partitionId)) {
+                requestBuilder.setVersion(snapshotVisibleVersions.get(tabletKeys.partitionId));
             }
             // Only set cacheID for prepared statement excute phase,
             // otherwise leading to many redundant cost in BE side
@@ -290,11 +418,23 @@ public class PointQueryExecutor implements CoordInterface {
                 uuidBuilder.setUuidLow(shortCircuitQueryContext.cacheID.getLeastSignificantBits());
                 requestBuilder.setUuid(uuidBuilder);
             }
-            addKeyTuples(requestBuilder);
+            requestBuilder.addAllKeyTuples(tabletKeys.keyTuples);
 
             InternalService.PTabletKeyLookupRequest request = requestBuilder.build();
-            Future<InternalService.PTabletKeyLookupResponse> futureResponse =
-                    BackendServiceProxy.getInstance().fetchTabletDataAsync(backend.getBrpcAddress(), request);
+            return PointQueryCoalescer.getInstance().fetchTabletData(backend, request);
+        } catch (RpcException e) {
+            LOG.warn("query fetch rpc exception {}, e {}", backend.getBrpcAddress(), e);
+            status.updateStatus(TStatusCode.THRIFT_RPC_ERROR, e.getMessage());
+            SimpleScheduler.addToBlacklist(backend.getId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private RowBatch fetchResult(Status status, Future<InternalService.PTabletKeyLookupResponse> futureResponse,
+            Backend backend, long timeoutTs) throws TException {
+        RowBatch rowBatch = new RowBatch();
+        InternalService.PTabletKeyLookupResponse pResult = null;
+        try {
             long currentTs = System.currentTimeMillis();
             if (currentTs >= timeoutTs) {
                 LOG.warn("fetch result timeout {}", backend.getBrpcAddress());
@@ -316,11 +456,6 @@ public class PointQueryExecutor implements CoordInterface {
                 status.updateStatus(TStatusCode.INTERNAL_ERROR, "query fetch result timeout");
                 return null;
             }
-        } catch (RpcException e) {
-            LOG.warn("query fetch rpc exception {}, e {}", backend.getBrpcAddress(), e);
-            status.updateStatus(TStatusCode.THRIFT_RPC_ERROR, e.getMessage());
-            SimpleScheduler.addToBlacklist(backend.getId(), e.getMessage());
-            return null;
         } catch (ExecutionException e) {
             LOG.warn("query fetch execution exception {}, addr {}", e, backend.getBrpcAddress());
             if (e.getMessage().contains("time out")) {
@@ -47,7 +47,8 @@ public abstract class Cache {
 
     protected Cache(TUniqueId queryId) {
         this.queryId = queryId;
-        this.proxy = CacheProxy.getCacheProxy(CacheProxy.CacheProxyType.BE);
+        this.proxy = Config.sql_cache_fe_tier_max_bytes > 0
+                ? new CacheTieredProxy() : CacheProxy.getCacheProxy(CacheProxy.CacheProxyType.BE);
         this.hitRange = HitRange.None;
     }
 
@@ -0,0 +1,123 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.qe.cache;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.common.Status;
+import org.apache.doris.proto.InternalService;
+import org.apache.doris.proto.Types.PUniqueId;
+import org.apache.doris.thrift.TStatusCode;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.ByteString;
+
+/**
+ * Cache small sql cache results in FE memory, so they can be fetched without rpc to BE.
+ * The results are shared by all the queries in this FE and bounded by Config.sql_cache_fe_tier_max_bytes.
+ */
+public class CacheFeProxy extends CacheProxy {
+    private static class SingletonHolder {
+        private static final CacheFeProxy INSTANCE = new CacheFeProxy(Config.sql_cache_fe_tier_max_bytes);
+    }
+
+    // sql key -> the update request of the result
+    private final Cache<PUniqueId, InternalService.PUpdateCacheRequest> results;
+
+    public static CacheFeProxy getInstance() {
+        return SingletonHolder.INSTANCE;
+    }
+
+    @VisibleForTesting
+    CacheFeProxy(long maxBytes) {
+        results = Caffeine.newBuilder()
+                .maximumWeight(maxBytes)
+                .weigher((PUniqueId key, InternalService.PUpdateCacheRequest value)
+                        -> (int) Math.min(Integer.MAX_VALUE, getDataSize(value.getValuesList())))
+                .build();
+    }
+
+    public static long getDataSize(Iterable<InternalService.PCacheValue> values) {
+        long dataSize = 0;
+        for (InternalService.PCacheValue value : values) {
+            for (ByteString row : value.getRowsList()) {
+                dataSize += row.size();
+            }
+        }
+        return dataSize;
+    }
+
+    @Override
+    public void updateCache(InternalService.PUpdateCacheRequest request, int timeoutMs, Status status) {
+        if (getDataSize(request.getValuesList()) > Config.sql_cache_fe_tier_max_result_bytes) {
+            status.updateStatus(TStatusCode.INTERNAL_ERROR, "result is too large to be cached in FE");
+            return;
+        }
+        results.put(request.getSqlKey(), request);
+        status.updateStatus(TStatusCode.OK, "CACHE_OK");
+    }
+
+    /**
+     * Return null if the result is not cached, or it is cached with different partition versions from the request.
+     */
+    @Override
+    public InternalService.PFetchCacheResult fetchCache(InternalService.PFetchCacheRequest request,
+                                                        int timeoutMs, Status status) {
+        InternalService.PUpdateCacheRequest cached = results.getIfPresent(request.getSqlKey());
+        if (cached == null) {
+            return null;
+        }
+        if (!isSameVersion(cached, request)) {
+            // the data of tables is changed, the result will never be hit again
+            results.invalidate(request.getSqlKey());
+            return null;
+        }
+        return InternalService.PFetchCacheResult.newBuilder()
+                .setStatus(InternalService.PCacheStatus.CACHE_OK)
+                .addAllValues(cached.getValuesList())
+                .build();
+    }
+
+    private static boolean isSameVersion(InternalService.PUpdateCacheRequest cached,
+            InternalService.PFetchCacheRequest request) {
+        if (cached.getValuesCount() != request.getParamsCount()) {
+            return false;
+        }
+        for (int i = 0; i < request.getParamsCount(); i++) {
+            InternalService.PCacheParam cachedParam = cached.getValues(i).getParam();
+            InternalService.PCacheParam param = request.getParams(i);
+            if (cachedParam.getPartitionKey() != param.getPartitionKey()
+                    || cachedParam.getLastVersion() != param.getLastVersion()
+                    || cachedParam.getLastVersionTime() != param.getLastVersionTime()
+                    || cachedParam.getPartitionNum() != param.getPartitionNum()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public void clearCache(InternalService.PClearCacheRequest clearRequest) {
+        results.invalidateAll();
+    }
+
+    public long getCachedBytes() {
+        return results.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L);
+    }
+}
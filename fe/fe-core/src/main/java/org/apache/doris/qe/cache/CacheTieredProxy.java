@@ -0,0 +1,98 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.qe.cache;
+
+import org.apache.doris.common.Status;
+import org.apache.doris.metric.MetricRepo;
+import org.apache.doris.proto.InternalService;
+
+/**
+ * Two tiers of sql cache: small results are cached in FE memory by {@link CacheFeProxy}, and all results are
+ * cached in BE by {@link CacheBeProxy}, which can be shared by all FEs.
+ * A result is fetched from FE memory first, then from BE. A small result hit in BE is also cached in FE memory,
+ * so the following queries in this FE do not need to access BE.
+ */
+public class CacheTieredProxy extends CacheProxy {
+    private final CacheFeProxy feProxy;
+    private final CacheBeProxy beProxy;
+
+    public CacheTieredProxy() {
+        this(CacheFeProxy.getInstance(), new CacheBeProxy());
+    }
+
+    CacheTieredProxy(CacheFeProxy feProxy, CacheBeProxy beProxy) {
+        this.feProxy = feProxy;
+        this.beProxy = beProxy;
+    }
+
+    @Override
+    public void updateCache(InternalService.PUpdateCacheRequest request, int timeoutMs, Status status) {
+        feProxy.updateCache(request, timeoutMs, new Status());
+        beProxy.updateCache(request, timeoutMs, status);
+    }
+
+    @Override
+    public InternalService.PFetchCacheResult fetchCache(InternalService.PFetchCacheRequest request,
+                                                        int timeoutMs, Status status) {
+        InternalService.PFetchCacheResult result = feProxy.fetchCache(request, timeoutMs, status);
+        if (result != null) {
+            if (MetricRepo.isInit) {
+                MetricRepo.COUNTER_SQL_CACHE_FE_TIER_HIT.increase(1L);
+                MetricRepo.COUNTER_SQL_CACHE_FE_TIER_HIT_BYTES.increase(
+                        CacheFeProxy.getDataSize(result.getValuesList()));
+            }
+            return result;
+        }
+        if (MetricRepo.isInit) {
+            MetricRepo.COUNTER_SQL_CACHE_FE_TIER_MISS.increase(1L);
+        }
+
+        result = beProxy.fetchCache(request, timeoutMs, status);
+        if (status.ok() && result != null && result.getStatus() == InternalService.PCacheStatus.CACHE_OK) {
+            if (MetricRepo.isInit) {
+                MetricRepo.COUNTER_SQL_CACHE_BE_TIER_HIT.increase(1L);
+                MetricRepo.COUNTER_SQL_CACHE_BE_TIER_HIT_BYTES.increase(
+                        CacheFeProxy.getDataSize(result.getValuesList()));
+            }
+            promoteToFe(request, result);
+        } else if (MetricRepo.isInit) {
+            MetricRepo.COUNTER_SQL_CACHE_BE_TIER_MISS.increase(1L);
+        }
+        return result;
+    }
+
+    private void promoteToFe(InternalService.PFetchCacheRequest request, InternalService.PFetchCacheResult result) {
+        if (result.getValuesCount() != request.getParamsCount()) {
+            return;
+        }
+        InternalService.PUpdateCacheRequest.Builder updateRequest = InternalService.PUpdateCacheRequest.newBuilder()
+                .setSqlKey(request.getSqlKey())
+                .setCacheType(InternalService.CacheType.SQL_CACHE);
+        for (int i = 0; i < result.getValuesCount(); i++) {
+            // BE only returns the data of the requested versions
+            updateRequest.addValues(result.getValues(i).toBuilder().setParam(request.getParams(i)));
+        }
+        feProxy.updateCache(updateRequest.build(), UPDATE_TIMEOUT, new Status());
+    }
+
+    @Override
+    public void clearCache(InternalService.PClearCacheRequest clearRequest) {
+        feProxy.clearCache(clearRequest);
+        beProxy.clearCache(clearRequest);
+    }
+}
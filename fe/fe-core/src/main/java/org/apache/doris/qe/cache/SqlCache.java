@@ -141,7 +141,6 @@ public class SqlCache extends Cache {
                         latestTable.sumOfPartitionNum
                 );
         if (updateRequest.getValuesCount() > 0) {
-            CacheBeProxy proxy = new CacheBeProxy();
             Status status = new Status();
             proxy.updateCache(updateRequest, CacheProxy.UPDATE_TIMEOUT, status);
             int rowCount = 0;
@@ -94,7 +94,7 @@ public class BackendServiceClient {
         return stub.fetchData(request);
     }
 
-    public Future<InternalService.PTabletKeyLookupResponse> fetchTabletDataAsync(
+    public ListenableFuture<InternalService.PTabletKeyLookupResponse> fetchTabletDataAsync(
             InternalService.PTabletKeyLookupRequest request) {
         return stub.tabletFetchData(request);
     }
@@ -314,7 +314,7 @@ public class BackendServiceProxy {
         }
     }
 
-    public Future<InternalService.PTabletKeyLookupResponse> fetchTabletDataAsync(
+    public ListenableFuture<InternalService.PTabletKeyLookupResponse> fetchTabletDataAsync(
             TNetworkAddress address, InternalService.PTabletKeyLookupRequest request) throws RpcException {
         try {
             final BackendServiceClient client = getProxy(address);
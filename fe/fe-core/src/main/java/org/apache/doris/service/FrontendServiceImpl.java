@@ -92,7 +92,7 @@ import org.apache.doris.load.routineload.RoutineLoadManager;
 import org.apache.doris.master.MasterImpl;
 import org.apache.doris.mysql.privilege.AccessControllerManager;
 import org.apache.doris.mysql.privilege.PrivPredicate;
-import org.apache.doris.nereids.trees.plans.PlanNodeAndHash;
+import org.apache.doris.nereids.stats.MemoryHboPlanStatisticsProvider;
 import org.apache.doris.nereids.trees.plans.commands.RestoreCommand;
 import org.apache.doris.nereids.trees.plans.commands.info.LabelNameInfo;
 import org.apache.doris.nereids.trees.plans.commands.info.PartitionNamesInfo;
@@ -3586,10 +3586,16 @@ public class FrontendServiceImpl implements FrontendService.Iface {
 
     @Override
     public TStatus updatePlanStatsCache(TUpdatePlanStatsCacheRequest request) throws TException {
-        PlanNodeAndHash key = GsonUtils.GSON.fromJson(request.key, PlanNodeAndHash.class);
-        RecentRunsPlanStatistics data = GsonUtils.GSON.fromJson(request.planStatsData, RecentRunsPlanStatistics.class);
+        RecentRunsPlanStatistics data;
+        try {
+            data = MemoryHboPlanStatisticsProvider.decodePlanStats(request.planStatsData);
+        } catch (IOException e) {
+            LOG.warn("Failed to decode plan stats of {}", request.key, e);
+            // Return Ok anyway
+            return new TStatus(TStatusCode.OK);
+        }
         Env.getCurrentEnv().getHboPlanStatisticsManager().getHboPlanStatisticsProvider()
-                .updatePlanStats(key, data);
+                .updatePlanStats(request.key, data);
         return new TStatus(TStatusCode.OK);
     }
 
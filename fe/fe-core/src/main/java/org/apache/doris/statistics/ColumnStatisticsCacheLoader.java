@@ -20,11 +20,19 @@ package org.apache.doris.statistics;
 import org.apache.doris.catalog.TableIf;
 import org.apache.doris.statistics.util.StatisticsUtil;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
 public class ColumnStatisticsCacheLoader extends BasicAsyncCacheLoader<StatisticsCacheKey, Optional<ColumnStatistic>> {
 
@@ -32,34 +40,87 @@ public class ColumnStatisticsCacheLoader extends BasicAsyncCacheLoader<Statistic
 
     @Override
     protected Optional<ColumnStatistic> doLoad(StatisticsCacheKey key) {
-        Optional<ColumnStatistic> columnStatistic;
         try {
             // Load from statistics table.
-            columnStatistic = loadFromStatsTable(key);
-            if (!columnStatistic.isPresent()) {
-                // Load from data source metadata
-                TableIf table = StatisticsUtil.findTable(key.catalogId, key.dbId, key.tableId);
-                columnStatistic = table.getColumnStatistic(key.colName);
+            List<ResultRow> columnResults
+                    = StatisticsRepository.loadColStats(key.catalogId, key.dbId, key.tableId, key.idxId, key.colName);
+            return toColumnStatistic(key, columnResults);
+        } catch (Throwable t) {
+            logLoadFailure(key, t);
+            return null;
+        }
+    }
+
+    /**
+     * Load the statistics of all the columns of one table index by one query, instead of one query per column.
+     * The keys failed to load are absent in the result, the same as returning null in doLoad.
+     */
+    @Override
+    public @NonNull CompletableFuture<Map<StatisticsCacheKey, Optional<ColumnStatistic>>> asyncLoadAll(
+            @NonNull Iterable<? extends StatisticsCacheKey> keys, @NonNull Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<List<Long>, List<StatisticsCacheKey>> tableIndexToKeys = Maps.newHashMap();
+            for (StatisticsCacheKey key : keys) {
+                tableIndexToKeys.computeIfAbsent(
+                        ImmutableList.of(key.catalogId, key.dbId, key.tableId, key.idxId),
+                        k -> Lists.newArrayList()).add(key);
+            }
+            Map<StatisticsCacheKey, Optional<ColumnStatistic>> result = Maps.newHashMap();
+            for (List<StatisticsCacheKey> tableIndexKeys : tableIndexToKeys.values()) {
+                for (List<StatisticsCacheKey> batch
+                        : Lists.partition(tableIndexKeys, StatisticConstants.STATISTICS_CACHE_LOAD_BATCH_SIZE)) {
+                    loadBatch(batch, result);
+                }
+            }
+            return result;
+        }, executor);
+    }
+
+    // all the keys are of the same table index
+    private void loadBatch(List<StatisticsCacheKey> keys, Map<StatisticsCacheKey, Optional<ColumnStatistic>> result) {
+        StatisticsCacheKey first = keys.get(0);
+        Map<String, List<ResultRow>> colNameToResults = Maps.newHashMap();
+        try {
+            List<ResultRow> columnResults = StatisticsRepository.loadColStats(first.catalogId, first.dbId,
+                    first.tableId, first.idxId, keys.stream().map(key -> key.colName).collect(Collectors.toList()));
+            for (ResultRow row : columnResults) {
+                colNameToResults.computeIfAbsent(row.get(5), k -> Lists.newArrayList()).add(row);
             }
         } catch (Throwable t) {
-            LOG.info("Failed to load stats for column [Catalog:{}, DB:{}, Table:{}, Column:{}], Reason: {}",
-                    key.catalogId, key.dbId, key.tableId, key.colName, t.getMessage());
+            LOG.info("Failed to load stats for {} columns [Catalog:{}, DB:{}, Table:{}], Reason: {}",
+                    keys.size(), first.catalogId, first.dbId, first.tableId, t.getMessage());
             if (LOG.isDebugEnabled()) {
                 LOG.debug(t);
             }
-            return null;
+            return;
+        }
+        for (StatisticsCacheKey key : keys) {
+            try {
+                Optional<ColumnStatistic> columnStatistic = toColumnStatistic(key, colNameToResults.get(key.colName));
+                if (columnStatistic != null) {
+                    result.put(key, columnStatistic);
+                }
+            } catch (Throwable t) {
+                logLoadFailure(key, t);
+            }
         }
-        return columnStatistic;
     }
 
-    private Optional<ColumnStatistic> loadFromStatsTable(StatisticsCacheKey key) {
-        List<ResultRow> columnResults
-                = StatisticsRepository.loadColStats(key.catalogId, key.dbId, key.tableId, key.idxId, key.colName);
+    private Optional<ColumnStatistic> toColumnStatistic(StatisticsCacheKey key, List<ResultRow> columnResults) {
         ColumnStatistic columnStatistics = StatisticsUtil.deserializeToColumnStatistics(columnResults);
-        if (columnStatistics == null) {
-            return Optional.empty();
-        } else {
+        if (columnStatistics != null) {
             return Optional.of(columnStatistics);
         }
+        // Load from data source metadata
+        TableIf table = StatisticsUtil.findTable(key.catalogId, key.dbId, key.tableId);
+        return table.getColumnStatistic(key.colName);
+    }
+
+    private void logLoadFailure(StatisticsCacheKey key, Throwable t) {
+        LOG.info("Failed to load stats for column [Catalog:{}, DB:{}, Table:{}, Column:{}], Reason: {}",
+                key.catalogId, key.dbId, key.tableId, key.colName, t.getMessage());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(t);
+        }
     }
 }
@@ -17,14 +17,24 @@
 
 package org.apache.doris.statistics;
 
+import org.apache.doris.common.Pair;
 import org.apache.doris.statistics.util.StatisticsUtil;
 
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.checkerframework.checker.nullness.qual.NonNull;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 public class PartitionColumnStatisticCacheLoader extends
         BasicAsyncCacheLoader<PartitionColumnStatisticCacheKey, Optional<PartitionColumnStatistic>> {
@@ -37,13 +47,77 @@ public class PartitionColumnStatisticCacheLoader extends
         try {
             partitionStatistic = loadFromPartitionStatsTable(key);
         } catch (Throwable t) {
-            LOG.warn("Failed to load stats for column [Catalog:{}, DB:{}, Table:{}, Part:{}, Column:{}],"
-                    + "Reason: {}", key.catalogId, key.dbId, key.tableId, key.partId, key.colName, t.getMessage());
+            logLoadFailure(key, t);
+            return null;
+        }
+        return checkNdv(partitionStatistic);
+    }
+
+    /**
+     * Load the statistics of all the partitions and columns of one table index by one query, instead of
+     * one query per partition and column. The keys failed to load are absent in the result,
+     * the same as returning null in doLoad.
+     */
+    @Override
+    public @NonNull CompletableFuture<Map<PartitionColumnStatisticCacheKey, Optional<PartitionColumnStatistic>>>
+            asyncLoadAll(@NonNull Iterable<? extends PartitionColumnStatisticCacheKey> keys,
+            @NonNull Executor executor) {
+        return CompletableFuture.supplyAsync(() -> {
+            Map<List<Long>, List<PartitionColumnStatisticCacheKey>> tableIndexToKeys = Maps.newHashMap();
+            for (PartitionColumnStatisticCacheKey key : keys) {
+                tableIndexToKeys.computeIfAbsent(
+                        ImmutableList.of(key.catalogId, key.dbId, key.tableId, key.idxId),
+                        k -> Lists.newArrayList()).add(key);
+            }
+            Map<PartitionColumnStatisticCacheKey, Optional<PartitionColumnStatistic>> result = Maps.newHashMap();
+            for (List<PartitionColumnStatisticCacheKey> tableIndexKeys : tableIndexToKeys.values()) {
+                for (List<PartitionColumnStatisticCacheKey> batch
+                        : Lists.partition(tableIndexKeys, StatisticConstants.STATISTICS_CACHE_LOAD_BATCH_SIZE)) {
+                    loadBatch(batch, result);
+                }
+            }
+            return result;
+        }, executor);
+    }
+
+    // all the keys are of the same table index
+    private void loadBatch(List<PartitionColumnStatisticCacheKey> keys,
+            Map<PartitionColumnStatisticCacheKey, Optional<PartitionColumnStatistic>> result) {
+        PartitionColumnStatisticCacheKey first = keys.get(0);
+        Set<String> partNames = Sets.newHashSet();
+        Set<String> colNames = Sets.newHashSet();
+        for (PartitionColumnStatisticCacheKey key : keys) {
+            partNames.add(key.partId);
+            colNames.add(key.colName);
+        }
+        // (part name, column name) -> rows
+        Map<Pair<String, String>, List<ResultRow>> partitionResults = Maps.newHashMap();
+        try {
+            List<ResultRow> rows = StatisticsRepository.loadPartitionColumnStats(
+                    first.catalogId, first.dbId, first.tableId, first.idxId, partNames, colNames);
+            for (ResultRow row : rows) {
+                partitionResults.computeIfAbsent(Pair.of(row.get(4), row.get(5)), k -> Lists.newArrayList())
+                        .add(row);
+            }
+        } catch (Throwable t) {
+            LOG.warn("Failed to load stats for {} partition columns [Catalog:{}, DB:{}, Table:{}], Reason: {}",
+                    keys.size(), first.catalogId, first.dbId, first.tableId, t.getMessage());
             if (LOG.isDebugEnabled()) {
                 LOG.debug(t);
             }
-            return null;
+            return;
+        }
+        for (PartitionColumnStatisticCacheKey key : keys) {
+            try {
+                List<ResultRow> rows = partitionResults.get(Pair.of(key.partId, key.colName));
+                result.put(key, checkNdv(Optional.ofNullable(StatisticsUtil.deserializeToPartitionStatistics(rows))));
+            } catch (Throwable t) {
+                logLoadFailure(key, t);
+            }
         }
+    }
+
+    private Optional<PartitionColumnStatistic> checkNdv(Optional<PartitionColumnStatistic> partitionStatistic) {
         if (partitionStatistic.isPresent()) {
             // For non-empty table, return UNKNOWN if we can't collect ndv value.
             // Because inaccurate ndv is very misleading.
@@ -62,4 +136,12 @@ public class PartitionColumnStatisticCacheLoader extends
                 key.catalogId, key.dbId, key.tableId, key.idxId, partName, key.colName);
         return Optional.ofNullable(StatisticsUtil.deserializeToPartitionStatistics(partitionResults));
     }
+
+    private void logLoadFailure(PartitionColumnStatisticCacheKey key, Throwable t) {
+        LOG.warn("Failed to load stats for column [Catalog:{}, DB:{}, Table:{}, Part:{}, Column:{}],"
+                + "Reason: {}", key.catalogId, key.dbId, key.tableId, key.partId, key.colName, t.getMessage());
+        if (LOG.isDebugEnabled()) {
+            LOG.debug(t);
+        }
+    }
 }
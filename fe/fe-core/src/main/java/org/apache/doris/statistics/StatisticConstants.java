@@ -43,6 +43,11 @@ public class StatisticConstants {
     public static final int ID_LEN = 4096;
 
     public static final int STATISTICS_CACHE_REFRESH_INTERVAL = 24 * 2;
+
+    /**
+     * Max number of statistics cache keys loaded by one query of statistics table.
+     */
+    public static final int STATISTICS_CACHE_LOAD_BATCH_SIZE = 500;
     /**
      * Bucket count fot column_statistics and analysis_job table.
      */
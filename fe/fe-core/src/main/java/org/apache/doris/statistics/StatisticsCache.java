@@ -47,6 +47,7 @@ import org.apache.logging.log4j.Logger;
 
 import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
@@ -406,6 +407,41 @@ public class StatisticsCache {
             );
         }
 
+        /**
+         * Start loading the statistics of the columns which are not cached yet, by one query per table index
+         * instead of one query per column. It does not wait for the loading.
+         */
+        public void prefetchColumnStatistics(Collection<String> colNames, ConnectContext ctx) {
+            if (ctx != null && ctx.getState().isInternal()) {
+                return;
+            }
+            List<StatisticsCacheKey> keys = new ArrayList<>(colNames.size());
+            for (String colName : colNames) {
+                keys.add(new StatisticsCacheKey(catalogId, schemaId, tableId, selectIndexId, colName));
+            }
+            columnStatisticsCache.getAll(keys);
+        }
+
+        /**
+         * Start loading the statistics of the columns in the partitions which are not cached yet,
+         * by one query per table index instead of one query per partition and column.
+         * It does not wait for the loading.
+         */
+        public void prefetchPartitionColumnStatistics(Collection<String> partNames, Collection<String> colNames,
+                ConnectContext ctx) {
+            if (ctx != null && ctx.getState().isInternal()) {
+                return;
+            }
+            List<PartitionColumnStatisticCacheKey> keys = new ArrayList<>(partNames.size() * colNames.size());
+            for (String partName : partNames) {
+                for (String colName : colNames) {
+                    keys.add(new PartitionColumnStatisticCacheKey(
+                            catalogId, schemaId, tableId, selectIndexId, partName, colName));
+                }
+            }
+            partitionColumnStatisticCache.getAll(keys);
+        }
+
         public PartitionColumnStatistic getPartitionColumnStatistics(
                 String partName, String colName, ConnectContext ctx) {
             if (ctx != null && ctx.getState().isInternal()) {
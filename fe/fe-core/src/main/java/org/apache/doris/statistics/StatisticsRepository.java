@@ -36,6 +36,7 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -66,12 +67,22 @@ public class StatisticsRepository {
             + FULL_QUALIFIED_COLUMN_STATISTICS_NAME
             + " WHERE `id` = '${id}' AND `catalog_id` = '${catalogId}' AND `db_id` = '${dbId}'";
 
+    private static final String FETCH_COLUMNS_STATISTIC_TEMPLATE = "SELECT * FROM "
+            + FULL_QUALIFIED_COLUMN_STATISTICS_NAME
+            + " WHERE `id` IN (${ids}) AND `catalog_id` = '${catalogId}' AND `db_id` = '${dbId}'";
+
     private static final String FETCH_PARTITION_STATISTIC_TEMPLATE = "SELECT `catalog_id`, `db_id`, `tbl_id`, `idx_id`,"
             + " `part_name`, `col_id`, `count`, hll_to_base64(`ndv`) as ndv, `null_count`, `min`, `max`, "
             + "`data_size_in_bytes`, `update_time` FROM " + FULL_QUALIFIED_PARTITION_STATISTICS_NAME
             + " WHERE `catalog_id` = '${catalogId}' AND `db_id` = '${dbId}' AND `tbl_id` = ${tableId}"
             + " AND `idx_id` = '${indexId}' AND `part_name` IN (${partName}) AND `col_id` = '${columnId}'";
 
+    private static final String FETCH_PARTITION_COLUMNS_STATISTIC_TEMPLATE = "SELECT `catalog_id`, `db_id`, `tbl_id`,"
+            + " `idx_id`, `part_name`, `col_id`, `count`, hll_to_base64(`ndv`) as ndv, `null_count`, `min`, `max`, "
+            + "`data_size_in_bytes`, `update_time` FROM " + FULL_QUALIFIED_PARTITION_STATISTICS_NAME
+            + " WHERE `catalog_id` = '${catalogId}' AND `db_id` = '${dbId}' AND `tbl_id` = ${tableId}"
+            + " AND `idx_id` = '${indexId}' AND `part_name` IN (${partName}) AND `col_id` IN (${columnId})";
+
     private static final String FETCH_PARTITIONS_STATISTIC_TEMPLATE = "SELECT col_id, part_name, idx_id, count, "
             + "hll_cardinality(ndv) as ndv, null_count, min, max, data_size_in_bytes, update_time FROM "
             + FULL_QUALIFIED_PARTITION_STATISTICS_NAME
@@ -431,6 +442,45 @@ public class StatisticsRepository {
                 .replace(FETCH_COLUMN_STATISTIC_TEMPLATE));
     }
 
+    /**
+     * Load the statistics of multiple columns of one table index by one query.
+     */
+    public static List<ResultRow> loadColStats(long ctlId, long dbId, long tableId, long idxId,
+            Collection<String> colNames) {
+        Map<String, String> params = new HashMap<>();
+        StringJoiner ids = new StringJoiner(",");
+        for (String colName : colNames) {
+            ids.add("'" + StatisticsUtil.escapeSQL(constructId(tableId, idxId, colName)) + "'");
+        }
+        params.put("ids", ids.toString());
+        generateCtlDbIdParams(ctlId, dbId, params);
+        return StatisticsUtil.execStatisticQuery(new StringSubstitutor(params)
+                .replace(FETCH_COLUMNS_STATISTIC_TEMPLATE));
+    }
+
+    /**
+     * Load the statistics of multiple columns in multiple partitions of one table index by one query.
+     */
+    public static List<ResultRow> loadPartitionColumnStats(long ctlId, long dbId, long tableId, long idxId,
+            Collection<String> partNames, Collection<String> colNames) {
+        Map<String, String> params = new HashMap<>();
+        generateCtlDbIdParams(ctlId, dbId, params);
+        params.put("tableId", String.valueOf(tableId));
+        params.put("indexId", String.valueOf(idxId));
+        StringJoiner sj = new StringJoiner(",");
+        for (String partName : partNames) {
+            sj.add("'" + StatisticsUtil.escapeSQL(partName) + "'");
+        }
+        params.put("partName", sj.toString());
+        sj = new StringJoiner(",");
+        for (String colName : colNames) {
+            sj.add("'" + StatisticsUtil.escapeSQL(colName) + "'");
+        }
+        params.put("columnId", sj.toString());
+        return StatisticsUtil.execStatisticQuery(new StringSubstitutor(params)
+                .replace(FETCH_PARTITION_COLUMNS_STATISTIC_TEMPLATE));
+    }
+
     public static List<ResultRow> loadPartitionColumnStats(long ctlId, long dbId, long tableId, long idxId,
                                                      String partName, String colName) {
         Map<String, String> params = new HashMap<>();
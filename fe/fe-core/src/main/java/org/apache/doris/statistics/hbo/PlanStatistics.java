@@ -24,12 +24,18 @@ import org.apache.doris.nereids.trees.plans.physical.PhysicalOlapScan;
 import org.apache.doris.nereids.trees.plans.physical.PhysicalPlan;
 import org.apache.doris.thrift.TPlanNodeRuntimeStatsItem;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
 
 public class PlanStatistics {
+    protected static final byte TYPE_PLAN = 0;
+    protected static final byte TYPE_SCAN = 1;
+
     protected final int nodeId;
     protected final long inputRows;
     protected final long outputRows;
@@ -93,6 +99,41 @@ public class PlanStatistics {
         }
     }
 
+    public void write(DataOutput out) throws IOException {
+        out.writeByte(TYPE_PLAN);
+        writeCounters(out);
+    }
+
+    protected void writeCounters(DataOutput out) throws IOException {
+        out.writeInt(nodeId);
+        out.writeLong(inputRows);
+        out.writeLong(outputRows);
+        out.writeLong(commonFilteredRows);
+        out.writeLong(commonFilterInputRows);
+        out.writeLong(runtimeFilteredRows);
+        out.writeLong(runtimeFilterInputRows);
+        out.writeLong(joinBuilderRows);
+        out.writeLong(joinProbeRows);
+        out.writeInt(joinBuilderSkewRatio);
+        out.writeInt(joinProbeSkewRatio);
+        out.writeInt(instanceNum);
+    }
+
+    public static PlanStatistics read(DataInput in) throws IOException {
+        byte type = in.readByte();
+        PlanStatistics counters = new PlanStatistics(in.readInt(), in.readLong(), in.readLong(),
+                in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong(), in.readLong(),
+                in.readInt(), in.readInt(), in.readInt());
+        switch (type) {
+            case TYPE_PLAN:
+                return counters;
+            case TYPE_SCAN:
+                return ScanPlanStatistics.read(counters, in);
+            default:
+                throw new IOException("unknown plan statistics type " + type);
+        }
+    }
+
     public int getNodeId() {
         return nodeId;
     }
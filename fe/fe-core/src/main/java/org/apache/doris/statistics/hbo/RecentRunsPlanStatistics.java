@@ -17,11 +17,16 @@
 
 package org.apache.doris.statistics.hbo;
 
+import org.apache.doris.common.io.Writable;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
-public class RecentRunsPlanStatistics {
+public class RecentRunsPlanStatistics implements Writable {
     private static final RecentRunsPlanStatistics EMPTY = new RecentRunsPlanStatistics(null);
     private final List<RecentRunsPlanStatisticsEntry> recentRunsStatistics;
 
@@ -33,6 +38,23 @@ public class RecentRunsPlanStatistics {
         return recentRunsStatistics;
     }
 
+    @Override
+    public void write(DataOutput out) throws IOException {
+        out.writeInt(recentRunsStatistics.size());
+        for (RecentRunsPlanStatisticsEntry entry : recentRunsStatistics) {
+            entry.write(out);
+        }
+    }
+
+    public static RecentRunsPlanStatistics read(DataInput in) throws IOException {
+        int size = in.readInt();
+        List<RecentRunsPlanStatisticsEntry> recentRunsStatistics = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            recentRunsStatistics.add(RecentRunsPlanStatisticsEntry.read(in));
+        }
+        return new RecentRunsPlanStatistics(recentRunsStatistics);
+    }
+
     @Override
     public String toString() {
         return String.format("RecentRunsPlanStatistics{recentRunsStatistics=%s}", recentRunsStatistics);
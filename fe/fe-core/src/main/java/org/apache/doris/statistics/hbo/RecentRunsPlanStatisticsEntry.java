@@ -17,6 +17,9 @@
 
 package org.apache.doris.statistics.hbo;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
@@ -38,6 +41,24 @@ public class RecentRunsPlanStatisticsEntry {
         return inputTableStatistics;
     }
 
+    public void write(DataOutput out) throws IOException {
+        planStatistics.write(out);
+        out.writeInt(inputTableStatistics.size());
+        for (PlanStatistics statistics : inputTableStatistics) {
+            statistics.write(out);
+        }
+    }
+
+    public static RecentRunsPlanStatisticsEntry read(DataInput in) throws IOException {
+        PlanStatistics planStatistics = PlanStatistics.read(in);
+        int size = in.readInt();
+        List<PlanStatistics> inputTableStatistics = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            inputTableStatistics.add(PlanStatistics.read(in));
+        }
+        return new RecentRunsPlanStatisticsEntry(planStatistics, inputTableStatistics);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -19,6 +19,7 @@ package org.apache.doris.statistics.hbo;
 
 import org.apache.doris.catalog.Column;
 import org.apache.doris.catalog.PartitionInfo;
+import org.apache.doris.common.io.Text;
 import org.apache.doris.nereids.trees.expressions.Expression;
 import org.apache.doris.nereids.trees.expressions.Slot;
 import org.apache.doris.nereids.trees.expressions.SlotReference;
@@ -26,15 +27,21 @@ import org.apache.doris.nereids.trees.plans.physical.PhysicalOlapScan;
 
 import com.google.common.collect.ImmutableList;
 
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 public class ScanPlanStatistics extends PlanStatistics {
+    // scan, tableFilterSet and partitionInfo are null if the statistics is read from persisted data
     private final PhysicalOlapScan scan;
     private final ImmutableList<Long> selectedPartitionIds;
-    private final Set<Expression> partitionColumnPredicates = new HashSet<>();
-    private final Set<Expression> otherPredicate = new HashSet<>();
+    // the predicates are kept in the form of Expression.toString(), which contains the expr id of slots,
+    // so they can be persisted and matched in the same way as the expressions
+    private final Set<String> partitionColumnPredicates = new HashSet<>();
+    private final Set<String> otherPredicate = new HashSet<>();
     private final Set<Expression> tableFilterSet;
     private final PartitionInfo partitionInfo;
     private final boolean isPartitionedTable;
@@ -68,6 +75,20 @@ public class ScanPlanStatistics extends PlanStatistics {
         buildPartitionColumnPredicatesAndOthers(tableFilterSet, partitionInfo);
     }
 
+    private ScanPlanStatistics(PlanStatistics other, boolean isPartitionedTable, List<Long> selectedPartitionIds,
+            Set<String> partitionColumnPredicates, Set<String> otherPredicate) {
+        super(other.nodeId, other.inputRows, other.outputRows, other.commonFilteredRows, other.commonFilterInputRows,
+                other.runtimeFilteredRows, other.runtimeFilterInputRows, other.joinBuilderRows, other.joinProbeRows,
+                other.joinBuilderSkewRatio, other.joinProbeSkewRatio, other.instanceNum);
+        this.scan = null;
+        this.tableFilterSet = null;
+        this.isPartitionedTable = isPartitionedTable;
+        this.partitionInfo = null;
+        this.selectedPartitionIds = ImmutableList.copyOf(selectedPartitionIds);
+        this.partitionColumnPredicates.addAll(partitionColumnPredicates);
+        this.otherPredicate.addAll(otherPredicate);
+    }
+
     public void buildPartitionColumnPredicatesAndOthers(Set<Expression> tableFilterSet, PartitionInfo partitionInfo) {
         partitionColumnPredicates.clear();
         otherPredicate.clear();
@@ -78,12 +99,12 @@ public class ScanPlanStatistics extends PlanStatistics {
                         && ((SlotReference) inputSlot.iterator().next()).getOriginalColumn().isPresent()) {
                     Column filterColumn = ((SlotReference) inputSlot.iterator().next()).getOriginalColumn().get();
                     if (partitionInfo.getPartitionColumns().contains(filterColumn)) {
-                        partitionColumnPredicates.add(expr);
+                        partitionColumnPredicates.add(expr.toString());
                     } else {
-                        otherPredicate.add(expr);
+                        otherPredicate.add(expr.toString());
                     }
                 } else {
-                    otherPredicate.add(expr);
+                    otherPredicate.add(expr.toString());
                 }
             }
         }
@@ -110,4 +131,46 @@ public class ScanPlanStatistics extends PlanStatistics {
     public PhysicalOlapScan getScan() {
         return scan;
     }
+
+    @Override
+    public void write(DataOutput out) throws IOException {
+        out.writeByte(TYPE_SCAN);
+        writeCounters(out);
+        out.writeBoolean(isPartitionedTable);
+        out.writeInt(selectedPartitionIds.size());
+        for (long partitionId : selectedPartitionIds) {
+            out.writeLong(partitionId);
+        }
+        writePredicates(out, partitionColumnPredicates);
+        writePredicates(out, otherPredicate);
+    }
+
+    private static void writePredicates(DataOutput out, Set<String> predicates) throws IOException {
+        out.writeInt(predicates.size());
+        for (String predicate : predicates) {
+            Text.writeString(out, predicate);
+        }
+    }
+
+    private static Set<String> readPredicates(DataInput in) throws IOException {
+        int size = in.readInt();
+        Set<String> predicates = new HashSet<>();
+        for (int i = 0; i < size; i++) {
+            predicates.add(Text.readString(in));
+        }
+        return predicates;
+    }
+
+    static ScanPlanStatistics read(PlanStatistics counters, DataInput in) throws IOException {
+        boolean isPartitionedTable = in.readBoolean();
+        int partitionNum = in.readInt();
+        ImmutableList.Builder<Long> selectedPartitionIds = ImmutableList.builder();
+        for (int i = 0; i < partitionNum; i++) {
+            selectedPartitionIds.add(in.readLong());
+        }
+        Set<String> partitionColumnPredicates = readPredicates(in);
+        Set<String> otherPredicate = readPredicates(in);
+        return new ScanPlanStatistics(counters, isPartitionedTable, selectedPartitionIds.build(),
+                partitionColumnPredicates, otherPredicate);
+    }
 }
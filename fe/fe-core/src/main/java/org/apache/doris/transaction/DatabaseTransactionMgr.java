@@ -68,6 +68,7 @@ import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Joiner;
 import com.google.common.base.Preconditions;
 import com.google.common.base.Strings;
+import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
@@ -117,15 +118,20 @@ public class DatabaseTransactionMgr {
 
     private final long dbId;
 
-    // the lock is used to control the access to transaction states
-    // no other locks should be inside this lock
+    // the lock is used to serialize the modifications of transaction states
+    // no other locks should be inside this lock.
+    // idToRunningTransactionState, idToFinalStatusTransactionState and labelToTxnIds are concurrent maps,
+    // so the lookups of a transaction and the traversals for publish and timeout do not need this lock.
+    // SHOW TRANSACTION still holds the read lock, because it reads the internal collections of TransactionState.
+    // A final status txn is put into idToFinalStatusTransactionState before being removed from
+    // idToRunningTransactionState, so a lock free lookup can always find a txn which is not cleared.
     private final MonitoredReentrantReadWriteLock transactionLock = new MonitoredReentrantReadWriteLock(true);
 
     // transactionId -> running TransactionState
-    private final Map<Long, TransactionState> idToRunningTransactionState = Maps.newHashMap();
+    private final Map<Long, TransactionState> idToRunningTransactionState = new ConcurrentHashMap<>();
 
     // transactionId -> final status TransactionState
-    private final Map<Long, TransactionState> idToFinalStatusTransactionState = Maps.newHashMap();
+    private final Map<Long, TransactionState> idToFinalStatusTransactionState = new ConcurrentHashMap<>();
     private final Map<Long, Long> subTxnIdToTxnId = new ConcurrentHashMap<>();
 
     // The following 2 queues are to store transactionStates with final status
@@ -143,7 +149,7 @@ public class DatabaseTransactionMgr {
     // this member should be consistent with idToTransactionState,
     // which means if a txn exist in idToRunningTransactionState or idToFinalStatusTransactionState
     // it must exists in dbIdToTxnLabels, and vice versa
-    private final Map<String, Set<Long>> labelToTxnIds = Maps.newHashMap();
+    private final Map<String, Set<Long>> labelToTxnIds = new ConcurrentHashMap<>();
 
     // count the number of running txns of database
     private volatile int runningTxnNums = 0;
@@ -193,12 +199,7 @@ public class DatabaseTransactionMgr {
     }
 
     protected TransactionState getTransactionState(Long transactionId) {
-        readLock();
-        try {
-            return unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
-        }
+        return unprotectedGetTransactionState(transactionId);
     }
 
     private TransactionState unprotectedGetTransactionState(Long transactionId) {
@@ -230,6 +231,8 @@ public class DatabaseTransactionMgr {
         return idToFinalStatusTransactionState.size();
     }
 
+    // The SHOW paths below read the internal collections of TransactionState, such as error replicas and
+    // table commit infos, which are modified under the write lock, so they still hold the read lock.
     public List<List<String>> getTxnStateInfoList(boolean running, int limit) {
         List<List<String>> infos = Lists.newArrayList();
         Collection<TransactionState> transactionStateCollection = null;
@@ -407,13 +410,7 @@ public class DatabaseTransactionMgr {
         // check status
         // the caller method already own db lock, we do not obtain db lock here
         Database db = env.getInternalCatalog().getDbOrMetaException(dbId);
-        TransactionState transactionState;
-        readLock();
-        try {
-            transactionState = unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = getTransactionState(transactionId);
         if (transactionState == null
                 || transactionState.getTransactionStatus() == TransactionStatus.ABORTED) {
             throw new TransactionCommitFailedException(
@@ -777,13 +774,7 @@ public class DatabaseTransactionMgr {
         // check status
         // the caller method already own tables' write lock
         Database db = env.getInternalCatalog().getDbOrMetaException(dbId);
-        TransactionState transactionState;
-        readLock();
-        try {
-            transactionState = unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = getTransactionState(transactionId);
 
         if (!checkTransactionStateBeforeCommit(db, tableList, transactionId, is2PC, transactionState)) {
             return;
@@ -830,13 +821,7 @@ public class DatabaseTransactionMgr {
         // check status
         // the caller method already own tables' write lock
         Database db = env.getInternalCatalog().getDbOrMetaException(dbId);
-        TransactionState transactionState;
-        readLock();
-        try {
-            transactionState = unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = getTransactionState(transactionId);
 
         if (DebugPointUtil.isEnable("DatabaseTransactionMgr.commitTransaction.failed")) {
             throw new TabletQuorumFailedException(transactionId,
@@ -890,13 +875,7 @@ public class DatabaseTransactionMgr {
 
     public boolean waitForTransactionFinished(DatabaseIf db, long transactionId, long timeoutMillis)
             throws TransactionCommitFailedException {
-        TransactionState transactionState = null;
-        readLock();
-        try {
-            transactionState = unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = getTransactionState(transactionId);
 
         switch (transactionState.getTransactionStatus()) {
             case COMMITTED:
@@ -995,18 +974,20 @@ public class DatabaseTransactionMgr {
     }
 
     public TransactionStatus getLabelState(String label) {
-        readLock();
-        try {
-            Set<Long> existingTxnIds = unprotectedGetTxnIdsByLabel(label);
-            if (existingTxnIds == null || existingTxnIds.isEmpty()) {
-                return TransactionStatus.UNKNOWN;
-            }
-            // find the latest txn (which id is largest)
-            long maxTxnId = existingTxnIds.stream().max(Comparator.comparingLong(Long::valueOf)).get();
-            return unprotectedGetTransactionState(maxTxnId).getTransactionStatus();
-        } finally {
-            readUnlock();
+        Set<Long> labelTxnIds = unprotectedGetTxnIdsByLabel(label);
+        if (labelTxnIds == null) {
+            return TransactionStatus.UNKNOWN;
+        }
+        // the txn ids of the label may be cleared concurrently, take a snapshot first
+        Set<Long> existingTxnIds = ImmutableSet.copyOf(labelTxnIds);
+        // find the latest txn (which id is largest)
+        Long maxTxnId = existingTxnIds.stream().max(Comparator.comparingLong(Long::valueOf)).orElse(null);
+        if (maxTxnId == null) {
+            return TransactionStatus.UNKNOWN;
         }
+        TransactionState transactionState = unprotectedGetTransactionState(maxTxnId);
+        // the txn may be cleared concurrently
+        return transactionState == null ? TransactionStatus.UNKNOWN : transactionState.getTransactionStatus();
     }
 
     protected Long getTransactionIdByLabel(String label) {
@@ -1052,31 +1033,21 @@ public class DatabaseTransactionMgr {
     }
 
     protected List<TransactionState> getPreCommittedTxnList() {
-        readLock();
-        try {
-            // only send task to preCommitted transaction
-            return idToRunningTransactionState.values().stream()
-                    .filter(transactionState
-                            -> (transactionState.getTransactionStatus() == TransactionStatus.PRECOMMITTED))
-                    .sorted(Comparator.comparing(TransactionState::getPreCommitTime))
-                    .collect(Collectors.toList());
-        } finally {
-            readUnlock();
-        }
+        // only send task to preCommitted transaction
+        return idToRunningTransactionState.values().stream()
+                .filter(transactionState
+                        -> (transactionState.getTransactionStatus() == TransactionStatus.PRECOMMITTED))
+                .sorted(Comparator.comparing(TransactionState::getPreCommitTime))
+                .collect(Collectors.toList());
     }
 
     protected List<TransactionState> getCommittedTxnList() {
-        readLock();
-        try {
-            // only send task to committed transaction
-            return idToRunningTransactionState.values().stream()
-                    .filter(transactionState ->
-                            (transactionState.getTransactionStatus() == TransactionStatus.COMMITTED))
-                    .sorted(Comparator.comparing(TransactionState::getCommitTime))
-                    .collect(Collectors.toList());
-        } finally {
-            readUnlock();
-        }
+        // only send task to committed transaction
+        return idToRunningTransactionState.values().stream()
+                .filter(transactionState ->
+                        (transactionState.getTransactionStatus() == TransactionStatus.COMMITTED))
+                .sorted(Comparator.comparing(TransactionState::getCommitTime))
+                .collect(Collectors.toList());
     }
 
     public void finishTransaction(long transactionId, Map<Long, Long> partitionVisibleVersions,
@@ -1085,13 +1056,7 @@ public class DatabaseTransactionMgr {
             return;
         }
 
-        TransactionState transactionState = null;
-        readLock();
-        try {
-            transactionState = unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = getTransactionState(transactionId);
 
         // case 1 If database is dropped, then we just throw MetaNotFoundException, because all related tables are
         // already force dropped, we just ignore the transaction with all tables been force dropped.
@@ -1675,10 +1640,10 @@ public class DatabaseTransactionMgr {
                 }
             }
         } else {
+            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             if (idToRunningTransactionState.remove(transactionState.getTransactionId()) != null) {
                 runningTxnNums--;
             }
-            idToFinalStatusTransactionState.put(transactionState.getTransactionId(), transactionState);
             if (transactionState.isShortTxn()) {
                 finalStatusTransactionStateDequeShort.add(transactionState);
             } else {
@@ -1703,7 +1668,8 @@ public class DatabaseTransactionMgr {
     }
 
     private void updateTxnLabels(TransactionState transactionState) {
-        Set<Long> txnIds = labelToTxnIds.computeIfAbsent(transactionState.getLabel(), k -> Sets.newHashSet());
+        Set<Long> txnIds = labelToTxnIds.computeIfAbsent(transactionState.getLabel(),
+                k -> ConcurrentHashMap.newKeySet());
         txnIds.add(transactionState.getTransactionId());
     }
 
@@ -1722,13 +1688,7 @@ public class DatabaseTransactionMgr {
                     + " ignore abort operation", transactionId);
             return;
         }
-        TransactionState transactionState = null;
-        readLock();
-        try {
-            transactionState = idToRunningTransactionState.get(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = idToRunningTransactionState.get(transactionId);
         if (transactionState == null) {
             throw new TransactionNotFoundException("transaction not found", transactionId);
         }
@@ -1768,13 +1728,7 @@ public class DatabaseTransactionMgr {
                     + " ignore abort operation", transactionId);
             return;
         }
-        TransactionState transactionState;
-        readLock();
-        try {
-            transactionState = unprotectedGetTransactionState(transactionId);
-        } finally {
-            readUnlock();
-        }
+        TransactionState transactionState = getTransactionState(transactionId);
 
         if (transactionState == null) {
             throw new TransactionNotFoundException("transaction [" + transactionId + "] not found");
@@ -2414,16 +2368,11 @@ public class DatabaseTransactionMgr {
 
     public List<Long> getTimeoutTxns(long currentMillis) {
         List<Long> timeoutTxns = Lists.newArrayList();
-        readLock();
-        try {
-            for (TransactionState transactionState : idToRunningTransactionState.values()) {
-                if (transactionState.isTimeout(currentMillis)) {
-                    // txn is running but timeout, abort it.
-                    timeoutTxns.add(transactionState.getTransactionId());
-                }
+        for (TransactionState transactionState : idToRunningTransactionState.values()) {
+            if (transactionState.isTimeout(currentMillis)) {
+                // txn is running but timeout, abort it.
+                timeoutTxns.add(transactionState.getTransactionId());
             }
-        } finally {
-            readUnlock();
         }
         return timeoutTxns;
     }
@@ -2475,15 +2424,10 @@ public class DatabaseTransactionMgr {
 
     public List<List<String>> getDbTransStateInfo() {
         List<List<String>> infos = Lists.newArrayList();
-        readLock();
-        try {
-            infos.add(Lists.newArrayList("running", String.valueOf(
-                    runningTxnNums)));
-            long finishedNum = getFinishedTxnNums();
-            infos.add(Lists.newArrayList("finished", String.valueOf(finishedNum)));
-        } finally {
-            readUnlock();
-        }
+        infos.add(Lists.newArrayList("running", String.valueOf(
+                runningTxnNums)));
+        long finishedNum = getFinishedTxnNums();
+        infos.add(Lists.newArrayList("finished", String.valueOf(finishedNum)));
         return infos;
     }
 
@@ -2556,17 +2500,12 @@ public class DatabaseTransactionMgr {
     }
 
     public long getTxnNumByStatus(TransactionStatus status) {
-        readLock();
-        try {
-            if (idToRunningTransactionState.size() > 10000) {
-                return idToRunningTransactionState.values().parallelStream()
-                        .filter(t -> t.getTransactionStatus() == status).count();
-            } else {
-                return idToRunningTransactionState.values().stream().filter(t -> t.getTransactionStatus() == status)
-                        .count();
-            }
-        } finally {
-            readUnlock();
+        if (idToRunningTransactionState.size() > 10000) {
+            return idToRunningTransactionState.values().parallelStream()
+                    .filter(t -> t.getTransactionStatus() == status).count();
+        } else {
+            return idToRunningTransactionState.values().stream().filter(t -> t.getTransactionStatus() == status)
+                    .count();
         }
     }
 
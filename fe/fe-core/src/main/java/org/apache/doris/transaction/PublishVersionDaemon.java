@@ -17,6 +17,7 @@
 
 package org.apache.doris.transaction;
 
+import org.apache.doris.catalog.Database;
 import org.apache.doris.catalog.Env;
 import org.apache.doris.catalog.MaterializedIndex;
 import org.apache.doris.catalog.OlapTable;
@@ -39,6 +40,7 @@ import org.apache.doris.task.UpdateVisibleVersionTask;
 import org.apache.doris.thrift.TPartitionVersionInfo;
 import org.apache.doris.thrift.TTaskType;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
 import org.apache.commons.collections.CollectionUtils;
@@ -170,21 +172,36 @@ public class PublishVersionDaemon extends MasterDaemon {
                 transactionState.getDbId());
     }
 
-    private void tryFinishTxn(List<TransactionState> readyTransactionStates,
+    @VisibleForTesting
+    void tryFinishTxn(List<TransactionState> readyTransactionStates,
             SystemInfoService infoService, GlobalTransactionMgrIface globalTransactionMgr) {
+        boolean batchFinish = Config.enable_parallel_publish_version && Config.enable_batch_finish_publish_version;
+        // dbId -> transactions can be finished in this round, in the order of commit
+        Map<Long, List<TransactionState>> dbIdToFinishTxns = Maps.newHashMap();
         for (TransactionState transactionState : readyTransactionStates) {
             try {
                 // try to finish the transaction, if failed just retry in next loop
-                tryFinishOneTxn(transactionState, infoService, globalTransactionMgr);
+                if (!shouldFinishTxn(transactionState, infoService)) {
+                    continue;
+                }
+                if (batchFinish) {
+                    dbIdToFinishTxns.computeIfAbsent(transactionState.getDbId(), k -> new ArrayList<>())
+                            .add(transactionState);
+                } else if (Config.enable_parallel_publish_version) {
+                    tryFinishTxnAsync(transactionState, globalTransactionMgr);
+                } else {
+                    tryFinishTxnSync(transactionState, globalTransactionMgr);
+                }
             } catch (Throwable t) {
                 LOG.error("errors while finish transaction: {}, publish tasks: {}", transactionState,
                         transactionState.getPublishVersionTasks(), t);
             }
         } // end for readyTransactionStates
+        dbIdToFinishTxns.forEach((dbId, transactionStates) ->
+                tryFinishTxnsAsync(dbId, transactionStates, globalTransactionMgr));
     }
 
-    private void tryFinishOneTxn(TransactionState transactionState, SystemInfoService infoService,
-            GlobalTransactionMgrIface globalTransactionMgr) {
+    private boolean shouldFinishTxn(TransactionState transactionState, SystemInfoService infoService) {
         Map<Long, Map<Long, Long>> tableIdToTabletDeltaRows = Maps.newHashMap();
         AtomicBoolean hasBackendAliveAndUnfinishedTask = new AtomicBoolean(false);
         Set<Long> notFinishTaskBe = Sets.newHashSet();
@@ -224,15 +241,41 @@ public class PublishVersionDaemon extends MasterDaemon {
             isPublishSlow = true;
         }
 
-        boolean shouldFinishTxn = !hasBackendAliveAndUnfinishedTask.get() || transactionState.isPublishTimeout()
+        return !hasBackendAliveAndUnfinishedTask.get() || transactionState.isPublishTimeout()
                 || isPublishSlow
                 || DebugPointUtil.isEnable("PublishVersionDaemon.not_wait_unfinished_tasks");
-        if (shouldFinishTxn) {
-            if (Config.enable_parallel_publish_version) {
-                tryFinishTxnAsync(transactionState, globalTransactionMgr);
-            } else {
-                tryFinishTxnSync(transactionState, globalTransactionMgr);
-            }
+    }
+
+    /**
+     * Finish the transactions of a db by one task of the db executor.
+     * The transactions are finished in the order of commit, so the transactions on the same partition
+     * can become visible one after another in the same round, and the executor queue is not filled up
+     * by lots of small transactions.
+     */
+    private void tryFinishTxnsAsync(long dbId, List<TransactionState> transactionStates,
+            GlobalTransactionMgrIface globalTransactionMgr) {
+        List<TransactionState> finishTxns = transactionStates.stream()
+                .filter(transactionState -> publishingTxnIds.add(transactionState.getTransactionId()))
+                .collect(Collectors.toList());
+        if (finishTxns.isEmpty()) {
+            return;
+        }
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("try to finish {} transactions of db {} in batch", finishTxns.size(), dbId);
+        }
+        try {
+            dbExecutors.get((int) (dbId % Config.publish_thread_pool_num)).execute(() -> {
+                for (TransactionState transactionState : finishTxns) {
+                    try {
+                        tryFinishTxnSync(transactionState, globalTransactionMgr);
+                    } finally {
+                        publishingTxnIds.remove(transactionState.getTransactionId());
+                    }
+                }
+            });
+        } catch (Throwable e) {
+            LOG.warn("failed to finish {} transactions of db {}", finishTxns.size(), dbId, e);
+            finishTxns.forEach(transactionState -> publishingTxnIds.remove(transactionState.getTransactionId()));
         }
     }
 
@@ -259,8 +302,10 @@ public class PublishVersionDaemon extends MasterDaemon {
 
     private void tryFinishTxnSync(TransactionState transactionState, GlobalTransactionMgrIface globalTransactionMgr) {
         try {
-            partitionVisibleVersions = Maps.newHashMap();
-            backendPartitions = Maps.newHashMap();
+            // the maps are merged into the members by addBackendVisibleVersions, and
+            // this method may run in several executors concurrently, so do not share the members here
+            Map<Long, Long> partitionVisibleVersions = Maps.newHashMap();
+            Map<Long, Set<Long>> backendPartitions = Maps.newHashMap();
             // one transaction exception should not affect other transaction
             globalTransactionMgr.finishTransaction(transactionState.getDbId(),
                     transactionState.getTransactionId(), partitionVisibleVersions, backendPartitions);
@@ -289,6 +334,12 @@ public class PublishVersionDaemon extends MasterDaemon {
                 long publishTime = transactionState.getLastPublishVersionTime()
                         - transactionState.getCommitTime();
                 MetricRepo.HISTO_TXN_PUBLISH_LATENCY.update(publishTime);
+                if (Config.enable_db_txn_publish_latency_metric) {
+                    Database db = Env.getCurrentInternalCatalog().getDbNullable(transactionState.getDbId());
+                    if (db != null) {
+                        MetricRepo.DB_HISTO_TXN_PUBLISH_LATENCY.getOrAdd(db.getFullName()).update(publishTime);
+                    }
+                }
             }
         }
     }
@@ -0,0 +1,71 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.catalog;
+
+import org.apache.doris.catalog.Replica.ReplicaState;
+import org.apache.doris.thrift.TStorageMedium;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class TabletInvertedIndexTest {
+
+    @Test
+    public void testTabletsInDifferentShards() {
+        TabletInvertedIndex invertedIndex = new TabletInvertedIndex();
+        TabletMeta tabletMeta = new TabletMeta(1, 2, 3, 4, 5, TStorageMedium.HDD);
+        int tabletNum = 1000;
+        for (long tabletId = 1; tabletId <= tabletNum; tabletId++) {
+            invertedIndex.addTablet(tabletId, tabletMeta);
+            for (long backendId = 1; backendId <= 3; backendId++) {
+                invertedIndex.addReplica(tabletId, new Replica(tabletId * 10 + backendId, backendId,
+                        ReplicaState.NORMAL, 1, 5));
+            }
+        }
+
+        Assertions.assertEquals(tabletNum, invertedIndex.getTabletMetaMap().size());
+        Assertions.assertEquals(tabletNum * 3, invertedIndex.getReplicaMetaTable().size());
+        Assertions.assertEquals(tabletNum, invertedIndex.getTabletNumByBackendId(1));
+        Assertions.assertSame(tabletMeta, invertedIndex.getTabletMeta(100));
+        Assertions.assertEquals(3, invertedIndex.getReplicas(100L).size());
+        Assertions.assertEquals(1002, invertedIndex.getReplica(100, 2).getId());
+        Assertions.assertEquals(Long.valueOf(100L), invertedIndex.getTabletIdByReplica(1003));
+
+        List<TabletMeta> tabletMetas = invertedIndex.getTabletMetaList(Lists.newArrayList(1L, tabletNum + 1L));
+        Assertions.assertSame(tabletMeta, tabletMetas.get(0));
+        Assertions.assertSame(TabletInvertedIndex.NOT_EXIST_TABLET_META, tabletMetas.get(1));
+
+        invertedIndex.deleteReplica(100, 2);
+        Assertions.assertNull(invertedIndex.getReplica(100, 2));
+        Assertions.assertEquals(2, invertedIndex.getReplicasByTabletId(100).size());
+        Assertions.assertNull(invertedIndex.getTabletIdByReplica(1002));
+
+        invertedIndex.deleteTablet(100);
+        Assertions.assertNull(invertedIndex.getTabletMeta(100));
+        Assertions.assertTrue(invertedIndex.getReplicas(100L).isEmpty());
+        Assertions.assertNull(invertedIndex.getTabletIdByReplica(1001));
+        Assertions.assertEquals(tabletNum - 1, invertedIndex.getTabletNumByBackendId(1));
+
+        invertedIndex.clear();
+        Assertions.assertTrue(invertedIndex.getTabletMetaMap().isEmpty());
+        Assertions.assertTrue(invertedIndex.getReplicaMetaTable().isEmpty());
+    }
+}
@@ -466,6 +466,65 @@ class ProfileManagerTest {
         Assertions.assertEquals(0, profileManager.queryIdToExecutionProfiles.size());
     }
 
+    @Test
+    void testStoredProfileIndex() {
+        for (int i = 9; i >= 0; i--) {
+            Profile profile = ProfilePersistentTest.constructRandomProfile(1);
+            profile.isQueryFinished = true;
+            profile.setQueryFinishTimestamp(1000L + i);
+            new Expectations(profile) {
+                {
+                    profile.shouldStoreToStorage();
+                    result = true;
+                }
+            };
+            profileManager.pushProfile(profile);
+        }
+        Assertions.assertTrue(profileManager.storedProfileIndex.isEmpty());
+        Assertions.assertTrue(profileManager.getStoredProfileMetaByFinishTime(1000L, 1010L).isEmpty());
+
+        profileManager.writeProfileToStorage();
+
+        // stored profiles are ordered by query finish time
+        Assertions.assertEquals(10, profileManager.storedProfileIndex.size());
+        long expectedFinishTime = 1000L;
+        for (ProfileElement element : profileManager.storedProfileIndex.values()) {
+            Assertions.assertEquals(expectedFinishTime++, element.profile.getQueryFinishTimestamp());
+        }
+        Assertions.assertEquals(10, profileManager.getStoredProfileMetaByFinishTime(0L, Long.MAX_VALUE).size());
+        Assertions.assertTrue(profileManager.getStoredProfileMetaByFinishTime(1010L, 2000L).isEmpty());
+        Assertions.assertTrue(profileManager.getStoredProfileMetaByFinishTime(1005L, 1005L).isEmpty());
+        List<List<String>> rows = profileManager.getStoredProfileMetaByFinishTime(1003L, 1007L);
+        Assertions.assertEquals(4, rows.size());
+        int profileIdIndex = SummaryProfile.SUMMARY_KEYS.indexOf(SummaryProfile.PROFILE_ID);
+        List<ProfileElement> expected = Lists.newArrayList(profileManager.storedProfileIndex.values()).subList(3, 7);
+        for (int i = 0; i < rows.size(); i++) {
+            Assertions.assertEquals(expected.get(i).profile.getSummaryProfile().getProfileId(),
+                    rows.get(i).get(profileIdIndex));
+        }
+
+        // a stored profile which is evicted from memory is removed from the index as well
+        ProfileElement oldest = profileManager.storedProfileIndex.firstEntry().getValue();
+        int originMaxQueryProfileNum = Config.max_query_profile_num;
+        try {
+            Config.max_query_profile_num = 9;
+            profileManager.deleteOutdatedProfilesFromMemory(0);
+        } finally {
+            Config.max_query_profile_num = originMaxQueryProfileNum;
+        }
+        Assertions.assertEquals(9, profileManager.storedProfileIndex.size());
+        Assertions.assertFalse(profileManager.storedProfileIndex.containsValue(oldest));
+        Assertions.assertTrue(profileManager.getStoredProfileMetaByFinishTime(1000L, 1001L).isEmpty());
+
+        // a stored profile which is replaced in memory is removed from the index as well
+        ProfileElement newest = profileManager.storedProfileIndex.lastEntry().getValue();
+        profileManager.pushProfile(newest.profile);
+        Assertions.assertEquals(9, profileManager.storedProfileIndex.size());
+        Assertions.assertFalse(profileManager.storedProfileIndex.containsValue(newest));
+        Assertions.assertSame(newest.profile,
+                profileManager.storedProfileIndex.lastEntry().getValue().profile);
+    }
+
     @Test
     void testGetProfilesToBeRemoved() throws IOException {
         int originMaxSpilledProfileNum = Config.max_spilled_profile_num;
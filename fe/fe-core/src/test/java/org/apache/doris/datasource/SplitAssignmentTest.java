@@ -18,12 +18,14 @@
 package org.apache.doris.datasource;
 
 import org.apache.doris.common.UserException;
+import org.apache.doris.common.util.LocationPath;
 import org.apache.doris.spi.Split;
 import org.apache.doris.system.Backend;
 import org.apache.doris.thrift.TScanRangeLocations;
 
 import com.google.common.collect.ArrayListMultimap;
 import com.google.common.collect.Multimap;
+import mockit.Delegate;
 import mockit.Expectations;
 import mockit.Injectable;
 import mockit.MockUp;
@@ -424,4 +426,49 @@ public class SplitAssignmentTest {
         // Init should complete immediately without waiting
         Assertions.assertDoesNotThrow(() -> splitAssignment.init());
     }
+
+    private static FileSplit exactRowsSplit(String path, long exactRowCount) {
+        FileSplit split = new FileSplit(LocationPath.of(path), 0, 100, 100, 0, null, Collections.emptyList());
+        split.exactRowCount = exactRowCount;
+        return split;
+    }
+
+    @Test
+    void testAddToQueueFinishScheduleByLimit() throws Exception {
+        FileSplit split1 = exactRowsSplit("hdfs://nn/path/file1", 6);
+        FileSplit split2 = exactRowsSplit("hdfs://nn/path/file2", 6);
+        new Expectations() {
+            {
+                mockBackendPolicy.computeScanRangeAssignment((List<Split>) any);
+                result = new Delegate<Multimap<Backend, Split>>() {
+                    Multimap<Backend, Split> delegate(List<Split> splits) {
+                        Multimap<Backend, Split> batch = ArrayListMultimap.create();
+                        batch.putAll(mockBackend, splits);
+                        return batch;
+                    }
+                };
+
+                mockSplitToScanRange.getScanRange((Backend) any, (Map<String, String>) any, (Split) any,
+                        (List<String>) any);
+                result = mockScanRangeLocations;
+                minTimes = 0;
+            }
+        };
+
+        splitAssignment.setLimit(10);
+        splitAssignment.addToQueue(Collections.singletonList(split1));
+        Assertions.assertEquals(6, splitAssignment.getNumExactRows());
+        Assertions.assertTrue(splitAssignment.needMoreSplit());
+
+        splitAssignment.addToQueue(Collections.singletonList(split2));
+        Assertions.assertEquals(12, splitAssignment.getNumExactRows());
+        // the splits are enough for the limit, stop generating splits
+        Assertions.assertFalse(splitAssignment.needMoreSplit());
+        Assertions.assertEquals(2, splitAssignment.getAssignedSplits(mockBackend).size());
+
+        // the batch dropped after the schedule is finished does not count towards the limit
+        splitAssignment.addToQueue(Collections.singletonList(exactRowsSplit("hdfs://nn/path/file3", 6)));
+        Assertions.assertEquals(12, splitAssignment.getNumExactRows());
+        Assertions.assertEquals(2, splitAssignment.getAssignedSplits(mockBackend).size());
+    }
 }
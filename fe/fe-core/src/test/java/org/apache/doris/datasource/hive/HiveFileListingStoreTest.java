@@ -0,0 +1,171 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.datasource.hive;
+
+import org.apache.doris.common.util.LocationPath;
+import org.apache.doris.datasource.hive.HiveMetaStoreCache.FileCacheKey;
+import org.apache.doris.datasource.hive.HiveMetaStoreCache.FileCacheValue;
+import org.apache.doris.datasource.hive.HiveMetaStoreCache.HiveFileStatus;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.apache.hadoop.fs.BlockLocation;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+public class HiveFileListingStoreTest {
+    @TempDir
+    File storeDir;
+
+    private final Map<FileCacheKey, FileCacheValue> cachedListings = Maps.newHashMap();
+
+    private HiveFileListingStore newStore() {
+        return new HiveFileListingStore(storeDir.getPath(), "hive", () -> cachedListings, LocationPath::of);
+    }
+
+    private static FileCacheKey newKey(long tableId, String location, String value, long lastDdlTime) {
+        FileCacheKey key = new FileCacheKey(tableId, location, "", Lists.newArrayList(value));
+        key.setLastDdlTime(lastDdlTime);
+        return key;
+    }
+
+    private static FileCacheValue newValue(String location, String value) {
+        FileCacheValue fileCacheValue = new FileCacheValue();
+        fileCacheValue.setSplittable(true);
+        fileCacheValue.setPartitionValues(Lists.newArrayList(value));
+        HiveFileStatus status = new HiveFileStatus();
+        status.setPath(LocationPath.of(location + "/000000_0"));
+        status.setLength(1024);
+        status.setBlockSize(128);
+        status.setModificationTime(1000);
+        status.setBlockLocations(new BlockLocation[] {
+                new BlockLocation(new String[] {"host1:9866"}, new String[] {"host1"}, 0, 1024)});
+        fileCacheValue.getFiles().add(status);
+        return fileCacheValue;
+    }
+
+    @Test
+    public void testSaveAndLoad() throws Exception {
+        String location1 = "hdfs://nn/warehouse/t1/p=1";
+        String location2 = "hdfs://nn/warehouse/t2/p=2";
+        cachedListings.put(newKey(1, location1, "1", 1000), newValue(location1, "1"));
+        cachedListings.put(newKey(2, location2, "2", 2000), newValue(location2, "2"));
+        // the listing of unknown last ddl time is not persisted
+        cachedListings.put(newKey(2, "hdfs://nn/warehouse/t2/p=3", "3", 0), newValue(location2, "3"));
+
+        HiveFileListingStore store = newStore();
+        store.load();
+        store.markDirty();
+        store.save();
+
+        cachedListings.clear();
+        HiveFileListingStore restarted = newStore();
+        Assertions.assertNull(restarted.get(newKey(1, location1, "1", 1000)));
+        restarted.load();
+        FileCacheValue value = restarted.get(newKey(1, location1, "1", 1000));
+        Assertions.assertNotNull(value);
+        Assertions.assertTrue(value.isSplittable());
+        Assertions.assertEquals(Lists.newArrayList("1"), value.getPartitionValues());
+        Assertions.assertEquals(1, value.getFiles().size());
+        HiveFileStatus status = value.getFiles().get(0);
+        Assertions.assertEquals(location1 + "/000000_0", status.getPath().getNormalizedLocation());
+        Assertions.assertEquals(1024, status.getLength());
+        Assertions.assertEquals("host1", status.getBlockLocations()[0].getHosts()[0]);
+        // the partition has been changed since the files were listed
+        Assertions.assertNull(restarted.get(newKey(1, location1, "1", 3000)));
+        Assertions.assertNull(restarted.get(newKey(2, "hdfs://nn/warehouse/t2/p=3", "3", 0)));
+
+        // the evicted listings are kept, the invalidated ones are removed
+        restarted.invalidateTable(1);
+        Assertions.assertNull(restarted.get(newKey(1, location1, "1", 1000)));
+        restarted.save();
+        HiveFileListingStore restartedAgain = newStore();
+        restartedAgain.load();
+        Assertions.assertNull(restartedAgain.get(newKey(1, location1, "1", 1000)));
+        Assertions.assertNotNull(restartedAgain.get(newKey(2, location2, "2", 2000)));
+    }
+
+    @Test
+    public void testInvalidateWhileSaving() throws Exception {
+        String location1 = "hdfs://nn/warehouse/t1/p=1";
+        String location2 = "hdfs://nn/warehouse/t2/p=2";
+        cachedListings.put(newKey(1, location1, "1", 1000), newValue(location1, "1"));
+        cachedListings.put(newKey(2, location2, "2", 2000), newValue(location2, "2"));
+        AtomicReference<HiveFileListingStore> storeRef = new AtomicReference<>();
+        AtomicBoolean refreshing = new AtomicBoolean(false);
+        // REFRESH invalidates the store after the listing of location1 in memory has been taken by save()
+        HiveFileListingStore store = new HiveFileListingStore(storeDir.getPath(), "hive", () -> {
+            if (refreshing.getAndSet(false)) {
+                Thread refresh = new Thread(() -> storeRef.get().invalidateLocation(location1));
+                refresh.start();
+                try {
+                    // the invalidation must not wait for the snapshot being written
+                    refresh.join(10000);
+                } catch (InterruptedException e) {
+                    throw new RuntimeException(e);
+                }
+                Assertions.assertFalse(refresh.isAlive());
+            }
+            return cachedListings;
+        }, LocationPath::of);
+        storeRef.set(store);
+        store.load();
+
+        refreshing.set(true);
+        store.markDirty();
+        store.save();
+        // the snapshot is discarded, so the invalidated listing does not come back
+        Assertions.assertNull(store.get(newKey(1, location1, "1", 1000)));
+        HiveFileListingStore restarted = newStore();
+        restarted.load();
+        Assertions.assertNull(restarted.get(newKey(1, location1, "1", 1000)));
+        Assertions.assertNull(restarted.get(newKey(2, location2, "2", 2000)));
+
+        // saved again in the next cycle, without the listing removed from memory by REFRESH
+        cachedListings.remove(newKey(1, location1, "1", 1000));
+        store.save();
+        restarted = newStore();
+        restarted.load();
+        Assertions.assertNull(restarted.get(newKey(1, location1, "1", 1000)));
+        Assertions.assertNotNull(restarted.get(newKey(2, location2, "2", 2000)));
+    }
+
+    @Test
+    public void testInvalidateBeforeLoaded() throws Exception {
+        String location1 = "hdfs://nn/warehouse/t1/p=1";
+        cachedListings.put(newKey(1, location1, "1", 1000), newValue(location1, "1"));
+        HiveFileListingStore store = newStore();
+        store.load();
+        store.markDirty();
+        store.save();
+
+        // REFRESH before the persisted listings are loaded after restart
+        cachedListings.clear();
+        HiveFileListingStore restarted = newStore();
+        restarted.invalidateTable(1);
+        restarted.load();
+        Assertions.assertNull(restarted.get(newKey(1, location1, "1", 1000)));
+    }
+}
@@ -0,0 +1,98 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.master;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.thrift.TTablet;
+import org.apache.doris.thrift.TTabletInfo;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+public class TabletReportDigestsTest {
+    private final int oldMaxSkipTimes = Config.max_continuous_skip_tablet_report_times;
+
+    @AfterEach
+    public void tearDown() {
+        Config.max_continuous_skip_tablet_report_times = oldMaxSkipTimes;
+    }
+
+    private static TTablet tablet(long tabletId, long version) {
+        TTabletInfo info = new TTabletInfo(tabletId, 1, version, 0, 100, 10);
+        return new TTablet(Lists.newArrayList(info));
+    }
+
+    private static Map<Long, TTablet> tablets(long version) {
+        Map<Long, TTablet> tablets = Maps.newHashMap();
+        for (long id = 1; id <= 100; id++) {
+            tablets.put(id, tablet(id, version));
+        }
+        return tablets;
+    }
+
+    @Test
+    public void testDigestIgnoreOrder() {
+        Map<Long, TTablet> tablets = tablets(2);
+        Map<Long, Long> partitions = Maps.newHashMap();
+        partitions.put(10L, 2L);
+        partitions.put(11L, 3L);
+        long digest = TabletReportDigests.computeDigest(tablets, partitions);
+        Assertions.assertEquals(digest, TabletReportDigests.computeDigest(new TreeMap<>(tablets),
+                new TreeMap<>(partitions)));
+
+        Map<Long, TTablet> changed = tablets(2);
+        changed.put(50L, tablet(50, 3));
+        Assertions.assertNotEquals(digest, TabletReportDigests.computeDigest(changed, partitions));
+        changed = tablets(2);
+        changed.remove(50L);
+        Assertions.assertNotEquals(digest, TabletReportDigests.computeDigest(changed, partitions));
+        Map<Long, Long> changedPartitions = Maps.newHashMap(partitions);
+        changedPartitions.put(10L, 3L);
+        Assertions.assertNotEquals(digest, TabletReportDigests.computeDigest(tablets, changedPartitions));
+    }
+
+    @Test
+    public void testCheckAndUpdate() {
+        Config.max_continuous_skip_tablet_report_times = 2;
+        TabletReportDigests digests = new TabletReportDigests();
+        Map<Long, Long> partitions = Maps.newHashMap();
+
+        Assertions.assertFalse(digests.checkAndUpdate(1L, tablets(2), partitions, 100L));
+        Assertions.assertTrue(digests.checkAndUpdate(1L, tablets(2), partitions, 100L));
+        // other backend
+        Assertions.assertFalse(digests.checkAndUpdate(2L, tablets(2), partitions, 100L));
+        Assertions.assertTrue(digests.checkAndUpdate(1L, tablets(2), partitions, 100L));
+        // skipped too many times
+        Assertions.assertFalse(digests.checkAndUpdate(1L, tablets(2), partitions, 100L));
+        Assertions.assertTrue(digests.checkAndUpdate(1L, tablets(2), partitions, 100L));
+
+        // tablets changed
+        Assertions.assertFalse(digests.checkAndUpdate(1L, tablets(3), partitions, 100L));
+        Assertions.assertTrue(digests.checkAndUpdate(1L, tablets(3), partitions, 100L));
+        // meta changed
+        Assertions.assertFalse(digests.checkAndUpdate(1L, tablets(3), partitions, 101L));
+        Assertions.assertTrue(digests.checkAndUpdate(1L, tablets(3), partitions, 101L));
+    }
+}
@@ -20,16 +20,24 @@ package org.apache.doris.mysql;
 
 import org.apache.doris.common.jmockit.Deencapsulation;
 import org.apache.doris.qe.ConnectContext;
+import org.apache.doris.thrift.TResultBatch;
+
+import com.google.common.collect.Lists;
 
 import mockit.Delegate;
 import mockit.Expectations;
 import mockit.Mocked;
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TSerializer;
 import org.junit.Assert;
 import org.junit.Test;
 import org.xnio.StreamConnection;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
 
 public class MysqlChannelTest {
 
@@ -89,4 +97,99 @@ public class MysqlChannelTest {
         buf.flip();
         mysqlChannel.sendOnePacket(buf);
     }
+
+    @Test
+    public void testSendBufferBorrowedOnlyWhenSending() throws IOException {
+        new Expectations() {
+            {
+                streamConnection.getSinkChannel().write((ByteBuffer) any);
+                result = new Delegate() {
+                    int fakeWrite(ByteBuffer buffer) {
+                        int writeLen = buffer.remaining();
+                        buffer.position(buffer.limit());
+                        return writeLen;
+                    }
+                };
+
+                streamConnection.getSinkChannel().flush();
+                result = true;
+            }
+        };
+
+        ConnectContext ctx = new ConnectContext(streamConnection);
+        MysqlChannel mysqlChannel = new MysqlChannel(streamConnection, ctx);
+        Assert.assertNull(Deencapsulation.getField(mysqlChannel, "sendBuffer"));
+
+        ByteBuffer buf = ByteBuffer.allocate(8);
+        buf.putInt(1);
+        buf.putInt(2);
+        buf.flip();
+        mysqlChannel.sendOnePacket(buf);
+        ByteBuffer sendBuffer = Deencapsulation.getField(mysqlChannel, "sendBuffer");
+        Assert.assertNotNull(sendBuffer);
+        Assert.assertEquals(12, sendBuffer.position());
+
+        int idleNum = MysqlBufferPool.getIdleSendBufferNum();
+        mysqlChannel.flush();
+        Assert.assertNull(Deencapsulation.getField(mysqlChannel, "sendBuffer"));
+        Assert.assertEquals(idleNum + 1, MysqlBufferPool.getIdleSendBufferNum());
+        Assert.assertSame(sendBuffer, MysqlBufferPool.borrowSendBuffer());
+    }
+
+    @Test
+    public void testSendRowsInPlace() throws Exception {
+        ByteArrayOutputStream sent = new ByteArrayOutputStream();
+        new Expectations() {
+            {
+                streamConnection.getSinkChannel().write((ByteBuffer) any);
+                result = new Delegate() {
+                    int fakeWrite(ByteBuffer buffer) {
+                        int writeLen = buffer.remaining();
+                        byte[] bytes = new byte[writeLen];
+                        buffer.get(bytes);
+                        sent.write(bytes, 0, writeLen);
+                        return writeLen;
+                    }
+                };
+
+                streamConnection.getSinkChannel().flush();
+                result = true;
+            }
+        };
+
+        List<ByteBuffer> rows = Lists.newArrayList();
+        for (int i = 0; i < 100; i++) {
+            byte[] row = new byte[1000 + i];
+            Arrays.fill(row, (byte) i);
+            rows.add(ByteBuffer.wrap(row));
+        }
+        TResultBatch resultBatch = new TResultBatch();
+        resultBatch.setRows(rows);
+        resultBatch.setPacketSeq(1);
+        resultBatch.setIsCompressed(false);
+        TResultBatch receivedBatch = new TResultBatch();
+        new TDeserializer().deserialize(receivedBatch, new TSerializer().serialize(resultBatch));
+
+        ConnectContext ctx = new ConnectContext(streamConnection);
+        MysqlChannel mysqlChannel = new MysqlChannel(streamConnection, ctx);
+        mysqlChannel.setSequenceId(1);
+        Assert.assertTrue(mysqlChannel.sendRowsInPlace(receivedBatch.getRows()));
+
+        // same as sending rows one by one
+        ByteBuffer packets = ByteBuffer.wrap(sent.toByteArray());
+        for (int i = 0; i < 100; i++) {
+            int len = (packets.get() & 0xFF) | ((packets.get() & 0xFF) << 8) | ((packets.get() & 0xFF) << 16);
+            Assert.assertEquals(1000 + i, len);
+            Assert.assertEquals((i + 1) & 0xFF, packets.get() & 0xFF);
+            byte[] row = new byte[len];
+            packets.get(row);
+            Assert.assertArrayEquals(rows.get(i).array(), row);
+            // the content of received rows is not changed
+            Assert.assertEquals(rows.get(i), receivedBatch.getRows().get(i));
+        }
+        Assert.assertFalse(packets.hasRemaining());
+
+        // rows not deserialized from thrift
+        Assert.assertFalse(mysqlChannel.sendRowsInPlace(rows));
+    }
 }
@@ -18,6 +18,8 @@
 package org.apache.doris.nereids.memo;
 
 import org.apache.doris.nereids.cost.Cost;
+import org.apache.doris.nereids.properties.DataTrait;
+import org.apache.doris.nereids.properties.LogicalProperties;
 import org.apache.doris.nereids.properties.PhysicalProperties;
 import org.apache.doris.nereids.trees.plans.FakePlan;
 
@@ -25,6 +27,8 @@ import com.google.common.collect.Lists;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+
 public class GroupExpressionTest {
 
     @Test
@@ -58,4 +62,19 @@ public class GroupExpressionTest {
         Assertions.assertTrue(target.getLowestCostTable().containsKey(PhysicalProperties.GATHER));
         Assertions.assertEquals(PhysicalProperties.GATHER, target.getOutputProperties(PhysicalProperties.ANY));
     }
+
+    @Test
+    public void testEqualsAndHashCodeAfterReplaceChild() {
+        LogicalProperties logicalProperties = new LogicalProperties(ArrayList::new, () -> DataTrait.EMPTY_TRAIT);
+        Group child1 = new Group(new GroupId(1), logicalProperties);
+        Group child2 = new Group(new GroupId(2), logicalProperties);
+        FakePlan plan = new FakePlan();
+        GroupExpression groupExpression = new GroupExpression(plan, Lists.newArrayList(child1));
+        GroupExpression sameAfterReplace = new GroupExpression(plan, Lists.newArrayList(child2));
+        Assertions.assertNotEquals(sameAfterReplace, groupExpression);
+
+        groupExpression.replaceChild(child1, child2);
+        Assertions.assertEquals(sameAfterReplace, groupExpression);
+        Assertions.assertEquals(sameAfterReplace.hashCode(), groupExpression.hashCode());
+    }
 }
@@ -21,6 +21,7 @@ import org.apache.doris.analysis.StatementBase;
 import org.apache.doris.analysis.StmtType;
 import org.apache.doris.common.Config;
 import org.apache.doris.common.Pair;
+import org.apache.doris.nereids.DorisLexer;
 import org.apache.doris.nereids.StatementContext;
 import org.apache.doris.nereids.exceptions.AnalysisException;
 import org.apache.doris.nereids.exceptions.ParseException;
@@ -51,6 +52,8 @@ import org.apache.doris.qe.ConnectContext;
 import org.apache.doris.qe.GlobalVariable;
 import org.apache.doris.qe.StmtExecutor;
 
+import org.antlr.v4.runtime.CharStreams;
+import org.antlr.v4.runtime.CommonTokenStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -839,4 +842,46 @@ public class NereidsParserTest extends ParserTestBase {
         checkQueryTopPlanClass("SELECT a, b, sum(c) from test group by a, b WITH ROLLUP",
                 nereidsParser, LogicalRepeat.class);
     }
+
+    @Test
+    public void testParseTreeCache() {
+        boolean enableParseTreeCache = Config.enable_parse_tree_cache;
+        Config.enable_parse_tree_cache = true;
+        try {
+            String firstSql = "SELECT `date`, k1 + 1 FROM test WHERE k2 = 'a'";
+            String secondSql = "SELECT  `date`, k1 + 100 FROM test WHERE k2 = 'bcd'";
+            // same tokens except the literals and white spaces, should reuse the parse tree of the first one
+            String fingerprint = ParseTreeCache.fingerprint(lexTokens(firstSql));
+            Assertions.assertEquals(fingerprint, ParseTreeCache.fingerprint(lexTokens(secondSql)));
+            Assertions.assertNotEquals(fingerprint,
+                    ParseTreeCache.fingerprint(lexTokens("SELECT `date`, k1 - 1 FROM test WHERE k2 = 'a'")));
+
+            NereidsParser nereidsParser = new NereidsParser();
+            String first = nereidsParser.parseMultiple(firstSql).get(0).first.treeString();
+            Assertions.assertTrue(first.contains("k1 + 1"));
+            ParseTreeCache.CachedTree cachedTree = ParseTreeCache.getInstance().getIfPresent(fingerprint);
+            Assertions.assertNotNull(cachedTree);
+            // the idle tree does not retain the input stream of the first statement
+            Assertions.assertNull(cachedTree.getTree().getStart().getInputStream());
+            Assertions.assertNull(cachedTree.getTree().getStart().getTokenSource());
+            Assertions.assertTrue(ParseTreeCache.estimateBytes(fingerprint, cachedTree) > firstSql.length());
+
+            String second = nereidsParser.parseMultiple(secondSql).get(0).first.treeString();
+            Assertions.assertSame(cachedTree, ParseTreeCache.getInstance().getIfPresent(fingerprint));
+            Assertions.assertTrue(second.contains("k1 + 100"), second);
+            Assertions.assertTrue(second.contains("bcd"), second);
+            Assertions.assertTrue(second.contains("date"), second);
+            Assertions.assertFalse(second.contains("'a'"), second);
+        } finally {
+            Config.enable_parse_tree_cache = enableParseTreeCache;
+        }
+    }
+
+    private static CommonTokenStream lexTokens(String sql) {
+        DorisLexer lexer = new DorisLexer(new CaseInsensitiveStream(CharStreams.fromString(sql)));
+        lexer.setTokenFactory(ParseTreeCache.TOKEN_FACTORY);
+        CommonTokenStream tokenStream = new CommonTokenStream(lexer);
+        tokenStream.fill();
+        return tokenStream;
+    }
 }
@@ -0,0 +1,92 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.nereids.rules.expression.rules;
+
+import org.apache.doris.catalog.RangePartitionItem;
+import org.apache.doris.nereids.rules.expression.rules.SortedPartitionRanges.PartitionItemAndRange;
+import org.apache.doris.nereids.trees.expressions.And;
+import org.apache.doris.nereids.trees.expressions.EqualTo;
+import org.apache.doris.nereids.trees.expressions.GreaterThanEqual;
+import org.apache.doris.nereids.trees.expressions.LessThan;
+import org.apache.doris.nereids.trees.expressions.SlotReference;
+import org.apache.doris.nereids.trees.expressions.literal.IntegerLiteral;
+import org.apache.doris.nereids.types.IntegerType;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Range;
+import com.google.common.collect.RangeSet;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+class SortedPartitionRangesTest {
+
+    @Test
+    void testFirstIndexMayOverlap() {
+        // [0, 100) overlaps all the following partitions
+        List<PartitionItemAndRange<Long>> sortedPartitions = ImmutableList.of(
+                partition(1L, 0, 100), partition(2L, 10, 20), partition(3L, 20, 30), partition(4L, 100, 110));
+        SortedPartitionRanges<Long> ranges = new SortedPartitionRanges<>(sortedPartitions, ImmutableList.of());
+        Assertions.assertEquals(0, ranges.firstIndexMayOverlap(bound(50)));
+        Assertions.assertEquals(0, ranges.firstIndexMayOverlap(bound(-1)));
+        Assertions.assertEquals(3, ranges.firstIndexMayOverlap(bound(101)));
+        Assertions.assertEquals(4, ranges.firstIndexMayOverlap(bound(111)));
+
+        sortedPartitions = ImmutableList.of(
+                partition(1L, 0, 10), partition(2L, 10, 20), partition(3L, 20, 30), partition(4L, 30, 40));
+        ranges = new SortedPartitionRanges<>(sortedPartitions, ImmutableList.of());
+        Assertions.assertEquals(2, ranges.firstIndexMayOverlap(bound(25)));
+        // the upper bound is open, but it is fine to return one more partition
+        Assertions.assertEquals(1, ranges.firstIndexMayOverlap(bound(20)));
+    }
+
+    @Test
+    void testExactPredicateRanges() {
+        SlotReference a = new SlotReference("a", IntegerType.INSTANCE, true);
+        SlotReference b = new SlotReference("b", IntegerType.INSTANCE, true);
+
+        PartitionPredicateToRange predicateToRange = new PartitionPredicateToRange(ImmutableList.of(a));
+        RangeSet<MultiColumnBound> predicateRanges = new And(
+                new GreaterThanEqual(a, new IntegerLiteral(1)), new LessThan(a, new IntegerLiteral(10))
+        ).accept(predicateToRange, null);
+        Assertions.assertEquals(1, predicateRanges.asRanges().size());
+        Assertions.assertTrue(predicateToRange.isExact());
+
+        predicateToRange = new PartitionPredicateToRange(ImmutableList.of(a));
+        predicateRanges = new And(
+                new GreaterThanEqual(a, new IntegerLiteral(1)), new EqualTo(b, new IntegerLiteral(10))
+        ).accept(predicateToRange, null);
+        Assertions.assertEquals(1, predicateRanges.asRanges().size());
+        Assertions.assertFalse(predicateToRange.isExact());
+
+        predicateToRange = new PartitionPredicateToRange(ImmutableList.of(a, b));
+        new GreaterThanEqual(a, new IntegerLiteral(1)).accept(predicateToRange, null);
+        Assertions.assertFalse(predicateToRange.isExact());
+    }
+
+    private static PartitionItemAndRange<Long> partition(long id, int lower, int upper) {
+        return new PartitionItemAndRange<>(
+                id, RangePartitionItem.DUMMY_ITEM, Range.closedOpen(bound(lower), bound(upper)));
+    }
+
+    private static MultiColumnBound bound(int value) {
+        return new MultiColumnBound(ImmutableList.of(ColumnBound.of(new IntegerLiteral(value))));
+    }
+}
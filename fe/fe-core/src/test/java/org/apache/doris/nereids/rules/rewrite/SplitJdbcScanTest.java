@@ -0,0 +1,181 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.nereids.rules.rewrite;
+
+import org.apache.doris.catalog.Column;
+import org.apache.doris.catalog.JdbcTable;
+import org.apache.doris.catalog.PrimitiveType;
+import org.apache.doris.datasource.ExternalTable;
+import org.apache.doris.datasource.jdbc.JdbcExternalCatalog;
+import org.apache.doris.datasource.jdbc.JdbcExternalDatabase;
+import org.apache.doris.datasource.jdbc.JdbcExternalTable;
+import org.apache.doris.nereids.StatementContext;
+import org.apache.doris.nereids.trees.expressions.Expression;
+import org.apache.doris.nereids.trees.expressions.GreaterThanEqual;
+import org.apache.doris.nereids.trees.expressions.LessThan;
+import org.apache.doris.nereids.trees.expressions.StatementScopeIdGenerator;
+import org.apache.doris.nereids.trees.plans.Plan;
+import org.apache.doris.nereids.trees.plans.logical.LogicalFilter;
+import org.apache.doris.nereids.trees.plans.logical.LogicalJdbcScan;
+import org.apache.doris.nereids.trees.plans.logical.LogicalUnion;
+import org.apache.doris.thrift.TOdbcTableType;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class SplitJdbcScanTest {
+
+    @Test
+    void testComputeBoundaries() {
+        Assertions.assertEquals(ImmutableList.of(3L, 6L, 9L), SplitJdbcScan.computeBoundaries(0, 10, 4));
+        Assertions.assertEquals(ImmutableList.of(5L), SplitJdbcScan.computeBoundaries(0, 9, 2));
+        Assertions.assertEquals(ImmutableList.of(2L, 4L), SplitJdbcScan.computeBoundaries(0, 4, 4));
+        Assertions.assertEquals(ImmutableList.of(-5L, -4L), SplitJdbcScan.computeBoundaries(-6, -4, 8));
+        // a single value can not be split
+        Assertions.assertTrue(SplitJdbcScan.computeBoundaries(7, 7, 4).isEmpty());
+        // the width of the values overflows
+        Assertions.assertTrue(SplitJdbcScan.computeBoundaries(Long.MIN_VALUE, Long.MAX_VALUE, 4).isEmpty());
+        List<Long> boundaries = SplitJdbcScan.computeBoundaries(Long.MAX_VALUE - 10, Long.MAX_VALUE, 64);
+        Assertions.assertEquals(10, boundaries.size());
+        Assertions.assertEquals(Long.MAX_VALUE, (long) boundaries.get(9));
+    }
+
+    @Test
+    void testSplitJdbcScan() throws Exception {
+        AtomicInteger minMaxQueries = new AtomicInteger();
+        Map<String, String> splitColumns = Maps.newHashMap();
+        List<Column> schema = ImmutableList.of(
+                new Column("k", PrimitiveType.BIGINT, false),
+                new Column("v", PrimitiveType.VARCHAR, true));
+        new MockUp<JdbcExternalCatalog>() {
+            @Mock
+            public int getScanSplitNum() {
+                return 4;
+            }
+
+            @Mock
+            public Map<String, String> getScanSplitColumnMap() {
+                return splitColumns;
+            }
+
+            @Mock
+            public long[] getColumnMinMax(String remoteFullTableName, String remoteColumnName) {
+                minMaxQueries.incrementAndGet();
+                return new long[] {0, 10};
+            }
+        };
+        new MockUp<ExternalTable>() {
+            @Mock
+            public List<Column> getFullSchema() {
+                return schema;
+            }
+
+            @Mock
+            public List<Column> getBaseSchema() {
+                return schema;
+            }
+        };
+        new MockUp<JdbcExternalTable>() {
+            @Mock
+            protected synchronized void makeSureInitialized() {
+            }
+
+            @Mock
+            public JdbcTable getJdbcTable() {
+                return new JdbcTable();
+            }
+        };
+        new MockUp<JdbcTable>() {
+            @Mock
+            public TOdbcTableType getJdbcTableType() {
+                return TOdbcTableType.MYSQL;
+            }
+
+            @Mock
+            public String getProperRemoteFullTableName(TOdbcTableType tableType) {
+                return "`db`.`t`";
+            }
+
+            @Mock
+            public String getProperRemoteColumnName(TOdbcTableType tableType, String columnName) {
+                return "`" + columnName + "`";
+            }
+        };
+        JdbcExternalCatalog catalog = new JdbcExternalCatalog(1, "ctl", "resource", new HashMap<>(), "");
+        JdbcExternalDatabase db = new JdbcExternalDatabase(catalog, 2, "db", "db");
+        JdbcExternalTable table = new JdbcExternalTable(3, "t", "t", catalog, db);
+        StatementContext statementContext = new StatementContext();
+        LogicalJdbcScan jdbcScan = new LogicalJdbcScan(StatementScopeIdGenerator.newRelationId(), table,
+                ImmutableList.of("ctl", "db"));
+
+        // no split column is configured, the scan is not split and the remote table is not queried
+        Plan plan = new SplitJdbcScan().visitLogicalJdbcScan(jdbcScan, statementContext);
+        Assertions.assertSame(jdbcScan, plan);
+        Assertions.assertEquals(0, minMaxQueries.get());
+
+        // a split column which is not an integer column is ignored
+        splitColumns.put("db.t", "v");
+        plan = new SplitJdbcScan().visitLogicalJdbcScan(jdbcScan, statementContext);
+        Assertions.assertSame(jdbcScan, plan);
+        Assertions.assertEquals(0, minMaxQueries.get());
+
+        splitColumns.put("db.t", "k");
+        plan = new SplitJdbcScan().visitLogicalJdbcScan(jdbcScan, statementContext);
+        Assertions.assertEquals(1, minMaxQueries.get());
+        Assertions.assertInstanceOf(LogicalUnion.class, plan);
+        Assertions.assertEquals(jdbcScan.getOutput(), plan.getOutput());
+        // k < 3, 3 <= k < 6, 6 <= k < 9, k >= 9, k is not nullable so there is no `k is null` branch
+        Assertions.assertEquals(4, plan.children().size());
+        for (int i = 0; i < plan.children().size(); i++) {
+            LogicalFilter<?> filter = (LogicalFilter<?>) plan.child(i);
+            LogicalJdbcScan child = (LogicalJdbcScan) filter.child();
+            Assertions.assertNotEquals(jdbcScan.getRelationId(), child.getRelationId());
+            Assertions.assertTrue(statementContext.isSplitJdbcScan(child.getRelationId()));
+            Set<Expression> conjuncts = filter.getConjuncts();
+            Assertions.assertEquals(i > 0 && i < 3 ? 2 : 1, conjuncts.size());
+            Assertions.assertEquals(i > 0, conjuncts.stream().anyMatch(GreaterThanEqual.class::isInstance));
+            Assertions.assertEquals(i < 3, conjuncts.stream().anyMatch(LessThan.class::isInstance));
+        }
+
+        // the split scans are not split again
+        LogicalJdbcScan childScan = (LogicalJdbcScan) plan.child(0).child(0);
+        Assertions.assertSame(childScan, new SplitJdbcScan().visitLogicalJdbcScan(childScan, statementContext));
+
+        // the 4 range scans of the catalog are used up by the running statement, the scan of another
+        // statement is not split until the running statement is closed
+        StatementContext otherStatementContext = new StatementContext();
+        plan = new SplitJdbcScan().visitLogicalJdbcScan(jdbcScan, otherStatementContext);
+        Assertions.assertSame(jdbcScan, plan);
+        statementContext.close();
+        plan = new SplitJdbcScan().visitLogicalJdbcScan(jdbcScan, otherStatementContext);
+        Assertions.assertInstanceOf(LogicalUnion.class, plan);
+        Assertions.assertEquals(4, plan.children().size());
+        otherStatementContext.close();
+        Assertions.assertEquals(4, catalog.acquireSplitScans(new StatementContext(), 8));
+    }
+}
@@ -0,0 +1,53 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.nereids.stats;
+
+import org.apache.doris.statistics.hbo.PlanStatistics;
+import org.apache.doris.statistics.hbo.RecentRunsPlanStatistics;
+import org.apache.doris.statistics.hbo.RecentRunsPlanStatisticsEntry;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+public class PersistentHboPlanStatisticsProviderTest {
+    @TempDir
+    File storeDir;
+
+    @Test
+    public void testSaveAndLoad() throws Exception {
+        PlanStatistics planStatistics = new PlanStatistics(1, 100, 10, 90, 100, 0, 0, 0, 0, 0, 0, 3);
+        PlanStatistics inputStatistics = new PlanStatistics(0, 1000, 100, 900, 1000, 0, 0, 0, 0, 0, 0, 3);
+        RecentRunsPlanStatistics recentRuns = new RecentRunsPlanStatistics(ImmutableList.of(
+                new RecentRunsPlanStatisticsEntry(planStatistics, ImmutableList.of(inputStatistics))));
+
+        PersistentHboPlanStatisticsProvider provider = new PersistentHboPlanStatisticsProvider(storeDir.getPath());
+        provider.updatePlanStats("hash1", recentRuns);
+        provider.save();
+
+        PersistentHboPlanStatisticsProvider restarted = new PersistentHboPlanStatisticsProvider(storeDir.getPath());
+        restarted.load();
+        Assertions.assertEquals(recentRuns, restarted.getAllHboPlanStats().get("hash1"));
+
+        Assertions.assertEquals(recentRuns, MemoryHboPlanStatisticsProvider.decodePlanStats(
+                MemoryHboPlanStatisticsProvider.encodePlanStats(recentRuns)));
+    }
+}
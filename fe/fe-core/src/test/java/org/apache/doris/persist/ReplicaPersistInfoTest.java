@@ -17,17 +17,22 @@
 
 package org.apache.doris.persist;
 
+import org.apache.doris.common.Config;
 import org.apache.doris.common.FeConstants;
+import org.apache.doris.common.io.DataOutputBuffer;
+import org.apache.doris.journal.JournalEntity;
 import org.apache.doris.meta.MetaContext;
 
 import org.junit.Assert;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
 import java.io.DataOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileOutputStream;
+import java.util.Arrays;
 
 public class ReplicaPersistInfoTest {
     @Test
@@ -69,4 +74,39 @@ public class ReplicaPersistInfoTest {
         Assert.assertEquals(0, info.getDataSize());
         Assert.assertEquals(8, info.getRowCount());
     }
+
+    @Test
+    public void testBinaryFormat() throws Exception {
+        ReplicaPersistInfo info = ReplicaPersistInfo.createForClone(10001, 10002, 10003, 10004, 10005, 10006,
+                10007, 120, 368123456, 1024L * 1024 * 1024, 0, 1000000, -1, 120);
+        short[] oldOpCodes = Config.binary_edit_log_op_codes;
+        try {
+            Config.binary_edit_log_op_codes = new short[] {};
+            byte[] jsonBytes = writeJournal(OperationType.OP_ADD_REPLICA, info);
+            Config.binary_edit_log_op_codes = new short[] {OperationType.OP_ADD_REPLICA};
+            byte[] binaryBytes = writeJournal(OperationType.OP_ADD_REPLICA, info);
+            Assert.assertTrue(binaryBytes.length * 2 < jsonBytes.length);
+
+            // both formats can be read whether binary format is enabled or not
+            for (byte[] bytes : new byte[][] {jsonBytes, binaryBytes}) {
+                JournalEntity entity = new JournalEntity();
+                entity.readFields(new DataInputStream(new ByteArrayInputStream(bytes)));
+                ReplicaPersistInfo readInfo = (ReplicaPersistInfo) entity.getData();
+                Assert.assertEquals(info, readInfo);
+                Assert.assertEquals(ReplicaPersistInfo.ReplicaOperationType.CLONE, readInfo.getOpType());
+                Assert.assertEquals(368123456, readInfo.getSchemaHash());
+            }
+        } finally {
+            Config.binary_edit_log_op_codes = oldOpCodes;
+        }
+    }
+
+    private static byte[] writeJournal(short opCode, ReplicaPersistInfo info) throws Exception {
+        JournalEntity entity = new JournalEntity();
+        entity.setOpCode(opCode);
+        entity.setData(info);
+        DataOutputBuffer buffer = new DataOutputBuffer();
+        entity.write(buffer);
+        return Arrays.copyOf(buffer.getData(), buffer.getLength());
+    }
 }
@@ -0,0 +1,63 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.persist.meta;
+
+import com.google.common.collect.Lists;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+public class MetaFooterTest {
+    @TempDir
+    Path tempDir;
+
+    private List<MetaIndex> createIndices() {
+        return Lists.newArrayList(new MetaIndex("header", 0L), new MetaIndex("masterInfo", 10L),
+                new MetaIndex("frontends", 20L));
+    }
+
+    @Test
+    public void testModuleChecksums() throws IOException {
+        File imageFile = tempDir.resolve("image.1").toFile();
+        Files.write(imageFile.toPath(), new byte[30]);
+        MetaFooter.write(imageFile, createIndices(), 1L ^ 2L ^ 4L, Lists.newArrayList(1L, 2L, 4L));
+
+        MetaFooter metaFooter = MetaFooter.read(imageFile);
+        Assertions.assertEquals(7L, metaFooter.checksum);
+        Assertions.assertEquals(3, metaFooter.metaIndices.size());
+        Assertions.assertArrayEquals(new long[] {1L, 2L, 4L}, metaFooter.moduleChecksums);
+    }
+
+    @Test
+    public void testWithoutModuleChecksums() throws IOException {
+        File imageFile = tempDir.resolve("image.2").toFile();
+        Files.write(imageFile.toPath(), new byte[30]);
+        MetaFooter.write(imageFile, createIndices(), 7L);
+
+        MetaFooter metaFooter = MetaFooter.read(imageFile);
+        Assertions.assertEquals(7L, metaFooter.checksum);
+        Assertions.assertEquals(3, metaFooter.metaIndices.size());
+        Assertions.assertNull(metaFooter.moduleChecksums);
+    }
+}
@@ -0,0 +1,156 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.persist.meta;
+
+import org.apache.doris.catalog.Env;
+import org.apache.doris.common.io.Writable;
+import org.apache.doris.journal.JournalBatch;
+import org.apache.doris.journal.local.LocalJournal;
+import org.apache.doris.persist.OperationType;
+import org.apache.doris.utframe.TestWithFeService;
+
+import com.google.common.collect.ImmutableSet;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import mockit.Invocation;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+
+public class ReusableImageModulesTest extends TestWithFeService {
+    @TempDir
+    Path tempDir;
+
+    @Override
+    protected void runBeforeAll() throws Exception {
+        createDatabase("test");
+        createTable("create table test.tbl1 (k1 int, v1 int) distributed by hash(k1) buckets 1"
+                + " properties('replication_num' = '1')");
+    }
+
+    @Test
+    public void testReuseUnchangedModules() throws Exception {
+        File baseImage = saveImage("image.base", null);
+        ReusableImageModules reusableModules = ReusableImageModules.create(baseImage, Sets.newHashSet());
+        Assertions.assertNotNull(reusableModules);
+        Assertions.assertTrue(reusableModules.canReuse("db"));
+        Assertions.assertTrue(reusableModules.canReuse("transactionState"));
+        // filtered by time when saving
+        Assertions.assertFalse(reusableModules.canReuse("loadJobV2"));
+        Assertions.assertFalse(reusableModules.canReuse("exportJob"));
+
+        File reusedImage = saveImage("image.reused", reusableModules);
+        File freshImage = saveImage("image.fresh", null);
+        assertModulesEqual(freshImage, reusedImage);
+        Assertions.assertEquals(MetaFooter.read(freshImage).checksum, MetaFooter.read(reusedImage).checksum);
+    }
+
+    @Test
+    public void testModulesModifiedByJournal() throws Exception {
+        Set<Short> opCodes = Sets.newConcurrentHashSet();
+        new MockUp<LocalJournal>() {
+            @Mock
+            public long write(Invocation inv, short op, Writable writable) {
+                opCodes.add(op);
+                return inv.proceed();
+            }
+
+            @Mock
+            public long write(Invocation inv, JournalBatch batch) {
+                batch.getJournalEntities().forEach(entity -> opCodes.add(entity.getOpCode()));
+                return inv.proceed();
+            }
+        };
+        File baseImage = saveImage("image.base", null);
+        createTable("create table test.tbl2 (k1 int, v1 int) distributed by hash(k1) buckets 1"
+                + " properties('replication_num' = '1')");
+        File freshImage = saveImage("image.fresh", null);
+        Assertions.assertTrue(opCodes.contains(OperationType.OP_CREATE_TABLE));
+
+        ReusableImageModules reusableModules = ReusableImageModules.create(baseImage, opCodes);
+        Map<String, byte[]> baseModules = readModules(baseImage);
+        Map<String, byte[]> freshModules = readModules(freshImage);
+        Assertions.assertFalse(Arrays.equals(baseModules.get("db"), freshModules.get("db")));
+        for (Map.Entry<String, byte[]> entry : freshModules.entrySet()) {
+            if (!Arrays.equals(entry.getValue(), baseModules.get(entry.getKey()))) {
+                Assertions.assertTrue(reusableModules == null || !reusableModules.canReuse(entry.getKey()),
+                        "module " + entry.getKey() + " is modified but reused");
+            }
+        }
+
+        File reusedImage = saveImage("image.reused", reusableModules);
+        assertModulesEqual(freshImage, reusedImage);
+    }
+
+    @Test
+    public void testUnknownOpCode() throws Exception {
+        File baseImage = saveImage("image.base", null);
+        Assertions.assertFalse(PersistMetaModules.OP_CODE_MODULES.containsKey(OperationType.OP_INSTALL_PLUGIN));
+        Assertions.assertNull(ReusableImageModules.create(baseImage,
+                ImmutableSet.of(OperationType.OP_TIMESTAMP, OperationType.OP_INSTALL_PLUGIN)));
+        Assertions.assertNotNull(ReusableImageModules.create(baseImage, ImmutableSet.of(OperationType.OP_TIMESTAMP)));
+    }
+
+    private File saveImage(String name, ReusableImageModules reusableModules) throws IOException {
+        File imageFile = tempDir.resolve(name).toFile();
+        Env env = Env.getCurrentEnv();
+        env.saveImage(imageFile, env.getReplayedJournalId(), reusableModules);
+        return imageFile;
+    }
+
+    private void assertModulesEqual(File expectedImage, File actualImage) throws IOException {
+        Map<String, byte[]> expectedModules = readModules(expectedImage);
+        Map<String, byte[]> actualModules = readModules(actualImage);
+        Assertions.assertEquals(expectedModules.keySet(), actualModules.keySet());
+        for (Map.Entry<String, byte[]> entry : expectedModules.entrySet()) {
+            Assertions.assertArrayEquals(entry.getValue(), actualModules.get(entry.getKey()),
+                    "module " + entry.getKey() + " is different");
+        }
+    }
+
+    // module name -> bytes of the module
+    private Map<String, byte[]> readModules(File imageFile) throws IOException {
+        MetaFooter metaFooter = MetaFooter.read(imageFile);
+        long footerIndex = imageFile.length()
+                - metaFooter.length - MetaFooter.FOOTER_LENGTH_SIZE - MetaMagicNumber.MAGIC_STR.length();
+        Map<String, byte[]> modules = Maps.newHashMap();
+        try (RandomAccessFile raf = new RandomAccessFile(imageFile, "r")) {
+            for (int i = 0; i < metaFooter.metaIndices.size(); i++) {
+                MetaIndex metaIndex = metaFooter.metaIndices.get(i);
+                long end = i < metaFooter.metaIndices.size() - 1
+                        ? metaFooter.metaIndices.get(i + 1).offset : footerIndex;
+                byte[] bytes = new byte[(int) (end - metaIndex.offset)];
+                raf.seek(metaIndex.offset);
+                raf.readFully(bytes);
+                modules.put(metaIndex.name, bytes);
+            }
+        }
+        return modules;
+    }
+}
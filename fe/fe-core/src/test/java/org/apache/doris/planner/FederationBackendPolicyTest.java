@@ -24,6 +24,7 @@ import org.apache.doris.common.util.LocationPath;
 import org.apache.doris.datasource.FederationBackendPolicy;
 import org.apache.doris.datasource.FileSplit;
 import org.apache.doris.datasource.NodeSelectionStrategy;
+import org.apache.doris.datasource.SplitCacheAffinity;
 import org.apache.doris.resource.computegroup.ComputeGroupMgr;
 import org.apache.doris.spi.Split;
 import org.apache.doris.system.Backend;
@@ -692,6 +693,70 @@ public class FederationBackendPolicyTest {
             }
     }
 
+    @Test
+    public void testCacheAffinityWhenNodeAdded() throws UserException {
+        SystemInfoService service = new SystemInfoService();
+
+        Backend backend1 = new Backend(40002L, "172.30.0.100", 9050);
+        backend1.setAlive(true);
+        service.addBackend(backend1);
+        Backend backend2 = new Backend(40003L, "172.30.0.106", 9050);
+        backend2.setAlive(true);
+        service.addBackend(backend2);
+
+        ComputeGroupMgr cgmgr = new ComputeGroupMgr(service);
+        new MockUp<Env>() {
+            @Mock
+            public SystemInfoService getCurrentSystemInfo() {
+                return service;
+            }
+
+            @Mock
+            public ComputeGroupMgr getComputeGroupMgr() {
+                return cgmgr;
+            }
+        };
+
+        List<Split> splits = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            splits.add(new FileSplit(LocationPath.of("hdfs://nn/warehouse/test.db/t/part-" + i + ".orc"),
+                    0, 1024, 1024, 0, null, Collections.emptyList()));
+        }
+
+        boolean enableCacheAffinity = Config.split_assigner_enable_cache_affinity;
+        Config.split_assigner_enable_cache_affinity = true;
+        SplitCacheAffinity.clear();
+        try {
+            Map<TestSplitHashKey, Backend> originSplitAssignedBackends = new HashMap<>();
+            FederationBackendPolicy policy = new FederationBackendPolicy(NodeSelectionStrategy.CONSISTENT_HASHING);
+            policy.init();
+            for (Map.Entry<Backend, Split> entry : policy.computeScanRangeAssignment(splits).entries()) {
+                Split split = entry.getValue();
+                originSplitAssignedBackends.put(
+                        new TestSplitHashKey(split.getPathString(), split.getStart(), split.getLength()),
+                        entry.getKey());
+            }
+
+            // the splits should stay on the backends which read them before, although the hash ring is changed
+            Backend backend3 = new Backend(40004L, "172.30.0.118", 9050);
+            backend3.setAlive(true);
+            service.addBackend(backend3);
+            policy = new FederationBackendPolicy(NodeSelectionStrategy.CONSISTENT_HASHING);
+            policy.init();
+            policy.setEnableSplitsRedistribution(false);
+            Assertions.assertEquals(3, policy.numBackends());
+            for (Map.Entry<Backend, Split> entry : policy.computeScanRangeAssignment(splits).entries()) {
+                Split split = entry.getValue();
+                Assertions.assertEquals(originSplitAssignedBackends.get(
+                        new TestSplitHashKey(split.getPathString(), split.getStart(), split.getLength())),
+                        entry.getKey());
+            }
+        } finally {
+            Config.split_assigner_enable_cache_affinity = enableCacheAffinity;
+            SplitCacheAffinity.clear();
+        }
+    }
+
     private static <K, V> boolean areMultimapsEqualIgnoringOrder(Multimap<K, V> multimap1, Multimap<K, V> multimap2) {
         Collection<Map.Entry<K, V>> entries1 = multimap1.entries();
         Collection<Map.Entry<K, V>> entries2 = multimap2.entries();
@@ -0,0 +1,158 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.qe;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.proto.InternalService;
+import org.apache.doris.rpc.BackendServiceProxy;
+import org.apache.doris.system.Backend;
+import org.apache.doris.thrift.TNetworkAddress;
+
+import com.google.common.collect.Lists;
+import com.google.common.util.concurrent.ListenableFuture;
+import com.google.common.util.concurrent.SettableFuture;
+import com.google.protobuf.ByteString;
+import mockit.Mock;
+import mockit.MockUp;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class PointQueryCoalescerTest {
+    private final List<InternalService.PTabletKeyLookupRequest> sentRequests = Lists.newCopyOnWriteArrayList();
+    private final List<SettableFuture<InternalService.PTabletKeyLookupResponse>> sentFutures
+            = Lists.newCopyOnWriteArrayList();
+    private final Backend backend = new Backend(10001L, "127.0.0.1", 9050);
+    private long originWindowUs;
+
+    @BeforeEach
+    public void setUp() {
+        originWindowUs = Config.point_query_coalesce_window_us;
+        backend.setBrpcPort(8060);
+        new MockUp<BackendServiceProxy>() {
+            @Mock
+            public ListenableFuture<InternalService.PTabletKeyLookupResponse> fetchTabletDataAsync(
+                    TNetworkAddress address, InternalService.PTabletKeyLookupRequest request) {
+                SettableFuture<InternalService.PTabletKeyLookupResponse> future = SettableFuture.create();
+                sentRequests.add(request);
+                sentFutures.add(future);
+                return future;
+            }
+        };
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Config.point_query_coalesce_window_us = originWindowUs;
+    }
+
+    private static InternalService.PTabletKeyLookupRequest request(long uuidLow, String key) {
+        return InternalService.PTabletKeyLookupRequest.newBuilder()
+                .setTabletId(1)
+                .setDescTbl(ByteString.copyFromUtf8("desc"))
+                .setOutputExpr(ByteString.copyFromUtf8("output"))
+                .setQueryOptions(ByteString.copyFromUtf8("options"))
+                .setIsBinaryRow(true)
+                .setUuid(InternalService.UUID.newBuilder().setUuidHigh(1).setUuidLow(uuidLow))
+                .addKeyTuples(InternalService.KeyTuple.newBuilder().addKeyColumnRep(key))
+                .build();
+    }
+
+    private static InternalService.PTabletKeyLookupResponse okResponse() {
+        return InternalService.PTabletKeyLookupResponse.newBuilder()
+                .setStatus(InternalService.PStatus.newBuilder().setStatusCode(0))
+                .setEmptyBatch(true)
+                .build();
+    }
+
+    private void waitSent(int num) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 10000;
+        while (sentRequests.size() < num && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Assertions.assertEquals(num, sentRequests.size());
+    }
+
+    @Test
+    public void testNotCoalesceIfDisabled() throws Exception {
+        Config.point_query_coalesce_window_us = 0;
+        PointQueryCoalescer.getInstance().fetchTabletData(backend, request(1, "k1"));
+        PointQueryCoalescer.getInstance().fetchTabletData(backend, request(2, "k1"));
+        Assertions.assertEquals(2, sentRequests.size());
+    }
+
+    @Test
+    public void testCoalesceSameLookupsOfDifferentSessions() throws Exception {
+        Config.point_query_coalesce_window_us = TimeUnit.MILLISECONDS.toMicros(200);
+        // the lookups of different sessions only differ in uuid
+        Future<InternalService.PTabletKeyLookupResponse> f1
+                = PointQueryCoalescer.getInstance().fetchTabletData(backend, request(1, "k1"));
+        Future<InternalService.PTabletKeyLookupResponse> f2
+                = PointQueryCoalescer.getInstance().fetchTabletData(backend, request(2, "k1"));
+        // a lookup of another key is not coalesced
+        Future<InternalService.PTabletKeyLookupResponse> f3
+                = PointQueryCoalescer.getInstance().fetchTabletData(backend, request(3, "k2"));
+        // nothing is sent before the window ends
+        Assertions.assertTrue(sentRequests.isEmpty());
+        waitSent(2);
+        Thread.sleep(100);
+        Assertions.assertEquals(2, sentRequests.size());
+        // the coalesced lookup is sent with the uuid of the first waiter
+        Assertions.assertEquals(1, sentRequests.stream()
+                .filter(r -> r.getKeyTuples(0).getKeyColumnRep(0).equals("k1")).findFirst().get()
+                .getUuid().getUuidLow());
+
+        // cancelling a waiter does not affect the others
+        f2.cancel(true);
+        InternalService.PTabletKeyLookupResponse response = okResponse();
+        sentFutures.forEach(f -> f.set(response));
+        Assertions.assertSame(response, f1.get(1, TimeUnit.SECONDS));
+        Assertions.assertSame(response, f3.get(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(f2.isCancelled());
+
+        // a lookup after the window is sent again
+        Future<InternalService.PTabletKeyLookupResponse> f4
+                = PointQueryCoalescer.getInstance().fetchTabletData(backend, request(4, "k1"));
+        waitSent(3);
+        sentFutures.get(2).set(response);
+        Assertions.assertSame(response, f4.get(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void testFailureOfCoalescedLookup() throws Exception {
+        Config.point_query_coalesce_window_us = TimeUnit.MILLISECONDS.toMicros(100);
+        Future<InternalService.PTabletKeyLookupResponse> f1
+                = PointQueryCoalescer.getInstance().fetchTabletData(backend, request(1, "k3"));
+        Future<InternalService.PTabletKeyLookupResponse> f2
+                = PointQueryCoalescer.getInstance().fetchTabletData(backend, request(2, "k3"));
+        waitSent(1);
+        sentFutures.get(0).setException(new RuntimeException("rpc failed"));
+        for (Future<InternalService.PTabletKeyLookupResponse> f : Lists.newArrayList(f1, f2)) {
+            ExecutionException e = Assertions.assertThrows(ExecutionException.class,
+                    () -> f.get(1, TimeUnit.SECONDS));
+            Assertions.assertTrue(e.getMessage().contains("rpc failed"));
+        }
+    }
+}
@@ -0,0 +1,155 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.qe;
+
+import org.apache.doris.catalog.OlapTable;
+import org.apache.doris.common.Config;
+import org.apache.doris.common.FeConstants;
+import org.apache.doris.nereids.NereidsPlanner;
+import org.apache.doris.nereids.util.PlanChecker;
+import org.apache.doris.planner.OlapScanNode;
+import org.apache.doris.proto.InternalService.KeyTuple;
+import org.apache.doris.qe.PointQueryExecutor.TabletKeys;
+import org.apache.doris.thrift.TUniqueId;
+import org.apache.doris.utframe.TestWithFeService;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Maps;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+public class PointQueryExecutorTest extends TestWithFeService {
+    private static final int[] K1_VALUES = {1, 2, 3, 150, 151};
+    private static final int[] K2_VALUES = {10, 20};
+
+    @Override
+    protected void runBeforeAll() throws Exception {
+        FeConstants.runningUnitTest = true;
+        createDatabase("test");
+        useDatabase("test");
+        connectContext.getSessionVariable().setDisableNereidsRules("PRUNE_EMPTY_PARTITION");
+        createTable("create table t (\n"
+                + "    k1 int,\n"
+                + "    k2 int,\n"
+                + "    v1 int\n"
+                + ")\n"
+                + "unique key(k1, k2)\n"
+                + "partition by range(k1) (\n"
+                + "    partition p1 values less than (\"100\"),\n"
+                + "    partition p2 values less than (\"200\")\n"
+                + ")\n"
+                + "distributed by hash(k1, k2) buckets 4\n"
+                + "properties(\n"
+                + "    \"replication_num\" = \"1\",\n"
+                + "    \"enable_unique_key_merge_on_write\" = \"true\",\n"
+                + "    \"light_schema_change\" = \"true\",\n"
+                + "    \"store_row_column\" = \"true\"\n"
+                + ")");
+    }
+
+    @Test
+    public void testShortCircuitBatchKeys() {
+        String sql = "select * from t where k1 in (1, 2, 150) and k2 in (10, 20)";
+        int originMaxPointQueryBatchKeys = Config.max_point_query_batch_keys;
+        try {
+            Config.max_point_query_batch_keys = 6;
+            plan(sql);
+            Assertions.assertTrue(connectContext.getStatementContext().isShortCircuitQuery());
+
+            // 3 * 2 keys exceed the limit
+            Config.max_point_query_batch_keys = 5;
+            plan(sql);
+            Assertions.assertFalse(connectContext.getStatementContext().isShortCircuitQuery());
+
+            // not all key columns are in the conjuncts
+            Config.max_point_query_batch_keys = 6;
+            plan("select * from t where k1 in (1, 2, 150)");
+            Assertions.assertFalse(connectContext.getStatementContext().isShortCircuitQuery());
+        } finally {
+            Config.max_point_query_batch_keys = originMaxPointQueryBatchKeys;
+        }
+    }
+
+    @Test
+    public void testAddKeyTuples() {
+        OlapScanNode scanNode = getScanNode(plan("select * from t where k1 in (1, 2, 3, 150, 151) and k2 in (10, 20)"));
+        Assertions.assertTrue(connectContext.getStatementContext().isShortCircuitQuery());
+        Assertions.assertEquals(2, scanNode.getSelectedPartitionIds().size());
+
+        OlapTable table = scanNode.getOlapTable();
+        Map<Long, TabletKeys> tabletIdToKeys = Maps.newLinkedHashMap();
+        Map<Long, Long> tabletIdToPartitionId = Maps.newHashMap();
+        for (Long partitionId : scanNode.getSelectedPartitionIds()) {
+            List<Long> tabletIds = table.getPartition(partitionId).getBaseIndex().getTabletIdsInOrder();
+            Assertions.assertEquals(4, tabletIds.size());
+            for (Long tabletId : tabletIds) {
+                tabletIdToKeys.put(tabletId, new TabletKeys(tabletId, ImmutableList.of()));
+                tabletIdToPartitionId.put(tabletId, partitionId);
+            }
+        }
+        PointQueryExecutor.addKeyTuples(scanNode, tabletIdToKeys);
+
+        // the keys are expanded in the order of key columns, and each key is looked up
+        // in the tablet it is hashed to in each selected partition
+        Assertions.assertEquals(K1_VALUES.length * K2_VALUES.length * 2,
+                tabletIdToKeys.values().stream().mapToInt(tabletKeys -> tabletKeys.keyTuples.size()).sum());
+        for (int k1 : K1_VALUES) {
+            for (int k2 : K2_VALUES) {
+                KeyTuple keyTuple = KeyTuple.newBuilder()
+                        .addKeyColumnRep(String.valueOf(k1))
+                        .addKeyColumnRep(String.valueOf(k2))
+                        .build();
+                List<Long> tabletIds = tabletIdToKeys.values().stream()
+                        .filter(tabletKeys -> tabletKeys.keyTuples.contains(keyTuple))
+                        .map(tabletKeys -> tabletKeys.tabletId)
+                        .collect(Collectors.toList());
+                Assertions.assertEquals(2, tabletIds.size());
+                Assertions.assertNotEquals(tabletIdToPartitionId.get(tabletIds.get(0)),
+                        tabletIdToPartitionId.get(tabletIds.get(1)));
+
+                // the same tablet as the one pruned by the distribution pruner
+                OlapScanNode pointScanNode = getScanNode(
+                        plan("select * from t where k1 = " + k1 + " and k2 = " + k2));
+                Assertions.assertEquals(1, pointScanNode.getScanTabletIds().size());
+                Assertions.assertTrue(tabletIds.contains(pointScanNode.getScanTabletIds().get(0)));
+            }
+        }
+        for (TabletKeys tabletKeys : tabletIdToKeys.values()) {
+            if (!tabletKeys.keyTuples.isEmpty()) {
+                Assertions.assertEquals(tabletIdToPartitionId.get(tabletKeys.tabletId), tabletKeys.partitionId);
+            }
+        }
+    }
+
+    private NereidsPlanner plan(String sql) {
+        connectContext.setThreadLocalInfo();
+        UUID uuid = UUID.randomUUID();
+        connectContext.setQueryId(new TUniqueId(uuid.getMostSignificantBits(), uuid.getLeastSignificantBits()));
+        return PlanChecker.from(connectContext).plan(sql);
+    }
+
+    private OlapScanNode getScanNode(NereidsPlanner planner) {
+        return (OlapScanNode) planner.getScanNodes().get(0);
+    }
+}
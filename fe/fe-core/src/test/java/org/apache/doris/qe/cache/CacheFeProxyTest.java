@@ -0,0 +1,69 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+package org.apache.doris.qe.cache;
+
+import org.apache.doris.common.Status;
+import org.apache.doris.proto.InternalService;
+import org.apache.doris.proto.Types;
+
+import com.google.protobuf.ByteString;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class CacheFeProxyTest {
+    private static final Types.PUniqueId SQL_KEY = CacheProxy.getMd5("select * from t");
+
+    private static InternalService.PCacheParam param(long version) {
+        return InternalService.PCacheParam.newBuilder()
+                .setPartitionKey(1L)
+                .setLastVersion(version)
+                .setLastVersionTime(1000L)
+                .setPartitionNum(1L)
+                .build();
+    }
+
+    private static InternalService.PFetchCacheRequest fetchRequest(long version) {
+        return InternalService.PFetchCacheRequest.newBuilder().setSqlKey(SQL_KEY).addParams(param(version)).build();
+    }
+
+    @Test
+    public void testFetchCache() {
+        CacheFeProxy proxy = new CacheFeProxy(1024 * 1024);
+        InternalService.PUpdateCacheRequest updateRequest = InternalService.PUpdateCacheRequest.newBuilder()
+                .setSqlKey(SQL_KEY)
+                .setCacheType(InternalService.CacheType.SQL_CACHE)
+                .addValues(InternalService.PCacheValue.newBuilder()
+                        .setParam(param(2L))
+                        .setDataSize(3)
+                        .addRows(ByteString.copyFromUtf8("abc")))
+                .build();
+        Status status = new Status();
+        proxy.updateCache(updateRequest, CacheProxy.UPDATE_TIMEOUT, status);
+        Assertions.assertTrue(status.ok());
+
+        InternalService.PFetchCacheResult result = proxy.fetchCache(fetchRequest(2L), CacheProxy.FETCH_TIMEOUT,
+                new Status());
+        Assertions.assertNotNull(result);
+        Assertions.assertEquals(InternalService.PCacheStatus.CACHE_OK, result.getStatus());
+        Assertions.assertEquals("abc", result.getValues(0).getRows(0).toStringUtf8());
+
+        // the table is changed since the result is cached
+        Assertions.assertNull(proxy.fetchCache(fetchRequest(3L), CacheProxy.FETCH_TIMEOUT, new Status()));
+        Assertions.assertNull(proxy.fetchCache(fetchRequest(2L), CacheProxy.FETCH_TIMEOUT, new Status()));
+    }
+}
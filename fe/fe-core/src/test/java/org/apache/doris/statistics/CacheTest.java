@@ -23,6 +23,7 @@ import org.apache.doris.catalog.PrimitiveType;
 import org.apache.doris.catalog.TableIf;
 import org.apache.doris.catalog.Type;
 import org.apache.doris.common.ThreadPoolManager;
+import org.apache.doris.common.io.Hll;
 import org.apache.doris.datasource.CatalogMgr;
 import org.apache.doris.datasource.hive.HMSExternalCatalog;
 import org.apache.doris.datasource.hive.HMSExternalDatabase;
@@ -49,16 +50,22 @@ import org.checkerframework.checker.nullness.qual.NonNull;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Collections;
 import java.util.Date;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class CacheTest extends TestWithFeService {
 
@@ -432,4 +439,101 @@ public class CacheTest extends TestWithFeService {
             Assertions.fail("Column stats is still unknown");
         }
     }
+
+    @Test
+    public void testLoadAllColumnsOfTable() throws Exception {
+        AtomicInteger queryCount = new AtomicInteger();
+        TableIf table = new MockUp<TableIf>() {
+            @Mock
+            public Optional<ColumnStatistic> getColumnStatistic(String colName) {
+                return Optional.empty();
+            }
+        }.getMockInstance();
+        new MockUp<StatisticsUtil>() {
+
+            @Mock
+            public Column findColumn(long catalogId, long dbId, long tblId, long idxId, String columnName) {
+                return new Column("abc", PrimitiveType.BIGINT);
+            }
+
+            @Mock
+            public TableIf findTable(long catalogId, long dbId, long tblId) {
+                return table;
+            }
+
+            @Mock
+            public List<ResultRow> execStatisticQuery(String sql) {
+                queryCount.incrementAndGet();
+                // only column `5` has stats
+                return Arrays.asList(StatsMockUtil.mockResultRow(true));
+            }
+        };
+        StatisticsCacheKey key5 = new StatisticsCacheKey(0, 1, 2, -1, "5");
+        StatisticsCacheKey key6 = new StatisticsCacheKey(0, 1, 2, -1, "6");
+        Map<StatisticsCacheKey, Optional<ColumnStatistic>> stats = new ColumnStatisticsCacheLoader()
+                .asyncLoadAll(Arrays.asList(key5, key6), Runnable::run).get();
+        Assertions.assertEquals(1, queryCount.get());
+        Assertions.assertEquals(7, stats.get(key5).get().count);
+        Assertions.assertFalse(stats.get(key6).isPresent());
+    }
+
+    @Test
+    public void testLoadAllPartitionColumnsOfTable() throws Exception {
+        List<String> queries = Lists.newArrayList();
+        new MockUp<StatisticsUtil>() {
+
+            @Mock
+            public Column findColumn(long catalogId, long dbId, long tblId, long idxId, String columnName) {
+                return new Column(columnName, PrimitiveType.BIGINT);
+            }
+
+            @Mock
+            public List<ResultRow> execStatisticQuery(String sql) throws IOException {
+                queries.add(sql);
+                if (!sql.contains("`tbl_id` = 2")) {
+                    return Collections.emptyList();
+                }
+                // the rows of the cross product of the partitions and columns, (p2, c1) has no stats
+                return Arrays.asList(mockPartitionStatsRow("p1", "c1", 10),
+                        mockPartitionStatsRow("p1", "c2", 20),
+                        mockPartitionStatsRow("p2", "c2", 30));
+            }
+        };
+        PartitionColumnStatisticCacheKey p1c1 = new PartitionColumnStatisticCacheKey(0, 1, 2, -1, "p1", "c1");
+        PartitionColumnStatisticCacheKey p2c2 = new PartitionColumnStatisticCacheKey(0, 1, 2, -1, "p2", "c2");
+        PartitionColumnStatisticCacheKey p2c1 = new PartitionColumnStatisticCacheKey(0, 1, 2, -1, "p2", "c1");
+        PartitionColumnStatisticCacheKey otherTable = new PartitionColumnStatisticCacheKey(0, 1, 3, -1, "p1", "c1");
+        Map<PartitionColumnStatisticCacheKey, Optional<PartitionColumnStatistic>> stats =
+                new PartitionColumnStatisticCacheLoader()
+                        .asyncLoadAll(Arrays.asList(p1c1, p2c2, p2c1, otherTable), Runnable::run).get();
+
+        // one query per table index
+        Assertions.assertEquals(2, queries.size());
+        String query = queries.stream().filter(sql -> sql.contains("`tbl_id` = 2")).findFirst().get();
+        Assertions.assertTrue(query.contains("`part_name` IN ('p1','p2')")
+                || query.contains("`part_name` IN ('p2','p1')"), query);
+        Assertions.assertTrue(query.contains("`col_id` IN ('c1','c2')")
+                || query.contains("`col_id` IN ('c2','c1')"), query);
+
+        // the rows are dispatched by (part_name, col_id), the row of (p1, c2) is not requested
+        Assertions.assertEquals(4, stats.size());
+        Assertions.assertEquals(10, stats.get(p1c1).get().count);
+        Assertions.assertEquals(30, stats.get(p2c2).get().count);
+        Assertions.assertFalse(stats.get(p2c1).isPresent());
+        Assertions.assertFalse(stats.get(otherTable).isPresent());
+    }
+
+    // row : [catalog_id, db_id, tbl_id, idx_id, part_name, col_id,
+    //        count, ndv, null_count, min, max, data_size, update_time]
+    private static ResultRow mockPartitionStatsRow(String partName, String colName, int count) throws IOException {
+        Hll hll = new Hll();
+        for (int i = 0; i < count; i++) {
+            hll.updateWithHash(i);
+        }
+        ByteArrayOutputStream ndv = new ByteArrayOutputStream();
+        hll.serialize(new DataOutputStream(ndv));
+        return new ResultRow(Arrays.asList("0", "1", "2", "-1", partName, colName, String.valueOf(count),
+                Base64.getEncoder().encodeToString(ndv.toByteArray()), "0", "1", String.valueOf(count),
+                String.valueOf(count * 8), "2024-01-01 00:00:00"));
+    }
 }
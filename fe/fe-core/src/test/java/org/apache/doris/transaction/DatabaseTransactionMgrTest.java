@@ -51,6 +51,8 @@ import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
 public class DatabaseTransactionMgrTest {
     private static final Logger LOG = LogManager.getLogger(DatabaseTransactionMgrTest.class);
@@ -232,6 +234,72 @@ public class DatabaseTransactionMgrTest {
         Assert.assertEquals(4, masterDbTransMgr.getTransactionNum());
     }
 
+    @Test
+    public void testConcurrentBeginAbortAndShow() throws Exception {
+        FakeEnv.setEnv(masterEnv);
+        DatabaseTransactionMgr masterDbTransMgr = masterTransMgr.getDatabaseTransactionMgr(CatalogTestUtil.testDbId1);
+        TransactionState.TxnCoordinator beTransactionSource = new TransactionState.TxnCoordinator(
+                TransactionState.TxnSourceType.BE, 0, "be1", System.currentTimeMillis());
+        int writerNum = 8;
+        int txnNumPerWriter = 50;
+        AtomicBoolean stop = new AtomicBoolean(false);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+
+        // readers traverse and look up txns without the transaction lock while writers modify them
+        List<Thread> readers = Lists.newArrayList();
+        for (int i = 0; i < 2; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    while (!stop.get()) {
+                        masterDbTransMgr.getTxnStateInfoList(true, 100);
+                        masterDbTransMgr.getTxnStateInfoList(TransactionStatus.ABORTED);
+                        masterDbTransMgr.getLabelState("concurrent_0_0");
+                        masterDbTransMgr.getCommittedTxnList();
+                    }
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        List<Thread> writers = Lists.newArrayList();
+        for (int i = 0; i < writerNum; i++) {
+            int writerId = i;
+            Thread writer = new Thread(() -> {
+                try {
+                    for (int j = 0; j < txnNumPerWriter; j++) {
+                        long txnId = masterTransMgr.beginTransaction(CatalogTestUtil.testDbId1,
+                                Lists.newArrayList(CatalogTestUtil.testTableId1), "concurrent_" + writerId + "_" + j,
+                                beTransactionSource, LoadJobSourceType.BACKEND_STREAMING,
+                                Config.stream_load_default_timeout_second);
+                        Assert.assertNotNull(masterDbTransMgr.getTransactionState(txnId));
+                        masterDbTransMgr.abortTransaction(txnId, "test concurrent abort", null);
+                        Assert.assertEquals(TransactionStatus.ABORTED,
+                                masterDbTransMgr.getTransactionState(txnId).getTransactionStatus());
+                    }
+                } catch (Throwable t) {
+                    error.compareAndSet(null, t);
+                }
+            });
+            writer.start();
+            writers.add(writer);
+        }
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        stop.set(true);
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        Assert.assertNull(error.get());
+        Assert.assertEquals(3, masterDbTransMgr.getRunningTxnNums());
+        Assert.assertEquals(1 + writerNum * txnNumPerWriter, masterDbTransMgr.getFinishedTxnNums());
+        Assert.assertEquals(TransactionStatus.ABORTED, masterDbTransMgr.getLabelState("concurrent_0_0"));
+    }
+
     @Test
     public void testAbortTransactionWithNotFoundException() throws UserException {
         DatabaseTransactionMgr masterDbTransMgr = masterTransMgr.getDatabaseTransactionMgr(CatalogTestUtil.testDbId1);
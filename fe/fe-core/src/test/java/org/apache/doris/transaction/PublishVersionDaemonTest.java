@@ -0,0 +1,135 @@
+// Licensed to the Apache Software Foundation (ASF) under one
+// or more contributor license agreements.  See the NOTICE file
+// distributed with this work for additional information
+// regarding copyright ownership.  The ASF licenses this file
+// to you under the Apache License, Version 2.0 (the
+// "License"); you may not use this file except in compliance
+// with the License.  You may obtain a copy of the License at
+//
+//   http://www.apache.org/licenses/LICENSE-2.0
+//
+// Unless required by applicable law or agreed to in writing,
+// software distributed under the License is distributed on an
+// "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+// KIND, either express or implied.  See the License for the
+// specific language governing permissions and limitations
+// under the License.
+
+
+package org.apache.doris.transaction;
+
+import org.apache.doris.common.Config;
+import org.apache.doris.system.SystemInfoService;
+import org.apache.doris.task.PublishVersionTask;
+import org.apache.doris.transaction.TransactionState.LoadJobSourceType;
+
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import mockit.Delegate;
+import mockit.Expectations;
+import mockit.Mocked;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class PublishVersionDaemonTest {
+    @Mocked
+    private SystemInfoService infoService;
+    @Mocked
+    private GlobalTransactionMgrIface globalTransactionMgr;
+
+    private boolean enableParallelPublishVersion;
+    private boolean enableBatchFinishPublishVersion;
+
+    @BeforeEach
+    public void setUp() {
+        enableParallelPublishVersion = Config.enable_parallel_publish_version;
+        enableBatchFinishPublishVersion = Config.enable_batch_finish_publish_version;
+    }
+
+    @AfterEach
+    public void tearDown() {
+        Config.enable_parallel_publish_version = enableParallelPublishVersion;
+        Config.enable_batch_finish_publish_version = enableBatchFinishPublishVersion;
+    }
+
+    @Test
+    public void testBatchFinishTxns() throws Exception {
+        Config.enable_parallel_publish_version = true;
+        Config.enable_batch_finish_publish_version = true;
+
+        List<Long> backendIds = Lists.newArrayList(10001L, 10002L);
+        Map<Long, TransactionState> txnIdToState = Maps.newHashMap();
+        List<TransactionState> readyTransactionStates = Lists.newArrayList();
+        // db 1: txn 1, 3, 5; db 2: txn 2, 4
+        for (long txnId = 1; txnId <= 5; txnId++) {
+            long dbId = txnId % 2 == 1 ? 1 : 2;
+            TransactionState transactionState = new TransactionState(dbId, Lists.newArrayList(100 + dbId), txnId,
+                    "label_" + txnId, null, LoadJobSourceType.FRONTEND,
+                    new TransactionState.TxnCoordinator(TransactionState.TxnSourceType.FE, 0, "localfe",
+                            System.currentTimeMillis()), -1, 60000);
+            transactionState.setTransactionStatus(TransactionStatus.COMMITTED);
+            DatabaseTransactionMgrTest.setTransactionFinishPublish(transactionState, backendIds);
+            txnIdToState.put(txnId, transactionState);
+            readyTransactionStates.add(transactionState);
+        }
+        // txn 6 of db 1 has an unfinished publish task on an alive backend, should not be finished
+        TransactionState unfinishedState = new TransactionState(1, Lists.newArrayList(101L), 6, "label_6",
+                null, LoadJobSourceType.FRONTEND, new TransactionState.TxnCoordinator(
+                        TransactionState.TxnSourceType.FE, 0, "localfe", System.currentTimeMillis()), -1, 60000);
+        unfinishedState.setTransactionStatus(TransactionStatus.COMMITTED);
+        unfinishedState.updateSendTaskTime();
+        unfinishedState.addPublishVersionTask(10001L, new PublishVersionTask(10001L, 6,
+                1, null, System.currentTimeMillis()));
+        readyTransactionStates.add(unfinishedState);
+
+        List<Long> finishedTxnIds = Collections.synchronizedList(Lists.newArrayList());
+        new Expectations() {
+            {
+                infoService.checkBackendAlive(anyLong);
+                minTimes = 0;
+                result = true;
+
+                globalTransactionMgr.finishTransaction(anyLong, anyLong, (Map<Long, Long>) any,
+                        (Map<Long, Set<Long>>) any);
+                minTimes = 0;
+                result = new Delegate() {
+                    void finishTransaction(long dbId, long transactionId, Map<Long, Long> partitionVisibleVersions,
+                            Map<Long, Set<Long>> backendPartitions) {
+                        TransactionState transactionState = txnIdToState.get(transactionId);
+                        Assertions.assertEquals(transactionState.getDbId(), dbId);
+                        transactionState.setTransactionStatus(TransactionStatus.VISIBLE);
+                        finishedTxnIds.add(transactionId);
+                    }
+                };
+            }
+        };
+
+        PublishVersionDaemon publishVersionDaemon = new PublishVersionDaemon();
+        publishVersionDaemon.tryFinishTxn(readyTransactionStates, infoService, globalTransactionMgr);
+        long deadline = System.currentTimeMillis() + 10000;
+        while (finishedTxnIds.size() < txnIdToState.size() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+
+        Assertions.assertEquals(txnIdToState.size(), finishedTxnIds.size(), finishedTxnIds.toString());
+        // the transactions of a db are finished in the order of commit
+        List<Long> db1TxnIds = Lists.newArrayList();
+        List<Long> db2TxnIds = Lists.newArrayList();
+        for (long txnId : finishedTxnIds) {
+            (txnId % 2 == 1 ? db1TxnIds : db2TxnIds).add(txnId);
+        }
+        Assertions.assertEquals(Lists.newArrayList(1L, 3L, 5L), db1TxnIds);
+        Assertions.assertEquals(Lists.newArrayList(2L, 4L), db2TxnIds);
+        for (TransactionState transactionState : txnIdToState.values()) {
+            Assertions.assertEquals(TransactionStatus.VISIBLE, transactionState.getTransactionStatus());
+        }
+        Assertions.assertEquals(TransactionStatus.COMMITTED, unfinishedState.getTransactionStatus());
+    }
+}